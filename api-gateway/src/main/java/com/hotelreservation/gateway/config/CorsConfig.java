@@ -30,7 +30,7 @@ public class CorsConfig {
         corsConfig.setAllowedOriginPatterns(Arrays.asList("*"));
         corsConfig.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         corsConfig.setAllowedHeaders(Arrays.asList("*"));
-        corsConfig.setExposedHeaders(Arrays.asList("Authorization"));
+        corsConfig.setExposedHeaders(Arrays.asList("Authorization", "X-Correlation-ID"));
         corsConfig.setAllowCredentials(true);
         corsConfig.setMaxAge(3600L);
 
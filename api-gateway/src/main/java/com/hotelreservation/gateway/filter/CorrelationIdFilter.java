@@ -0,0 +1,70 @@
+package com.hotelreservation.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Correlation ID Filter
+ *
+ * Global filter that makes sure every request carries an {@code X-Correlation-ID}
+ * header. A missing ID is generated here so downstream services, Kafka events and
+ * the access log all see the same value. The ID is echoed back on the response.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class CorrelationIdFilter implements GlobalFilter, Ordered {
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+
+    private static final int MAX_CORRELATION_ID_LENGTH = 128;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String correlationId = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
+        if (!isValid(correlationId)) {
+            correlationId = UUID.randomUUID().toString();
+        }
+
+        String finalCorrelationId = correlationId;
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.set(CORRELATION_ID_HEADER, finalCorrelationId))
+                .build();
+        exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, finalCorrelationId);
+
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    /**
+     * Check that a client supplied correlation ID is safe to propagate
+     *
+     * @param correlationId the header value, may be null
+     * @return true if the value can be reused
+     */
+    private boolean isValid(String correlationId) {
+        if (!StringUtils.hasText(correlationId) || correlationId.length() > MAX_CORRELATION_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -141,6 +141,6 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     @Override
     public int getOrder() {
-        return Ordered.HIGHEST_PRECEDENCE + 1; // After LoggingFilter
+        return Ordered.HIGHEST_PRECEDENCE + 2; // After LoggingFilter
     }
 } 
\ No newline at end of file
@@ -1,22 +1,26 @@
 package com.hotelreservation.gateway.filter;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.hotelreservation.gateway.service.AccessLogService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.net.InetSocketAddress;
 
 /**
  * Logging Filter
  *
- * Global filter for logging all requests and responses.
+ * Global filter that records one access log entry per request. Formatting and
+ * writing happen asynchronously in {@link AccessLogService}.
  *
  * @author Hotel Reservation System
  * @version 1.0.0
@@ -24,38 +28,55 @@ import java.time.format.DateTimeFormatter;
 @Component
 public class LoggingFilter implements GlobalFilter, Ordered {
 
-    private static final Logger logger = LoggerFactory.getLogger(LoggingFilter.class);
-    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final AccessLogService accessLogService;
+
+    @Autowired
+    public LoggingFilter(AccessLogService accessLogService) {
+        this.accessLogService = accessLogService;
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startTime = System.nanoTime();
+
+        return chain.filter(exchange)
+                .doFinally(signalType -> recordAccess(exchange, signalType, startTime));
+    }
+
+    /**
+     * Record the completed exchange in the access log
+     *
+     * @param exchange the server web exchange
+     * @param signalType how the filter chain terminated
+     * @param startTime the start time in nanoseconds
+     */
+    private void recordAccess(ServerWebExchange exchange, SignalType signalType, long startTime) {
+        long durationMicros = (System.nanoTime() - startTime) / 1000;
         ServerHttpRequest request = exchange.getRequest();
-        String path = request.getPath().value();
-        String method = request.getMethod().name();
-        String remoteAddress = request.getRemoteAddress() != null ? 
-                request.getRemoteAddress().getAddress().getHostAddress() : "unknown";
-        String userAgent = request.getHeaders().getFirst("User-Agent");
-        String correlationId = request.getHeaders().getFirst("X-Correlation-ID");
 
-        logger.info("Incoming request - Method: {}, Path: {}, Remote Address: {}, User-Agent: {}, Correlation-ID: {}, Timestamp: {}", 
-                method, path, remoteAddress, userAgent, correlationId, LocalDateTime.now().format(formatter));
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : 0;
+        if (signalType == SignalType.ON_ERROR && (status == 0 || status < 400)) {
+            status = 500;
+        }
 
-        long startTime = System.currentTimeMillis();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
 
-        return chain.filter(exchange)
-                .then(Mono.fromRunnable(() -> {
-                    long endTime = System.currentTimeMillis();
-                    long duration = endTime - startTime;
-                    int statusCode = exchange.getResponse().getStatusCode() != null ? 
-                            exchange.getResponse().getStatusCode().value() : 0;
-
-                    logger.info("Request completed - Method: {}, Path: {}, Status: {}, Duration: {}ms, Correlation-ID: {}, Timestamp: {}", 
-                            method, path, statusCode, duration, correlationId, LocalDateTime.now().format(formatter));
-                }));
+        accessLogService.record(
+                request.getMethod().name(),
+                request.getPath().value(),
+                route != null ? route.getId() : null,
+                status,
+                durationMicros,
+                remoteAddress != null && remoteAddress.getAddress() != null
+                        ? remoteAddress.getAddress().getHostAddress() : "unknown",
+                request.getHeaders().getFirst(CorrelationIdFilter.CORRELATION_ID_HEADER));
     }
 
     @Override
     public int getOrder() {
-        return Ordered.HIGHEST_PRECEDENCE;
+        // Run right after CorrelationIdFilter so the generated ID is logged
+        return Ordered.HIGHEST_PRECEDENCE + 1;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.hotelreservation.gateway.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Access Log Ring Buffer
+ *
+ * Bounded multi-producer, single-consumer ring of pre-allocated access log entries.
+ * Request threads claim a slot, copy the request fields into it and publish it;
+ * the flusher thread drains published slots in order and hands them back.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class AccessLogRingBuffer {
+
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * Constructor
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publish an entry without blocking
+     *
+     * @return true if the entry was published, false if the buffer is full
+     */
+    boolean offer(long timestampMillis, String method, String path, String routeId, int status,
+                  long durationMicros, String remoteAddress, String correlationId) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        Entry entry = entries[index];
+        entry.timestampMillis = timestampMillis;
+        entry.method = method;
+        entry.path = path;
+        entry.routeId = routeId;
+        entry.status = status;
+        entry.durationMicros = durationMicros;
+        entry.remoteAddress = remoteAddress;
+        entry.correlationId = correlationId;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Drain published entries. Must only be called from the single consumer thread.
+     *
+     * @param consumer the entry consumer; the entry must not be retained after the call
+     * @param maxEntries the maximum number of entries to drain
+     * @return the number of entries drained
+     */
+    int drain(Consumer<Entry> consumer, int maxEntries) {
+        int drained = 0;
+        while (drained < maxEntries) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            Entry entry = entries[index];
+            consumer.accept(entry);
+            entry.clear();
+            sequences.lazySet(index, head + entries.length);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Get the number of slots
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Mutable access log entry, reused for every request that lands in its slot
+     */
+    static final class Entry {
+        long timestampMillis;
+        String method;
+        String path;
+        String routeId;
+        int status;
+        long durationMicros;
+        String remoteAddress;
+        String correlationId;
+
+        private void clear() {
+            method = null;
+            path = null;
+            routeId = null;
+            remoteAddress = null;
+            correlationId = null;
+        }
+    }
+}
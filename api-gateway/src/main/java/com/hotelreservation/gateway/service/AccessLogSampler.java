@@ -0,0 +1,99 @@
+package com.hotelreservation.gateway.service;
+
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Access Log Sampler
+ *
+ * Decides whether a completed request is written to the access log. The effective
+ * rate is the route rate multiplied by the status class rate. Server errors,
+ * requests without a status and slow requests are always logged.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class AccessLogSampler {
+
+    private final double defaultRouteRate;
+    private final Map<String, Double> routeRates;
+    private final double[] statusClassRates = {1.0, 1.0, 1.0, 1.0, 1.0, 1.0};
+    private final long slowRequestThresholdMicros;
+
+    /**
+     * Constructor
+     *
+     * @param defaultRouteRate rate for routes without an explicit entry
+     * @param routeRates comma-separated {@code routeId:rate} pairs
+     * @param statusClassRates comma-separated {@code 2xx:rate} pairs
+     * @param slowRequestThresholdMillis requests at least this slow are always logged
+     */
+    AccessLogSampler(double defaultRouteRate, String routeRates, String statusClassRates,
+                     long slowRequestThresholdMillis) {
+        this.defaultRouteRate = defaultRouteRate;
+        this.routeRates = parseRates(routeRates);
+        this.slowRequestThresholdMicros = slowRequestThresholdMillis * 1000;
+
+        parseRates(statusClassRates).forEach((statusClass, rate) -> {
+            if (!statusClass.matches("[1-5][xX]{2}")) {
+                throw new IllegalArgumentException("Invalid status class in access log sampling: " + statusClass);
+            }
+            this.statusClassRates[statusClass.charAt(0) - '0'] = rate;
+        });
+    }
+
+    /**
+     * Check whether the request must be logged regardless of sampling
+     *
+     * @param status the response status, 0 if unknown
+     * @param durationMicros the request duration
+     * @return true for errors and slow requests
+     */
+    boolean isAlwaysLogged(int status, long durationMicros) {
+        return status == 0 || status >= 500 || durationMicros >= slowRequestThresholdMicros;
+    }
+
+    /**
+     * Decide whether to log a request
+     *
+     * @param routeId the matched route ID, may be null
+     * @param status the response status, 0 if unknown
+     * @param durationMicros the request duration
+     * @return true if the request should be logged
+     */
+    boolean shouldLog(String routeId, int status, long durationMicros) {
+        if (isAlwaysLogged(status, durationMicros)) {
+            return true;
+        }
+
+        double rate = routeId != null ? routeRates.getOrDefault(routeId, defaultRouteRate) : defaultRouteRate;
+        int statusClass = status / 100;
+        if (statusClass >= 1 && statusClass <= 5) {
+            rate *= statusClassRates[statusClass];
+        }
+
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static Map<String, Double> parseRates(String rates) {
+        Map<String, Double> parsed = new HashMap<>();
+        if (!StringUtils.hasText(rates)) {
+            return parsed;
+        }
+        for (String pair : rates.split(",")) {
+            int separator = pair.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid access log sampling entry: " + pair);
+            }
+            double rate = Double.parseDouble(pair.substring(separator + 1).trim());
+            parsed.put(pair.substring(0, separator).trim(), Math.max(0.0, Math.min(1.0, rate)));
+        }
+        return parsed;
+    }
+}
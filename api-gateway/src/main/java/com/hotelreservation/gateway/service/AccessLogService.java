@@ -0,0 +1,229 @@
+package com.hotelreservation.gateway.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Access Log Service
+ *
+ * Asynchronous structured access log. Request threads publish one entry per request
+ * into a ring buffer; a background thread formats the entries as single-line JSON
+ * and writes them to the {@code ACCESS_LOG} logger. Sampling is applied per route
+ * and status class before an entry is published.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Service
+public class AccessLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogService.class);
+    private static final Logger accessLogger = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final DateTimeFormatter SECOND_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    private final boolean enabled;
+    private final AccessLogSampler sampler;
+    private final AccessLogRingBuffer ringBuffer;
+    private final long flushIntervalNanos;
+    private final Counter droppedCounter;
+    private final AtomicLong pendingDropped = new AtomicLong();
+
+    private final int lineBufferSize;
+    private final StringBuilder lineBuffer;
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedSecondText;
+
+    private volatile boolean running;
+    private Thread flusherThread;
+
+    public AccessLogService(
+            MeterRegistry meterRegistry,
+            @Value("${gateway.access-log.enabled:true}") boolean enabled,
+            @Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+            @Value("${gateway.access-log.line-buffer-size:512}") int lineBufferSize,
+            @Value("${gateway.access-log.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${gateway.access-log.slow-request-threshold-ms:1000}") long slowRequestThresholdMillis,
+            @Value("${gateway.access-log.sampling.default-rate:1.0}") double defaultRate,
+            @Value("${gateway.access-log.sampling.route-rates:}") String routeRates,
+            @Value("${gateway.access-log.sampling.status-rates:}") String statusRates) {
+        this.enabled = enabled;
+        this.sampler = new AccessLogSampler(defaultRate, routeRates, statusRates, slowRequestThresholdMillis);
+        this.ringBuffer = new AccessLogRingBuffer(bufferSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.lineBufferSize = lineBufferSize;
+        this.lineBuffer = new StringBuilder(lineBufferSize);
+        this.droppedCounter = Counter.builder("gateway.access-log.dropped")
+                .description("Access log entries dropped because the ring buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start the background flusher thread
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("Access log is disabled");
+            return;
+        }
+        running = true;
+        flusherThread = new Thread(this::flushLoop, "access-log-flusher");
+        flusherThread.setDaemon(true);
+        flusherThread.start();
+        logger.info("Access log started with ring buffer capacity: {}", ringBuffer.capacity());
+    }
+
+    /**
+     * Stop the flusher thread and write out remaining entries
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusherThread != null) {
+            LockSupport.unpark(flusherThread);
+            try {
+                flusherThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Record a completed request
+     *
+     * @param method the HTTP method
+     * @param path the request path
+     * @param routeId the matched route ID, may be null
+     * @param status the response status, 0 if unknown
+     * @param durationMicros the request duration in microseconds
+     * @param remoteAddress the client address
+     * @param correlationId the correlation ID, may be null
+     */
+    public void record(String method, String path, String routeId, int status, long durationMicros,
+                       String remoteAddress, String correlationId) {
+        if (!enabled || !sampler.shouldLog(routeId, status, durationMicros)) {
+            return;
+        }
+
+        long timestamp = System.currentTimeMillis();
+        if (ringBuffer.offer(timestamp, method, path, routeId, status, durationMicros, remoteAddress, correlationId)) {
+            return;
+        }
+
+        if (sampler.isAlwaysLogged(status, durationMicros)) {
+            // Errors and slow requests must not be lost when the buffer is saturated
+            StringBuilder line = new StringBuilder(lineBufferSize);
+            appendLine(line, timestamp, method, path, routeId, status, durationMicros, remoteAddress, correlationId,
+                    SECOND_FORMATTER.format(Instant.ofEpochMilli(timestamp)));
+            accessLogger.info(line.toString());
+            return;
+        }
+        droppedCounter.increment();
+        pendingDropped.incrementAndGet();
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                if (ringBuffer.drain(this::write, DRAIN_BATCH_SIZE) == 0) {
+                    reportDropped();
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            } catch (Exception e) {
+                logger.error("Error writing access log entries: {}", e.getMessage(), e);
+            }
+        }
+        while (ringBuffer.drain(this::write, DRAIN_BATCH_SIZE) > 0) {
+            // Drain what is left on shutdown
+        }
+        reportDropped();
+    }
+
+    private void write(AccessLogRingBuffer.Entry entry) {
+        long second = entry.timestampMillis / 1000;
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedSecondText = SECOND_FORMATTER.format(Instant.ofEpochSecond(second));
+        }
+        lineBuffer.setLength(0);
+        appendLine(lineBuffer, entry.timestampMillis, entry.method, entry.path, entry.routeId, entry.status,
+                entry.durationMicros, entry.remoteAddress, entry.correlationId, cachedSecondText);
+        accessLogger.info(lineBuffer.toString());
+    }
+
+    private void reportDropped() {
+        long dropped = pendingDropped.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn("Access log buffer full, dropped {} sampled entries", dropped);
+        }
+    }
+
+    private static void appendLine(StringBuilder line, long timestampMillis, String method, String path,
+                                   String routeId, int status, long durationMicros, String remoteAddress,
+                                   String correlationId, String secondText) {
+        long millis = timestampMillis % 1000;
+        line.append("{\"ts\":\"").append(secondText).append('.');
+        if (millis < 100) {
+            line.append('0');
+        }
+        if (millis < 10) {
+            line.append('0');
+        }
+        line.append(millis).append('"');
+        line.append(",\"method\":\"").append(method).append('"');
+        line.append(",\"path\":");
+        appendQuoted(line, path);
+        line.append(",\"route\":");
+        appendQuoted(line, routeId);
+        line.append(",\"status\":").append(status);
+        line.append(",\"durationMs\":").append(durationMicros / 1000).append('.');
+        long fraction = durationMicros % 1000;
+        if (fraction < 100) {
+            line.append('0');
+        }
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+        line.append(",\"remote\":");
+        appendQuoted(line, remoteAddress);
+        line.append(",\"correlationId\":");
+        appendQuoted(line, correlationId);
+        line.append('}');
+    }
+
+    private static void appendQuoted(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,58 @@
+package com.hotelreservation.gateway.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Access Log Ring Buffer Tests
+ *
+ * Unit tests for the access log ring buffer.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class AccessLogRingBufferTest {
+
+    @Test
+    void testOfferAndDrainInOrderAcrossWraparound() {
+        // Given
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        List<String> drained = new ArrayList<>();
+
+        // When
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(ringBuffer.offer(0L, "GET", "/api/hotels/" + (round * 3 + i), "hotel-service",
+                        200, 1000L, "127.0.0.1", null));
+            }
+            ringBuffer.drain(entry -> drained.add(entry.path), 16);
+        }
+
+        // Then
+        assertEquals(9, drained.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals("/api/hotels/" + i, drained.get(i));
+        }
+    }
+
+    @Test
+    void testOfferFailsWhenFull() {
+        // Given
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(2);
+        assertTrue(ringBuffer.offer(0L, "GET", "/a", null, 200, 1L, null, null));
+        assertTrue(ringBuffer.offer(0L, "GET", "/b", null, 200, 1L, null, null));
+
+        // When
+        boolean accepted = ringBuffer.offer(0L, "GET", "/c", null, 200, 1L, null, null);
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(2, ringBuffer.drain(entry -> { }, 16));
+        assertTrue(ringBuffer.offer(0L, "GET", "/c", null, 200, 1L, null, null));
+    }
+
+}
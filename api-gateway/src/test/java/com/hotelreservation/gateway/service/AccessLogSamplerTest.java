@@ -0,0 +1,55 @@
+package com.hotelreservation.gateway.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Access Log Sampler Tests
+ *
+ * Unit tests for the access log sampler.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class AccessLogSamplerTest {
+
+    @Test
+    void testSamplerAlwaysLogsErrorsAndSlowRequests() {
+        // Given
+        AccessLogSampler sampler = new AccessLogSampler(0.0, "hotel-service:0.0", "2xx:0.0,4xx:0.0", 500);
+
+        // Then
+        assertFalse(sampler.shouldLog("hotel-service", 200, 1_000L));
+        assertFalse(sampler.shouldLog("hotel-service", 404, 1_000L));
+        assertTrue(sampler.shouldLog("hotel-service", 503, 1_000L));
+        assertTrue(sampler.shouldLog("hotel-service", 200, 600_000L));
+    }
+
+    @Test
+    void testRouteRateOverridesDefault() {
+        // Given
+        AccessLogSampler sampler = new AccessLogSampler(0.0, "hotel-service:1.0", "", 500);
+
+        // Then
+        assertTrue(sampler.shouldLog("hotel-service", 200, 1_000L));
+        assertFalse(sampler.shouldLog("user-service", 200, 1_000L));
+        assertFalse(sampler.shouldLog(null, 200, 1_000L));
+    }
+
+    @Test
+    void testInvalidStatusClassIsRejected() {
+        // Then
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class,
+                () -> new AccessLogSampler(1.0, "", " :0.5", 500));
+        assertTrue(empty.getMessage().contains("Invalid status class"));
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogSampler(1.0, "", "6xx:0.5", 500));
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogSampler(1.0, "", "200:0.5", 500));
+    }
+
+    @Test
+    void testEntryWithoutRateIsRejected() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogSampler(1.0, "hotel-service", "", 500));
+    }
+}
@@ -6,6 +6,10 @@
 
 -- Create extensions
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+CREATE EXTENSION IF NOT EXISTS btree_gist;
 
 -- Create hotels table
 CREATE TABLE IF NOT EXISTS hotels (
@@ -42,11 +46,16 @@ CREATE TABLE IF NOT EXISTS rooms (
     UNIQUE(hotel_id, room_number)
 );
 
--- Create reservations table
+-- Create reservations table, range-partitioned by check-in month so date-bounded queries
+-- only touch the partitions they need. The monthly partitions are created and retired by
+-- reservation-service (ReservationPartitionMaintainer); the default partition only catches
+-- rows outside the maintained range. The partition key has to be part of the primary key.
 CREATE TABLE IF NOT EXISTS reservations (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     hotel_id BIGINT NOT NULL REFERENCES hotels(id),
-    room_id BIGINT NOT NULL REFERENCES rooms(id),
+    -- Null for stays booked by room type until a room is assigned (RoomAssigner)
+    room_id BIGINT REFERENCES rooms(id),
+    room_type VARCHAR(50),
     guest_name VARCHAR(255) NOT NULL,
     guest_email VARCHAR(255) NOT NULL,
     guest_phone VARCHAR(20),
@@ -56,11 +65,101 @@ CREATE TABLE IF NOT EXISTS reservations (
     total_price DECIMAL(10,2) NOT NULL CHECK (total_price > 0),
     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED')),
     special_requests TEXT,
+    active BOOLEAN NOT NULL DEFAULT true,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP NULL,
     version INTEGER DEFAULT 0,
-    CONSTRAINT check_dates CHECK (check_out_date > check_in_date)
+    PRIMARY KEY (id, check_in_date),
+    CONSTRAINT check_dates CHECK (check_out_date > check_in_date),
+    -- Keep in line with reservation.max-stay-nights; the conflict queries rely on it
+    CONSTRAINT check_max_stay CHECK (check_out_date - check_in_date <= 90)
+) PARTITION BY RANGE (check_in_date);
+
+CREATE TABLE IF NOT EXISTS reservations_default PARTITION OF reservations DEFAULT;
+
+-- Cold reservations (completed/cancelled well after check-out, soft-deleted) moved out of
+-- the live table by reservation-service (ReservationArchiver). Append-only. The columns
+-- match reservations so every row it takes from there fits here.
+CREATE TABLE IF NOT EXISTS reservations_archive (
+    id BIGINT PRIMARY KEY,
+    hotel_id BIGINT NOT NULL,
+    room_id BIGINT,
+    room_type VARCHAR(50),
+    guest_name VARCHAR(255) NOT NULL,
+    guest_email VARCHAR(255) NOT NULL,
+    guest_phone VARCHAR(20),
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    number_of_guests INTEGER NOT NULL,
+    total_price DECIMAL(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    special_requests TEXT,
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+    version INTEGER,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Room holds of reservation-service (RoomHoldRegistry), which also keeps its own in
+-- memory. A hold is inserted before it is handed out; the exclusion constraint keeps
+-- the holds of a room from overlapping across instances. A hold takes a room of its
+-- room_type in room_type_inventory until its row is deleted. Expired rows are purged.
+CREATE TABLE IF NOT EXISTS room_holds (
+    id VARCHAR(36) PRIMARY KEY,
+    hotel_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    room_type VARCHAR(50),
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    guest_email VARCHAR(100),
+    expires_at TIMESTAMP NOT NULL,
+    owner VARCHAR(100) NOT NULL,
+    CONSTRAINT room_holds_no_overlap EXCLUDE USING gist (
+        room_id WITH =, daterange(check_in_date, check_out_date) WITH &&)
+);
+
+-- Per-night allotment counters of each hotel's room types, kept by reservation-service
+-- (RoomTypeInventory). A stay or room hold takes one room of its type on each of its nights.
+CREATE TABLE IF NOT EXISTS room_type_inventory (
+    hotel_id BIGINT NOT NULL,
+    room_type VARCHAR(50) NOT NULL,
+    night DATE NOT NULL,
+    total INTEGER NOT NULL,
+    booked INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (hotel_id, room_type, night),
+    CONSTRAINT check_booked CHECK (booked >= 0)
+);
+
+-- Rate plans of each hotel's room types, compiled into nightly price tables by
+-- hotel-service (RateTableCache). Seasons and stay length discounts are kept in order.
+CREATE TABLE IF NOT EXISTS rate_plans (
+    id BIGSERIAL PRIMARY KEY,
+    hotel_id BIGINT NOT NULL REFERENCES hotels(id),
+    room_type VARCHAR(50) NOT NULL,
+    base_rate DECIMAL(10,2) NOT NULL CHECK (base_rate > 0),
+    included_occupancy INTEGER NOT NULL CHECK (included_occupancy > 0),
+    extra_guest_rate DECIMAL(10,2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version INTEGER DEFAULT 0,
+    UNIQUE(hotel_id, room_type)
+);
+
+CREATE TABLE IF NOT EXISTS rate_plan_seasons (
+    rate_plan_id BIGINT NOT NULL REFERENCES rate_plans(id) ON DELETE CASCADE,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    nightly_rate DECIMAL(10,2) NOT NULL CHECK (nightly_rate > 0),
+    CHECK (end_date >= start_date)
+);
+
+CREATE TABLE IF NOT EXISTS rate_plan_stay_discounts (
+    rate_plan_id BIGINT NOT NULL REFERENCES rate_plans(id) ON DELETE CASCADE,
+    min_nights INTEGER NOT NULL CHECK (min_nights > 0),
+    discount_percent DECIMAL(5,2) NOT NULL CHECK (discount_percent > 0 AND discount_percent <= 100)
 );
 
 -- Create indexes for better performance
@@ -73,6 +172,12 @@ CREATE INDEX IF NOT EXISTS idx_reservations_room_id ON reservations(room_id);
 CREATE INDEX IF NOT EXISTS idx_reservations_dates ON reservations(check_in_date, check_out_date);
 CREATE INDEX IF NOT EXISTS idx_reservations_status ON reservations(status);
 CREATE INDEX IF NOT EXISTS idx_reservations_guest_email ON reservations(guest_email);
+CREATE INDEX IF NOT EXISTS idx_reservation_archive_guest_email ON reservations_archive(guest_email, check_in_date);
+CREATE INDEX IF NOT EXISTS idx_room_hold_room_dates ON room_holds(room_id, check_in_date);
+CREATE INDEX IF NOT EXISTS idx_room_hold_expires_at ON room_holds(expires_at);
+CREATE INDEX IF NOT EXISTS idx_rate_plan_updated_at ON rate_plans(updated_at);
+CREATE INDEX IF NOT EXISTS idx_rate_plan_season_plan ON rate_plan_seasons(rate_plan_id);
+CREATE INDEX IF NOT EXISTS idx_rate_plan_discount_plan ON rate_plan_stay_discounts(rate_plan_id);
 
 -- Create function to update updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
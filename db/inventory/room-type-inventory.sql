@@ -0,0 +1,33 @@
+-- Prepare an existing database for bookings by room type
+--
+-- Fresh databases get these changes from db/init/01-init.sql; run this once against
+-- databases created before that, with reservation-service stopped:
+--
+--   psql -U hotel_user -d hotel_reservation -f db/inventory/room-type-inventory.sql
+--
+-- Lets reservations exist without a room until RoomAssigner assigns one, records the room
+-- type they were booked for, records the room type room holds take and creates the
+-- per-night counters of RoomTypeInventory.
+-- The counters are filled in by reservation-service the first time a night is booked.
+
+BEGIN;
+
+ALTER TABLE reservations ALTER COLUMN room_id DROP NOT NULL;
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS room_type VARCHAR(50);
+
+ALTER TABLE reservations_archive ALTER COLUMN room_id DROP NOT NULL;
+ALTER TABLE reservations_archive ADD COLUMN IF NOT EXISTS room_type VARCHAR(50);
+
+ALTER TABLE room_holds ADD COLUMN IF NOT EXISTS room_type VARCHAR(50);
+
+CREATE TABLE IF NOT EXISTS room_type_inventory (
+    hotel_id BIGINT NOT NULL,
+    room_type VARCHAR(50) NOT NULL,
+    night DATE NOT NULL,
+    total INTEGER NOT NULL,
+    booked INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (hotel_id, room_type, night),
+    CONSTRAINT check_booked CHECK (booked >= 0)
+);
+
+COMMIT;
@@ -0,0 +1,95 @@
+-- Convert an existing, unpartitioned reservations table to monthly range partitions
+--
+-- Fresh databases get the partitioned table from db/init/01-init.sql; run this once
+-- against databases created before that, with reservation-service stopped:
+--
+--   psql -U hotel_user -d hotel_reservation -f db/partitioning/partition-reservations.sql
+--
+-- Creates one partition per check-in month present in the data, copies the rows and
+-- keeps the old table as reservations_unpartitioned until it is dropped by hand.
+-- reservation-service creates the upcoming partitions on its next start.
+
+BEGIN;
+
+LOCK TABLE reservations IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE reservations RENAME TO reservations_unpartitioned;
+ALTER TABLE reservations_unpartitioned RENAME CONSTRAINT reservations_pkey TO reservations_unpartitioned_pkey;
+
+-- Partitioned tables cannot have identity columns before PostgreSQL 17. Tables created
+-- by Hibernate use one; switch them to a plain sequence like the BIGSERIAL in 01-init.sql.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_name = 'reservations_unpartitioned' AND column_name = 'id' AND is_identity = 'YES') THEN
+        ALTER TABLE reservations_unpartitioned ALTER COLUMN id DROP IDENTITY;
+    END IF;
+    CREATE SEQUENCE IF NOT EXISTS reservations_id_seq;
+    PERFORM setval('reservations_id_seq', COALESCE((SELECT MAX(id) FROM reservations_unpartitioned), 0) + 1, false);
+END $$;
+
+-- Old indexes would clash with the names below; the old table is only kept as a backup
+DO $$
+DECLARE
+    index_name TEXT;
+BEGIN
+    FOR index_name IN SELECT indexname FROM pg_indexes
+                       WHERE tablename = 'reservations_unpartitioned' AND indexname <> 'reservations_unpartitioned_pkey' LOOP
+        EXECUTE format('DROP INDEX %I', index_name);
+    END LOOP;
+END $$;
+
+-- Columns Hibernate may not have added to databases it did not create
+ALTER TABLE reservations_unpartitioned ADD COLUMN IF NOT EXISTS active BOOLEAN NOT NULL DEFAULT true;
+
+-- Same columns, defaults and check constraints
+CREATE TABLE reservations (
+    LIKE reservations_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (check_in_date);
+
+ALTER TABLE reservations ADD PRIMARY KEY (id, check_in_date);
+
+-- The conflict queries assume no stay is longer than reservation.max-stay-nights.
+-- Fails if existing data breaks that; fix or archive those rows first.
+ALTER TABLE reservations ADD CONSTRAINT check_max_stay CHECK (check_out_date - check_in_date <= 90);
+
+CREATE TABLE reservations_default PARTITION OF reservations DEFAULT;
+
+DO $$
+DECLARE
+    month DATE;
+    last_month DATE;
+BEGIN
+    SELECT date_trunc('month', MIN(check_in_date))::date, date_trunc('month', MAX(check_in_date))::date
+      INTO month, last_month
+      FROM reservations_unpartitioned;
+
+    WHILE month IS NOT NULL AND month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF reservations FOR VALUES FROM (%L) TO (%L)',
+                       'reservations_p' || to_char(month, 'YYYY_MM'), month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO reservations SELECT * FROM reservations_unpartitioned;
+
+ALTER TABLE reservations ALTER COLUMN id SET DEFAULT nextval('reservations_id_seq');
+ALTER SEQUENCE reservations_id_seq OWNED BY reservations.id;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_hotel_id ON reservations(hotel_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_room_id ON reservations(room_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_guest_email ON reservations(guest_email);
+CREATE INDEX IF NOT EXISTS idx_reservation_check_in_date ON reservations(check_in_date);
+CREATE INDEX IF NOT EXISTS idx_reservation_check_out_date ON reservations(check_out_date);
+CREATE INDEX IF NOT EXISTS idx_reservation_status ON reservations(status);
+
+DROP TRIGGER IF EXISTS update_reservations_updated_at ON reservations_unpartitioned;
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_proc WHERE proname = 'update_updated_at_column') THEN
+        CREATE TRIGGER update_reservations_updated_at BEFORE UPDATE ON reservations
+            FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+    END IF;
+END $$;
+
+COMMIT;
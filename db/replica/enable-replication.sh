@@ -0,0 +1,5 @@
+#!/bin/sh
+# Allow streaming replication connections from the replica containers.
+# Runs once, when the primary initialises an empty data directory.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,80 @@
+package com.hotelreservation.events.codec;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Avro Deserializer
+ *
+ * Kafka deserializer of one generated event class. The writer schema is looked up by the
+ * fingerprint the event carries, first among the schemas the class was compiled with and
+ * then in the schema registry, and resolved to the class's schema: fields the reader does
+ * not know are skipped and fields the writer did not have take their defaults. The
+ * decoder is thread-safe.
+ *
+ * Records that do not start with the single-object marker were not written by
+ * {@link AvroSerializer}; they go to the fallback deserializer when one is given, so a
+ * topic that carried another encoding before can still be read from the beginning.
+ *
+ * @param <T> the generated event class
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class AvroDeserializer<T extends SpecificRecord> implements Deserializer<T> {
+
+    // Single-object encoding marker, see BinaryMessageEncoder
+    private static final byte MARKER_0 = (byte) 0xC3;
+    private static final byte MARKER_1 = (byte) 0x01;
+
+    private final BinaryMessageDecoder<T> decoder;
+    private final Deserializer<T> fallback;
+    private final String name;
+
+    /**
+     * @param type the generated event class
+     * @param registry registry of the writer schemas
+     */
+    public AvroDeserializer(Class<T> type, SchemaStore registry) {
+        this(type, registry, null);
+    }
+
+    /**
+     * @param type the generated event class
+     * @param registry registry of the writer schemas
+     * @param fallback deserializer of records without the single-object marker, or null
+     *                 to reject them
+     */
+    public AvroDeserializer(Class<T> type, SchemaStore registry, Deserializer<T> fallback) {
+        SpecificData model = SpecificData.getForClass(type);
+        this.decoder = new BinaryMessageDecoder<>(model, model.getSchema(type), registry);
+        this.fallback = fallback;
+        this.name = type.getSimpleName();
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (fallback != null && !isSingleObjectEncoded(data)) {
+            return fallback.deserialize(topic, data);
+        }
+        try {
+            return decoder.decode(data);
+        } catch (IOException | AvroRuntimeException e) {
+            // Covers a missing marker (not single-object encoded) and an unregistered writer schema
+            throw new SerializationException("Could not decode " + name + " from " + topic + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isSingleObjectEncoded(byte[] data) {
+        return data.length >= 2 && data[0] == MARKER_0 && data[1] == MARKER_1;
+    }
+}
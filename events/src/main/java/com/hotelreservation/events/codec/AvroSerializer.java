@@ -0,0 +1,49 @@
+package com.hotelreservation.events.codec;
+
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Avro Serializer
+ *
+ * Kafka serializer of the generated event classes. Each event is written in Avro
+ * single-object encoding: a two-byte marker, the fingerprint of the event's schema and
+ * the binary-encoded fields, with no field names and no type headers. One encoder per
+ * event class is created on first use and shared by all threads.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class AvroSerializer implements Serializer<SpecificRecord> {
+
+    private final ConcurrentMap<Class<?>, BinaryMessageEncoder<SpecificRecord>> encoders = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] serialize(String topic, SpecificRecord data) {
+        if (data == null) {
+            return null;
+        }
+        BinaryMessageEncoder<SpecificRecord> encoder = encoders.computeIfAbsent(data.getClass(),
+                type -> new BinaryMessageEncoder<>(SpecificData.getForClass(type), data.getSchema()));
+        try {
+            ByteBuffer buffer = encoder.encode(data);
+            if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                    && buffer.remaining() == buffer.array().length) {
+                return buffer.array();
+            }
+            return Arrays.copyOfRange(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.arrayOffset() + buffer.limit());
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not encode " + data.getSchema().getName() + " for " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.hotelreservation.events.registry;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.SchemaParseException;
+import org.apache.avro.message.SchemaStore;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * File Schema Registry
+ *
+ * Local stand-in for a schema registry: every published version of every event schema,
+ * kept as files named {@code <subject>/v<version>.avsc}, where the subject is the
+ * record's simple name. The versions shipped in this module are listed in
+ * {@code schema-registry/index} on the classpath; a directory with the same layout can
+ * add versions published after a consumer was built.
+ *
+ * Events carry the 64-bit fingerprint of the schema they were written with (Avro
+ * single-object encoding); decoders look the writer schema up here and resolve it to
+ * the schema they were compiled against. The compatibility check is what keeps that
+ * resolution working: a new version must read every registered version and be readable
+ * by each of them.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class FileSchemaRegistry implements SchemaStore {
+
+    public static final String CLASSPATH_LOCATION = "schema-registry/";
+    public static final String INDEX = CLASSPATH_LOCATION + "index";
+
+    private static final Pattern VERSION_FILE = Pattern.compile("v(\\d+)\\.avsc");
+
+    private final Map<String, TreeMap<Integer, Schema>> versionsBySubject = new TreeMap<>();
+    private final Map<Long, Schema> schemasByFingerprint = new HashMap<>();
+
+    private FileSchemaRegistry() {
+    }
+
+    /**
+     * Registry of the versions shipped on the classpath
+     *
+     * @return the registry
+     */
+    public static FileSchemaRegistry classpath() {
+        return load(null);
+    }
+
+    /**
+     * Registry of the versions shipped on the classpath and those in a directory
+     *
+     * @param directory directory of {@code <subject>/v<version>.avsc} files; null or missing for none
+     * @return the registry
+     * @throws IllegalStateException if a schema file cannot be read or parsed, or a version is registered twice
+     *         with different schemas
+     */
+    public static FileSchemaRegistry load(Path directory) {
+        FileSchemaRegistry registry = new FileSchemaRegistry();
+        ClassLoader classLoader = FileSchemaRegistry.class.getClassLoader();
+        try (InputStream index = classLoader.getResourceAsStream(INDEX)) {
+            if (index != null) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8));
+                String entry;
+                while ((entry = reader.readLine()) != null) {
+                    entry = entry.trim();
+                    if (entry.isEmpty() || entry.startsWith("#")) {
+                        continue;
+                    }
+                    try (InputStream schema = classLoader.getResourceAsStream(CLASSPATH_LOCATION + entry)) {
+                        if (schema == null) {
+                            throw new IllegalStateException("Schema " + entry + " is listed in " + INDEX + " but missing");
+                        }
+                        registry.register(entry, new String(schema.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            if (directory != null && Files.isDirectory(directory)) {
+                try (Stream<Path> files = Files.walk(directory)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                        if (file.getParent() != null && VERSION_FILE.matcher(file.getFileName().toString()).matches()) {
+                            registry.register(directory.relativize(file).toString().replace('\\', '/'),
+                                    Files.readString(file));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load the event schema registry", e);
+        }
+        return registry;
+    }
+
+    private void register(String entry, String definition) {
+        String[] parts = entry.split("/");
+        Matcher version = VERSION_FILE.matcher(parts[parts.length - 1]);
+        if (parts.length < 2 || !version.matches()) {
+            throw new IllegalStateException("Schema " + entry + " is not named <subject>/v<version>.avsc");
+        }
+        String subject = parts[parts.length - 2];
+        Schema schema;
+        try {
+            schema = new Schema.Parser().parse(definition);
+        } catch (SchemaParseException e) {
+            throw new IllegalStateException("Schema " + entry + " cannot be parsed: " + e.getMessage(), e);
+        }
+        Schema previous = versionsBySubject.computeIfAbsent(subject, s -> new TreeMap<>())
+                .putIfAbsent(Integer.parseInt(version.group(1)), schema);
+        if (previous != null && fingerprint(previous) != fingerprint(schema)) {
+            throw new IllegalStateException("Schema " + entry + " is registered twice with different definitions");
+        }
+        schemasByFingerprint.put(fingerprint(schema), schema);
+    }
+
+    /**
+     * Writer schema of an event, by the fingerprint the event carries
+     *
+     * @param fingerprint 64-bit Rabin fingerprint of the schema's parsing canonical form
+     * @return the schema, or null if it is not registered
+     */
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return schemasByFingerprint.get(fingerprint);
+    }
+
+    /**
+     * Registered subjects
+     */
+    public Set<String> subjects() {
+        return Collections.unmodifiableSet(versionsBySubject.keySet());
+    }
+
+    /**
+     * Registered versions of a subject, oldest first
+     *
+     * @param subject the record's simple name
+     * @return the schemas; empty if the subject is not registered
+     */
+    public List<Schema> versions(String subject) {
+        TreeMap<Integer, Schema> versions = versionsBySubject.get(subject);
+        return versions != null ? List.copyOf(versions.values()) : List.of();
+    }
+
+    /**
+     * Whether a schema is registered
+     */
+    public boolean isRegistered(Schema schema) {
+        return schemasByFingerprint.containsKey(fingerprint(schema));
+    }
+
+    /**
+     * Check a schema against every registered version of its subject, both ways: it must
+     * read events written with each of them (backward) and each of them must read events
+     * written with it (forward)
+     *
+     * @param schema the new schema
+     * @return the incompatibilities found; empty if the schema is fully compatible
+     */
+    public List<String> incompatibilities(Schema schema) {
+        List<String> incompatibilities = new ArrayList<>();
+        TreeMap<Integer, Schema> versions = versionsBySubject.getOrDefault(schema.getName(), new TreeMap<>());
+        for (Map.Entry<Integer, Schema> version : versions.entrySet()) {
+            describe(incompatibilities, "cannot read v" + version.getKey(),
+                    SchemaCompatibility.checkReaderWriterCompatibility(schema, version.getValue()));
+            describe(incompatibilities, "cannot be read by v" + version.getKey(),
+                    SchemaCompatibility.checkReaderWriterCompatibility(version.getValue(), schema));
+        }
+        return incompatibilities;
+    }
+
+    private static void describe(List<String> incompatibilities, String direction,
+                                 SchemaCompatibility.SchemaPairCompatibility result) {
+        for (SchemaCompatibility.Incompatibility incompatibility : result.getResult().getIncompatibilities()) {
+            incompatibilities.add(String.format("%s: %s at %s (%s)", direction, incompatibility.getType(),
+                    incompatibility.getLocation(), incompatibility.getMessage()));
+        }
+    }
+
+    /**
+     * Fingerprint an event carries for a schema
+     */
+    public static long fingerprint(Schema schema) {
+        return SchemaNormalization.parsingFingerprint64(schema);
+    }
+}
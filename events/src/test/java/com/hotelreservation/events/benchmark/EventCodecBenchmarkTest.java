@@ -0,0 +1,197 @@
+package com.hotelreservation.events.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.events.codec.AvroDeserializer;
+import com.hotelreservation.events.codec.AvroSerializer;
+import com.hotelreservation.events.registry.FileSchemaRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Event Codec Benchmark
+ *
+ * Compares the Avro encoding of ReservationCreatedEvent with the JSON encoding it
+ * replaced: the snake_case Jackson POJO written by Spring's JsonSerializer, which also
+ * adds a {@code __TypeId__} header naming the event class to every record. Reports bytes
+ * per event, header included, and the encode and decode cost per event on one thread.
+ *
+ * Run with {@code mvn test -pl events -Dbenchmark=true -Dtest=EventCodecBenchmarkTest}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventCodecBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 500_000);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 200_000);
+    private static final String TOPIC = "reservation-created-events";
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+    private static final String LEGACY_TYPE_ID = "com.hotelreservation.reservation.event.ReservationCreatedEvent";
+
+    @Test
+    void compareAvroWithJson() throws Exception {
+        ReservationCreatedEvent event = sampleEvent();
+        LegacyReservationCreatedEvent legacy = LegacyReservationCreatedEvent.of(event);
+
+        AvroSerializer avroSerializer = new AvroSerializer();
+        AvroDeserializer<ReservationCreatedEvent> avroDeserializer =
+                new AvroDeserializer<>(ReservationCreatedEvent.class, FileSchemaRegistry.classpath());
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        byte[] avro = avroSerializer.serialize(TOPIC, event);
+        byte[] json = mapper.writeValueAsBytes(legacy);
+        int typeHeader = TYPE_ID_HEADER.length() + LEGACY_TYPE_ID.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(event, avroDeserializer.deserialize(TOPIC, avro));
+        assertEquals(legacy.reservationId, mapper.readValue(json, LegacyReservationCreatedEvent.class).reservationId);
+
+        // Warm up both paths before timing either
+        for (int i = 0; i < WARMUP; i++) {
+            avroDeserializer.deserialize(TOPIC, avroSerializer.serialize(TOPIC, event));
+            mapper.readValue(mapper.writeValueAsBytes(legacy), LegacyReservationCreatedEvent.class);
+        }
+
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink += avroSerializer.serialize(TOPIC, event).length;
+        }
+        double avroEncode = (System.nanoTime() - start) / (double) EVENTS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink += avroDeserializer.deserialize(TOPIC, avro).getNumberOfGuests();
+        }
+        double avroDecode = (System.nanoTime() - start) / (double) EVENTS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink += mapper.writeValueAsBytes(legacy).length;
+        }
+        double jsonEncode = (System.nanoTime() - start) / (double) EVENTS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink += mapper.readValue(json, LegacyReservationCreatedEvent.class).numberOfGuests;
+        }
+        double jsonDecode = (System.nanoTime() - start) / (double) EVENTS;
+
+        System.out.printf("Avro %4d bytes per event             encode %6.0f ns   decode %6.0f ns%n",
+                avro.length, avroEncode, avroDecode);
+        System.out.printf("JSON %4d bytes per event (+%d header) encode %6.0f ns   decode %6.0f ns%n",
+                json.length, typeHeader, jsonEncode, jsonDecode);
+        System.out.printf("Avro is %.0f%% of the JSON record size%n", 100.0 * avro.length / (json.length + typeHeader));
+        assertTrue(sink > 0);
+        assertTrue(avro.length < json.length);
+    }
+
+    private static ReservationCreatedEvent sampleEvent() {
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(200_001L)
+                .setHotelId(12L)
+                .setRoomId(1204L)
+                .setGuestName("Ayse Yilmaz")
+                .setGuestEmail("ayse.yilmaz@example.com")
+                .setGuestPhone("+905551112233")
+                .setCheckInDate(LocalDate.of(2026, 7, 14))
+                .setCheckOutDate(LocalDate.of(2026, 7, 18))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("1280.00"))
+                .setStatus(ReservationStatus.PENDING)
+                .setSpecialRequests("Late check-in")
+                .setCreatedAt(LocalDateTime.of(2026, 6, 1, 9, 30, 12))
+                .setEventTimestamp(LocalDateTime.of(2026, 6, 1, 9, 30, 12))
+                .build();
+    }
+
+    /**
+     * The JSON event as reservation-service published it before the Avro schema
+     */
+    static class LegacyReservationCreatedEvent {
+
+        @JsonProperty("reservation_id")
+        public Long reservationId;
+
+        @JsonProperty("hotel_id")
+        public Long hotelId;
+
+        @JsonProperty("room_id")
+        public Long roomId;
+
+        @JsonProperty("guest_name")
+        public String guestName;
+
+        @JsonProperty("guest_email")
+        public String guestEmail;
+
+        @JsonProperty("guest_phone")
+        public String guestPhone;
+
+        @JsonProperty("check_in_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        public LocalDate checkInDate;
+
+        @JsonProperty("check_out_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        public LocalDate checkOutDate;
+
+        @JsonProperty("number_of_guests")
+        public Integer numberOfGuests;
+
+        @JsonProperty("total_price")
+        public BigDecimal totalPrice;
+
+        @JsonProperty("status")
+        public String status;
+
+        @JsonProperty("special_requests")
+        public String specialRequests;
+
+        @JsonProperty("created_at")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        public LocalDateTime createdAt;
+
+        @JsonProperty("event_type")
+        public String eventType;
+
+        @JsonProperty("event_timestamp")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        public LocalDateTime eventTimestamp;
+
+        static LegacyReservationCreatedEvent of(ReservationCreatedEvent event) {
+            LegacyReservationCreatedEvent legacy = new LegacyReservationCreatedEvent();
+            legacy.reservationId = event.getReservationId();
+            legacy.hotelId = event.getHotelId();
+            legacy.roomId = event.getRoomId();
+            legacy.guestName = event.getGuestName();
+            legacy.guestEmail = event.getGuestEmail();
+            legacy.guestPhone = event.getGuestPhone();
+            legacy.checkInDate = event.getCheckInDate();
+            legacy.checkOutDate = event.getCheckOutDate();
+            legacy.numberOfGuests = event.getNumberOfGuests();
+            legacy.totalPrice = event.getTotalPrice();
+            legacy.status = event.getStatus().name();
+            legacy.specialRequests = event.getSpecialRequests();
+            legacy.createdAt = event.getCreatedAt();
+            legacy.eventType = "RESERVATION_CREATED";
+            legacy.eventTimestamp = event.getEventTimestamp();
+            return legacy;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hotelreservation.events.registry;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.events.codec.AvroDeserializer;
+import com.hotelreservation.events.codec.AvroSerializer;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Schema Compatibility Tests
+ *
+ * Every event schema must be registered, and every registered version must read and be
+ * readable by every earlier one. Fails the build when a schema changes without being
+ * registered or in a way older producers or consumers cannot follow.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class SchemaCompatibilityTest {
+
+    private static final List<SpecificRecord> CURRENT_EVENTS =
+            List.of(new ReservationCreatedEvent(), new ReservationLifecycleEvent());
+
+    private final FileSchemaRegistry registry = FileSchemaRegistry.classpath();
+
+    @Test
+    void testCurrentSchemasAreRegistered() {
+        for (SpecificRecord event : CURRENT_EVENTS) {
+            assertTrue(registry.isRegistered(event.getSchema()),
+                    event.getSchema().getName() + " changed: add it as a new version under schema-registry/"
+                            + event.getSchema().getName() + " and list it in the index");
+        }
+    }
+
+    @Test
+    void testRegisteredVersionsAreFullyTransitivelyCompatible() {
+        // Checking each version against all of them, both ways, covers every pair of versions
+        for (String subject : registry.subjects()) {
+            List<Schema> versions = registry.versions(subject);
+            for (int i = 0; i < versions.size(); i++) {
+                assertEquals(List.of(), registry.incompatibilities(versions.get(i)),
+                        subject + " v" + (i + 1) + " is not compatible with the other registered versions");
+            }
+        }
+    }
+
+    @Test
+    void testIncompatibleChangesAreReported() {
+        // Given
+        Schema current = new ReservationCreatedEvent().getSchema();
+        Schema requiredFieldAdded = withField(current, new Schema.Field("loyaltyTier", Schema.create(Schema.Type.STRING)));
+        Schema optionalFieldAdded = withField(current, new Schema.Field("loyaltyTier",
+                Schema.createUnion(Schema.create(Schema.Type.NULL), Schema.create(Schema.Type.STRING)),
+                null, Schema.Field.NULL_DEFAULT_VALUE));
+
+        // When
+        List<String> required = registry.incompatibilities(requiredFieldAdded);
+        List<String> optional = registry.incompatibilities(optionalFieldAdded);
+
+        // Then
+        assertEquals(1, required.size());
+        assertTrue(required.get(0).startsWith("cannot read v1: READER_FIELD_MISSING_DEFAULT_VALUE"));
+        assertEquals(List.of(), optional);
+    }
+
+    @Test
+    void testEventsWrittenWithANewerVersionAreReadThroughTheRegistry(@TempDir Path directory) throws Exception {
+        // Given: a producer on v2, which adds a field, and a registry directory holding v2
+        Schema v2 = withField(new ReservationCreatedEvent().getSchema(), new Schema.Field("loyaltyTier",
+                Schema.createUnion(Schema.create(Schema.Type.NULL), Schema.create(Schema.Type.STRING)),
+                null, Schema.Field.NULL_DEFAULT_VALUE));
+        Files.createDirectories(directory.resolve("ReservationCreatedEvent"));
+        Files.writeString(directory.resolve("ReservationCreatedEvent/v2.avsc"), v2.toString(true));
+        ReservationCreatedEvent event = sampleEvent();
+        GenericRecord written = new GenericData.Record(v2);
+        for (Schema.Field field : event.getSchema().getFields()) {
+            written.put(field.name(), event.get(field.pos()));
+        }
+        written.put("loyaltyTier", "GOLD");
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        model.addLogicalTypeConversion(new TimeConversions.DateConversion());
+        model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+        ByteBuffer encoded = new BinaryMessageEncoder<GenericRecord>(model, v2).encode(written);
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+
+        // When
+        ReservationCreatedEvent withRegistry = new AvroDeserializer<>(ReservationCreatedEvent.class,
+                FileSchemaRegistry.load(directory)).deserialize("reservation-created-events", bytes);
+
+        // Then: the v1 reader skips the new field; without v2 registered the event cannot be read
+        assertEquals(event, withRegistry);
+        AvroDeserializer<ReservationCreatedEvent> withoutRegistry =
+                new AvroDeserializer<>(ReservationCreatedEvent.class, FileSchemaRegistry.classpath());
+        assertThrows(SerializationException.class, () -> withoutRegistry.deserialize("reservation-created-events", bytes));
+    }
+
+    @Test
+    void testEventsRoundTrip() {
+        // Given
+        ReservationCreatedEvent event = sampleEvent();
+        event.setRoomId(null);
+        event.setRoomType("Deluxe");
+
+        // When
+        byte[] bytes = new AvroSerializer().serialize("reservation-created-events", event);
+        ReservationCreatedEvent decoded = new AvroDeserializer<>(ReservationCreatedEvent.class, registry)
+                .deserialize("reservation-created-events", bytes);
+
+        // Then
+        assertEquals(event, decoded);
+        assertThrows(SerializationException.class, () -> new AvroDeserializer<>(ReservationCreatedEvent.class, registry)
+                .deserialize("reservation-created-events", "{\"reservation_id\":1}".getBytes()));
+    }
+
+    static ReservationCreatedEvent sampleEvent() {
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(200_001L)
+                .setHotelId(12L)
+                .setRoomId(1204L)
+                .setGuestName("Ayse Yilmaz")
+                .setGuestEmail("ayse.yilmaz@example.com")
+                .setGuestPhone("+905551112233")
+                .setCheckInDate(LocalDate.of(2026, 7, 14))
+                .setCheckOutDate(LocalDate.of(2026, 7, 18))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("1280.00"))
+                .setStatus(ReservationStatus.PENDING)
+                .setSpecialRequests("Late check-in")
+                .setCreatedAt(LocalDateTime.of(2026, 6, 1, 9, 30, 12))
+                .setEventTimestamp(LocalDateTime.of(2026, 6, 1, 9, 30, 12, 345_000_000))
+                .build();
+    }
+
+    private static Schema withField(Schema schema, Schema.Field added) {
+        List<Schema.Field> fields = new ArrayList<>();
+        for (Schema.Field field : schema.getFields()) {
+            fields.add(new Schema.Field(field, field.schema()));
+        }
+        fields.add(added);
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), false, fields);
+    }
+}
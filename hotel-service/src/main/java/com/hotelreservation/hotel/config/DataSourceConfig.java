@@ -0,0 +1,133 @@
+package com.hotelreservation.hotel.config;
+
+import com.hotelreservation.platform.datasource.ReadReplicaRouter;
+import com.hotelreservation.platform.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Source Configuration
+ *
+ * Primary pool for the hotel service plus optional streaming replicas listed in
+ * {@code hotel.datasource.replicas.urls}. Read-only transactions (hotel and room
+ * browsing) are spread over the replicas that are within the lag limit and fall
+ * back to the primary otherwise.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    /**
+     * Primary pool, configured through {@code spring.datasource.hikari}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        bindMetrics(dataSource, meterRegistry);
+        return dataSource;
+    }
+
+    /**
+     * Replica pools, configured through {@code hotel.datasource.replicas}
+     */
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(DataSourceProperties properties,
+                                               Environment environment,
+                                               ObjectProvider<MeterRegistry> meterRegistry,
+                                               @Value("${hotel.datasource.replicas.urls:}") String urls,
+                                               @Value("${hotel.datasource.replicas.max-lag-ms:1000}") long maxLagMillis,
+                                               @Value("${hotel.datasource.replicas.lag-query:}") String lagQuery,
+                                               @Value("${hotel.datasource.replicas.lag-check-interval-ms:1000}") long lagCheckIntervalMillis) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        String[] replicaUrls = StringUtils.commaDelimitedListToStringArray(urls);
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String url = replicaUrls[i].trim();
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            Binder.get(environment).bind("hotel.datasource.replicas.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setJdbcUrl(url);
+            dataSource.setPoolName("hotel-replica-" + i);
+            dataSource.setReadOnly(true);
+            bindMetrics(dataSource, meterRegistry);
+            replicas.put("replica-" + i, dataSource);
+        }
+
+        if (!replicas.isEmpty()) {
+            logger.info("Routing read-only transactions to {} replica(s) with max lag {}ms", replicas.size(), maxLagMillis);
+        }
+        return new ReadReplicaRouter(replicas, maxLagMillis,
+                StringUtils.hasText(lagQuery) ? lagQuery : ReadReplicaRouter.DEFAULT_LAG_QUERY,
+                lagCheckIntervalMillis, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Tracks recent writes per user so their reads are not sent to a stale replica
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${hotel.datasource.read-your-writes-window-ms:5000}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis);
+    }
+
+    /**
+     * Routing data source used by JPA and everything else that injects a {@link DataSource}
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReadReplicaRouter readReplicaRouter,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+        targetDataSources.putAll(readReplicaRouter.getReplicaDataSources());
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(readReplicaRouter, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Register pool metrics before the pool starts; Hikari rejects a tracker on a running pool
+     */
+    private void bindMetrics(HikariDataSource dataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        meterRegistry.ifAvailable(registry ->
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.hotelreservation.hotel.config;
+
+import com.hotelreservation.hotel.event.HotelCatalogRecord;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka Configuration
+ *
+ * Producer for the room catalog topic. The topic is compacted, so it keeps the latest
+ * record of every hotel and consumers can rebuild the whole catalog by reading it from
+ * the start.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+public class KafkaConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaConfig.class);
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${kafka.topic.room-catalog:room-catalog}")
+    private String roomCatalogTopic;
+
+    @Value("${kafka.topic.room-catalog-partitions:3}")
+    private int roomCatalogPartitions;
+
+    // Catalog writes publish after their commit, on the request thread; don't hang it on a missing broker
+    @Value("${hotel.catalog.publish.max-block-ms:5000}")
+    private long maxBlockMillis;
+
+    /**
+     * Compacted room catalog topic, created on startup if missing
+     */
+    @Bean
+    public NewTopic roomCatalogTopic() {
+        return TopicBuilder.name(roomCatalogTopic)
+                .partitions(roomCatalogPartitions)
+                .compact()
+                .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, "0")
+                .build();
+    }
+
+    /**
+     * Producer Factory Configuration
+     */
+    @Bean
+    public ProducerFactory<String, HotelCatalogRecord> producerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // Consumers bind the record to their own class
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMillis);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+
+        logger.info("Kafka producer factory configured with bootstrap servers: {}", bootstrapServers);
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * Kafka Template Configuration
+     */
+    @Bean
+    public KafkaTemplate<String, HotelCatalogRecord> kafkaTemplate() {
+        KafkaTemplate<String, HotelCatalogRecord> template = new KafkaTemplate<>(producerFactory());
+        template.setDefaultTopic(roomCatalogTopic);
+        // Propagate trace context and baggage (correlation ID) in record headers
+        template.setObservationEnabled(true);
+        return template;
+    }
+}
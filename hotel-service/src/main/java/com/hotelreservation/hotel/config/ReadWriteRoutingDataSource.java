@@ -0,0 +1,45 @@
+package com.hotelreservation.hotel.config;
+
+import com.hotelreservation.platform.datasource.ReadReplicaRouter;
+import com.hotelreservation.platform.datasource.ReadYourWritesTracker;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read Write Routing Data Source
+ *
+ * Routes connections for {@code @Transactional(readOnly = true)} to an eligible read
+ * replica, and everything else, including reads right after the current user's own
+ * writes, to the primary. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * connection is fetched after the transaction's read-only flag has been set.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadReplicaRouter readReplicaRouter,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.readReplicaRouter = readReplicaRouter;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.onReadWriteConnection();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.mustReadFromPrimary()) {
+            return PRIMARY;
+        }
+        String replica = readReplicaRouter.selectReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+}
@@ -1,5 +1,8 @@
 package com.hotelreservation.hotel.controller;
 
+import com.hotelreservation.hotel.dto.HotelDiscoveryQuery;
+import com.hotelreservation.hotel.dto.HotelDiscoveryResponse;
+import com.hotelreservation.hotel.dto.HotelDistanceDto;
 import com.hotelreservation.hotel.dto.HotelDto;
 import com.hotelreservation.hotel.service.HotelService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -232,6 +235,106 @@ public class HotelController {
         return ResponseEntity.ok(hotels);
     }
 
+    /**
+     * Search hotels by name, best match first
+     */
+    @GetMapping("/search/suggest")
+    @Operation(summary = "Suggest hotels by name", description = "Ranked substring search on hotel names; names starting with the query come first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hotels retrieved successfully",
+            content = @Content(schema = @Schema(implementation = HotelDto.class)))
+    })
+    public ResponseEntity<List<HotelDto>> suggestHotelsByName(
+            @Parameter(description = "Search term") @RequestParam String q,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "10") int limit) {
+        
+        logger.debug("Suggesting hotels by name: q={}, limit={}", q, limit);
+        List<HotelDto> hotels = hotelService.searchHotelsByName(q, limit);
+        return ResponseEntity.ok(hotels);
+    }
+
+    /**
+     * Discover hotels by facets
+     */
+    @GetMapping("/discover")
+    @Operation(summary = "Discover hotels", description = "Filters hotels by any combination of city, rating, room type, capacity and price band and returns the hotel count for every facet value")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hotels retrieved successfully",
+            content = @Content(schema = @Schema(implementation = HotelDiscoveryResponse.class)))
+    })
+    public ResponseEntity<HotelDiscoveryResponse> discoverHotels(
+            @Parameter(description = "Cities, any of") @RequestParam(required = false) List<String> city,
+            @Parameter(description = "Minimum rating") @RequestParam(required = false) Integer minRating,
+            @Parameter(description = "Maximum rating") @RequestParam(required = false) Integer maxRating,
+            @Parameter(description = "Room types, any of") @RequestParam(required = false) List<String> roomType,
+            @Parameter(description = "Minimum guests one room must sleep") @RequestParam(required = false) Integer minCapacity,
+            @Parameter(description = "Price bands, any of (e.g. 100-200)") @RequestParam(required = false) List<String> priceBand,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        
+        HotelDiscoveryQuery query = new HotelDiscoveryQuery(city, minRating, maxRating, roomType, minCapacity, priceBand);
+        logger.debug("Discovering hotels: {}, page={}, size={}", query, page, size);
+        HotelDiscoveryResponse response = hotelService.discoverHotels(query, Math.max(page, 0), Math.max(size, 1));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Find hotels near a point
+     */
+    @GetMapping("/nearby")
+    @Operation(summary = "Find hotels near a point", description = "Retrieves hotels within a radius of a point, nearest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hotels retrieved successfully",
+            content = @Content(schema = @Schema(implementation = HotelDistanceDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid coordinates or radius")
+    })
+    public ResponseEntity<List<HotelDistanceDto>> getHotelsNearby(
+            @Parameter(description = "Latitude") @RequestParam double latitude,
+            @Parameter(description = "Longitude") @RequestParam double longitude,
+            @Parameter(description = "Radius in kilometers") @RequestParam(defaultValue = "5") double radiusKm,
+            @Parameter(description = "Minimum rating") @RequestParam(required = false) Integer minRating,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.debug("Getting hotels near {}, {} within {} km", latitude, longitude, radiusKm);
+        if (!isValidLocation(latitude, longitude) || !(radiusKm > 0) || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<HotelDistanceDto> hotels = hotelService.findHotelsNearby(latitude, longitude, radiusKm, minRating, limit);
+        return ResponseEntity.ok(hotels);
+    }
+
+    /**
+     * Find hotels inside a bounding box
+     */
+    @GetMapping("/within")
+    @Operation(summary = "Find hotels inside a bounding box", description = "Retrieves hotels inside a latitude/longitude box, nearest to the given point (or the box center) first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hotels retrieved successfully",
+            content = @Content(schema = @Schema(implementation = HotelDistanceDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid box or coordinates")
+    })
+    public ResponseEntity<List<HotelDistanceDto>> getHotelsInBoundingBox(
+            @Parameter(description = "Southern edge") @RequestParam double minLatitude,
+            @Parameter(description = "Western edge") @RequestParam double minLongitude,
+            @Parameter(description = "Northern edge") @RequestParam double maxLatitude,
+            @Parameter(description = "Eastern edge; west of the western edge when the box crosses the antimeridian") @RequestParam double maxLongitude,
+            @Parameter(description = "Latitude to sort by distance from") @RequestParam(required = false) Double latitude,
+            @Parameter(description = "Longitude to sort by distance from") @RequestParam(required = false) Double longitude,
+            @Parameter(description = "Minimum rating") @RequestParam(required = false) Integer minRating,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.debug("Getting hotels in box {}, {} - {}, {}", minLatitude, minLongitude, maxLatitude, maxLongitude);
+        boolean validSortPoint = (latitude == null && longitude == null)
+                || (latitude != null && longitude != null && isValidLocation(latitude, longitude));
+        if (!isValidLocation(minLatitude, minLongitude) || !isValidLocation(maxLatitude, maxLongitude)
+                || minLatitude > maxLatitude || !validSortPoint || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<HotelDistanceDto> hotels = hotelService.findHotelsInBoundingBox(minLatitude, minLongitude,
+                maxLatitude, maxLongitude, latitude, longitude, minRating, limit);
+        return ResponseEntity.ok(hotels);
+    }
+
     /**
      * Get hotels with minimum rating
      */
@@ -307,4 +410,8 @@ public class HotelController {
         List<Object[]> hotelsWithAveragePrice = hotelService.getHotelsByCityWithAveragePrice(city);
         return ResponseEntity.ok(hotelsWithAveragePrice);
     }
-} 
\ No newline at end of file
+
+    private static boolean isValidLocation(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+}
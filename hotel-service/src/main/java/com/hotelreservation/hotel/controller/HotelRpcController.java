@@ -0,0 +1,81 @@
+package com.hotelreservation.hotel.controller;
+
+import com.hotelreservation.hotel.dto.RateQuoteDto;
+import com.hotelreservation.hotel.dto.RoomDto;
+import com.hotelreservation.hotel.service.RatePlanService;
+import com.hotelreservation.hotel.service.RoomService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Hotel RPC Controller
+ *
+ * RSocket routes for other services, served on spring.rsocket.server.port next to the
+ * REST API. Payloads are CBOR-encoded DTOs. The service calls block on the database, so
+ * they run on the bounded elastic scheduler rather than the Netty event loop. A room or
+ * stay that does not exist completes empty, the RSocket counterpart of a 404.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Controller
+public class HotelRpcController {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelRpcController.class);
+
+    private final RoomService roomService;
+    private final RatePlanService ratePlanService;
+    private final int maxStayNights;
+
+    @Autowired
+    public HotelRpcController(RoomService roomService,
+                              RatePlanService ratePlanService,
+                              @Value("${hotel.pricing.max-stay-nights:90}") int maxStayNights) {
+        this.roomService = roomService;
+        this.ratePlanService = ratePlanService;
+        this.maxStayNights = maxStayNights;
+    }
+
+    /**
+     * Look up an active room
+     *
+     * @param roomId room ID
+     * @return the room, or empty if there is no such active room
+     */
+    @MessageMapping("rooms.get")
+    public Mono<RoomDto> getRoom(Long roomId) {
+        logger.debug("RPC room lookup for room ID: {}", roomId);
+        return Mono.fromCallable(() -> roomService.getRoomById(roomId).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Price a stay; the request carries the stay, the reply adds nights and total price
+     *
+     * @param request hotel, room or room type, dates and number of guests
+     * @return the quote, or empty if the stay is invalid or cannot be priced
+     */
+    @MessageMapping("rates.quote")
+    public Mono<RateQuoteDto> quote(RateQuoteDto request) {
+        logger.debug("RPC quote for hotel ID: {}, room ID: {}, room type: {} from {} to {}", request.getHotelId(),
+                request.getRoomId(), request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate());
+        int numberOfGuests = request.getNumberOfGuests() != null ? request.getNumberOfGuests() : 1;
+        if (request.getHotelId() == null || (request.getRoomId() == null && request.getRoomType() == null)
+                || request.getCheckInDate() == null || request.getCheckOutDate() == null
+                || !request.getCheckInDate().isBefore(request.getCheckOutDate())
+                || request.getCheckInDate().plusDays(maxStayNights).isBefore(request.getCheckOutDate())
+                || numberOfGuests < 1) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> ratePlanService.quote(request.getHotelId(), request.getRoomId(),
+                        request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate(), numberOfGuests)
+                        .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,153 @@
+package com.hotelreservation.hotel.controller;
+
+import com.hotelreservation.hotel.dto.RatePlanDto;
+import com.hotelreservation.hotel.dto.RateQuoteDto;
+import com.hotelreservation.hotel.service.RatePlanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Rate Plan Controller
+ *
+ * REST API endpoints for the rate plans of a hotel's room types and for stay quotes.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/hotels/{hotelId}")
+@Tag(name = "Rate Plan", description = "Room type pricing and quote API")
+public class RatePlanController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatePlanController.class);
+
+    private final RatePlanService ratePlanService;
+    private final int maxStayNights;
+
+    @Autowired
+    public RatePlanController(RatePlanService ratePlanService,
+                              @Value("${hotel.pricing.max-stay-nights:90}") int maxStayNights) {
+        this.ratePlanService = ratePlanService;
+        this.maxStayNights = maxStayNights;
+    }
+
+    /**
+     * Get the rate plans of a hotel
+     */
+    @GetMapping("/rate-plans")
+    @Operation(summary = "Get rate plans by hotel ID", description = "Retrieves the rate plans of all room types of a hotel")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rate plans retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RatePlanDto.class)))
+    })
+    public ResponseEntity<List<RatePlanDto>> getRatePlans(@Parameter(description = "Hotel ID") @PathVariable Long hotelId) {
+        logger.debug("Getting rate plans for hotel ID: {}", hotelId);
+        return ResponseEntity.ok(ratePlanService.getRatePlans(hotelId));
+    }
+
+    /**
+     * Get the rate plan of a room type
+     */
+    @GetMapping("/rate-plans/{roomType}")
+    @Operation(summary = "Get rate plan by room type", description = "Retrieves the rate plan of a room type of a hotel")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rate plan found",
+            content = @Content(schema = @Schema(implementation = RatePlanDto.class))),
+        @ApiResponse(responseCode = "404", description = "The room type has no rate plan")
+    })
+    public ResponseEntity<RatePlanDto> getRatePlan(
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId,
+            @Parameter(description = "Room type") @PathVariable String roomType) {
+        logger.debug("Getting {} rate plan for hotel ID: {}", roomType, hotelId);
+        return ratePlanService.getRatePlan(hotelId, roomType)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Create or replace the rate plan of a room type
+     */
+    @PutMapping("/rate-plans/{roomType}")
+    @Operation(summary = "Save rate plan", description = "Creates or replaces the rate plan of a room type: base rate, seasonal rates, extra guest rate and stay length discounts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rate plan saved successfully",
+            content = @Content(schema = @Schema(implementation = RatePlanDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    public ResponseEntity<RatePlanDto> saveRatePlan(
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId,
+            @Parameter(description = "Room type") @PathVariable String roomType,
+            @Valid @RequestBody RatePlanDto ratePlanDto) {
+        logger.info("Saving {} rate plan for hotel ID: {}", roomType, hotelId);
+        boolean validSeasons = ratePlanDto.getSeasons().stream()
+                .noneMatch(season -> season.getEndDate().isBefore(season.getStartDate()));
+        if (roomType.length() < 2 || roomType.length() > 50 || !validSeasons) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(ratePlanService.saveRatePlan(hotelId, roomType, ratePlanDto));
+    }
+
+    /**
+     * Delete the rate plan of a room type
+     */
+    @DeleteMapping("/rate-plans/{roomType}")
+    @Operation(summary = "Delete rate plan", description = "Deletes the rate plan of a room type; its rooms are sold at their own prices again")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Rate plan deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "The room type has no rate plan")
+    })
+    public ResponseEntity<Void> deleteRatePlan(
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId,
+            @Parameter(description = "Room type") @PathVariable String roomType) {
+        logger.info("Deleting {} rate plan for hotel ID: {}", roomType, hotelId);
+        return ratePlanService.deleteRatePlan(hotelId, roomType)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Price a stay
+     */
+    @GetMapping("/quote")
+    @Operation(summary = "Quote a stay", description = "Prices a stay in a room, or in any room of a type, for a number of guests")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stay priced successfully",
+            content = @Content(schema = @Schema(implementation = RateQuoteDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid stay"),
+        @ApiResponse(responseCode = "404", description = "No such room or room type, or the stay is beyond the priced window")
+    })
+    public ResponseEntity<RateQuoteDto> quote(
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId,
+            @Parameter(description = "Room ID") @RequestParam(required = false) Long roomId,
+            @Parameter(description = "Room type; used when no room ID is given") @RequestParam(required = false) String roomType,
+            @Parameter(description = "Check-in date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @Parameter(description = "Check-out date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate,
+            @Parameter(description = "Number of guests") @RequestParam(defaultValue = "1") int numberOfGuests) {
+
+        logger.debug("Quoting hotel ID: {}, room ID: {}, room type: {} from {} to {}", hotelId, roomId, roomType,
+                checkInDate, checkOutDate);
+        if ((roomId == null && roomType == null) || !checkInDate.isBefore(checkOutDate)
+                || checkInDate.plusDays(maxStayNights).isBefore(checkOutDate) || numberOfGuests < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ratePlanService.quote(hotelId, roomId, roomType, checkInDate, checkOutDate, numberOfGuests)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.hotelreservation.hotel.dto;
+
+import java.util.List;
+
+/**
+ * Hotel Discovery Query
+ *
+ * Filters for faceted hotel discovery. Values within one filter are alternatives;
+ * the filters themselves must all match. Unset filters match every hotel.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HotelDiscoveryQuery {
+
+    private List<String> cities;
+    private Integer minRating;
+    private Integer maxRating;
+    private List<String> roomTypes;
+    private Integer minCapacity;
+    private List<String> priceBands;
+
+    // Default constructor
+    public HotelDiscoveryQuery() {
+    }
+
+    // Constructor with all fields
+    public HotelDiscoveryQuery(List<String> cities, Integer minRating, Integer maxRating,
+                               List<String> roomTypes, Integer minCapacity, List<String> priceBands) {
+        this.cities = cities;
+        this.minRating = minRating;
+        this.maxRating = maxRating;
+        this.roomTypes = roomTypes;
+        this.minCapacity = minCapacity;
+        this.priceBands = priceBands;
+    }
+
+    // Getters and Setters
+    public List<String> getCities() {
+        return cities;
+    }
+
+    public void setCities(List<String> cities) {
+        this.cities = cities;
+    }
+
+    public Integer getMinRating() {
+        return minRating;
+    }
+
+    public void setMinRating(Integer minRating) {
+        this.minRating = minRating;
+    }
+
+    public Integer getMaxRating() {
+        return maxRating;
+    }
+
+    public void setMaxRating(Integer maxRating) {
+        this.maxRating = maxRating;
+    }
+
+    public List<String> getRoomTypes() {
+        return roomTypes;
+    }
+
+    public void setRoomTypes(List<String> roomTypes) {
+        this.roomTypes = roomTypes;
+    }
+
+    public Integer getMinCapacity() {
+        return minCapacity;
+    }
+
+    public void setMinCapacity(Integer minCapacity) {
+        this.minCapacity = minCapacity;
+    }
+
+    public List<String> getPriceBands() {
+        return priceBands;
+    }
+
+    public void setPriceBands(List<String> priceBands) {
+        this.priceBands = priceBands;
+    }
+
+    @Override
+    public String toString() {
+        return "HotelDiscoveryQuery{" +
+                "cities=" + cities +
+                ", minRating=" + minRating +
+                ", maxRating=" + maxRating +
+                ", roomTypes=" + roomTypes +
+                ", minCapacity=" + minCapacity +
+                ", priceBands=" + priceBands +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.hotelreservation.hotel.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hotel Discovery Response
+ *
+ * One page of hotels matching a discovery query, with the facet counts for the whole
+ * result. Each facet's counts apply every filter except the facet's own.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HotelDiscoveryResponse {
+
+    private List<HotelDto> hotels;
+    private long totalElements;
+    private int page;
+    private int size;
+    private Map<String, Map<String, Integer>> facets;
+
+    // Default constructor
+    public HotelDiscoveryResponse() {
+    }
+
+    // Constructor with all fields
+    public HotelDiscoveryResponse(List<HotelDto> hotels, long totalElements, int page, int size,
+                                  Map<String, Map<String, Integer>> facets) {
+        this.hotels = hotels;
+        this.totalElements = totalElements;
+        this.page = page;
+        this.size = size;
+        this.facets = facets;
+    }
+
+    // Getters and Setters
+    public List<HotelDto> getHotels() {
+        return hotels;
+    }
+
+    public void setHotels(List<HotelDto> hotels) {
+        this.hotels = hotels;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
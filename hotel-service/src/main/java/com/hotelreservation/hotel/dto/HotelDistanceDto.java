@@ -0,0 +1,50 @@
+package com.hotelreservation.hotel.dto;
+
+/**
+ * Hotel Distance Data Transfer Object
+ *
+ * A hotel returned by a geo search together with its distance from the search point.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HotelDistanceDto {
+
+    private HotelDto hotel;
+    private Double distanceKm;
+
+    // Default constructor
+    public HotelDistanceDto() {
+    }
+
+    // Constructor with all fields
+    public HotelDistanceDto(HotelDto hotel, Double distanceKm) {
+        this.hotel = hotel;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters and Setters
+    public HotelDto getHotel() {
+        return hotel;
+    }
+
+    public void setHotel(HotelDto hotel) {
+        this.hotel = hotel;
+    }
+
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+
+    @Override
+    public String toString() {
+        return "HotelDistanceDto{" +
+                "hotel=" + hotel +
+                ", distanceKm=" + distanceKm +
+                '}';
+    }
+}
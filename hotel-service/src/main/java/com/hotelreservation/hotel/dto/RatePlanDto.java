@@ -0,0 +1,252 @@
+package com.hotelreservation.hotel.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate Plan Data Transfer Object
+ *
+ * Request and response body of the rate plan API. The hotel and room type come from the
+ * request path.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class RatePlanDto {
+
+    private Long id;
+    private Long hotelId;
+    private String roomType;
+
+    @NotNull(message = "Base rate is required")
+    @Positive(message = "Base rate must be positive")
+    private BigDecimal baseRate;
+
+    @NotNull(message = "Included occupancy is required")
+    @Positive(message = "Included occupancy must be positive")
+    private Integer includedOccupancy;
+
+    @PositiveOrZero(message = "Extra guest rate must not be negative")
+    private BigDecimal extraGuestRate;
+
+    @Valid
+    private List<Season> seasons = new ArrayList<>();
+
+    @Valid
+    private List<StayDiscount> stayDiscounts = new ArrayList<>();
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    // Default constructor
+    public RatePlanDto() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+
+    public BigDecimal getBaseRate() {
+        return baseRate;
+    }
+
+    public void setBaseRate(BigDecimal baseRate) {
+        this.baseRate = baseRate;
+    }
+
+    public Integer getIncludedOccupancy() {
+        return includedOccupancy;
+    }
+
+    public void setIncludedOccupancy(Integer includedOccupancy) {
+        this.includedOccupancy = includedOccupancy;
+    }
+
+    public BigDecimal getExtraGuestRate() {
+        return extraGuestRate;
+    }
+
+    public void setExtraGuestRate(BigDecimal extraGuestRate) {
+        this.extraGuestRate = extraGuestRate;
+    }
+
+    public List<Season> getSeasons() {
+        return seasons;
+    }
+
+    public void setSeasons(List<Season> seasons) {
+        this.seasons = seasons;
+    }
+
+    public List<StayDiscount> getStayDiscounts() {
+        return stayDiscounts;
+    }
+
+    public void setStayDiscounts(List<StayDiscount> stayDiscounts) {
+        this.stayDiscounts = stayDiscounts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "RatePlanDto{" +
+                "id=" + id +
+                ", hotelId=" + hotelId +
+                ", roomType='" + roomType + '\'' +
+                ", baseRate=" + baseRate +
+                ", includedOccupancy=" + includedOccupancy +
+                ", extraGuestRate=" + extraGuestRate +
+                ", seasons=" + (seasons != null ? seasons.size() : 0) +
+                ", stayDiscounts=" + (stayDiscounts != null ? stayDiscounts.size() : 0) +
+                '}';
+    }
+
+    /**
+     * Nightly rate for the nights from startDate through endDate, both included
+     */
+    public static class Season {
+
+        @NotNull(message = "Season start date is required")
+        private LocalDate startDate;
+
+        @NotNull(message = "Season end date is required")
+        private LocalDate endDate;
+
+        @NotNull(message = "Seasonal rate is required")
+        @Positive(message = "Seasonal rate must be positive")
+        private BigDecimal nightlyRate;
+
+        // Default constructor
+        public Season() {
+        }
+
+        // Constructor with all fields
+        public Season(LocalDate startDate, LocalDate endDate, BigDecimal nightlyRate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.nightlyRate = nightlyRate;
+        }
+
+        // Getters and Setters
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(LocalDate startDate) {
+            this.startDate = startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(LocalDate endDate) {
+            this.endDate = endDate;
+        }
+
+        public BigDecimal getNightlyRate() {
+            return nightlyRate;
+        }
+
+        public void setNightlyRate(BigDecimal nightlyRate) {
+            this.nightlyRate = nightlyRate;
+        }
+    }
+
+    /**
+     * Percentage off stays of at least minNights nights
+     */
+    public static class StayDiscount {
+
+        @NotNull(message = "Minimum nights are required")
+        @Positive(message = "Minimum nights must be positive")
+        private Integer minNights;
+
+        @NotNull(message = "Discount percent is required")
+        @DecimalMin(value = "0.01", message = "Discount percent must be greater than 0")
+        @DecimalMax(value = "100", message = "Discount percent must be at most 100")
+        private BigDecimal discountPercent;
+
+        // Default constructor
+        public StayDiscount() {
+        }
+
+        // Constructor with all fields
+        public StayDiscount(Integer minNights, BigDecimal discountPercent) {
+            this.minNights = minNights;
+            this.discountPercent = discountPercent;
+        }
+
+        // Getters and Setters
+        public Integer getMinNights() {
+            return minNights;
+        }
+
+        public void setMinNights(Integer minNights) {
+            this.minNights = minNights;
+        }
+
+        public BigDecimal getDiscountPercent() {
+            return discountPercent;
+        }
+
+        public void setDiscountPercent(BigDecimal discountPercent) {
+            this.discountPercent = discountPercent;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.hotelreservation.hotel.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -24,7 +26,8 @@ import java.util.List;
 @Table(name = "hotels", indexes = {
     @Index(name = "idx_hotel_name", columnList = "name"),
     @Index(name = "idx_hotel_city", columnList = "city"),
-    @Index(name = "idx_hotel_active", columnList = "active")
+    @Index(name = "idx_hotel_active", columnList = "active"),
+    @Index(name = "idx_hotel_updated_at", columnList = "updated_at")
 })
 @Where(clause = "active = true")
 public class Hotel {
@@ -64,6 +67,16 @@ public class Hotel {
     @Column(name = "rating", nullable = false)
     private Integer rating;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Column(name = "longitude")
+    private Double longitude;
+
     @NotNull(message = "Hotel active status is required")
     @Column(name = "active", nullable = false)
     private Boolean active = true;
@@ -161,6 +174,22 @@ public class Hotel {
         this.rating = rating;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public Boolean getActive() {
         return active;
     }
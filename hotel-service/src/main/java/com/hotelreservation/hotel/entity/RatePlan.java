@@ -0,0 +1,192 @@
+package com.hotelreservation.hotel.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate Plan Entity
+ *
+ * Nightly pricing of one room type of a hotel: a base rate, seasonal rates that replace
+ * it on the nights they cover, a charge per guest beyond the included occupancy and
+ * discounts for longer stays. Rooms of a type without a plan are sold at their own
+ * price per night.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "rate_plans", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rate_plan_hotel_room_type", columnNames = {"hotel_id", "room_type"})
+}, indexes = {
+    @Index(name = "idx_rate_plan_updated_at", columnList = "updated_at")
+})
+public class RatePlan {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Hotel is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id", nullable = false)
+    private Hotel hotel;
+
+    @NotBlank(message = "Room type is required")
+    @Size(min = 2, max = 50, message = "Room type must be between 2 and 50 characters")
+    @Column(name = "room_type", nullable = false, length = 50)
+    private String roomType;
+
+    @NotNull(message = "Base rate is required")
+    @Positive(message = "Base rate must be positive")
+    @Column(name = "base_rate", nullable = false, precision = 10, scale = 2)
+    private BigDecimal baseRate;
+
+    @NotNull(message = "Included occupancy is required")
+    @Positive(message = "Included occupancy must be positive")
+    @Column(name = "included_occupancy", nullable = false)
+    private Integer includedOccupancy;
+
+    @NotNull(message = "Extra guest rate is required")
+    @PositiveOrZero(message = "Extra guest rate must not be negative")
+    @Column(name = "extra_guest_rate", nullable = false, precision = 10, scale = 2)
+    private BigDecimal extraGuestRate = BigDecimal.ZERO;
+
+    @ElementCollection
+    @CollectionTable(name = "rate_plan_seasons", joinColumns = @JoinColumn(name = "rate_plan_id"))
+    @OrderBy("startDate")
+    private List<SeasonalRate> seasons = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "rate_plan_stay_discounts", joinColumns = @JoinColumn(name = "rate_plan_id"))
+    @OrderBy("minNights")
+    private List<StayLengthDiscount> stayDiscounts = new ArrayList<>();
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // Default constructor
+    public RatePlan() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Hotel getHotel() {
+        return hotel;
+    }
+
+    public void setHotel(Hotel hotel) {
+        this.hotel = hotel;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+
+    public BigDecimal getBaseRate() {
+        return baseRate;
+    }
+
+    public void setBaseRate(BigDecimal baseRate) {
+        this.baseRate = baseRate;
+    }
+
+    public Integer getIncludedOccupancy() {
+        return includedOccupancy;
+    }
+
+    public void setIncludedOccupancy(Integer includedOccupancy) {
+        this.includedOccupancy = includedOccupancy;
+    }
+
+    public BigDecimal getExtraGuestRate() {
+        return extraGuestRate;
+    }
+
+    public void setExtraGuestRate(BigDecimal extraGuestRate) {
+        this.extraGuestRate = extraGuestRate;
+    }
+
+    public List<SeasonalRate> getSeasons() {
+        return seasons;
+    }
+
+    public void setSeasons(List<SeasonalRate> seasons) {
+        this.seasons = seasons;
+    }
+
+    public List<StayLengthDiscount> getStayDiscounts() {
+        return stayDiscounts;
+    }
+
+    public void setStayDiscounts(List<StayLengthDiscount> stayDiscounts) {
+        this.stayDiscounts = stayDiscounts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "RatePlan{" +
+                "id=" + id +
+                ", roomType='" + roomType + '\'' +
+                ", baseRate=" + baseRate +
+                ", includedOccupancy=" + includedOccupancy +
+                ", extraGuestRate=" + extraGuestRate +
+                ", seasons=" + seasons.size() +
+                ", stayDiscounts=" + stayDiscounts.size() +
+                '}';
+    }
+}
@@ -25,7 +25,8 @@ import java.time.LocalDateTime;
     @Index(name = "idx_room_hotel_id", columnList = "hotel_id"),
     @Index(name = "idx_room_number", columnList = "room_number"),
     @Index(name = "idx_room_type", columnList = "room_type"),
-    @Index(name = "idx_room_active", columnList = "active")
+    @Index(name = "idx_room_active", columnList = "active"),
+    @Index(name = "idx_room_updated_at", columnList = "updated_at")
 })
 @Where(clause = "active = true")
 public class Room {
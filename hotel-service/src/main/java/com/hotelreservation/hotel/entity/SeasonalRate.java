@@ -0,0 +1,80 @@
+package com.hotelreservation.hotel.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Seasonal Rate
+ *
+ * Nightly rate of a rate plan for the nights from startDate through endDate, both
+ * included. Where seasons overlap, the one starting later wins.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Embeddable
+public class SeasonalRate {
+
+    @NotNull(message = "Season start date is required")
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @NotNull(message = "Season end date is required")
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @NotNull(message = "Seasonal rate is required")
+    @Positive(message = "Seasonal rate must be positive")
+    @Column(name = "nightly_rate", nullable = false, precision = 10, scale = 2)
+    private BigDecimal nightlyRate;
+
+    // Default constructor
+    public SeasonalRate() {
+    }
+
+    // Constructor with all fields
+    public SeasonalRate(LocalDate startDate, LocalDate endDate, BigDecimal nightlyRate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.nightlyRate = nightlyRate;
+    }
+
+    // Getters and Setters
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public BigDecimal getNightlyRate() {
+        return nightlyRate;
+    }
+
+    public void setNightlyRate(BigDecimal nightlyRate) {
+        this.nightlyRate = nightlyRate;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonalRate{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", nightlyRate=" + nightlyRate +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.hotelreservation.hotel.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * Stay Length Discount
+ *
+ * Percentage taken off the price of stays of at least minNights nights. A stay gets the
+ * discount with the highest minNights it reaches.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Embeddable
+public class StayLengthDiscount {
+
+    @NotNull(message = "Minimum nights are required")
+    @Positive(message = "Minimum nights must be positive")
+    @Column(name = "min_nights", nullable = false)
+    private Integer minNights;
+
+    @NotNull(message = "Discount percent is required")
+    @DecimalMin(value = "0.01", message = "Discount percent must be greater than 0")
+    @DecimalMax(value = "100", message = "Discount percent must be at most 100")
+    @Column(name = "discount_percent", nullable = false, precision = 5, scale = 2)
+    private BigDecimal discountPercent;
+
+    // Default constructor
+    public StayLengthDiscount() {
+    }
+
+    // Constructor with all fields
+    public StayLengthDiscount(Integer minNights, BigDecimal discountPercent) {
+        this.minNights = minNights;
+        this.discountPercent = discountPercent;
+    }
+
+    // Getters and Setters
+    public Integer getMinNights() {
+        return minNights;
+    }
+
+    public void setMinNights(Integer minNights) {
+        this.minNights = minNights;
+    }
+
+    public BigDecimal getDiscountPercent() {
+        return discountPercent;
+    }
+
+    public void setDiscountPercent(BigDecimal discountPercent) {
+        this.discountPercent = discountPercent;
+    }
+
+    @Override
+    public String toString() {
+        return "StayLengthDiscount{" +
+                "minNights=" + minNights +
+                ", discountPercent=" + discountPercent +
+                '}';
+    }
+}
@@ -0,0 +1,31 @@
+package com.hotelreservation.hotel.event;
+
+/**
+ * Hotel Catalog Changed Event
+ *
+ * Application event published when a hotel or one of its rooms is created, updated or
+ * deleted. Listeners that keep derived views of the catalog reload the hotel after the
+ * transaction commits.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HotelCatalogChangedEvent {
+
+    private final Long hotelId;
+
+    public HotelCatalogChangedEvent(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    @Override
+    public String toString() {
+        return "HotelCatalogChangedEvent{" +
+                "hotelId=" + hotelId +
+                '}';
+    }
+}
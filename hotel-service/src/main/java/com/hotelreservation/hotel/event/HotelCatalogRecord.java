@@ -0,0 +1,143 @@
+package com.hotelreservation.hotel.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hotel Catalog Record
+ *
+ * State of an active hotel and all of its active rooms, published to the compacted room
+ * catalog topic keyed by hotel ID. Each record replaces the previous one of the hotel;
+ * a hotel that is deleted gets a tombstone (a null record) instead.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HotelCatalogRecord {
+
+    @JsonProperty("hotel_id")
+    private Long hotelId;
+
+    @JsonProperty("rooms")
+    private List<CatalogRoom> rooms;
+
+    @JsonProperty("event_timestamp")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime eventTimestamp;
+
+    /**
+     * Default constructor
+     */
+    public HotelCatalogRecord() {
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    /**
+     * Constructor with all fields
+     */
+    public HotelCatalogRecord(Long hotelId, List<CatalogRoom> rooms) {
+        this.hotelId = hotelId;
+        this.rooms = rooms;
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public List<CatalogRoom> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(List<CatalogRoom> rooms) {
+        this.rooms = rooms;
+    }
+
+    public LocalDateTime getEventTimestamp() {
+        return eventTimestamp;
+    }
+
+    public void setEventTimestamp(LocalDateTime eventTimestamp) {
+        this.eventTimestamp = eventTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "HotelCatalogRecord{" +
+                "hotelId=" + hotelId +
+                ", rooms=" + (rooms != null ? rooms.size() : 0) +
+                ", eventTimestamp=" + eventTimestamp +
+                '}';
+    }
+
+    /**
+     * One active room of the hotel
+     */
+    public static class CatalogRoom {
+
+        @JsonProperty("room_id")
+        private Long roomId;
+
+        @JsonProperty("room_type")
+        private String roomType;
+
+        @JsonProperty("capacity")
+        private Integer capacity;
+
+        @JsonProperty("available")
+        private Boolean available;
+
+        // Default constructor
+        public CatalogRoom() {
+        }
+
+        // Constructor with all fields
+        public CatalogRoom(Long roomId, String roomType, Integer capacity, Boolean available) {
+            this.roomId = roomId;
+            this.roomType = roomType;
+            this.capacity = capacity;
+            this.available = available;
+        }
+
+        // Getters and Setters
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        public void setRoomId(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        public String getRoomType() {
+            return roomType;
+        }
+
+        public void setRoomType(String roomType) {
+            this.roomType = roomType;
+        }
+
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+
+        public Boolean getAvailable() {
+            return available;
+        }
+
+        public void setAvailable(Boolean available) {
+            this.available = available;
+        }
+    }
+}
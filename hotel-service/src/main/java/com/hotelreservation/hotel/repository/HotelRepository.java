@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,21 +73,129 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
     List<Hotel> findByRatingBetweenAndActiveTrue(Integer minRating, Integer maxRating);
 
     /**
-     * Find hotels by name containing (case-insensitive) and active status
+     * Find active hotels whose lower-cased name matches a LIKE pattern. Served by the
+     * trigram index on lower(name) (see db/search-indexes.sql).
      *
-     * @param name hotel name (partial match)
-     * @return List of hotels matching the name
+     * @param pattern lower-case LIKE pattern with wildcards escaped
+     * @return List of matching hotels
      */
-    List<Hotel> findByNameContainingIgnoreCaseAndActiveTrue(String name);
+    @Query("SELECT h FROM Hotel h WHERE h.active = true AND LOWER(h.name) LIKE :pattern")
+    List<Hotel> findActiveByNamePattern(@Param("pattern") String pattern);
 
     /**
-     * Find hotels by name containing with pagination
+     * Find active hotels whose lower-cased name matches a LIKE pattern with pagination
      *
-     * @param name hotel name (partial match)
+     * @param pattern lower-case LIKE pattern with wildcards escaped
      * @param pageable pagination parameters
-     * @return Page of hotels matching the name
+     * @return Page of matching hotels
      */
-    Page<Hotel> findByNameContainingIgnoreCaseAndActiveTrue(String name, Pageable pageable);
+    @Query("SELECT h FROM Hotel h WHERE h.active = true AND LOWER(h.name) LIKE :pattern")
+    Page<Hotel> findActiveByNamePattern(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Find active hotels whose name starts with a prefix, in name order. Served by the
+     * "C"-collated expression index on lower(name), so the scan stops after limit rows.
+     *
+     * @param prefix lower-case LIKE pattern matching names starting with the term
+     * @param limit maximum number of results
+     * @return List of hotels ordered by name
+     */
+    @Query(value = "SELECT h.* FROM hotels h " +
+                   "WHERE h.active = true AND lower(h.name) COLLATE \"C\" LIKE :prefix " +
+                   "ORDER BY lower(h.name) COLLATE \"C\" " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Hotel> findActiveByNamePrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+
+    /**
+     * Find active hotels containing the term anywhere but not at the start of the name.
+     * At most candidates rows are taken from the trigram index and ranked: names with a
+     * word starting with the term first, then by trigram word similarity.
+     *
+     * @param term lower-case search term
+     * @param contains lower-case LIKE pattern matching the term anywhere
+     * @param prefix lower-case LIKE pattern matching names starting with the term
+     * @param wordPrefix lower-case LIKE pattern matching a later word starting with the term
+     * @param candidates number of candidates to rank
+     * @param limit maximum number of results
+     * @return List of hotels, best match first
+     */
+    @Query(value = "SELECT c.* FROM (" +
+                   "  SELECT h.* FROM hotels h" +
+                   "  WHERE h.active = true AND lower(h.name) LIKE :contains AND lower(h.name) NOT LIKE :prefix" +
+                   "  LIMIT :candidates" +
+                   ") c " +
+                   "ORDER BY lower(c.name) LIKE :wordPrefix DESC, word_similarity(:term, lower(c.name)) DESC, c.id " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Hotel> findActiveByNameSubstring(@Param("term") String term,
+                                          @Param("contains") String contains,
+                                          @Param("prefix") String prefix,
+                                          @Param("wordPrefix") String wordPrefix,
+                                          @Param("candidates") int candidates,
+                                          @Param("limit") int limit);
+
+    /**
+     * Find active hotels within a radius, nearest first. The earth_box test is served by
+     * the GiST index on ll_to_earth(latitude, longitude), which also returns rows in
+     * distance order for the KNN ORDER BY; earth_distance then trims the box to the circle.
+     *
+     * @param latitude latitude of the search point
+     * @param longitude longitude of the search point
+     * @param radius radius in meters
+     * @param minRating minimum hotel rating
+     * @param limit maximum number of results
+     * @return Rows of hotel ID and distance in meters
+     */
+    @Query(value = "SELECT h.id, earth_distance(ll_to_earth(h.latitude, h.longitude), ll_to_earth(:latitude, :longitude)) " +
+                   "FROM hotels h " +
+                   "WHERE h.active = true AND h.rating >= :minRating " +
+                   "AND earth_box(ll_to_earth(:latitude, :longitude), :radius) @> ll_to_earth(h.latitude, h.longitude) " +
+                   "AND earth_distance(ll_to_earth(h.latitude, h.longitude), ll_to_earth(:latitude, :longitude)) <= :radius " +
+                   "ORDER BY ll_to_earth(h.latitude, h.longitude) <-> ll_to_earth(:latitude, :longitude) " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Object[]> findNearby(@Param("latitude") double latitude,
+                              @Param("longitude") double longitude,
+                              @Param("radius") double radius,
+                              @Param("minRating") int minRating,
+                              @Param("limit") int limit);
+
+    /**
+     * Find active hotels inside a latitude/longitude box, nearest to a point first. The
+     * caller passes a circle enclosing the box, so the same earth index serves the box as
+     * a radius search would; the latitude and longitude ranges then trim it to the box,
+     * which must not cross the antimeridian.
+     *
+     * @param minLatitude southern edge
+     * @param minLongitude western edge
+     * @param maxLatitude northern edge
+     * @param maxLongitude eastern edge
+     * @param centerLatitude latitude of the enclosing circle's center
+     * @param centerLongitude longitude of the enclosing circle's center
+     * @param radius radius of the enclosing circle in meters
+     * @param latitude latitude of the point to sort by
+     * @param longitude longitude of the point to sort by
+     * @param minRating minimum hotel rating
+     * @param limit maximum number of results
+     * @return Rows of hotel ID and distance in meters
+     */
+    @Query(value = "SELECT h.id, earth_distance(ll_to_earth(h.latitude, h.longitude), ll_to_earth(:latitude, :longitude)) " +
+                   "FROM hotels h " +
+                   "WHERE h.active = true AND h.rating >= :minRating " +
+                   "AND earth_box(ll_to_earth(:centerLatitude, :centerLongitude), :radius) @> ll_to_earth(h.latitude, h.longitude) " +
+                   "AND h.latitude BETWEEN :minLatitude AND :maxLatitude " +
+                   "AND h.longitude BETWEEN :minLongitude AND :maxLongitude " +
+                   "ORDER BY ll_to_earth(h.latitude, h.longitude) <-> ll_to_earth(:latitude, :longitude) " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Object[]> findInBoundingBox(@Param("minLatitude") double minLatitude,
+                                     @Param("minLongitude") double minLongitude,
+                                     @Param("maxLatitude") double maxLatitude,
+                                     @Param("maxLongitude") double maxLongitude,
+                                     @Param("centerLatitude") double centerLatitude,
+                                     @Param("centerLongitude") double centerLongitude,
+                                     @Param("radius") double radius,
+                                     @Param("latitude") double latitude,
+                                     @Param("longitude") double longitude,
+                                     @Param("minRating") int minRating,
+                                     @Param("limit") int limit);
 
     /**
      * Custom query to find hotels with rooms count
@@ -131,4 +240,22 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
      * @return List of hotels with minimum rating
      */
     List<Hotel> findByRatingGreaterThanEqualAndActiveTrue(Integer minRating);
+
+    /**
+     * Find hotels that were changed, deleted or had a room changed since a point in time
+     *
+     * @param since lower bound on updated_at, exclusive
+     * @return IDs of the changed hotels
+     */
+    @Query(value = "SELECT h.id FROM hotels h WHERE h.updated_at > :since " +
+                   "UNION SELECT r.hotel_id FROM rooms r WHERE r.updated_at > :since", nativeQuery = true)
+    List<Long> findHotelIdsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Find the IDs of all active hotels
+     *
+     * @return IDs of the active hotels, ascending
+     */
+    @Query("SELECT h.id FROM Hotel h WHERE h.active = true ORDER BY h.id")
+    List<Long> findActiveHotelIds();
 } 
\ No newline at end of file
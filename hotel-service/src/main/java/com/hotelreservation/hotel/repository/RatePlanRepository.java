@@ -0,0 +1,37 @@
+package com.hotelreservation.hotel.repository;
+
+import com.hotelreservation.hotel.entity.RatePlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Rate Plan Repository
+ *
+ * Data access layer for RatePlan entity.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Repository
+public interface RatePlanRepository extends JpaRepository<RatePlan, Long> {
+
+    /**
+     * Find the rate plans of a hotel
+     *
+     * @param hotelId hotel ID
+     * @return List of rate plans, by room type
+     */
+    List<RatePlan> findByHotelIdOrderByRoomType(Long hotelId);
+
+    /**
+     * Find the rate plan of a room type of a hotel
+     *
+     * @param hotelId hotel ID
+     * @param roomType room type
+     * @return Optional of RatePlan
+     */
+    Optional<RatePlan> findByHotelIdAndRoomType(Long hotelId, String roomType);
+}
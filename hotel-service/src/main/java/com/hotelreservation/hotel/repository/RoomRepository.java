@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,6 +55,14 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     List<Room> findByHotelIdAndActiveTrue(Long hotelId);
 
+    /**
+     * Find the active rooms of several hotels
+     *
+     * @param hotelIds hotel IDs
+     * @return List of rooms of the specified hotels
+     */
+    List<Room> findByHotelIdInAndActiveTrue(Collection<Long> hotelIds);
+
     /**
      * Find rooms by hotel ID with pagination
      *
@@ -0,0 +1,213 @@
+package com.hotelreservation.hotel.service;
+
+import com.hotelreservation.hotel.dto.HotelDiscoveryQuery;
+import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.entity.Room;
+import com.hotelreservation.hotel.event.HotelCatalogChangedEvent;
+import com.hotelreservation.hotel.repository.HotelRepository;
+import com.hotelreservation.hotel.repository.RoomRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Hotel Discovery Indexer
+ *
+ * Keeps the {@link HotelFacetIndex} in line with the database. The index is built from
+ * all active hotels and rooms once the application is ready. After that a hotel is
+ * re-indexed as soon as a change to it or its rooms commits on this instance, and a
+ * periodic refresh re-indexes hotels changed through other instances.
+ *
+ * Updates run one at a time on the indexer's own thread, so a full build cannot overwrite
+ * a newer state of a hotel with an older one, and neither the request that committed a
+ * change nor a search ever waits for the database reads of an update.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class HotelDiscoveryIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelDiscoveryIndexer.class);
+
+    // updated_at is set before commit and clocks differ between hosts; look back far enough to cover both
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final HotelFacetIndex index;
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate primaryReadTemplate;
+    private final ExecutorService updates;
+
+    // Only touched on the updates thread
+    private boolean ready;
+    private LocalDateTime lastRefresh;
+
+    @Autowired
+    public HotelDiscoveryIndexer(HotelRepository hotelRepository,
+                                 RoomRepository roomRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${hotel.discovery.price-band-limits:100,200,400}") List<BigDecimal> priceBandLimits) {
+        this.index = new HotelFacetIndex(priceBandLimits);
+        this.hotelRepository = hotelRepository;
+        this.roomRepository = roomRepository;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        // Reads a change that has just committed, so it has to go to the primary
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.updates = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hotel-discovery-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stop the update thread; updates still queued are dropped
+     */
+    @PreDestroy
+    public void stop() {
+        updates.shutdownNow();
+    }
+
+    /**
+     * Build the index from every active hotel and room, and wait until it is built
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        runAndWait(this::doRebuild);
+    }
+
+    /**
+     * Re-index a hotel once a change to it or its rooms has committed. Only queues the
+     * update; the thread that committed the change does not wait for it.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelCatalogChanged(HotelCatalogChangedEvent event) {
+        Long hotelId = event.getHotelId();
+        try {
+            updates.execute(() -> reindexCommitted(hotelId));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Hotel discovery indexer stopped, hotel {} not re-indexed", hotelId);
+        }
+    }
+
+    /**
+     * Re-index hotels changed since the last refresh, including changes made through other
+     * instances, and wait until they are re-indexed
+     */
+    @Scheduled(fixedDelayString = "${hotel.discovery.refresh-interval-ms:30000}",
+               initialDelayString = "${hotel.discovery.refresh-interval-ms:30000}")
+    public void refresh() {
+        runAndWait(this::doRefresh);
+    }
+
+    /**
+     * Search the index
+     *
+     * @param query the discovery filters
+     * @return matching hotel IDs and facet counts
+     */
+    public HotelFacetIndex.Result search(HotelDiscoveryQuery query) {
+        return index.search(query);
+    }
+
+    private void runAndWait(Runnable update) {
+        try {
+            updates.submit(update).get();
+        } catch (RejectedExecutionException e) {
+            logger.debug("Hotel discovery indexer stopped, update skipped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Hotel discovery index update failed: {}", e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void doRebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            readTemplate.executeWithoutResult(status -> {
+                Map<Long, List<Room>> roomsByHotel = new HashMap<>();
+                for (Room room : roomRepository.findByActiveTrue()) {
+                    roomsByHotel.computeIfAbsent(room.getHotel().getId(), id -> new ArrayList<>()).add(room);
+                }
+                index.clear();
+                for (Hotel hotel : hotelRepository.findByActiveTrue()) {
+                    index.index(hotel, roomsByHotel.getOrDefault(hotel.getId(), Collections.emptyList()));
+                }
+            });
+            lastRefresh = startedAt;
+            ready = true;
+            logger.info("Hotel discovery index built with {} hotels in {}ms", index.size(),
+                    System.currentTimeMillis() - start);
+        } catch (DataAccessException | TransactionException e) {
+            logger.error("Failed to build hotel discovery index: {}", e.getMessage(), e);
+        }
+    }
+
+    private void reindexCommitted(Long hotelId) {
+        try {
+            primaryReadTemplate.executeWithoutResult(status -> reindex(hotelId));
+        } catch (DataAccessException | TransactionException e) {
+            // The periodic refresh picks the hotel up again
+            logger.warn("Failed to re-index hotel {}: {}", hotelId, e.getMessage());
+        }
+    }
+
+    private void doRefresh() {
+        if (!ready) {
+            doRebuild();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            Integer reindexed = readTemplate.execute(status -> {
+                List<Long> hotelIds = hotelRepository.findHotelIdsChangedSince(lastRefresh.minus(REFRESH_OVERLAP));
+                hotelIds.forEach(this::reindex);
+                return hotelIds.size();
+            });
+            lastRefresh = startedAt;
+            logger.debug("Hotel discovery index refreshed {} hotels", reindexed);
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Failed to refresh hotel discovery index: {}", e.getMessage());
+        }
+    }
+
+    private void reindex(Long hotelId) {
+        Hotel hotel = hotelRepository.findByIdAndActiveTrue(hotelId).orElse(null);
+        if (hotel == null) {
+            index.remove(hotelId);
+            return;
+        }
+        index.index(hotel, roomRepository.findByHotelIdAndActiveTrue(hotelId));
+    }
+}
@@ -0,0 +1,433 @@
+package com.hotelreservation.hotel.service;
+
+import com.hotelreservation.hotel.dto.HotelDiscoveryQuery;
+import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.entity.Room;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hotel Facet Index
+ *
+ * In-memory inverted index over active hotels for faceted discovery. Each hotel gets a
+ * dense document number; every facet value keeps a {@link BitSet} of the documents that
+ * have it. A query ORs the postings of the selected values within a facet and ANDs the
+ * facets together. Facet counts for a facet are taken with every other facet's filter
+ * applied, so a client can show how many hotels each alternative value would return.
+ *
+ * Room facets describe what a hotel offers: a hotel is in the {@code roomType} posting
+ * of every type it has an active room of, in the {@code capacity} posting of every room
+ * capacity it has and in the {@code priceBand} posting of every band one of its room
+ * rates falls into.
+ *
+ * Thread-safe; searches share a read lock and updates take the write lock.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HotelFacetIndex {
+
+    public static final String CITY = "city";
+    public static final String RATING = "rating";
+    public static final String ROOM_TYPE = "roomType";
+    public static final String CAPACITY = "capacity";
+    public static final String PRICE_BAND = "priceBand";
+
+    private final BigDecimal[] priceBandLimits;
+    private final String[] priceBandLabels;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> docByHotelId = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final BitSet liveDocs = new BitSet();
+    private long[] hotelIdByDoc = new long[64];
+    private DocValues[] valuesByDoc = new DocValues[64];
+    private int nextDoc;
+
+    // City and room type postings are keyed by the lower-cased value; labels keep the first spelling seen
+    private final Map<String, BitSet> cityPostings = new HashMap<>();
+    private final Map<String, String> cityLabels = new HashMap<>();
+    private final Map<Integer, BitSet> ratingPostings = new TreeMap<>();
+    private final Map<String, BitSet> roomTypePostings = new HashMap<>();
+    private final Map<String, String> roomTypeLabels = new HashMap<>();
+    private final Map<Integer, BitSet> capacityPostings = new TreeMap<>();
+    private final Map<Integer, BitSet> priceBandPostings = new TreeMap<>();
+
+    /**
+     * @param priceBandLimits ascending upper limits of the price bands; one more band
+     *                        covers prices at or above the last limit
+     */
+    public HotelFacetIndex(List<BigDecimal> priceBandLimits) {
+        this.priceBandLimits = priceBandLimits.stream().sorted().toArray(BigDecimal[]::new);
+        this.priceBandLabels = new String[this.priceBandLimits.length + 1];
+        BigDecimal lower = BigDecimal.ZERO;
+        for (int band = 0; band < this.priceBandLimits.length; band++) {
+            priceBandLabels[band] = lower.toPlainString() + "-" + this.priceBandLimits[band].toPlainString();
+            lower = this.priceBandLimits[band];
+        }
+        priceBandLabels[this.priceBandLimits.length] = lower.toPlainString() + "+";
+    }
+
+    /**
+     * Add or replace a hotel and its active rooms
+     *
+     * @param hotel the hotel
+     * @param rooms the hotel's active rooms
+     */
+    public void index(Hotel hotel, Collection<Room> rooms) {
+        DocValues values = new DocValues();
+        values.city = normalize(hotel.getCity());
+        values.rating = hotel.getRating();
+        Map<String, String> labels = new HashMap<>();
+        for (Room room : rooms) {
+            String roomType = normalize(room.getRoomType());
+            if (roomType != null) {
+                values.roomTypes.add(roomType);
+                labels.putIfAbsent(roomType, room.getRoomType().trim());
+            }
+            if (room.getCapacity() != null) {
+                values.capacities.add(room.getCapacity());
+            }
+            if (room.getPricePerNight() != null) {
+                values.priceBands.add(priceBandOf(room.getPricePerNight()));
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (values.city != null) {
+                cityLabels.putIfAbsent(values.city, hotel.getCity().trim());
+            }
+            labels.forEach(roomTypeLabels::putIfAbsent);
+            Integer doc = docByHotelId.get(hotel.getId());
+            if (doc != null) {
+                unpost(doc, valuesByDoc[doc]);
+            } else {
+                doc = allocateDoc(hotel.getId());
+            }
+            valuesByDoc[doc] = values;
+            post(doc, values);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a hotel; does nothing when it is not indexed
+     *
+     * @param hotelId the hotel ID
+     */
+    public void remove(Long hotelId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByHotelId.remove(hotelId);
+            if (doc == null) {
+                return;
+            }
+            unpost(doc, valuesByDoc[doc]);
+            valuesByDoc[doc] = null;
+            liveDocs.clear(doc);
+            freeDocs.push(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every hotel
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docByHotelId.clear();
+            freeDocs.clear();
+            liveDocs.clear();
+            Arrays.fill(valuesByDoc, null);
+            nextDoc = 0;
+            cityPostings.clear();
+            ratingPostings.clear();
+            roomTypePostings.clear();
+            capacityPostings.clear();
+            priceBandPostings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed hotels
+     *
+     * @return hotel count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByHotelId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the hotels matching every given filter and count the facet values
+     *
+     * @param query the filters; unset filters match every hotel
+     * @return matching hotel IDs in ascending order and the facet counts
+     */
+    public Result search(HotelDiscoveryQuery query) {
+        lock.readLock().lock();
+        try {
+            BitSet city = anyOf(cityPostings, normalizeAll(query.getCities()));
+            BitSet rating = query.getMinRating() == null && query.getMaxRating() == null ? null
+                    : anyInRange(ratingPostings, query.getMinRating(), query.getMaxRating());
+            BitSet roomType = anyOf(roomTypePostings, normalizeAll(query.getRoomTypes()));
+            BitSet capacity = query.getMinCapacity() == null ? null
+                    : anyInRange(capacityPostings, query.getMinCapacity(), null);
+            BitSet priceBand = anyOf(priceBandPostings, priceBandsOf(query.getPriceBands()));
+
+            BitSet matches = intersect(city, rating, roomType, capacity, priceBand);
+            List<Long> hotelIds = new ArrayList<>(matches.cardinality());
+            for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+                hotelIds.add(hotelIdByDoc[doc]);
+            }
+            hotelIds.sort(null);
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(CITY, count(intersect(null, rating, roomType, capacity, priceBand), cityPostings, cityLabels));
+            facets.put(RATING, count(intersect(city, null, roomType, capacity, priceBand), ratingPostings));
+            facets.put(ROOM_TYPE, count(intersect(city, rating, null, capacity, priceBand), roomTypePostings, roomTypeLabels));
+            facets.put(CAPACITY, countAtLeast(intersect(city, rating, roomType, null, priceBand)));
+            facets.put(PRICE_BAND, countPriceBands(intersect(city, rating, roomType, capacity, null)));
+            return new Result(hotelIds, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocateDoc(Long hotelId) {
+        int doc = freeDocs.isEmpty() ? nextDoc++ : freeDocs.pop();
+        if (doc >= hotelIdByDoc.length) {
+            hotelIdByDoc = Arrays.copyOf(hotelIdByDoc, hotelIdByDoc.length * 2);
+            valuesByDoc = Arrays.copyOf(valuesByDoc, valuesByDoc.length * 2);
+        }
+        hotelIdByDoc[doc] = hotelId;
+        docByHotelId.put(hotelId, doc);
+        liveDocs.set(doc);
+        return doc;
+    }
+
+    private void post(int doc, DocValues values) {
+        if (values.city != null) {
+            cityPostings.computeIfAbsent(values.city, key -> new BitSet()).set(doc);
+        }
+        if (values.rating != null) {
+            ratingPostings.computeIfAbsent(values.rating, key -> new BitSet()).set(doc);
+        }
+        values.roomTypes.forEach(type -> roomTypePostings.computeIfAbsent(type, key -> new BitSet()).set(doc));
+        values.capacities.forEach(capacity -> capacityPostings.computeIfAbsent(capacity, key -> new BitSet()).set(doc));
+        values.priceBands.forEach(band -> priceBandPostings.computeIfAbsent(band, key -> new BitSet()).set(doc));
+    }
+
+    private void unpost(int doc, DocValues values) {
+        if (values.city != null) {
+            unpost(cityPostings, values.city, doc);
+        }
+        if (values.rating != null) {
+            unpost(ratingPostings, values.rating, doc);
+        }
+        values.roomTypes.forEach(type -> unpost(roomTypePostings, type, doc));
+        values.capacities.forEach(capacity -> unpost(capacityPostings, capacity, doc));
+        values.priceBands.forEach(band -> unpost(priceBandPostings, band, doc));
+    }
+
+    // Empty postings are dropped so values no hotel has any more disappear from the facet counts
+    private static <K> void unpost(Map<K, BitSet> postings, K value, int doc) {
+        BitSet posting = postings.get(value);
+        if (posting != null) {
+            posting.clear(doc);
+            if (posting.isEmpty()) {
+                postings.remove(value);
+            }
+        }
+    }
+
+    private static <K> BitSet anyOf(Map<K, BitSet> postings, Collection<K> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (K value : values) {
+            BitSet posting = postings.get(value);
+            if (posting != null) {
+                union.or(posting);
+            }
+        }
+        return union;
+    }
+
+    private static BitSet anyInRange(Map<Integer, BitSet> postings, Integer min, Integer max) {
+        BitSet union = new BitSet();
+        postings.forEach((value, posting) -> {
+            if ((min == null || value >= min) && (max == null || value <= max)) {
+                union.or(posting);
+            }
+        });
+        return union;
+    }
+
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) liveDocs.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static <K> Map<String, Integer> count(BitSet base, Map<K, BitSet> postings, Map<K, String> labels) {
+        Map<String, Integer> counts = new TreeMap<>();
+        postings.forEach((value, posting) -> {
+            int count = cardinalityOfAnd(base, posting);
+            if (count > 0) {
+                counts.put(labels.getOrDefault(value, String.valueOf(value)), count);
+            }
+        });
+        return counts;
+    }
+
+    private static Map<String, Integer> count(BitSet base, Map<Integer, BitSet> postings) {
+        return count(base, postings, Map.of());
+    }
+
+    // Capacity counts are "sleeps at least N": the union of every posting from N upwards
+    private Map<String, Integer> countAtLeast(BitSet base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        List<Integer> capacities = new ArrayList<>(capacityPostings.keySet());
+        BitSet atLeast = new BitSet();
+        int[] cumulative = new int[capacities.size()];
+        for (int i = capacities.size() - 1; i >= 0; i--) {
+            atLeast.or(capacityPostings.get(capacities.get(i)));
+            cumulative[i] = cardinalityOfAnd(base, atLeast);
+        }
+        for (int i = 0; i < capacities.size(); i++) {
+            if (cumulative[i] > 0) {
+                counts.put(String.valueOf(capacities.get(i)), cumulative[i]);
+            }
+        }
+        return counts;
+    }
+
+    private Map<String, Integer> countPriceBands(BitSet base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        priceBandPostings.forEach((band, posting) -> {
+            int count = cardinalityOfAnd(base, posting);
+            if (count > 0) {
+                counts.put(priceBandLabels[band], count);
+            }
+        });
+        return counts;
+    }
+
+    private static int cardinalityOfAnd(BitSet base, BitSet posting) {
+        BitSet both = (BitSet) posting.clone();
+        both.and(base);
+        return both.cardinality();
+    }
+
+    private int priceBandOf(BigDecimal price) {
+        int band = 0;
+        while (band < priceBandLimits.length && price.compareTo(priceBandLimits[band]) >= 0) {
+            band++;
+        }
+        return band;
+    }
+
+    private Set<Integer> priceBandsOf(Collection<String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return null;
+        }
+        Set<Integer> bands = new TreeSet<>();
+        for (int band = 0; band < priceBandLabels.length; band++) {
+            if (labels.contains(priceBandLabels[band])) {
+                bands.add(band);
+            }
+        }
+        // Unknown labels select nothing rather than everything
+        if (bands.isEmpty()) {
+            bands.add(-1);
+        }
+        return bands;
+    }
+
+    private static Set<String> normalizeAll(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        Set<String> normalized = new TreeSet<>();
+        for (String value : values) {
+            String key = normalize(value);
+            if (key != null) {
+                normalized.add(key);
+            }
+        }
+        return normalized;
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Facet values of one indexed hotel, kept to clear its postings on update or removal
+     */
+    private static final class DocValues {
+        private String city;
+        private Integer rating;
+        private final Set<String> roomTypes = new TreeSet<>();
+        private final Set<Integer> capacities = new TreeSet<>();
+        private final Set<Integer> priceBands = new TreeSet<>();
+    }
+
+    /**
+     * Search result: matching hotel IDs and facet counts by facet name and value label
+     */
+    public static final class Result {
+
+        private final List<Long> hotelIds;
+        private final Map<String, Map<String, Integer>> facets;
+
+        Result(List<Long> hotelIds, Map<String, Map<String, Integer>> facets) {
+            this.hotelIds = hotelIds;
+            this.facets = facets;
+        }
+
+        public List<Long> getHotelIds() {
+            return hotelIds;
+        }
+
+        public Map<String, Map<String, Integer>> getFacets() {
+            return facets;
+        }
+    }
+}
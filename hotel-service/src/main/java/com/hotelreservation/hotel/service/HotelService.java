@@ -1,5 +1,8 @@
 package com.hotelreservation.hotel.service;
 
+import com.hotelreservation.hotel.dto.HotelDiscoveryQuery;
+import com.hotelreservation.hotel.dto.HotelDiscoveryResponse;
+import com.hotelreservation.hotel.dto.HotelDistanceDto;
 import com.hotelreservation.hotel.dto.HotelDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -107,6 +110,59 @@ public interface HotelService {
      */
     Page<HotelDto> getHotelsByName(String name, Pageable pageable);
 
+    /**
+     * Search hotels by name, best match first. Names starting with the query rank
+     * highest, then names with a word starting with it, then other close matches.
+     *
+     * @param query search term
+     * @param limit maximum number of results
+     * @return List of hotel DTOs
+     */
+    List<HotelDto> searchHotelsByName(String query, int limit);
+
+    /**
+     * Discover hotels by any combination of city, rating, room type, capacity and price
+     * band, with the number of hotels for each facet value
+     *
+     * @param query discovery filters
+     * @param page page number (0-based)
+     * @param size page size
+     * @return Page of hotels in ID order and the facet counts
+     */
+    HotelDiscoveryResponse discoverHotels(HotelDiscoveryQuery query, int page, int size);
+
+    /**
+     * Find hotels within a radius of a point, nearest first
+     *
+     * @param latitude latitude of the point
+     * @param longitude longitude of the point
+     * @param radiusKm radius in kilometers
+     * @param minRating minimum rating, or null for any
+     * @param limit maximum number of results
+     * @return List of hotels with their distance
+     */
+    List<HotelDistanceDto> findHotelsNearby(double latitude, double longitude, double radiusKm,
+                                            Integer minRating, int limit);
+
+    /**
+     * Find hotels inside a latitude/longitude box, nearest to a point first. A box whose
+     * western edge is east of its eastern edge crosses the antimeridian.
+     *
+     * @param minLatitude southern edge
+     * @param minLongitude western edge
+     * @param maxLatitude northern edge
+     * @param maxLongitude eastern edge
+     * @param latitude latitude of the point to sort by, or null for the box center
+     * @param longitude longitude of the point to sort by, or null for the box center
+     * @param minRating minimum rating, or null for any
+     * @param limit maximum number of results
+     * @return List of hotels with their distance from the sort point
+     */
+    List<HotelDistanceDto> findHotelsInBoundingBox(double minLatitude, double minLongitude,
+                                                   double maxLatitude, double maxLongitude,
+                                                   Double latitude, Double longitude,
+                                                   Integer minRating, int limit);
+
     /**
      * Get hotels with minimum rating
      *
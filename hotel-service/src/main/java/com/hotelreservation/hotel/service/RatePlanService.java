@@ -0,0 +1,70 @@
+package com.hotelreservation.hotel.service;
+
+import com.hotelreservation.hotel.dto.RatePlanDto;
+import com.hotelreservation.hotel.dto.RateQuoteDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Rate Plan Service Interface
+ *
+ * Business logic layer for rate plans and stay quotes.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public interface RatePlanService {
+
+    /**
+     * Get the rate plans of a hotel
+     *
+     * @param hotelId hotel ID
+     * @return List of rate plan DTOs, by room type
+     */
+    List<RatePlanDto> getRatePlans(Long hotelId);
+
+    /**
+     * Get the rate plan of a room type
+     *
+     * @param hotelId hotel ID
+     * @param roomType room type
+     * @return Optional of rate plan DTO
+     */
+    Optional<RatePlanDto> getRatePlan(Long hotelId, String roomType);
+
+    /**
+     * Create or replace the rate plan of a room type
+     *
+     * @param hotelId hotel ID
+     * @param roomType room type
+     * @param ratePlanDto rate plan data
+     * @return saved rate plan DTO
+     */
+    RatePlanDto saveRatePlan(Long hotelId, String roomType, RatePlanDto ratePlanDto);
+
+    /**
+     * Delete the rate plan of a room type; its rooms are sold at their own prices again
+     *
+     * @param hotelId hotel ID
+     * @param roomType room type
+     * @return true if a plan was deleted
+     */
+    boolean deleteRatePlan(Long hotelId, String roomType);
+
+    /**
+     * Price a stay in a room, or in any room of a type
+     *
+     * @param hotelId hotel ID
+     * @param roomId room ID, or null to quote by type
+     * @param roomType room type; ignored when roomId is given
+     * @param checkInDate check-in date
+     * @param checkOutDate check-out date
+     * @param numberOfGuests number of guests
+     * @return Optional of the quote; empty if the hotel has no such room or the stay is
+     *         beyond the priced window
+     */
+    Optional<RateQuoteDto> quote(Long hotelId, Long roomId, String roomType, LocalDate checkInDate,
+                                 LocalDate checkOutDate, int numberOfGuests);
+}
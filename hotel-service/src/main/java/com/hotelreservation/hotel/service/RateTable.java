@@ -0,0 +1,118 @@
+package com.hotelreservation.hotel.service;
+
+import java.time.LocalDate;
+
+/**
+ * Rate Table
+ *
+ * Compiled nightly prices of one room type (or one room) for a window of nights starting
+ * at firstNight, in cents. The nightly prices are stored as running sums, so the price
+ * of any stay inside the window is one subtraction; extra guests and the stay length
+ * discount are applied with integer arithmetic. Quoting allocates nothing.
+ *
+ * Tables are immutable and shared between threads; see {@link RateTableCache}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public final class RateTable {
+
+    /** Returned by {@link #quoteCents} for stays outside the table's window */
+    public static final long NO_RATE = -1;
+
+    private static final int BASIS_POINTS = 10_000;
+
+    private final long firstEpochDay;
+    private final int nights;
+    // cumulativeCents[i] is the price of the nights [0, i); null for flat tables
+    private final long[] cumulativeCents;
+    private final long flatCents;
+    private final int includedOccupancy;
+    private final long extraGuestCents;
+    // Ascending by minimum nights
+    private final int[] discountMinNights;
+    private final int[] discountBasisPoints;
+
+    private RateTable(LocalDate firstNight, int nights, long[] cumulativeCents, long flatCents,
+                      int includedOccupancy, long extraGuestCents,
+                      int[] discountMinNights, int[] discountBasisPoints) {
+        this.firstEpochDay = firstNight.toEpochDay();
+        this.nights = nights;
+        this.cumulativeCents = cumulativeCents;
+        this.flatCents = flatCents;
+        this.includedOccupancy = includedOccupancy;
+        this.extraGuestCents = extraGuestCents;
+        this.discountMinNights = discountMinNights;
+        this.discountBasisPoints = discountBasisPoints;
+    }
+
+    /**
+     * Table with a price per night
+     *
+     * @param firstNight night of nightlyCents[0]
+     * @param nightlyCents price of each night of the window
+     * @param includedOccupancy guests included in the nightly price
+     * @param extraGuestCents price per night of each further guest
+     * @param discountMinNights stay lengths the discounts start at, ascending
+     * @param discountBasisPoints discount for each of discountMinNights, in hundredths of a percent
+     */
+    public static RateTable of(LocalDate firstNight, long[] nightlyCents, int includedOccupancy, long extraGuestCents,
+                               int[] discountMinNights, int[] discountBasisPoints) {
+        if (discountMinNights.length != discountBasisPoints.length) {
+            throw new IllegalArgumentException("Each stay length discount needs a minimum stay");
+        }
+        long[] cumulativeCents = new long[nightlyCents.length + 1];
+        for (int i = 0; i < nightlyCents.length; i++) {
+            cumulativeCents[i + 1] = cumulativeCents[i] + nightlyCents[i];
+        }
+        return new RateTable(firstNight, nightlyCents.length, cumulativeCents, 0, includedOccupancy, extraGuestCents,
+                discountMinNights.clone(), discountBasisPoints.clone());
+    }
+
+    /**
+     * Table with the same price every night, for any number of guests
+     */
+    public static RateTable flat(LocalDate firstNight, int nights, long nightlyCents) {
+        return new RateTable(firstNight, nights, null, nightlyCents, Integer.MAX_VALUE, 0, new int[0], new int[0]);
+    }
+
+    /**
+     * Price of a stay in cents
+     *
+     * @return the price, or {@link #NO_RATE} if a night of the stay is outside the window
+     */
+    public long quoteCents(LocalDate checkInDate, LocalDate checkOutDate, int guests) {
+        long from = checkInDate.toEpochDay() - firstEpochDay;
+        long to = checkOutDate.toEpochDay() - firstEpochDay;
+        if (from < 0 || to > nights || to <= from) {
+            return NO_RATE;
+        }
+        int stayNights = (int) (to - from);
+        long cents = cumulativeCents != null
+                ? cumulativeCents[(int) to] - cumulativeCents[(int) from]
+                : flatCents * stayNights;
+        if (guests > includedOccupancy) {
+            cents += (guests - includedOccupancy) * extraGuestCents * stayNights;
+        }
+        int discount = 0;
+        for (int i = 0; i < discountMinNights.length && discountMinNights[i] <= stayNights; i++) {
+            discount = discountBasisPoints[i];
+        }
+        // Rounded to the nearest cent, halves up
+        return cents - (cents * discount + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    /**
+     * First night of the window
+     */
+    public LocalDate getFirstNight() {
+        return LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    /**
+     * Number of nights in the window
+     */
+    public int getNights() {
+        return nights;
+    }
+}
@@ -0,0 +1,195 @@
+package com.hotelreservation.hotel.service;
+
+import com.hotelreservation.hotel.entity.RatePlan;
+import com.hotelreservation.hotel.entity.Room;
+import com.hotelreservation.hotel.entity.SeasonalRate;
+import com.hotelreservation.hotel.entity.StayLengthDiscount;
+import com.hotelreservation.hotel.event.HotelCatalogChangedEvent;
+import com.hotelreservation.hotel.repository.RatePlanRepository;
+import com.hotelreservation.hotel.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rate Table Cache
+ *
+ * Compiled {@link RateTable}s of each hotel, covering horizon-days nights from the day
+ * they were compiled. A hotel's tables are compiled from its rate plans and rooms the
+ * first time one of them is quoted, dropped as soon as a change to the hotel, its rooms
+ * or its rate plans commits on this instance, and recompiled after table-ttl-ms to pick
+ * up changes made through other instances.
+ *
+ * A room type with a rate plan is priced by the plan for all of its rooms; a type
+ * without one is sold at each room's own price per night, and by type at the lowest of
+ * them.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class RateTableCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateTableCache.class);
+
+    private final RoomRepository roomRepository;
+    private final RatePlanRepository ratePlanRepository;
+    private final TransactionTemplate readTemplate;
+    private final int horizonDays;
+    private final long tableTtlMillis;
+    private final ConcurrentMap<Long, HotelRates> hotels = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled tables of one hotel
+     */
+    public static final class HotelRates {
+        private final LocalDate firstNight;
+        private final long compiledAt;
+        private final Map<String, RateTable> byRoomType;
+        private final Map<Long, RateTable> byRoom;
+        private final Map<Long, String> roomTypes;
+
+        private HotelRates(LocalDate firstNight, long compiledAt, Map<String, RateTable> byRoomType,
+                           Map<Long, RateTable> byRoom, Map<Long, String> roomTypes) {
+            this.firstNight = firstNight;
+            this.compiledAt = compiledAt;
+            this.byRoomType = byRoomType;
+            this.byRoom = byRoom;
+            this.roomTypes = roomTypes;
+        }
+
+        /**
+         * Table of a room type, or null if the hotel has no active room of the type
+         */
+        public RateTable forRoomType(String roomType) {
+            return byRoomType.get(roomType);
+        }
+
+        /**
+         * Table of a room, or null if the room is not an active room of the hotel
+         */
+        public RateTable forRoom(Long roomId) {
+            return byRoom.get(roomId);
+        }
+
+        /**
+         * Type of a room, or null if the room is not an active room of the hotel
+         */
+        public String roomTypeOf(Long roomId) {
+            return roomTypes.get(roomId);
+        }
+    }
+
+    @Autowired
+    public RateTableCache(RoomRepository roomRepository,
+                          RatePlanRepository ratePlanRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${hotel.pricing.horizon-days:730}") int horizonDays,
+                          @Value("${hotel.pricing.table-ttl-ms:60000}") long tableTtlMillis) {
+        this.roomRepository = roomRepository;
+        this.ratePlanRepository = ratePlanRepository;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.horizonDays = horizonDays;
+        this.tableTtlMillis = tableTtlMillis;
+    }
+
+    /**
+     * Tables of a hotel, compiled if missing, stale or started on an earlier day
+     */
+    public HotelRates rates(Long hotelId) {
+        HotelRates rates = hotels.get(hotelId);
+        LocalDate today = LocalDate.now();
+        if (rates == null || System.currentTimeMillis() - rates.compiledAt > tableTtlMillis
+                || !rates.firstNight.equals(today)) {
+            rates = readTemplate.execute(status -> compile(hotelId, today));
+            hotels.put(hotelId, rates);
+        }
+        return rates;
+    }
+
+    /**
+     * Drop a hotel's tables once a change to it, its rooms or its rate plans has committed
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelCatalogChanged(HotelCatalogChangedEvent event) {
+        hotels.remove(event.getHotelId());
+    }
+
+    private HotelRates compile(Long hotelId, LocalDate firstNight) {
+        long start = System.nanoTime();
+        Map<String, RateTable> byRoomType = new HashMap<>();
+        for (RatePlan plan : ratePlanRepository.findByHotelIdOrderByRoomType(hotelId)) {
+            byRoomType.put(plan.getRoomType(), compile(plan, firstNight));
+        }
+
+        List<Room> rooms = roomRepository.findByHotelIdAndActiveTrue(hotelId);
+        Map<Long, RateTable> byRoom = new HashMap<>();
+        Map<Long, String> roomTypes = new HashMap<>();
+        Map<String, Long> lowestRoomCents = new HashMap<>();
+        for (Room room : rooms) {
+            roomTypes.put(room.getId(), room.getRoomType());
+            RateTable planTable = byRoomType.get(room.getRoomType());
+            if (planTable != null) {
+                byRoom.put(room.getId(), planTable);
+            } else {
+                long cents = toCents(room.getPricePerNight());
+                byRoom.put(room.getId(), RateTable.flat(firstNight, horizonDays, cents));
+                lowestRoomCents.merge(room.getRoomType(), cents, Math::min);
+            }
+        }
+        lowestRoomCents.forEach((roomType, cents) ->
+                byRoomType.put(roomType, RateTable.flat(firstNight, horizonDays, cents)));
+        // Plans of types the hotel has no active room of cannot be sold
+        byRoomType.keySet().retainAll(roomTypes.values());
+
+        logger.debug("Compiled {} rate tables for hotel {} in {}us", byRoomType.size(), hotelId,
+                (System.nanoTime() - start) / 1000);
+        return new HotelRates(firstNight, System.currentTimeMillis(), byRoomType, byRoom, roomTypes);
+    }
+
+    private RateTable compile(RatePlan plan, LocalDate firstNight) {
+        long[] nightlyCents = new long[horizonDays];
+        Arrays.fill(nightlyCents, toCents(plan.getBaseRate()));
+        // Ordered by start date, so later seasons overwrite earlier ones where they overlap
+        for (SeasonalRate season : plan.getSeasons()) {
+            long from = Math.max(0, season.getStartDate().toEpochDay() - firstNight.toEpochDay());
+            long to = Math.min(horizonDays, season.getEndDate().toEpochDay() - firstNight.toEpochDay() + 1);
+            if (from < to) {
+                Arrays.fill(nightlyCents, (int) from, (int) to, toCents(season.getNightlyRate()));
+            }
+        }
+
+        List<StayLengthDiscount> discounts = plan.getStayDiscounts();
+        int[] discountMinNights = new int[discounts.size()];
+        int[] discountBasisPoints = new int[discounts.size()];
+        for (int i = 0; i < discounts.size(); i++) {
+            discountMinNights[i] = discounts.get(i).getMinNights();
+            discountBasisPoints[i] = discounts.get(i).getDiscountPercent().movePointRight(2)
+                    .setScale(0, RoundingMode.HALF_UP).intValueExact();
+        }
+        return RateTable.of(firstNight, nightlyCents, plan.getIncludedOccupancy(),
+                toCents(plan.getExtraGuestRate()), discountMinNights, discountBasisPoints);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
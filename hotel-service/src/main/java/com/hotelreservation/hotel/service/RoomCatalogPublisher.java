@@ -0,0 +1,186 @@
+package com.hotelreservation.hotel.service;
+
+import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.entity.Room;
+import com.hotelreservation.hotel.event.HotelCatalogChangedEvent;
+import com.hotelreservation.hotel.event.HotelCatalogRecord;
+import com.hotelreservation.hotel.repository.HotelRepository;
+import com.hotelreservation.hotel.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Room Catalog Publisher
+ *
+ * Publishes a {@link HotelCatalogRecord} of a hotel to the compacted room catalog topic
+ * as soon as a change to the hotel or its rooms commits, and a tombstone once the hotel
+ * is deleted. reservation-service builds its local replica of the catalog from the
+ * topic.
+ *
+ * Every active hotel is published again once the application is ready and on
+ * republish-cron, so hotels created before the topic existed, or whose record could not
+ * be sent, reach the topic too. Records are read from the primary and handed to the
+ * producer one read at a time under the publisher's lock, so an older state cannot be
+ * sent after a newer one; acknowledgements are awaited after the lock is released.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class RoomCatalogPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomCatalogPublisher.class);
+
+    private final KafkaTemplate<String, HotelCatalogRecord> kafkaTemplate;
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate primaryReadTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final String topic;
+    private final boolean enabled;
+    private final int batchSize;
+
+    @Autowired
+    public RoomCatalogPublisher(KafkaTemplate<String, HotelCatalogRecord> kafkaTemplate,
+                                HotelRepository hotelRepository,
+                                RoomRepository roomRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${kafka.topic.room-catalog:room-catalog}") String topic,
+                                @Value("${hotel.catalog.publish.enabled:true}") boolean enabled,
+                                @Value("${hotel.catalog.publish.batch-size:100}") int batchSize) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.hotelRepository = hotelRepository;
+        this.roomRepository = roomRepository;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        // Runs after the caller's commit, so it needs its own transaction on the primary to see it
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.topic = topic;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Publish a hotel once a change to it or its rooms has committed
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelCatalogChanged(HotelCatalogChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Long hotelId = event.getHotelId();
+        lock.lock();
+        try {
+            HotelCatalogRecord record = primaryReadTemplate.execute(status -> hotelRepository.findByIdAndActiveTrue(hotelId)
+                    .map(hotel -> toRecord(hotel, roomRepository.findByHotelIdAndActiveTrue(hotelId)))
+                    .orElse(null));
+            send(hotelId, record);
+        } catch (DataAccessException | TransactionException | KafkaException
+                 | org.apache.kafka.common.KafkaException e) {
+            // The next republish sends the hotel again
+            logger.warn("Failed to publish room catalog of hotel {}: {}", hotelId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publish every active hotel, a batch at a time; each batch is acknowledged before the next
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hotel.catalog.publish.republish-cron:0 0 4 * * *}")
+    public void republish() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            List<Long> hotelIds = readTemplate.execute(status -> hotelRepository.findActiveHotelIds());
+            for (int from = 0; from < hotelIds.size(); from += batchSize) {
+                publishBatch(hotelIds.subList(from, Math.min(from + batchSize, hotelIds.size())));
+            }
+            logger.info("Published room catalog of {} hotels in {}ms", hotelIds.size(),
+                    System.currentTimeMillis() - start);
+        } catch (DataAccessException | TransactionException | KafkaException
+                 | org.apache.kafka.common.KafkaException | CompletionException e) {
+            // Stops at the first failed batch rather than wait out the broker once per hotel
+            logger.error("Failed to republish room catalog: {}", e.getMessage());
+        }
+    }
+
+    private void publishBatch(List<Long> hotelIds) {
+        CompletableFuture<?>[] sent;
+        lock.lock();
+        try {
+            // From the primary: a lagging replica could hand out a state older than one already sent
+            List<HotelCatalogRecord> records = primaryReadTemplate.execute(status -> {
+                Map<Long, List<Room>> roomsByHotel = new HashMap<>();
+                for (Room room : roomRepository.findByHotelIdInAndActiveTrue(hotelIds)) {
+                    roomsByHotel.computeIfAbsent(room.getHotel().getId(), id -> new ArrayList<>()).add(room);
+                }
+                List<HotelCatalogRecord> batch = new ArrayList<>();
+                for (Hotel hotel : hotelRepository.findAllById(hotelIds)) {
+                    batch.add(toRecord(hotel, roomsByHotel.getOrDefault(hotel.getId(), List.of())));
+                }
+                return batch;
+            });
+            sent = records.stream()
+                    .map(record -> send(record.getHotelId(), record))
+                    .toArray(CompletableFuture[]::new);
+        } finally {
+            lock.unlock();
+        }
+        // The producer keeps the send order; only the next batch waits for the acknowledgements
+        CompletableFuture.allOf(sent).join();
+    }
+
+    private CompletableFuture<SendResult<String, HotelCatalogRecord>> send(Long hotelId, HotelCatalogRecord record) {
+        return kafkaTemplate.send(topic, hotelId.toString(), record)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        logger.error("Failed to publish room catalog of hotel {}: {}", hotelId, throwable.getMessage());
+                    } else {
+                        logger.debug("Published room catalog of hotel {}: {}", hotelId,
+                                record != null ? record.getRooms().size() + " rooms" : "deleted");
+                    }
+                });
+    }
+
+    private static HotelCatalogRecord toRecord(Hotel hotel, List<Room> rooms) {
+        List<HotelCatalogRecord.CatalogRoom> catalogRooms = rooms.stream()
+                .sorted(Comparator.comparing(Room::getId))
+                .map(room -> new HotelCatalogRecord.CatalogRoom(room.getId(), room.getRoomType(), room.getCapacity(),
+                        room.getAvailable()))
+                .collect(Collectors.toList());
+        return new HotelCatalogRecord(hotel.getId(), catalogRooms);
+    }
+}
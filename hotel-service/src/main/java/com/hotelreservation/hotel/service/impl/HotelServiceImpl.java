@@ -1,21 +1,37 @@
 package com.hotelreservation.hotel.service.impl;
 
+import com.hotelreservation.hotel.dto.HotelDiscoveryQuery;
+import com.hotelreservation.hotel.dto.HotelDiscoveryResponse;
+import com.hotelreservation.hotel.dto.HotelDistanceDto;
 import com.hotelreservation.hotel.dto.HotelDto;
 import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.event.HotelCatalogChangedEvent;
 import com.hotelreservation.hotel.exception.HotelAlreadyExistsException;
 import com.hotelreservation.hotel.exception.HotelNotFoundException;
 import com.hotelreservation.hotel.repository.HotelRepository;
+import com.hotelreservation.hotel.service.HotelDiscoveryIndexer;
+import com.hotelreservation.hotel.service.HotelFacetIndex;
 import com.hotelreservation.hotel.service.HotelService;
+import com.hotelreservation.platform.search.NameSearch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,11 +48,23 @@ public class HotelServiceImpl implements HotelService {
 
     private static final Logger logger = LoggerFactory.getLogger(HotelServiceImpl.class);
 
+    // Radius of the sphere used by PostgreSQL's earthdistance module (earth())
+    private static final double EARTH_RADIUS_METERS = 6378168;
+
     private final HotelRepository hotelRepository;
+    private final HotelDiscoveryIndexer discoveryIndexer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxSearchResults;
 
     @Autowired
-    public HotelServiceImpl(HotelRepository hotelRepository) {
+    public HotelServiceImpl(HotelRepository hotelRepository,
+                            HotelDiscoveryIndexer discoveryIndexer,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${hotel.search.max-results:50}") int maxSearchResults) {
         this.hotelRepository = hotelRepository;
+        this.discoveryIndexer = discoveryIndexer;
+        this.eventPublisher = eventPublisher;
+        this.maxSearchResults = maxSearchResults;
     }
 
     @Override
@@ -56,6 +84,7 @@ public class HotelServiceImpl implements HotelService {
         // Save hotel
         Hotel savedHotel = hotelRepository.save(hotel);
         logger.info("Hotel created successfully with ID: {}", savedHotel.getId());
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(savedHotel.getId()));
 
         return convertToDto(savedHotel);
     }
@@ -102,9 +131,12 @@ public class HotelServiceImpl implements HotelService {
         existingHotel.setEmail(hotelDto.getEmail());
         existingHotel.setDescription(hotelDto.getDescription());
         existingHotel.setRating(hotelDto.getRating());
+        existingHotel.setLatitude(hotelDto.getLatitude());
+        existingHotel.setLongitude(hotelDto.getLongitude());
 
         Hotel updatedHotel = hotelRepository.save(existingHotel);
         logger.info("Hotel updated successfully with ID: {}", updatedHotel.getId());
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(updatedHotel.getId()));
 
         return convertToDto(updatedHotel);
     }
@@ -120,6 +152,7 @@ public class HotelServiceImpl implements HotelService {
         hotel.softDelete();
         hotelRepository.save(hotel);
         logger.info("Hotel deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(id));
     }
 
     @Override
@@ -154,7 +187,7 @@ public class HotelServiceImpl implements HotelService {
     @Transactional(readOnly = true)
     public List<HotelDto> getHotelsByName(String name) {
         logger.debug("Getting hotels by name: {}", name);
-        return hotelRepository.findByNameContainingIgnoreCaseAndActiveTrue(name)
+        return hotelRepository.findActiveByNamePattern(NameSearch.containsPattern(name))
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -164,10 +197,78 @@ public class HotelServiceImpl implements HotelService {
     @Transactional(readOnly = true)
     public Page<HotelDto> getHotelsByName(String name, Pageable pageable) {
         logger.debug("Getting hotels by name: {} with pagination", name);
-        return hotelRepository.findByNameContainingIgnoreCaseAndActiveTrue(name, pageable)
+        return hotelRepository.findActiveByNamePattern(NameSearch.containsPattern(name), pageable)
                 .map(this::convertToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<HotelDto> searchHotelsByName(String query, int limit) {
+        logger.debug("Searching hotels by name: {} (limit {})", query, limit);
+        return NameSearch.search(query, Math.min(limit, maxSearchResults),
+                        hotelRepository::findActiveByNamePrefix, hotelRepository::findActiveByNameSubstring)
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HotelDiscoveryResponse discoverHotels(HotelDiscoveryQuery query, int page, int size) {
+        logger.debug("Discovering hotels: {} (page {}, size {})", query, page, size);
+        HotelFacetIndex.Result result = discoveryIndexer.search(query);
+        List<Long> hotelIds = result.getHotelIds();
+
+        int from = (int) Math.min((long) page * size, hotelIds.size());
+        List<Long> pageIds = hotelIds.subList(from, Math.min(from + size, hotelIds.size()));
+        Map<Long, Hotel> hotelsById = hotelRepository.findAllById(pageIds)
+                .stream()
+                .collect(Collectors.toMap(Hotel::getId, Function.identity()));
+        // A hotel deleted through another instance stays in the index until the next refresh
+        List<HotelDto> hotels = pageIds.stream()
+                .map(hotelsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+
+        return new HotelDiscoveryResponse(hotels, hotelIds.size(), page, size, result.getFacets());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HotelDistanceDto> findHotelsNearby(double latitude, double longitude, double radiusKm,
+                                                   Integer minRating, int limit) {
+        logger.debug("Finding hotels within {} km of {}, {}", radiusKm, latitude, longitude);
+        int cappedLimit = Math.min(limit, maxSearchResults);
+        return toDistanceDtos(hotelRepository.findNearby(latitude, longitude, radiusKm * 1000,
+                minRating != null ? minRating : 0, cappedLimit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HotelDistanceDto> findHotelsInBoundingBox(double minLatitude, double minLongitude,
+                                                          double maxLatitude, double maxLongitude,
+                                                          Double latitude, Double longitude,
+                                                          Integer minRating, int limit) {
+        logger.debug("Finding hotels in box {}, {} - {}, {}", minLatitude, minLongitude, maxLatitude, maxLongitude);
+        int cappedLimit = Math.min(limit, maxSearchResults);
+        int rating = minRating != null ? minRating : 0;
+        boolean crossesAntimeridian = minLongitude > maxLongitude;
+        double sortLatitude = latitude != null ? latitude : (minLatitude + maxLatitude) / 2;
+        double sortLongitude = longitude != null ? longitude
+                : normalizeLongitude((minLongitude + maxLongitude + (crossesAntimeridian ? 360 : 0)) / 2);
+
+        if (!crossesAntimeridian) {
+            return toDistanceDtos(findInBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                    sortLatitude, sortLongitude, rating, cappedLimit));
+        }
+        // Split at the antimeridian and merge the two nearest-first lists
+        return toDistanceDtos(nearestFirst(
+                findInBox(minLatitude, minLongitude, maxLatitude, 180, sortLatitude, sortLongitude, rating, cappedLimit),
+                findInBox(minLatitude, -180, maxLatitude, maxLongitude, sortLatitude, sortLongitude, rating, cappedLimit),
+                cappedLimit));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<HotelDto> getHotelsByMinimumRating(Integer minRating) {
@@ -226,6 +327,8 @@ public class HotelServiceImpl implements HotelService {
         dto.setEmail(hotel.getEmail());
         dto.setDescription(hotel.getDescription());
         dto.setRating(hotel.getRating());
+        dto.setLatitude(hotel.getLatitude());
+        dto.setLongitude(hotel.getLongitude());
         dto.setActive(hotel.getActive());
         dto.setCreatedAt(hotel.getCreatedAt());
         dto.setUpdatedAt(hotel.getUpdatedAt());
@@ -249,10 +352,94 @@ public class HotelServiceImpl implements HotelService {
         hotel.setEmail(dto.getEmail());
         hotel.setDescription(dto.getDescription());
         hotel.setRating(dto.getRating());
+        hotel.setLatitude(dto.getLatitude());
+        hotel.setLongitude(dto.getLongitude());
         hotel.setActive(dto.getActive());
         hotel.setCreatedAt(dto.getCreatedAt());
         hotel.setUpdatedAt(dto.getUpdatedAt());
         hotel.setVersion(dto.getVersion());
         return hotel;
     }
-} 
\ No newline at end of file
+
+    private List<Object[]> findInBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                     double latitude, double longitude, int minRating, int limit) {
+        if (maxLongitude - minLongitude > 180) {
+            // The circle below only encloses boxes up to half the globe wide; search wider ones in halves
+            double middleLongitude = (minLongitude + maxLongitude) / 2;
+            return nearestFirst(
+                    findInBox(minLatitude, minLongitude, maxLatitude, middleLongitude, latitude, longitude, minRating, limit),
+                    findInBox(minLatitude, middleLongitude, maxLatitude, maxLongitude, latitude, longitude, minRating, limit),
+                    limit);
+        }
+        double centerLatitude = (minLatitude + maxLatitude) / 2;
+        double centerLongitude = (minLongitude + maxLongitude) / 2;
+        // Up to 180 degrees of longitude wide, the corners of a latitude/longitude box are its
+        // farthest points from the center
+        double radius = Math.max(
+                Math.max(distanceMeters(centerLatitude, centerLongitude, minLatitude, minLongitude),
+                         distanceMeters(centerLatitude, centerLongitude, minLatitude, maxLongitude)),
+                Math.max(distanceMeters(centerLatitude, centerLongitude, maxLatitude, minLongitude),
+                         distanceMeters(centerLatitude, centerLongitude, maxLatitude, maxLongitude)));
+        return hotelRepository.findInBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                centerLatitude, centerLongitude, radius * 1.01 + 1, latitude, longitude, minRating, limit);
+    }
+
+    /**
+     * Merge two nearest-first lists of hotel ID and distance rows. A hotel on the edge the
+     * two boxes share is in both and kept once.
+     */
+    private static List<Object[]> nearestFirst(List<Object[]> first, List<Object[]> second, int limit) {
+        List<Object[]> rows = new ArrayList<>(first.size() + second.size());
+        rows.addAll(first);
+        rows.addAll(second);
+        rows.sort(Comparator.comparingDouble(row -> ((Number) row[1]).doubleValue()));
+        Set<Long> seen = new HashSet<>();
+        List<Object[]> merged = new ArrayList<>(Math.min(limit, rows.size()));
+        for (Object[] row : rows) {
+            if (merged.size() == limit) {
+                break;
+            }
+            if (seen.add(((Number) row[0]).longValue())) {
+                merged.add(row);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Load the hotels for rows of hotel ID and distance in meters, keeping the row order
+     *
+     * @param rows query rows
+     * @return hotel DTOs with their distance in kilometers
+     */
+    private List<HotelDistanceDto> toDistanceDtos(List<Object[]> rows) {
+        List<Long> ids = rows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .collect(Collectors.toList());
+        Map<Long, Hotel> hotelsById = hotelRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Hotel::getId, Function.identity()));
+        List<HotelDistanceDto> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Hotel hotel = hotelsById.get(((Number) row[0]).longValue());
+            if (hotel != null) {
+                result.add(new HotelDistanceDto(convertToDto(hotel), ((Number) row[1]).doubleValue() / 1000));
+            }
+        }
+        return result;
+    }
+
+    // Haversine great-circle distance on the earthdistance sphere
+    private static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        return longitude > 180 ? longitude - 360 : longitude;
+    }
+}
@@ -0,0 +1,171 @@
+package com.hotelreservation.hotel.service.impl;
+
+import com.hotelreservation.hotel.dto.RatePlanDto;
+import com.hotelreservation.hotel.dto.RateQuoteDto;
+import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.entity.RatePlan;
+import com.hotelreservation.hotel.entity.SeasonalRate;
+import com.hotelreservation.hotel.entity.StayLengthDiscount;
+import com.hotelreservation.hotel.event.HotelCatalogChangedEvent;
+import com.hotelreservation.hotel.exception.HotelNotFoundException;
+import com.hotelreservation.hotel.repository.HotelRepository;
+import com.hotelreservation.hotel.repository.RatePlanRepository;
+import com.hotelreservation.hotel.service.RatePlanService;
+import com.hotelreservation.hotel.service.RateTable;
+import com.hotelreservation.hotel.service.RateTableCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Rate Plan Service Implementation
+ *
+ * Business logic implementation for rate plans. Quotes are served from the compiled
+ * tables of the {@link RateTableCache}; plan changes publish a
+ * {@link HotelCatalogChangedEvent}, which drops the hotel's tables once they commit.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class RatePlanServiceImpl implements RatePlanService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatePlanServiceImpl.class);
+
+    private final RatePlanRepository ratePlanRepository;
+    private final HotelRepository hotelRepository;
+    private final RateTableCache rateTableCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public RatePlanServiceImpl(RatePlanRepository ratePlanRepository, HotelRepository hotelRepository,
+                               RateTableCache rateTableCache, ApplicationEventPublisher eventPublisher) {
+        this.ratePlanRepository = ratePlanRepository;
+        this.hotelRepository = hotelRepository;
+        this.rateTableCache = rateTableCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RatePlanDto> getRatePlans(Long hotelId) {
+        logger.debug("Getting rate plans for hotel ID: {}", hotelId);
+        return ratePlanRepository.findByHotelIdOrderByRoomType(hotelId)
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RatePlanDto> getRatePlan(Long hotelId, String roomType) {
+        logger.debug("Getting {} rate plan for hotel ID: {}", roomType, hotelId);
+        return ratePlanRepository.findByHotelIdAndRoomType(hotelId, roomType)
+                .map(this::convertToDto);
+    }
+
+    @Override
+    @Transactional
+    public RatePlanDto saveRatePlan(Long hotelId, String roomType, RatePlanDto ratePlanDto) {
+        logger.info("Saving {} rate plan for hotel ID: {}", roomType, hotelId);
+
+        Hotel hotel = hotelRepository.findByIdAndActiveTrue(hotelId)
+                .orElseThrow(() -> new HotelNotFoundException(hotelId));
+
+        RatePlan ratePlan = ratePlanRepository.findByHotelIdAndRoomType(hotelId, roomType)
+                .orElseGet(RatePlan::new);
+        ratePlan.setHotel(hotel);
+        ratePlan.setRoomType(roomType);
+        ratePlan.setBaseRate(ratePlanDto.getBaseRate());
+        ratePlan.setIncludedOccupancy(ratePlanDto.getIncludedOccupancy());
+        ratePlan.setExtraGuestRate(ratePlanDto.getExtraGuestRate() != null
+                ? ratePlanDto.getExtraGuestRate() : BigDecimal.ZERO);
+        // Kept in the order the table compiler relies on
+        ratePlan.getSeasons().clear();
+        ratePlanDto.getSeasons().stream()
+                .sorted(Comparator.comparing(RatePlanDto.Season::getStartDate))
+                .map(season -> new SeasonalRate(season.getStartDate(), season.getEndDate(), season.getNightlyRate()))
+                .forEach(ratePlan.getSeasons()::add);
+        ratePlan.getStayDiscounts().clear();
+        ratePlanDto.getStayDiscounts().stream()
+                .sorted(Comparator.comparing(RatePlanDto.StayDiscount::getMinNights))
+                .map(discount -> new StayLengthDiscount(discount.getMinNights(), discount.getDiscountPercent()))
+                .forEach(ratePlan.getStayDiscounts()::add);
+
+        RatePlan savedRatePlan = ratePlanRepository.save(ratePlan);
+        logger.info("Rate plan saved successfully with ID: {}", savedRatePlan.getId());
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(hotelId));
+
+        return convertToDto(savedRatePlan);
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteRatePlan(Long hotelId, String roomType) {
+        logger.info("Deleting {} rate plan for hotel ID: {}", roomType, hotelId);
+        Optional<RatePlan> ratePlan = ratePlanRepository.findByHotelIdAndRoomType(hotelId, roomType);
+        ratePlan.ifPresent(plan -> {
+            ratePlanRepository.delete(plan);
+            eventPublisher.publishEvent(new HotelCatalogChangedEvent(hotelId));
+        });
+        return ratePlan.isPresent();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<RateQuoteDto> quote(Long hotelId, Long roomId, String roomType, LocalDate checkInDate,
+                                        LocalDate checkOutDate, int numberOfGuests) {
+        logger.debug("Quoting hotel ID: {}, room ID: {}, room type: {} from {} to {} for {} guests",
+                hotelId, roomId, roomType, checkInDate, checkOutDate, numberOfGuests);
+        RateTableCache.HotelRates rates = rateTableCache.rates(hotelId);
+        RateTable table;
+        if (roomId != null) {
+            table = rates.forRoom(roomId);
+            roomType = rates.roomTypeOf(roomId);
+        } else {
+            table = rates.forRoomType(roomType);
+        }
+        if (table == null) {
+            return Optional.empty();
+        }
+        long cents = table.quoteCents(checkInDate, checkOutDate, numberOfGuests);
+        if (cents == RateTable.NO_RATE) {
+            return Optional.empty();
+        }
+        return Optional.of(new RateQuoteDto(hotelId, roomId, roomType, checkInDate, checkOutDate, numberOfGuests,
+                (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate), BigDecimal.valueOf(cents, 2)));
+    }
+
+    private RatePlanDto convertToDto(RatePlan ratePlan) {
+        RatePlanDto dto = new RatePlanDto();
+        dto.setId(ratePlan.getId());
+        dto.setHotelId(ratePlan.getHotel().getId());
+        dto.setRoomType(ratePlan.getRoomType());
+        dto.setBaseRate(ratePlan.getBaseRate());
+        dto.setIncludedOccupancy(ratePlan.getIncludedOccupancy());
+        dto.setExtraGuestRate(ratePlan.getExtraGuestRate());
+        dto.setSeasons(ratePlan.getSeasons().stream()
+                .map(season -> new RatePlanDto.Season(season.getStartDate(), season.getEndDate(), season.getNightlyRate()))
+                .collect(Collectors.toList()));
+        dto.setStayDiscounts(ratePlan.getStayDiscounts().stream()
+                .map(discount -> new RatePlanDto.StayDiscount(discount.getMinNights(), discount.getDiscountPercent()))
+                .collect(Collectors.toList()));
+        dto.setCreatedAt(ratePlan.getCreatedAt());
+        dto.setUpdatedAt(ratePlan.getUpdatedAt());
+        dto.setVersion(ratePlan.getVersion());
+        return dto;
+    }
+}
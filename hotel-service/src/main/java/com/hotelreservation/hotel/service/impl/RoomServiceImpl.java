@@ -3,6 +3,7 @@ package com.hotelreservation.hotel.service.impl;
 import com.hotelreservation.hotel.dto.RoomDto;
 import com.hotelreservation.hotel.entity.Hotel;
 import com.hotelreservation.hotel.entity.Room;
+import com.hotelreservation.hotel.event.HotelCatalogChangedEvent;
 import com.hotelreservation.hotel.exception.HotelNotFoundException;
 import com.hotelreservation.hotel.exception.RoomAlreadyExistsException;
 import com.hotelreservation.hotel.exception.RoomNotFoundException;
@@ -12,6 +13,7 @@ import com.hotelreservation.hotel.service.RoomService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,11 +40,14 @@ public class RoomServiceImpl implements RoomService {
 
     private final RoomRepository roomRepository;
     private final HotelRepository hotelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public RoomServiceImpl(RoomRepository roomRepository, HotelRepository hotelRepository) {
+    public RoomServiceImpl(RoomRepository roomRepository, HotelRepository hotelRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.roomRepository = roomRepository;
         this.hotelRepository = hotelRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -67,6 +72,7 @@ public class RoomServiceImpl implements RoomService {
         // Save room
         Room savedRoom = roomRepository.save(room);
         logger.info("Room created successfully with ID: {}", savedRoom.getId());
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(savedRoom.getHotel().getId()));
 
         return convertToDto(savedRoom);
     }
@@ -115,6 +121,7 @@ public class RoomServiceImpl implements RoomService {
 
         Room updatedRoom = roomRepository.save(existingRoom);
         logger.info("Room updated successfully with ID: {}", updatedRoom.getId());
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(updatedRoom.getHotel().getId()));
 
         return convertToDto(updatedRoom);
     }
@@ -130,6 +137,7 @@ public class RoomServiceImpl implements RoomService {
         room.softDelete();
         roomRepository.save(room);
         logger.info("Room deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(room.getHotel().getId()));
     }
 
     @Override
@@ -239,6 +247,7 @@ public class RoomServiceImpl implements RoomService {
         room.setAvailable(false);
         Room updatedRoom = roomRepository.save(room);
         logger.info("Room marked as unavailable with ID: {}", id);
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(updatedRoom.getHotel().getId()));
 
         return convertToDto(updatedRoom);
     }
@@ -254,6 +263,7 @@ public class RoomServiceImpl implements RoomService {
         room.setAvailable(true);
         Room updatedRoom = roomRepository.save(room);
         logger.info("Room marked as available with ID: {}", id);
+        eventPublisher.publishEvent(new HotelCatalogChangedEvent(updatedRoom.getHotel().getId()));
 
         return convertToDto(updatedRoom);
     }
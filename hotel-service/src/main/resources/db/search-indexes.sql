@@ -0,0 +1,16 @@
+-- Indexes for hotel name search (HotelRepository.findActiveByNamePattern,
+-- findActiveByNamePrefix, findActiveByNameSubstring) and geo search (findNearby,
+-- findInBoundingBox). Runs on every start through spring.sql.init, after Hibernate has
+-- updated the schema.
+--
+-- Prefix matches use the "C"-collated btree, which supports LIKE 'x%' and returns rows
+-- in name order; substring matches use the GIN trigram index.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_hotel_name_prefix ON hotels ((lower(name) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_hotel_name_trgm ON hotels USING gin (lower(name) gin_trgm_ops);
+
+-- Geo search uses earth coordinates (cube + earthdistance, both shipped with PostgreSQL).
+-- The GiST index answers radius and enclosing-circle tests and nearest-first ordering.
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+CREATE INDEX IF NOT EXISTS idx_hotel_location_earth ON hotels USING gist (ll_to_earth(latitude, longitude));
@@ -0,0 +1,104 @@
+package com.hotelreservation.hotel.service;
+
+import com.hotelreservation.hotel.dto.HotelDiscoveryQuery;
+import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.entity.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hotel Facet Index Tests
+ *
+ * Unit tests for the bitset facet index behind hotel discovery.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class HotelFacetIndexTest {
+
+    private HotelFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HotelFacetIndex(List.of(new BigDecimal("100"), new BigDecimal("200")));
+        index.index(hotel(1L, "Istanbul", 5), List.of(room("Suite", 4, "350"), room("Double", 2, "180")));
+        index.index(hotel(2L, "istanbul ", 3), List.of(room("Double", 2, "90")));
+        index.index(hotel(3L, "Ankara", 4), List.of(room("Single", 1, "60"), room("Family", 5, "150")));
+        index.index(hotel(4L, "Izmir", 5), List.of());
+    }
+
+    @Test
+    void testFiltersIntersectAcrossFacetsAndUniteWithinFacet() {
+        // When
+        HotelFacetIndex.Result byCity = index.search(query(List.of("ISTANBUL", "izmir"), null, null, null, null, null));
+        HotelFacetIndex.Result combined = index.search(query(List.of("Istanbul"), 4, null, List.of("double"), 2, List.of("100-200")));
+        HotelFacetIndex.Result none = index.search(query(null, null, null, null, null, List.of("unknown")));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 4L), byCity.getHotelIds());
+        assertEquals(List.of(1L), combined.getHotelIds());
+        assertTrue(none.getHotelIds().isEmpty());
+    }
+
+    @Test
+    void testFacetCountsApplyEveryOtherFilter() {
+        // When
+        Map<String, Map<String, Integer>> facets =
+                index.search(query(List.of("Istanbul"), 4, null, null, null, null)).getFacets();
+
+        // Then
+        assertEquals(Map.of("Istanbul", 1, "Ankara", 1, "Izmir", 1), facets.get(HotelFacetIndex.CITY));
+        assertEquals(Map.of("3", 1, "5", 1), facets.get(HotelFacetIndex.RATING));
+        assertEquals(Map.of("Suite", 1, "Double", 1), facets.get(HotelFacetIndex.ROOM_TYPE));
+        assertEquals(Map.of("1", 1, "2", 1, "4", 1), facets.get(HotelFacetIndex.CAPACITY));
+        assertEquals(Map.of("100-200", 1, "200+", 1), facets.get(HotelFacetIndex.PRICE_BAND));
+    }
+
+    @Test
+    void testCapacityMatchesHotelsWithAnyRoomSleepingAtLeastTheMinimum() {
+        // When
+        HotelFacetIndex.Result result = index.search(query(null, null, null, null, 4, null));
+        Map<String, Integer> capacity = index.search(new HotelDiscoveryQuery()).getFacets().get(HotelFacetIndex.CAPACITY);
+
+        // Then
+        assertEquals(List.of(1L, 3L), result.getHotelIds());
+        assertEquals(Map.of("1", 3, "2", 3, "4", 2, "5", 1), capacity);
+    }
+
+    @Test
+    void testReindexAndRemoveDropStaleValues() {
+        // When
+        index.index(hotel(3L, "Izmir", 4), List.of(room("Single", 1, "60")));
+        index.remove(1L);
+        index.index(hotel(5L, "Antalya", 2), List.of(room("Suite", 6, "500")));
+        HotelFacetIndex.Result result = index.search(new HotelDiscoveryQuery());
+
+        // Then
+        assertEquals(4, index.size());
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.getHotelIds());
+        assertEquals(Map.of("Istanbul", 1, "Izmir", 2, "Antalya", 1), result.getFacets().get(HotelFacetIndex.CITY));
+        assertFalse(result.getFacets().get(HotelFacetIndex.ROOM_TYPE).containsKey("Family"));
+        assertEquals(List.of(5L), index.search(query(null, null, null, List.of("suite"), null, null)).getHotelIds());
+    }
+
+    private static HotelDiscoveryQuery query(List<String> cities, Integer minRating, Integer maxRating,
+                                             List<String> roomTypes, Integer minCapacity, List<String> priceBands) {
+        return new HotelDiscoveryQuery(cities, minRating, maxRating, roomTypes, minCapacity, priceBands);
+    }
+
+    private static Hotel hotel(Long id, String city, Integer rating) {
+        Hotel hotel = new Hotel("Hotel " + id, "Address " + id, city, rating);
+        hotel.setId(id);
+        return hotel;
+    }
+
+    private static Room room(String roomType, Integer capacity, String price) {
+        return new Room("101", roomType, capacity, new BigDecimal(price));
+    }
+}
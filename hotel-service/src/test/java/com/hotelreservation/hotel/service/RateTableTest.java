@@ -0,0 +1,81 @@
+package com.hotelreservation.hotel.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rate Table Tests
+ *
+ * Unit tests for the compiled nightly price tables behind stay quotes.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class RateTableTest {
+
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2025, 6, 1);
+
+    @Test
+    void testStayPriceSumsItsNights() {
+        // Given
+        RateTable table = RateTable.of(FIRST_NIGHT, new long[] {100_00, 120_00, 150_00, 150_00, 100_00},
+                2, 0, new int[0], new int[0]);
+
+        // When
+        long wholeWindow = table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(5), 2);
+        long middle = table.quoteCents(FIRST_NIGHT.plusDays(1), FIRST_NIGHT.plusDays(3), 1);
+
+        // Then
+        assertEquals(620_00, wholeWindow);
+        assertEquals(270_00, middle);
+    }
+
+    @Test
+    void testExtraGuestsArePricedPerNight() {
+        // Given
+        RateTable table = RateTable.of(FIRST_NIGHT, new long[] {100_00, 100_00, 100_00}, 2, 25_50,
+                new int[0], new int[0]);
+
+        // When
+        long included = table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(3), 2);
+        long twoExtra = table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(3), 4);
+
+        // Then
+        assertEquals(300_00, included);
+        assertEquals(300_00 + 2 * 3 * 25_50, twoExtra);
+    }
+
+    @Test
+    void testLongestReachedStayDiscountAppliesRoundedToTheCent() {
+        // Given
+        long[] nightly = new long[10];
+        Arrays.fill(nightly, 99_99);
+        RateTable table = RateTable.of(FIRST_NIGHT, nightly, 2, 0, new int[] {3, 7}, new int[] {500, 1250});
+
+        // When
+        long twoNights = table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(2), 1);
+        long fiveNights = table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(5), 1);
+        long sevenNights = table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(7), 1);
+
+        // Then
+        assertEquals(199_98, twoNights);
+        assertEquals(499_95 - 25_00, fiveNights);
+        assertEquals(699_93 - 87_49, sevenNights);
+    }
+
+    @Test
+    void testStaysOutsideTheWindowHaveNoRate() {
+        // Given
+        RateTable table = RateTable.flat(FIRST_NIGHT, 30, 80_00);
+
+        // When / Then
+        assertEquals(RateTable.NO_RATE, table.quoteCents(FIRST_NIGHT.minusDays(1), FIRST_NIGHT.plusDays(1), 1));
+        assertEquals(RateTable.NO_RATE, table.quoteCents(FIRST_NIGHT.plusDays(29), FIRST_NIGHT.plusDays(31), 1));
+        assertEquals(RateTable.NO_RATE, table.quoteCents(FIRST_NIGHT.plusDays(2), FIRST_NIGHT.plusDays(2), 1));
+        assertEquals(80_00 * 30, table.quoteCents(FIRST_NIGHT, FIRST_NIGHT.plusDays(30), 9));
+    }
+}
@@ -0,0 +1,133 @@
+package com.hotelreservation.hotel.service.impl;
+
+import com.hotelreservation.hotel.dto.HotelDistanceDto;
+import com.hotelreservation.hotel.entity.Hotel;
+import com.hotelreservation.hotel.repository.HotelRepository;
+import com.hotelreservation.hotel.service.HotelDiscoveryIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Hotel Service Implementation Tests
+ *
+ * Bounding box searches against a repository that answers the box query as PostgreSQL
+ * does: a hotel is returned only when it lies in the box and in the circle around the
+ * box's center that the service passes for the earth_box index condition.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class HotelServiceImplTest {
+
+    private static final double EARTH_RADIUS_METERS = 6378168;
+
+    private final List<Hotel> hotels = List.of(
+            hotel(1L, "London", 51.5074, -0.1278),
+            hotel(2L, "Tokyo", 35.6762, 139.6503),
+            hotel(3L, "Sydney", -33.8688, 151.2093),
+            hotel(4L, "Honolulu", 21.3069, -157.8583),
+            hotel(5L, "New York", 40.7128, -74.0060),
+            hotel(6L, "Reykjavik", 64.1466, -21.9426),
+            hotel(7L, "Fiji", -17.7134, 178.0650));
+
+    private HotelServiceImpl hotelService;
+
+    @BeforeEach
+    void setUp() {
+        HotelRepository hotelRepository = mock(HotelRepository.class);
+        when(hotelRepository.findInBoundingBox(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> findInBoundingBox(
+                        invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3),
+                        invocation.getArgument(4), invocation.getArgument(5), invocation.getArgument(6),
+                        invocation.getArgument(7), invocation.getArgument(8), invocation.getArgument(10)));
+        when(hotelRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Collection<Long> ids = new ArrayList<>();
+            ((Iterable<Long>) invocation.getArgument(0)).forEach(ids::add);
+            return hotels.stream().filter(hotel -> ids.contains(hotel.getId())).collect(Collectors.toList());
+        });
+        hotelService = new HotelServiceImpl(hotelRepository, mock(HotelDiscoveryIndexer.class),
+                mock(ApplicationEventPublisher.class), 50);
+    }
+
+    @Test
+    void testWorldSizedBoxFindsEveryHotel() {
+        // When
+        List<HotelDistanceDto> found = hotelService.findHotelsInBoundingBox(-90, -180, 90, 180, null, null, null, 50);
+
+        // Then
+        assertEquals(List.of("Fiji", "Honolulu", "London", "New York", "Reykjavik", "Sydney", "Tokyo"), names(found));
+    }
+
+    @Test
+    void testWideBoxAcrossTheAntimeridianFindsEveryHotelInIt() {
+        // Given: from 10 degrees east eastwards to 10 degrees west, 340 degrees wide
+        List<HotelDistanceDto> found = hotelService.findHotelsInBoundingBox(-60, 10, 70, -10, null, null, null, 50);
+
+        // Then: only London, just west of the meridian, is outside
+        assertEquals(List.of("Fiji", "Honolulu", "New York", "Reykjavik", "Sydney", "Tokyo"), names(found));
+    }
+
+    @Test
+    void testResultsAreNearestFirstAndCapped() {
+        // When
+        List<HotelDistanceDto> found = hotelService.findHotelsInBoundingBox(-90, -180, 90, 180, 48.8566, 2.3522, null, 3);
+
+        // Then: nearest to Paris
+        assertEquals(List.of(1L, 6L, 5L), found.stream().map(dto -> dto.getHotel().getId()).collect(Collectors.toList()));
+    }
+
+    private List<Object[]> findInBoundingBox(double minLatitude, double minLongitude, double maxLatitude,
+                                             double maxLongitude, double centerLatitude, double centerLongitude,
+                                             double radius, double latitude, double longitude, int limit) {
+        return hotels.stream()
+                .filter(hotel -> hotel.getLatitude() >= minLatitude && hotel.getLatitude() <= maxLatitude
+                        && hotel.getLongitude() >= minLongitude && hotel.getLongitude() <= maxLongitude
+                        && distance(centerLatitude, centerLongitude, hotel.getLatitude(), hotel.getLongitude()) <= radius)
+                .map(hotel -> new Object[] {hotel.getId(),
+                        distance(latitude, longitude, hotel.getLatitude(), hotel.getLongitude())})
+                .sorted(Comparator.comparingDouble(row -> (double) row[1]))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> names(List<HotelDistanceDto> found) {
+        return found.stream().map(dto -> dto.getHotel().getCity()).sorted().collect(Collectors.toList());
+    }
+
+    private static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static Hotel hotel(Long id, String city, double latitude, double longitude) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setName("Hotel " + city);
+        hotel.setCity(city);
+        hotel.setRating(4);
+        hotel.setLatitude(latitude);
+        hotel.setLongitude(longitude);
+        hotel.setActive(true);
+        return hotel;
+    }
+}
@@ -0,0 +1,106 @@
+package com.hotelreservation.notification.config;
+
+import com.hotelreservation.notification.delivery.DeliveryChannel;
+import com.hotelreservation.notification.delivery.DeliveryProvider;
+import com.hotelreservation.notification.delivery.SimulatedDeliveryProvider;
+import com.hotelreservation.notification.delivery.SimulatedProviderProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivery Provider Configuration
+ *
+ * One delivery provider per channel. Unless {@code notification.providers.<channel>.type}
+ * names another provider, each channel is served by a simulated provider configured under
+ * {@code notification.providers.<channel>}; a real provider is added as a
+ * {@link DeliveryProvider} bean enabled by its own type value.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+public class DeliveryProviderConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryProviderConfig.class);
+
+    @Value("${notification.providers.simulation-threads:2}")
+    private int simulationThreads;
+
+    /**
+     * Scheduler answering the requests to the simulated providers
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService simulatedProviderScheduler() {
+        AtomicInteger threads = new AtomicInteger();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(Math.max(1, simulationThreads), task -> {
+            Thread thread = new Thread(task, "simulated-provider-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Simulated email provider; by default answers every request after 100 ms
+     */
+    @Bean
+    @ConfigurationProperties("notification.providers.email")
+    public SimulatedProviderProperties emailProviderProperties() {
+        return new SimulatedProviderProperties(100);
+    }
+
+    /**
+     * Simulated SMS provider; by default answers every request after 50 ms
+     */
+    @Bean
+    @ConfigurationProperties("notification.providers.sms")
+    public SimulatedProviderProperties smsProviderProperties() {
+        return new SimulatedProviderProperties(50);
+    }
+
+    /**
+     * Simulated push provider; by default answers every request after 30 ms
+     */
+    @Bean
+    @ConfigurationProperties("notification.providers.push")
+    public SimulatedProviderProperties pushProviderProperties() {
+        return new SimulatedProviderProperties(30);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.providers.email.type", havingValue = "simulated", matchIfMissing = true)
+    public DeliveryProvider simulatedEmailProvider() {
+        return simulatedProvider(DeliveryChannel.EMAIL, emailProviderProperties());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.providers.sms.type", havingValue = "simulated", matchIfMissing = true)
+    public DeliveryProvider simulatedSmsProvider() {
+        return simulatedProvider(DeliveryChannel.SMS, smsProviderProperties());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.providers.push.type", havingValue = "simulated", matchIfMissing = true)
+    public DeliveryProvider simulatedPushProvider() {
+        return simulatedProvider(DeliveryChannel.PUSH, pushProviderProperties());
+    }
+
+    private DeliveryProvider simulatedProvider(DeliveryChannel channel, SimulatedProviderProperties properties) {
+        logger.info("Simulated {} provider: {} latency {} ms (p99 {} ms), error rate {}, rate limit {}/s, "
+                        + "batches of {}, {} in flight",
+                channel.getKey(), properties.getDistribution(), properties.getLatencyMs(),
+                properties.getLatencyP99Ms(), properties.getErrorRate(), properties.getRateLimitPerSecond(),
+                properties.getMaxBatchSize(), properties.getMaxInFlight());
+        return new SimulatedDeliveryProvider(channel, properties, simulatedProviderScheduler());
+    }
+}
@@ -3,8 +3,22 @@ package com.hotelreservation.notification.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.codec.AvroDeserializer;
+import com.hotelreservation.events.codec.AvroSerializer;
+import com.hotelreservation.events.registry.FileSchemaRegistry;
+import com.hotelreservation.notification.consumer.LegacyReservationCreatedEventDeserializer;
+import com.hotelreservation.notification.service.DeadLetterReplayService;
+import org.apache.avro.specific.SpecificRecord;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,15 +27,36 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Kafka Configuration for Notification Service
  *
- * Configuration for Kafka consumer to receive reservation events.
+ * Configuration for Kafka consumer to receive reservation events. Reservation created and
+ * reservation lifecycle events are Avro binary and decoded against the schema registry
+ * of the events module; other events are JSON. Reservation created events still on the
+ * topic from before the switch to Avro are read by the legacy JSON decoder.
+ *
+ * A reservation event whose processing fails is forwarded to a chain of retry topics
+ * ({@code <topic>-retry-0}, {@code -retry-1}, ...), each consumed after an exponentially
+ * growing delay by pausing only that topic's partitions, and after the last attempt to
+ * {@code <topic>-dlt} with the failure in its headers. The main topics never wait for a
+ * failing record.
  *
  * @author Hotel Reservation System
  * @version 1.0.0
@@ -37,9 +72,30 @@ public class KafkaConfig {
     @Value("${kafka.topic.reservation-created:reservation-created-events}")
     private String reservationCreatedTopic;
 
+    @Value("${kafka.topic.reservation-events:reservation-events}")
+    private String reservationEventsTopic;
+
     @Value("${spring.kafka.consumer.group-id:notification-service-group}")
     private String groupId;
 
+    @Value("${events.schema-registry.dir:}")
+    private String schemaRegistryDir;
+
+    @Value("${notification.retry.attempts:4}")
+    private int retryAttempts;
+
+    @Value("${notification.retry.initial-delay-ms:1000}")
+    private long retryInitialDelayMs;
+
+    @Value("${notification.retry.multiplier:5.0}")
+    private double retryMultiplier;
+
+    @Value("${notification.retry.max-delay-ms:60000}")
+    private long retryMaxDelayMs;
+
+    @Value("${notification.dead-letter.replay-batch-size:100}")
+    private int replayBatchSize;
+
     /**
      * Object Mapper for JSON deserialization
      */
@@ -51,33 +107,85 @@ public class KafkaConfig {
         return mapper;
     }
 
+    /**
+     * Registry of the event schemas: the versions shipped with the events module plus any
+     * published since, from the configured directory
+     */
+    @Bean
+    public FileSchemaRegistry schemaRegistry() {
+        FileSchemaRegistry registry = FileSchemaRegistry.load(
+                schemaRegistryDir.isBlank() ? null : Path.of(schemaRegistryDir));
+        logger.info("Event schema registry loaded with subjects: {}", registry.subjects());
+        return registry;
+    }
+
     /**
      * Consumer Factory Configuration
      */
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        logger.info("Kafka consumer factory configured with bootstrap servers: {}", bootstrapServers);
+        logger.info("Consumer group ID: {}", groupId);
+        
+        return new DefaultKafkaConsumerFactory<>(consumerProperties(), 
+                new StringDeserializer(), 
+                new JsonDeserializer<>(Object.class));
+    }
+
+    /**
+     * Kafka Listener Container Factory for reservation created events. Records without the
+     * Avro single-object marker were published as JSON before the switch to Avro.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ReservationCreatedEvent> reservationCreatedListenerContainerFactory() {
+        return avroListenerContainerFactory(ReservationCreatedEvent.class,
+                new LegacyReservationCreatedEventDeserializer(objectMapper()));
+    }
+
+    /**
+     * Kafka Listener Container Factory for reservation lifecycle events
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ReservationLifecycleEvent> reservationLifecycleListenerContainerFactory() {
+        return avroListenerContainerFactory(ReservationLifecycleEvent.class, null);
+    }
+
+    /**
+     * Listener container factory for one Avro event class. Records without the Avro
+     * marker go to the fallback deserializer, if any. A record that cannot be decoded
+     * (with a schema version not registered here, or in no known encoding) goes to the
+     * dead-letter topic instead of failing the poll loop. The offset of each record is
+     * committed as soon as its listener returns, so at most the record in progress is
+     * read again after a rebalance or a crash.
+     */
+    private <T extends SpecificRecord> ConcurrentKafkaListenerContainerFactory<String, T> avroListenerContainerFactory(
+            Class<T> type, Deserializer<T> fallback) {
+        ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerProperties(),
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new AvroDeserializer<>(type, schemaRegistry(), fallback))));
+        factory.setConcurrency(3);
+        factory.getContainerProperties().setPollTimeout(3000);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        factory.getContainerProperties().setObservationEnabled(true);
+        return factory;
+    }
+
+    private Map<String, Object> consumerProperties() {
         Map<String, Object> configProps = new HashMap<>();
         
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-        configProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 1000);
+        // Offsets are committed by the listener containers once records are processed
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 10000);
         configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
         configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
         configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
-        
-        logger.info("Kafka consumer factory configured with bootstrap servers: {}", bootstrapServers);
-        logger.info("Consumer group ID: {}", groupId);
-        
-        return new DefaultKafkaConsumerFactory<>(configProps, 
-                new StringDeserializer(), 
-                new JsonDeserializer<>(Object.class));
+        return configProps;
     }
 
     /**
@@ -90,6 +198,8 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(3); // Number of concurrent consumers
         factory.getContainerProperties().setPollTimeout(3000);
+        // Continue the producer's trace and restore baggage (correlation ID) from record headers
+        factory.getContainerProperties().setObservationEnabled(true);
         factory.setAutoStartup(true);
         
         logger.info("Kafka listener container factory configured with concurrency: 3");
@@ -97,6 +207,74 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Retry and dead-letter topics for the reservation event listeners. Attempts counts
+     * the first delivery; invalid data (IllegalArgumentException) is not retried. The
+     * dead-letter handler only logs, so a failure there is not sent round again.
+     */
+    @Bean
+    public RetryTopicConfiguration reservationEventsRetryTopicConfiguration() {
+        logger.info("Retry topics configured: {} attempts, delay {} ms x {} up to {} ms",
+                retryAttempts, retryInitialDelayMs, retryMultiplier, retryMaxDelayMs);
+
+        return RetryTopicConfigurationBuilder.newInstance()
+                .maxAttempts(retryAttempts)
+                .exponentialBackoff(retryInitialDelayMs, retryMultiplier, retryMaxDelayMs)
+                .setTopicSuffixingStrategy(TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE)
+                .dltSuffix(DeadLetterReplayService.DLT_SUFFIX)
+                .notRetryOn(IllegalArgumentException.class)
+                .traversingCauses()
+                .dltHandlerMethod("reservationEventConsumer", "handleDeadLetter")
+                .doNotRetryOnDltFailure()
+                .includeTopics(List.of(reservationCreatedTopic, reservationEventsTopic))
+                .create(notificationKafkaTemplate());
+    }
+
+    /**
+     * Kafka Template forwarding failed records to the retry and dead-letter topics. Records
+     * are written in the encoding they were read in: Avro events through the Avro
+     * serializer, records that could not be decoded as their original bytes.
+     */
+    @Bean
+    public KafkaTemplate<String, Object> notificationKafkaTemplate() {
+        // First match wins: raw bytes and Avro events before the JSON catch-all
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(SpecificRecord.class, new AvroSerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProperties(),
+                new StringSerializer(), new DelegatingByTypeSerializer(valueSerializers, true)));
+    }
+
+    /**
+     * Consumer Factory for replaying dead letters. Records are read and written as bytes,
+     * whatever their encoding, and offsets are committed only after the copies are written.
+     */
+    @Bean
+    public ConsumerFactory<byte[], byte[]> deadLetterReplayConsumerFactory() {
+        Map<String, Object> configProps = consumerProperties();
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-dlt-replay");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, replayBatchSize);
+        return new DefaultKafkaConsumerFactory<>(configProps, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+    }
+
+    /**
+     * Kafka Template writing replayed dead letters back to their original topics
+     */
+    @Bean
+    public KafkaTemplate<byte[], byte[]> deadLetterReplayKafkaTemplate() {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProperties(),
+                new ByteArraySerializer(), new ByteArraySerializer()));
+    }
+
+    private Map<String, Object> producerProperties() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return configProps;
+    }
+
     /**
      * Get reservation created topic name
      */
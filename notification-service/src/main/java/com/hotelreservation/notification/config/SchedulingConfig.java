@@ -0,0 +1,32 @@
+package com.hotelreservation.notification.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduling Configuration
+ *
+ * Runs the service's scheduled tasks, such as reloading the notification templates. The
+ * scheduler is declared here because Spring Boot does not create its own when another
+ * ScheduledExecutorService bean exists, and would otherwise run the tasks on the threads
+ * of the simulated delivery providers.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Scheduler for the {@code @Scheduled} methods
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,92 @@
+package com.hotelreservation.notification.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationStatus;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Legacy Reservation Created Event Deserializer
+ *
+ * Reads the JSON reservation created events that reservation-service published before
+ * the switch to Avro (snake_case fields, dates as yyyy-MM-dd, timestamps as
+ * yyyy-MM-dd'T'HH:mm:ss) into the Avro event class, so the records still on the topic
+ * after an upgrade are notified instead of going to the dead-letter topic. Statuses the
+ * Avro enum does not know become UNKNOWN.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class LegacyReservationCreatedEventDeserializer implements Deserializer<ReservationCreatedEvent> {
+
+    private final ObjectMapper objectMapper;
+
+    public LegacyReservationCreatedEventDeserializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ReservationCreatedEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(data);
+            if (json == null || !json.isObject()) {
+                throw new SerializationException("Record on " + topic + " is neither Avro nor a JSON object");
+            }
+            return ReservationCreatedEvent.newBuilder()
+                    .setReservationId(required(json, "reservation_id").asLong())
+                    .setHotelId(required(json, "hotel_id").asLong())
+                    .setRoomId(json.hasNonNull("room_id") ? json.get("room_id").asLong() : null)
+                    .setGuestName(required(json, "guest_name").asText())
+                    .setGuestEmail(required(json, "guest_email").asText())
+                    .setGuestPhone(text(json, "guest_phone"))
+                    .setCheckInDate(LocalDate.parse(required(json, "check_in_date").asText()))
+                    .setCheckOutDate(LocalDate.parse(required(json, "check_out_date").asText()))
+                    .setNumberOfGuests(required(json, "number_of_guests").asInt())
+                    .setTotalPrice(new BigDecimal(required(json, "total_price").asText()).setScale(2, RoundingMode.HALF_UP))
+                    .setStatus(status(text(json, "status")))
+                    .setSpecialRequests(text(json, "special_requests"))
+                    .setCreatedAt(json.hasNonNull("created_at")
+                            ? LocalDateTime.parse(json.get("created_at").asText()) : null)
+                    .setEventTimestamp(json.hasNonNull("event_timestamp")
+                            ? LocalDateTime.parse(json.get("event_timestamp").asText()) : LocalDateTime.now())
+                    .build();
+        } catch (IOException | DateTimeParseException | NumberFormatException e) {
+            throw new SerializationException("Could not decode legacy JSON ReservationCreatedEvent from "
+                    + topic + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static JsonNode required(JsonNode json, String field) {
+        if (!json.hasNonNull(field)) {
+            throw new SerializationException("Legacy ReservationCreatedEvent is missing " + field);
+        }
+        return json.get(field);
+    }
+
+    private static String text(JsonNode json, String field) {
+        return json.hasNonNull(field) ? json.get(field).asText() : null;
+    }
+
+    private static ReservationStatus status(String status) {
+        if (status == null) {
+            return ReservationStatus.UNKNOWN;
+        }
+        try {
+            return ReservationStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return ReservationStatus.UNKNOWN;
+        }
+    }
+}
@@ -1,20 +1,37 @@
 package com.hotelreservation.notification.consumer;
 
-import com.hotelreservation.notification.event.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationLifecycleEvent;
 import com.hotelreservation.notification.service.NotificationService;
+import com.hotelreservation.notification.service.ProcessedEventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Reservation Event Consumer
  *
- * Kafka consumer for handling reservation events.
+ * Kafka consumer for handling reservation events. A record whose processing fails is
+ * not redelivered in place: it moves to the next retry topic, which is consumed after a
+ * growing delay without holding up the main topic, and after the last attempt to the
+ * dead-letter topic (see KafkaConfig). Dead letters stay there until replayed.
+ *
+ * Offsets are committed after each record is processed, and a record is only recorded
+ * as processed after its notifications have been sent, so an event read again after a
+ * rebalance or a restart is recognised and skipped rather than delivered twice.
  *
  * @author Hotel Reservation System
  * @version 1.0.0
@@ -25,10 +42,19 @@ public class ReservationEventConsumer {
     private static final Logger logger = LoggerFactory.getLogger(ReservationEventConsumer.class);
 
     private final NotificationService notificationService;
+    private final ReservationEventDispatcher reservationEventDispatcher;
+    private final ProcessedEventStore processedEventStore;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public ReservationEventConsumer(NotificationService notificationService) {
+    public ReservationEventConsumer(NotificationService notificationService,
+                                    ReservationEventDispatcher reservationEventDispatcher,
+                                    ProcessedEventStore processedEventStore,
+                                    MeterRegistry meterRegistry) {
         this.notificationService = notificationService;
+        this.reservationEventDispatcher = reservationEventDispatcher;
+        this.processedEventStore = processedEventStore;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -43,7 +69,7 @@ public class ReservationEventConsumer {
     @KafkaListener(
             topics = "${kafka.topic.reservation-created:reservation-created-events}",
             groupId = "${spring.kafka.consumer.group-id:notification-service-group}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "reservationCreatedListenerContainerFactory"
     )
     public void consumeReservationCreatedEvent(
             @Payload ReservationCreatedEvent event,
@@ -55,9 +81,15 @@ public class ReservationEventConsumer {
         logger.info("Event details - Reservation ID: {}, Guest: {}, Email: {}", 
                 event.getReservationId(), event.getGuestName(), event.getGuestEmail());
 
+        if (processedEventStore.isProcessed(event)) {
+            skipDuplicate(topic, event.getReservationId());
+            return;
+        }
+
         try {
             // Process the event
             notificationService.processReservationCreatedEvent(event);
+            processedEventStore.markProcessed(event);
             
             logger.info("Successfully processed reservation created event for reservation ID: {}", 
                     event.getReservationId());
@@ -66,40 +98,81 @@ public class ReservationEventConsumer {
             logger.error("Error processing reservation created event for reservation ID: {}. Error: {}", 
                     event.getReservationId(), e.getMessage(), e);
             
-            // In a production environment, you might want to:
-            // 1. Send the message to a dead letter queue
-            // 2. Retry the processing
-            // 3. Send an alert to monitoring system
-            // 4. Log the error for manual investigation
-            
-            throw new RuntimeException("Failed to process reservation created event", e);
+            throw new RuntimeException("Failed to process reservation created event: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Handle any other reservation events (for future extensibility)
+     * Consume reservation lifecycle events: every change to a reservation after its
+     * creation, keyed by hotel ID
      *
-     * @param event the generic event object
-     * @param key the message key
+     * @param event the reservation lifecycle event
      * @param topic the topic name
+     * @param offset the message offset
      */
     @KafkaListener(
             topics = "${kafka.topic.reservation-events:reservation-events}",
             groupId = "${spring.kafka.consumer.group-id:notification-service-group}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "reservationLifecycleListenerContainerFactory"
     )
-    public void consumeGenericReservationEvent(
-            @Payload Object event,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-
-        logger.info("Received generic reservation event - Topic: {}", topic);
-        logger.debug("Event payload: {}", event);
-
-        // Handle different event types based on event structure
-        // This can be extended for other reservation events like:
-        // - ReservationCancelledEvent
-        // - ReservationUpdatedEvent
-        // - ReservationConfirmedEvent
-        // etc.
+    public void consumeReservationLifecycleEvent(
+            @Payload ReservationLifecycleEvent event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.OFFSET) long offset) {
+
+        logger.debug("Received {} event for reservation ID: {} - Topic: {}, Offset: {}",
+                event.getEventType(), event.getReservationId(), topic, offset);
+
+        if (processedEventStore.isProcessed(event)) {
+            skipDuplicate(topic, event.getReservationId());
+            return;
+        }
+
+        reservationEventDispatcher.dispatch(event);
+        processedEventStore.markProcessed(event);
+    }
+
+    private void skipDuplicate(String topic, long reservationId) {
+        meterRegistry.counter("notification.duplicates_skipped", "topic", topic).increment();
+        logger.info("Skipping event already processed for reservation ID: {} - Topic: {}", reservationId, topic);
+    }
+
+    /**
+     * Record a reservation event that failed every attempt. The record stays on the
+     * dead-letter topic, with the failure in its headers, until it is replayed.
+     *
+     * @param record the dead letter
+     */
+    public void handleDeadLetter(ConsumerRecord<String, Object> record) {
+        Headers headers = record.headers();
+        String originalTopic = text(headers, KafkaHeaders.ORIGINAL_TOPIC);
+        Counter.builder("notification.dead_letters")
+                .description("Reservation events moved to a dead-letter topic after their last attempt")
+                .tag("topic", originalTopic != null ? originalTopic : record.topic())
+                .register(meterRegistry)
+                .increment();
+
+        logger.error("Dead letter on {} - Key: {}, Original: {}-{}@{}, Attempts: {}, Exception: {} ({}): {}",
+                record.topic(), record.key(), originalTopic,
+                number(headers, KafkaHeaders.ORIGINAL_PARTITION),
+                number(headers, KafkaHeaders.ORIGINAL_OFFSET),
+                number(headers, RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS),
+                text(headers, KafkaHeaders.EXCEPTION_FQCN),
+                text(headers, KafkaHeaders.EXCEPTION_CAUSE_FQCN),
+                text(headers, KafkaHeaders.EXCEPTION_MESSAGE));
+    }
+
+    private static String text(Headers headers, String name) {
+        byte[] value = headers.lastHeader(name) != null ? headers.lastHeader(name).value() : null;
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    // Partition and attempts are written as 4-byte ints, offsets as 8-byte longs
+    private static Long number(Headers headers, String name) {
+        if (headers.lastHeader(name) == null) {
+            return null;
+        }
+        ByteBuffer value = ByteBuffer.wrap(headers.lastHeader(name).value());
+        return value.remaining() == Long.BYTES ? value.getLong() : (long) value.getInt();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.hotelreservation.notification.consumer;
+
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.notification.service.ReservationEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reservation Event Dispatcher
+ *
+ * Routes each reservation lifecycle event to the method of every
+ * {@link ReservationEventHandler} for its type. Events arrive decoded into the generated
+ * event class, so routing is a switch on the event type enum over a fixed array of
+ * handlers: no payload maps, no reflection and no allocation per event. Event types added
+ * by newer producers are read as UNKNOWN and skipped.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class ReservationEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationEventDispatcher.class);
+
+    private final ReservationEventHandler[] handlers;
+
+    @Autowired
+    public ReservationEventDispatcher(List<ReservationEventHandler> handlers) {
+        this.handlers = handlers.toArray(new ReservationEventHandler[0]);
+        logger.info("Reservation event dispatcher configured with {} handlers", this.handlers.length);
+    }
+
+    /**
+     * Pass an event to every handler
+     *
+     * @param event the event
+     */
+    public void dispatch(ReservationLifecycleEvent event) {
+        switch (event.getEventType()) {
+            case UPDATED -> {
+                for (ReservationEventHandler handler : handlers) {
+                    handler.onUpdated(event);
+                }
+            }
+            case CONFIRMED -> {
+                for (ReservationEventHandler handler : handlers) {
+                    handler.onConfirmed(event);
+                }
+            }
+            case CANCELLED -> {
+                for (ReservationEventHandler handler : handlers) {
+                    handler.onCancelled(event);
+                }
+            }
+            case COMPLETED -> {
+                for (ReservationEventHandler handler : handlers) {
+                    handler.onCompleted(event);
+                }
+            }
+            case EXPIRED -> {
+                for (ReservationEventHandler handler : handlers) {
+                    handler.onExpired(event);
+                }
+            }
+            case DELETED -> {
+                for (ReservationEventHandler handler : handlers) {
+                    handler.onDeleted(event);
+                }
+            }
+            default -> logger.debug("Skipping reservation event of unknown type for reservation ID: {}",
+                    event.getReservationId());
+        }
+    }
+}
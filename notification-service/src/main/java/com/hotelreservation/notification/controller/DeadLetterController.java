@@ -0,0 +1,71 @@
+package com.hotelreservation.notification.controller;
+
+import com.hotelreservation.notification.dto.DeadLetterReplayDto;
+import com.hotelreservation.notification.service.DeadLetterReplayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Dead Letter Controller
+ *
+ * REST API for replaying reservation events that failed every delivery attempt.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/notifications/dead-letters")
+@Tag(name = "Dead Letters", description = "Reservation event dead-letter API")
+public class DeadLetterController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterController.class);
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @Autowired
+    public DeadLetterController(DeadLetterReplayService deadLetterReplayService) {
+        this.deadLetterReplayService = deadLetterReplayService;
+    }
+
+    /**
+     * Replay dead letters
+     */
+    @PostMapping("/replay")
+    @Operation(summary = "Replay dead letters",
+            description = "Copies dead letters, oldest first, back to the topic they came from for another set of attempts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dead letters replayed",
+                    content = @Content(schema = @Schema(implementation = DeadLetterReplayDto.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown topic"),
+            @ApiResponse(responseCode = "503", description = "Kafka unavailable")
+    })
+    public ResponseEntity<DeadLetterReplayDto> replay(
+            @Parameter(description = "Original topic; all reservation event topics when omitted")
+            @RequestParam(required = false) String topic,
+            @Parameter(description = "Most records to replay")
+            @RequestParam(defaultValue = "100") int limit) {
+        logger.info("Replaying up to {} dead letters of {}", limit, topic != null ? topic : deadLetterReplayService.getTopics());
+        try {
+            return ResponseEntity.ok(deadLetterReplayService.replay(topic, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (org.springframework.kafka.KafkaException | org.apache.kafka.common.KafkaException e) {
+            logger.error("Dead letter replay failed: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.hotelreservation.notification.delivery;
+
+/**
+ * Delivery Channel
+ *
+ * The ways a notification can reach a guest. Each channel is served by exactly one
+ * {@link DeliveryProvider}, configured under {@code notification.providers.<key>}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public enum DeliveryChannel {
+
+    EMAIL("email", "Email"),
+    SMS("sms", "SMS"),
+    PUSH("push", "Push");
+
+    private final String key;
+    private final String displayName;
+
+    DeliveryChannel(String key, String displayName) {
+        this.key = key;
+        this.displayName = displayName;
+    }
+
+    /**
+     * Name used in configuration keys, metric tags and span names
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Name used in log messages
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
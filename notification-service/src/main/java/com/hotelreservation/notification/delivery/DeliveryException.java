@@ -0,0 +1,37 @@
+package com.hotelreservation.notification.delivery;
+
+/**
+ * Delivery Exception
+ *
+ * A provider failed to accept a notification, or refused it because its rate limit was
+ * reached. Either may succeed if tried again later, so the reservation event is retried.
+ * A recipient the provider can never deliver to is reported as an
+ * IllegalArgumentException instead, which is not retried.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class DeliveryException extends RuntimeException {
+
+    private final boolean throttled;
+
+    public DeliveryException(String message) {
+        this(message, false, null);
+    }
+
+    public DeliveryException(String message, Throwable cause) {
+        this(message, false, cause);
+    }
+
+    public DeliveryException(String message, boolean throttled, Throwable cause) {
+        super(message, cause);
+        this.throttled = throttled;
+    }
+
+    /**
+     * Whether the notification was refused because of a rate limit
+     */
+    public boolean isThrottled() {
+        return throttled;
+    }
+}
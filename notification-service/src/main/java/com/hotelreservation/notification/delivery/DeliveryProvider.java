@@ -0,0 +1,71 @@
+package com.hotelreservation.notification.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Delivery Provider
+ *
+ * Service provider interface for the systems that deliver notifications: an email API,
+ * an SMS gateway, a push service. Implementations are Spring beans, one per channel.
+ *
+ * Sending does not block: the returned futures complete when the provider has accepted
+ * or refused each notification, exceptionally with a {@link DeliveryException} for
+ * failures worth retrying. Providers with a bulk API override
+ * {@link #sendBatch(List)}; callers group notifications into batches of at most
+ * {@link #getMaxBatchSize()}, and never have more than {@link #getMaxInFlight()}
+ * requests to the provider outstanding.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public interface DeliveryProvider {
+
+    /**
+     * Channel this provider delivers through
+     */
+    DeliveryChannel getChannel();
+
+    /**
+     * Name of the provider, for receipts, logs and metric tags
+     */
+    String getName();
+
+    /**
+     * Send one notification
+     *
+     * @param notification the notification, for this provider's channel
+     * @return the receipt, once the provider has accepted the notification
+     */
+    CompletableFuture<DeliveryReceipt> send(Notification notification);
+
+    /**
+     * Send several notifications in one request to the provider. The default sends them
+     * one by one.
+     *
+     * @param notifications the notifications, at most {@link #getMaxBatchSize()}
+     * @return one receipt per notification, in the same order, each completing on its own
+     */
+    default List<CompletableFuture<DeliveryReceipt>> sendBatch(List<Notification> notifications) {
+        List<CompletableFuture<DeliveryReceipt>> receipts = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            receipts.add(send(notification));
+        }
+        return receipts;
+    }
+
+    /**
+     * Most notifications to send in one batch
+     */
+    default int getMaxBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Most requests to the provider outstanding at once
+     */
+    default int getMaxInFlight() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hotelreservation.notification.delivery;
+
+/**
+ * Delivery Receipt
+ *
+ * Acknowledgement from a provider that it accepted a notification, with the ID the
+ * provider gave it.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public final class DeliveryReceipt {
+
+    private final Notification notification;
+    private final String provider;
+    private final String messageId;
+
+    // Constructor with all fields
+    public DeliveryReceipt(Notification notification, String provider, String messageId) {
+        this.notification = notification;
+        this.provider = provider;
+        this.messageId = messageId;
+    }
+
+    // Getters
+    public Notification getNotification() {
+        return notification;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public String getMessageId() {
+        return messageId;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotelreservation.notification.delivery;
+
+/**
+ * Notification
+ *
+ * One message to one recipient through one channel: an email address, a phone number or
+ * a device token. The subject is only used by channels that have one.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public final class Notification {
+
+    private final DeliveryChannel channel;
+    private final String recipient;
+    private final String subject;
+    private final String body;
+
+    // Constructor with all fields
+    public Notification(DeliveryChannel channel, String recipient, String subject, String body) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    // Getters
+    public DeliveryChannel getChannel() {
+        return channel;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
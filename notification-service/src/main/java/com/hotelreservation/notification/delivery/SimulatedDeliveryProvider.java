@@ -0,0 +1,130 @@
+package com.hotelreservation.notification.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated Delivery Provider
+ *
+ * Stands in for a real provider when running locally or capacity testing the
+ * notification pipeline offline. Each request is answered after a latency drawn from the
+ * configured distribution, on a shared scheduler rather than a blocked thread, so
+ * thousands of requests can be outstanding at once, as they can against a real API.
+ * Requests over the rate limit are refused at once, as a provider answering
+ * "too many requests" would, and each notification fails with the configured error rate.
+ * A batch is one request: it takes one latency sample and one unit of the rate limit.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class SimulatedDeliveryProvider implements DeliveryProvider {
+
+    // Standard normal quantile of the 99th percentile
+    private static final double Z_99 = 2.3263;
+
+    private final DeliveryChannel channel;
+    private final String name;
+    private final SimulatedProviderProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private final double sigma;
+
+    private double tokens;
+    private long refilledAt;
+
+    public SimulatedDeliveryProvider(DeliveryChannel channel, SimulatedProviderProperties properties,
+                                     ScheduledExecutorService scheduler) {
+        this.channel = channel;
+        this.name = "simulated-" + channel.getKey();
+        this.properties = properties;
+        this.scheduler = scheduler;
+        this.sigma = properties.getLatencyMs() > 0 && properties.getLatencyP99Ms() > properties.getLatencyMs()
+                ? Math.log((double) properties.getLatencyP99Ms() / properties.getLatencyMs()) / Z_99
+                : 0;
+        this.tokens = properties.getRateLimitPerSecond();
+        this.refilledAt = System.nanoTime();
+    }
+
+    @Override
+    public DeliveryChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CompletableFuture<DeliveryReceipt> send(Notification notification) {
+        return sendBatch(List.of(notification)).get(0);
+    }
+
+    @Override
+    public List<CompletableFuture<DeliveryReceipt>> sendBatch(List<Notification> notifications) {
+        List<CompletableFuture<DeliveryReceipt>> receipts = new ArrayList<>(notifications.size());
+        if (!tryAcquire()) {
+            for (int i = 0; i < notifications.size(); i++) {
+                receipts.add(CompletableFuture.failedFuture(new DeliveryException(
+                        name + " rate limit of " + properties.getRateLimitPerSecond() + " requests per second reached",
+                        true, null)));
+            }
+            return receipts;
+        }
+
+        for (int i = 0; i < notifications.size(); i++) {
+            receipts.add(new CompletableFuture<>());
+        }
+        scheduler.schedule(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < notifications.size(); i++) {
+                if (random.nextDouble() < properties.getErrorRate()) {
+                    receipts.get(i).completeExceptionally(new DeliveryException(name + " failed to deliver the notification"));
+                } else {
+                    receipts.get(i).complete(new DeliveryReceipt(notifications.get(i), name, UUID.randomUUID().toString()));
+                }
+            }
+        }, latencyMicros(), TimeUnit.MICROSECONDS);
+        return receipts;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return Math.max(1, properties.getMaxBatchSize());
+    }
+
+    @Override
+    public int getMaxInFlight() {
+        return Math.max(1, properties.getMaxInFlight());
+    }
+
+    private long latencyMicros() {
+        double latencyMs = properties.getLatencyMs();
+        if (properties.getDistribution() == SimulatedProviderProperties.Distribution.LOGNORMAL) {
+            latencyMs *= Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        }
+        return (long) (latencyMs * 1000);
+    }
+
+    /**
+     * Take one request from the token bucket, refilled continuously at the rate limit
+     */
+    private synchronized boolean tryAcquire() {
+        int rate = properties.getRateLimitPerSecond();
+        if (rate <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        tokens = Math.min(rate, tokens + (now - refilledAt) * rate / 1e9);
+        refilledAt = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
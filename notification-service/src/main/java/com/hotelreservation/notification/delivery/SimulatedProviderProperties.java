@@ -0,0 +1,109 @@
+package com.hotelreservation.notification.delivery;
+
+/**
+ * Simulated Provider Properties
+ *
+ * Behaviour of a simulated provider, bound from {@code notification.providers.<channel>}.
+ * Latency is either constant at the median or log-normally distributed with the given
+ * median and 99th percentile, which is the long-tailed shape of most real provider APIs.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class SimulatedProviderProperties {
+
+    /**
+     * Shape of the latency distribution
+     */
+    public enum Distribution {
+        CONSTANT,
+        LOGNORMAL
+    }
+
+    private Distribution distribution = Distribution.CONSTANT;
+    private long latencyMs;
+    private long latencyP99Ms;
+    private double errorRate;
+    private int rateLimitPerSecond;
+    private int maxBatchSize = 1;
+    private int maxInFlight = 64;
+
+    // Default constructor
+    public SimulatedProviderProperties() {
+    }
+
+    // Constructor with the latency
+    public SimulatedProviderProperties(long latencyMs) {
+        this.latencyMs = latencyMs;
+        this.latencyP99Ms = latencyMs;
+    }
+
+    // Getters and Setters
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    public void setDistribution(Distribution distribution) {
+        this.distribution = distribution;
+    }
+
+    /**
+     * Median latency of a request, in milliseconds
+     */
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * 99th percentile latency of a request for the log-normal distribution, in milliseconds
+     */
+    public long getLatencyP99Ms() {
+        return latencyP99Ms;
+    }
+
+    public void setLatencyP99Ms(long latencyP99Ms) {
+        this.latencyP99Ms = latencyP99Ms;
+    }
+
+    /**
+     * Fraction of notifications that fail, between 0 and 1
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Requests accepted per second, with bursts of up to one second's worth; 0 for no limit
+     */
+    public int getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(int rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+}
@@ -0,0 +1,56 @@
+package com.hotelreservation.notification.dto;
+
+import java.util.Map;
+
+/**
+ * Dead Letter Replay Data Transfer Object
+ *
+ * Outcome of one replay of dead-letter topics: how many records were copied back to each
+ * original topic, and how many are still waiting on each dead-letter topic.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class DeadLetterReplayDto {
+
+    private Integer replayed;
+    private Map<String, Integer> replayedByTopic;
+    private Map<String, Long> remainingByTopic;
+
+    // Default constructor
+    public DeadLetterReplayDto() {
+    }
+
+    // Constructor with all fields
+    public DeadLetterReplayDto(Integer replayed, Map<String, Integer> replayedByTopic,
+                               Map<String, Long> remainingByTopic) {
+        this.replayed = replayed;
+        this.replayedByTopic = replayedByTopic;
+        this.remainingByTopic = remainingByTopic;
+    }
+
+    // Getters and Setters
+    public Integer getReplayed() {
+        return replayed;
+    }
+
+    public void setReplayed(Integer replayed) {
+        this.replayed = replayed;
+    }
+
+    public Map<String, Integer> getReplayedByTopic() {
+        return replayedByTopic;
+    }
+
+    public void setReplayedByTopic(Map<String, Integer> replayedByTopic) {
+        this.replayedByTopic = replayedByTopic;
+    }
+
+    public Map<String, Long> getRemainingByTopic() {
+        return remainingByTopic;
+    }
+
+    public void setRemainingByTopic(Map<String, Long> remainingByTopic) {
+        this.remainingByTopic = remainingByTopic;
+    }
+}
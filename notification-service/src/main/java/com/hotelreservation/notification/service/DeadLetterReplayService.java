@@ -0,0 +1,208 @@
+package com.hotelreservation.notification.service;
+
+import com.hotelreservation.notification.dto.DeadLetterReplayDto;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Dead Letter Replay Service
+ *
+ * Copies reservation events from the dead-letter topics back to the topics they came from,
+ * once whatever made them fail has been fixed. Records are copied as bytes with their key,
+ * so they keep their partition and hotel ordering, and without the headers of the failed
+ * attempts, so they get a fresh set of retries. A dedicated consumer group remembers how
+ * far each dead-letter topic has been replayed; its offsets are committed only after the
+ * copies are written, so an interrupted replay can be run again without losing records.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Service
+public class DeadLetterReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReplayService.class);
+
+    public static final String DLT_SUFFIX = "-dlt";
+
+    // Headers written by the failed attempts: where the record came from, why it failed, retry state
+    private static final List<String> FAILURE_HEADER_PREFIXES = List.of(
+            KafkaHeaders.PREFIX + "original-", KafkaHeaders.PREFIX + "exception-",
+            KafkaHeaders.PREFIX + "dlt-", "retry_topic-");
+
+    private final ConsumerFactory<byte[], byte[]> consumerFactory;
+    private final KafkaTemplate<byte[], byte[]> kafkaTemplate;
+    private final List<String> topics;
+    private final int maxReplay;
+    private final Duration timeout;
+
+    @Autowired
+    public DeadLetterReplayService(ConsumerFactory<byte[], byte[]> deadLetterReplayConsumerFactory,
+                                   KafkaTemplate<byte[], byte[]> deadLetterReplayKafkaTemplate,
+                                   @Value("${kafka.topic.reservation-created:reservation-created-events}") String reservationCreatedTopic,
+                                   @Value("${kafka.topic.reservation-events:reservation-events}") String reservationEventsTopic,
+                                   @Value("${notification.dead-letter.max-replay:1000}") int maxReplay,
+                                   @Value("${notification.dead-letter.timeout-ms:10000}") long timeoutMs) {
+        this.consumerFactory = deadLetterReplayConsumerFactory;
+        this.kafkaTemplate = deadLetterReplayKafkaTemplate;
+        this.topics = List.of(reservationCreatedTopic, reservationEventsTopic);
+        this.maxReplay = maxReplay;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * Topics whose dead letters can be replayed
+     */
+    public List<String> getTopics() {
+        return topics;
+    }
+
+    /**
+     * Replay dead letters, oldest first
+     *
+     * @param topic the original topic to replay the dead letters of; null for all of them
+     * @param limit the most records to replay, capped at max-replay
+     * @return the records replayed and left per topic
+     * @throws IllegalArgumentException if the topic has no dead-letter topic
+     * @throws KafkaException if the dead letters cannot be read or written back
+     */
+    public synchronized DeadLetterReplayDto replay(String topic, int limit) {
+        if (topic != null && !topics.contains(topic)) {
+            throw new IllegalArgumentException("No dead-letter topic for " + topic);
+        }
+        int budget = Math.max(0, Math.min(limit, maxReplay));
+        Map<String, Integer> replayedByTopic = new LinkedHashMap<>();
+        Map<String, Long> remainingByTopic = new LinkedHashMap<>();
+        int replayed = 0;
+
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer()) {
+            for (String source : topic != null ? List.of(topic) : topics) {
+                int count = replayTopic(consumer, source, budget - replayed, remainingByTopic);
+                replayedByTopic.put(source, count);
+                replayed += count;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Dead letter replay interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Dead letter replay failed: " + e.getMessage(), e);
+        }
+
+        logger.info("Replayed {} dead letters: {}, remaining: {}", replayed, replayedByTopic, remainingByTopic);
+        return new DeadLetterReplayDto(replayed, replayedByTopic, remainingByTopic);
+    }
+
+    /**
+     * Replay the dead letters of one topic, up to the end the dead-letter topic had when
+     * the replay started
+     */
+    private int replayTopic(Consumer<byte[], byte[]> consumer, String source, int budget,
+                            Map<String, Long> remainingByTopic)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        String deadLetterTopic = source + DLT_SUFFIX;
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(deadLetterTopic, timeout);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            remainingByTopic.put(source, 0L);
+            return 0;
+        }
+        List<TopicPartition> partitions = new ArrayList<>(partitionInfos.size());
+        for (PartitionInfo partitionInfo : partitionInfos) {
+            partitions.add(new TopicPartition(deadLetterTopic, partitionInfo.partition()));
+        }
+        consumer.assign(partitions);
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions, timeout);
+        Map<TopicPartition, Long> nextOffsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            nextOffsets.put(partition, consumer.position(partition, timeout));
+        }
+
+        int count = 0;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (count < budget && !caughtUp(nextOffsets, endOffsets) && System.nanoTime() < deadline) {
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            for (ConsumerRecord<byte[], byte[]> record : consumer.poll(Duration.ofMillis(500))) {
+                TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                if (count == budget || record.offset() >= endOffsets.get(partition)) {
+                    continue;
+                }
+                sends.add(kafkaTemplate.send(copy(record, source)));
+                offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                nextOffsets.put(partition, record.offset() + 1);
+                count++;
+            }
+            if (offsets.isEmpty()) {
+                continue;
+            }
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture<?>[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            consumer.commitSync(offsets, timeout);
+        }
+
+        long remaining = 0;
+        for (TopicPartition partition : partitions) {
+            remaining += Math.max(0, endOffsets.get(partition) - nextOffsets.get(partition));
+        }
+        remainingByTopic.put(source, remaining);
+        return count;
+    }
+
+    private static boolean caughtUp(Map<TopicPartition, Long> nextOffsets, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> next : nextOffsets.entrySet()) {
+            if (next.getValue() < endOffsets.get(next.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copy of a dead letter for its original topic, without the headers of the failed attempts
+     */
+    private static ProducerRecord<byte[], byte[]> copy(ConsumerRecord<byte[], byte[]> record, String source) {
+        Header originalTopic = record.headers().lastHeader(KafkaHeaders.ORIGINAL_TOPIC);
+        ProducerRecord<byte[], byte[]> copy = new ProducerRecord<>(
+                originalTopic != null ? new String(originalTopic.value(), StandardCharsets.UTF_8) : source,
+                record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!isFailureHeader(header.key())) {
+                copy.headers().add(header);
+            }
+        }
+        return copy;
+    }
+
+    private static boolean isFailureHeader(String key) {
+        for (String prefix : FAILURE_HEADER_PREFIXES) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,264 @@
+package com.hotelreservation.notification.service;
+
+import com.hotelreservation.notification.delivery.DeliveryChannel;
+import com.hotelreservation.notification.delivery.DeliveryException;
+import com.hotelreservation.notification.delivery.DeliveryProvider;
+import com.hotelreservation.notification.delivery.DeliveryReceipt;
+import com.hotelreservation.notification.delivery.Notification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Notification Delivery Service
+ *
+ * Hands notifications to the delivery provider of their channel. Notifications for the
+ * same channel are grouped into batches of the provider's size and the channels are
+ * sent to at the same time; each channel has its own limit on outstanding requests, so
+ * a slow provider holds up only the listeners waiting on it. Every request is traced and
+ * timed per channel and outcome.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Service
+public class NotificationDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDeliveryService.class);
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_THROTTLED = "throttled";
+
+    private final Map<DeliveryChannel, DeliveryProvider> providers = new EnumMap<>(DeliveryChannel.class);
+    private final Map<DeliveryChannel, Semaphore> inFlight = new EnumMap<>(DeliveryChannel.class);
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final long timeoutMs;
+
+    @Autowired
+    public NotificationDeliveryService(List<DeliveryProvider> providers, MeterRegistry meterRegistry, Tracer tracer,
+                                       @Value("${notification.delivery.timeout-ms:30000}") long timeoutMs) {
+        for (DeliveryProvider provider : providers) {
+            DeliveryProvider previous = this.providers.putIfAbsent(provider.getChannel(), provider);
+            if (previous != null) {
+                throw new IllegalStateException("Both " + previous.getName() + " and " + provider.getName()
+                        + " deliver " + provider.getChannel().getKey() + " notifications");
+            }
+            Semaphore permits = new Semaphore(provider.getMaxInFlight());
+            inFlight.put(provider.getChannel(), permits);
+            Gauge.builder("notification.delivery.in_flight", permits,
+                            semaphore -> provider.getMaxInFlight() - semaphore.availablePermits())
+                    .description("Requests to a delivery provider awaiting an answer")
+                    .tag("channel", provider.getChannel().getKey())
+                    .register(meterRegistry);
+            logger.info("{} notifications delivered by {}", provider.getChannel().getDisplayName(), provider.getName());
+        }
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Deliver notifications and wait until every one has been accepted or refused
+     *
+     * @param notifications the notifications, in any mix of channels
+     * @return a receipt per notification, in the same order
+     * @throws IllegalArgumentException if a channel has no provider or a recipient is refused for good
+     * @throws DeliveryException if a notification was not delivered and may be on a later attempt
+     */
+    public List<DeliveryReceipt> deliver(List<Notification> notifications) {
+        List<CompletableFuture<DeliveryReceipt>> receipts = deliverAsync(notifications);
+        try {
+            CompletableFuture.allOf(receipts.toArray(new CompletableFuture<?>[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeliveryException("Notification delivery interrupted", e);
+        } catch (ExecutionException e) {
+            // Reported below, from the first notification that failed
+        } catch (TimeoutException e) {
+            throw new DeliveryException("Notification delivery timed out after " + timeoutMs + " ms", e);
+        }
+
+        List<DeliveryReceipt> delivered = new ArrayList<>(receipts.size());
+        for (CompletableFuture<DeliveryReceipt> receipt : receipts) {
+            try {
+                delivered.add(receipt.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new DeliveryException("Notification delivery failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Deliver notifications independently of each other and wait until every one has been
+     * accepted or refused. A notification that cannot be sent does not stop the others,
+     * so the caller can tell which were delivered.
+     *
+     * @param notifications the notifications, in any mix of channels
+     * @return per notification, in the same order, a completed future holding its receipt
+     *         or its failure
+     */
+    public List<CompletableFuture<DeliveryReceipt>> deliverEach(List<Notification> notifications) {
+        List<CompletableFuture<DeliveryReceipt>> receipts = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            try {
+                receipts.add(deliverAsync(List.of(notification)).get(0));
+            } catch (RuntimeException e) {
+                receipts.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        DeliveryException unanswered = null;
+        try {
+            CompletableFuture.allOf(receipts.toArray(new CompletableFuture<?>[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unanswered = new DeliveryException("Notification delivery interrupted", e);
+        } catch (ExecutionException e) {
+            // Each failure stays in its own future
+        } catch (TimeoutException e) {
+            unanswered = new DeliveryException("Notification delivery timed out after " + timeoutMs + " ms", e);
+        }
+        if (unanswered != null) {
+            // The provider's futures are left alone: completing them would release its permits early
+            for (int i = 0; i < receipts.size(); i++) {
+                if (!receipts.get(i).isDone()) {
+                    receipts.set(i, CompletableFuture.failedFuture(unanswered));
+                }
+            }
+        }
+        return receipts;
+    }
+
+    /**
+     * Deliver notifications without waiting. Blocks only while a channel has as many
+     * requests outstanding as its provider allows.
+     *
+     * @param notifications the notifications, in any mix of channels
+     * @return a receipt per notification, in the same order
+     */
+    public List<CompletableFuture<DeliveryReceipt>> deliverAsync(List<Notification> notifications) {
+        Map<DeliveryChannel, List<Integer>> byChannel = new LinkedHashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            byChannel.computeIfAbsent(notifications.get(i).getChannel(), channel -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<DeliveryReceipt>> receipts = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            receipts.add(null);
+        }
+        for (Map.Entry<DeliveryChannel, List<Integer>> channel : byChannel.entrySet()) {
+            DeliveryProvider provider = providers.get(channel.getKey());
+            if (provider == null) {
+                throw new IllegalArgumentException("No provider delivers " + channel.getKey().getKey() + " notifications");
+            }
+            List<Integer> positions = channel.getValue();
+            for (int from = 0; from < positions.size(); from += provider.getMaxBatchSize()) {
+                List<Integer> batch = positions.subList(from, Math.min(positions.size(), from + provider.getMaxBatchSize()));
+                List<Notification> batchNotifications = new ArrayList<>(batch.size());
+                for (int position : batch) {
+                    batchNotifications.add(notifications.get(position));
+                }
+                List<CompletableFuture<DeliveryReceipt>> batchReceipts = sendBatch(provider, batchNotifications);
+                for (int j = 0; j < batch.size(); j++) {
+                    receipts.set(batch.get(j), batchReceipts.get(j));
+                }
+            }
+        }
+        return receipts;
+    }
+
+    /**
+     * Send one batch as one request, holding one of the channel's permits until every
+     * notification in it has been answered
+     */
+    private List<CompletableFuture<DeliveryReceipt>> sendBatch(DeliveryProvider provider, List<Notification> notifications) {
+        Semaphore permits = inFlight.get(provider.getChannel());
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new DeliveryException("No capacity to send " + provider.getChannel().getKey()
+                        + " notifications within " + timeoutMs + " ms", true, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeliveryException("Notification delivery interrupted", e);
+        }
+
+        long start = System.nanoTime();
+        Span span = tracer.nextSpan().name("notification." + provider.getChannel().getKey())
+                .tag("channel", provider.getChannel().getKey())
+                .tag("provider", provider.getName())
+                .start();
+        List<CompletableFuture<DeliveryReceipt>> receipts;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            receipts = provider.sendBatch(notifications);
+        } catch (RuntimeException e) {
+            permits.release();
+            span.error(e);
+            span.end();
+            throw e;
+        }
+
+        CompletableFuture.allOf(receipts.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, failure) -> {
+            permits.release();
+            String outcome = outcome(failure);
+            if (failure != null) {
+                span.error(failure);
+            }
+            span.tag("outcome", outcome);
+            span.end();
+            recordDelivery(provider, outcome, System.nanoTime() - start);
+        });
+        return receipts;
+    }
+
+    private static String outcome(Throwable failure) {
+        if (failure == null) {
+            return OUTCOME_SUCCESS;
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof DeliveryException delivery && delivery.isThrottled() ? OUTCOME_THROTTLED : OUTCOME_ERROR;
+    }
+
+    /**
+     * Record the latency of one request to a provider
+     *
+     * @param provider the provider
+     * @param outcome the outcome tag value
+     * @param durationNanos the time until every notification in the request was answered
+     */
+    private void recordDelivery(DeliveryProvider provider, String outcome, long durationNanos) {
+        Timer.builder("notification.delivery")
+                .description("Time to deliver a notification through a channel")
+                .tag("channel", provider.getChannel().getKey())
+                .tag("provider", provider.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,6 +1,6 @@
 package com.hotelreservation.notification.service;
 
-import com.hotelreservation.notification.event.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationCreatedEvent;
 
 /**
  * Notification Service Interface
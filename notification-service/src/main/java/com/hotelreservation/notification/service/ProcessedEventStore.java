@@ -0,0 +1,347 @@
+package com.hotelreservation.notification.service;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.notification.delivery.DeliveryChannel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Processed Event Store
+ *
+ * Remembers which reservation events have been delivered, keyed by reservation ID, event
+ * type and reservation version, so an event read again after a rebalance, a crash or a
+ * replay does not notify the guest twice. Each channel an event is sent through is also
+ * recorded as it succeeds, so an event retried after one channel failed is sent again
+ * only through the channels that did not get it.
+ *
+ * The most recent events, up to the configured capacity and no older than the retention,
+ * are held in three parallel arrays used as a ring, oldest overwritten first, with an
+ * open-addressing index over them: a lookup is one hash and a short probe, and each
+ * event costs under 40 bytes however many are stored. Every event marked is also
+ * appended to a file as a fixed 24-byte record, from which the ring is rebuilt on
+ * startup. The file is rewritten with only the events still held whenever it grows to
+ * twice the capacity.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class ProcessedEventStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessedEventStore.class);
+
+    private static final int RECORD_BYTES = 3 * Long.BYTES;
+
+    // Stable codes for the event types, independent of the order of the schema's symbols
+    private static final int CREATED = 1;
+    private static final int UPDATED = 2;
+    private static final int CONFIRMED = 3;
+    private static final int CANCELLED = 4;
+    private static final int COMPLETED = 5;
+    private static final int EXPIRED = 6;
+    private static final int DELETED = 7;
+    private static final int UNKNOWN = 15;
+
+    // Channel codes in the top byte of the version and type; 0 is the event as a whole
+    private static final int CHANNEL_SHIFT = 56;
+    private static final long EMAIL = 1;
+    private static final long SMS = 2;
+    private static final long PUSH = 3;
+
+    private final long[] reservationIds;
+    private final long[] versionsAndTypes;
+    private final long[] processedAt;
+    private final int[] index;
+    private final int indexMask;
+    private final long retentionMillis;
+    private final Path file;
+    private final boolean fsync;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+
+    private FileChannel channel;
+    private long next;
+    private int size;
+    private long appended;
+
+    @Autowired
+    public ProcessedEventStore(@Value("${notification.dedup.capacity:100000}") int capacity,
+                               @Value("${notification.dedup.retention-hours:168}") long retentionHours,
+                               @Value("${notification.dedup.file:data/notification-dedup.bin}") String file,
+                               @Value("${notification.dedup.fsync:false}") boolean fsync) {
+        int slots = Math.max(1, capacity);
+        this.reservationIds = new long[slots];
+        this.versionsAndTypes = new long[slots];
+        this.processedAt = new long[slots];
+        // Index at most half full, so probes stay short
+        int indexSize = Integer.highestOneBit(Math.max(2, slots * 2) - 1) << 1;
+        this.index = new int[indexSize];
+        this.indexMask = indexSize - 1;
+        this.retentionMillis = Duration.ofHours(retentionHours).toMillis();
+        this.file = Path.of(file);
+        this.fsync = fsync;
+        load();
+    }
+
+    /**
+     * Whether a reservation created event has already been delivered
+     */
+    public synchronized boolean isProcessed(ReservationCreatedEvent event) {
+        return find(event.getReservationId(), versionAndType(0, CREATED)) >= 0;
+    }
+
+    /**
+     * Whether a reservation lifecycle event has already been delivered
+     */
+    public synchronized boolean isProcessed(ReservationLifecycleEvent event) {
+        return find(event.getReservationId(), versionAndType(event.getVersion(), code(event.getEventType()))) >= 0;
+    }
+
+    /**
+     * Record a reservation created event as delivered
+     */
+    public synchronized void markProcessed(ReservationCreatedEvent event) {
+        mark(event.getReservationId(), versionAndType(0, CREATED), System.currentTimeMillis());
+    }
+
+    /**
+     * Record a reservation lifecycle event as delivered
+     */
+    public synchronized void markProcessed(ReservationLifecycleEvent event) {
+        mark(event.getReservationId(), versionAndType(event.getVersion(), code(event.getEventType())),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Whether a reservation created event has already been sent through a channel
+     */
+    public synchronized boolean isDelivered(ReservationCreatedEvent event, DeliveryChannel channel) {
+        return find(event.getReservationId(), versionAndType(0, CREATED) | channel(channel)) >= 0;
+    }
+
+    /**
+     * Whether a reservation lifecycle event has already been sent through a channel
+     */
+    public synchronized boolean isDelivered(ReservationLifecycleEvent event, DeliveryChannel channel) {
+        return find(event.getReservationId(),
+                versionAndType(event.getVersion(), code(event.getEventType())) | channel(channel)) >= 0;
+    }
+
+    /**
+     * Record a reservation created event as sent through a channel
+     */
+    public synchronized void markDelivered(ReservationCreatedEvent event, DeliveryChannel channel) {
+        mark(event.getReservationId(), versionAndType(0, CREATED) | channel(channel), System.currentTimeMillis());
+    }
+
+    /**
+     * Record a reservation lifecycle event as sent through a channel
+     */
+    public synchronized void markDelivered(ReservationLifecycleEvent event, DeliveryChannel channel) {
+        mark(event.getReservationId(),
+                versionAndType(event.getVersion(), code(event.getEventType())) | channel(channel),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Number of delivered events and channels remembered
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close processed event store {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void mark(long reservationId, long versionAndType, long now) {
+        if (find(reservationId, versionAndType) >= 0) {
+            return;
+        }
+        put(reservationId, versionAndType, now);
+        append(reservationId, versionAndType, now);
+        if (appended >= 2L * reservationIds.length) {
+            compact();
+        }
+    }
+
+    /**
+     * Slot holding an event delivered within the retention, or -1
+     */
+    private int find(long reservationId, long versionAndType) {
+        long expired = System.currentTimeMillis() - retentionMillis;
+        for (int i = hash(reservationId, versionAndType) & indexMask; index[i] != 0; i = (i + 1) & indexMask) {
+            int slot = index[i] - 1;
+            // An expired entry may be followed by the same event marked again since
+            if (reservationIds[slot] == reservationId && versionsAndTypes[slot] == versionAndType
+                    && processedAt[slot] > expired) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void put(long reservationId, long versionAndType, long processedAtMillis) {
+        int slot = (int) (next++ % reservationIds.length);
+        if (size == reservationIds.length) {
+            unindex(slot);
+        } else {
+            size++;
+        }
+        reservationIds[slot] = reservationId;
+        versionsAndTypes[slot] = versionAndType;
+        processedAt[slot] = processedAtMillis;
+
+        int i = hash(reservationId, versionAndType) & indexMask;
+        while (index[i] != 0) {
+            i = (i + 1) & indexMask;
+        }
+        index[i] = slot + 1;
+    }
+
+    /**
+     * Remove the slot about to be overwritten from the index, shifting back the entries
+     * probed past it so that no lookup stops at the gap
+     */
+    private void unindex(int slot) {
+        int i = hash(reservationIds[slot], versionsAndTypes[slot]) & indexMask;
+        while (index[i] != slot + 1) {
+            i = (i + 1) & indexMask;
+        }
+        int gap = i;
+        for (int j = (gap + 1) & indexMask; index[j] != 0; j = (j + 1) & indexMask) {
+            int home = hash(reservationIds[index[j] - 1], versionsAndTypes[index[j] - 1]) & indexMask;
+            // Move the entry into the gap unless its home lies cyclically in (gap, j]
+            if (((j - home) & indexMask) >= ((j - gap) & indexMask)) {
+                index[gap] = index[j];
+                gap = j;
+            }
+        }
+        index[gap] = 0;
+    }
+
+    private void load() {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.exists(file)) {
+                long expired = System.currentTimeMillis() - retentionMillis;
+                ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(file));
+                // A record cut short by a crash while it was written is ignored
+                while (records.remaining() >= RECORD_BYTES) {
+                    long reservationId = records.getLong();
+                    long versionAndType = records.getLong();
+                    long processedAtMillis = records.getLong();
+                    if (processedAtMillis > expired && find(reservationId, versionAndType) < 0) {
+                        put(reservationId, versionAndType, processedAtMillis);
+                    }
+                }
+            }
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open processed event store " + file, e);
+        }
+        logger.info("Processed event store {} loaded with {} events", file, size);
+    }
+
+    private void append(long reservationId, long versionAndType, long processedAtMillis) {
+        record.clear();
+        record.putLong(reservationId).putLong(versionAndType).putLong(processedAtMillis).flip();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            appended++;
+        } catch (IOException e) {
+            // Still remembered in memory; only a restart can lose it
+            logger.error("Failed to persist processed event for reservation ID: {}: {}", reservationId, e.getMessage());
+        }
+    }
+
+    /**
+     * Rewrite the file with the events held in memory, oldest first, and reopen it for appending
+     */
+    private void compact() {
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer records = ByteBuffer.allocate(size * RECORD_BYTES);
+        for (long position = next - size; position < next; position++) {
+            int slot = (int) (position % reservationIds.length);
+            records.putLong(reservationIds[slot]).putLong(versionsAndTypes[slot]).putLong(processedAt[slot]);
+        }
+        records.flip();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (records.hasRemaining()) {
+                    out.write(records);
+                }
+                out.force(false);
+            }
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            appended = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact processed event store " + file, e);
+        }
+    }
+
+    private static long versionAndType(long version, int type) {
+        return version << 4 | type;
+    }
+
+    private static long channel(DeliveryChannel channel) {
+        long code = switch (channel) {
+            case EMAIL -> EMAIL;
+            case SMS -> SMS;
+            case PUSH -> PUSH;
+        };
+        return code << CHANNEL_SHIFT;
+    }
+
+    private static int code(ReservationEventType type) {
+        return switch (type) {
+            case UPDATED -> UPDATED;
+            case CONFIRMED -> CONFIRMED;
+            case CANCELLED -> CANCELLED;
+            case COMPLETED -> COMPLETED;
+            case EXPIRED -> EXPIRED;
+            case DELETED -> DELETED;
+            default -> UNKNOWN;
+        };
+    }
+
+    private static int hash(long reservationId, long versionAndType) {
+        long h = reservationId * 0x9E3779B97F4A7C15L + versionAndType;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
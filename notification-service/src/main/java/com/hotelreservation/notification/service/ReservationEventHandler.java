@@ -0,0 +1,65 @@
+package com.hotelreservation.notification.service;
+
+import com.hotelreservation.events.ReservationLifecycleEvent;
+
+/**
+ * Reservation Event Handler
+ *
+ * Receives the changes to reservations read from the reservation events topic, one
+ * method per event type. Handlers are Spring beans; the dispatcher calls every handler
+ * for every event, in the order the events were published for a hotel. Methods that are
+ * not overridden ignore the event.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public interface ReservationEventHandler {
+
+    /**
+     * A reservation's details were changed
+     *
+     * @param event the change
+     */
+    default void onUpdated(ReservationLifecycleEvent event) {
+    }
+
+    /**
+     * A reservation was confirmed
+     *
+     * @param event the change
+     */
+    default void onConfirmed(ReservationLifecycleEvent event) {
+    }
+
+    /**
+     * A reservation was cancelled
+     *
+     * @param event the change
+     */
+    default void onCancelled(ReservationLifecycleEvent event) {
+    }
+
+    /**
+     * A stay was completed
+     *
+     * @param event the change
+     */
+    default void onCompleted(ReservationLifecycleEvent event) {
+    }
+
+    /**
+     * A pending reservation was cancelled because it was not confirmed in time
+     *
+     * @param event the change
+     */
+    default void onExpired(ReservationLifecycleEvent event) {
+    }
+
+    /**
+     * A reservation was deleted
+     *
+     * @param event the change
+     */
+    default void onDeleted(ReservationLifecycleEvent event) {
+    }
+}
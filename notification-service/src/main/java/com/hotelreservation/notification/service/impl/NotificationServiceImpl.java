@@ -1,44 +1,86 @@
 package com.hotelreservation.notification.service.impl;
 
-import com.hotelreservation.notification.event.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.notification.delivery.DeliveryChannel;
+import com.hotelreservation.notification.delivery.DeliveryException;
+import com.hotelreservation.notification.delivery.DeliveryReceipt;
+import com.hotelreservation.notification.delivery.Notification;
+import com.hotelreservation.notification.service.NotificationDeliveryService;
 import com.hotelreservation.notification.service.NotificationService;
+import com.hotelreservation.notification.service.ProcessedEventStore;
+import com.hotelreservation.notification.service.ReservationEventHandler;
+import com.hotelreservation.notification.template.NotificationTemplates;
+import com.hotelreservation.notification.template.TemplateValues;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Notification Service Implementation
  *
- * Implementation of notification service for handling reservation events.
+ * Implementation of notification service for handling reservation events. Guests are
+ * notified when their reservation is created, changed, confirmed, cancelled or expired,
+ * and thanked when their stay is completed. Messages are rendered from the notification
+ * templates and handed to the delivery provider of each channel; the email and SMS for
+ * an event are sent at the same time, each on its own. Every channel that succeeds is
+ * recorded in the processed event store, so when the event is retried because another
+ * channel failed, only the channels still outstanding are sent.
  *
  * @author Hotel Reservation System
  * @version 1.0.0
  */
 @Service
-public class NotificationServiceImpl implements NotificationService {
+public class NotificationServiceImpl implements NotificationService, ReservationEventHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private static final String CREATED_TEMPLATE = "reservation-created";
+
+    private final NotificationDeliveryService deliveryService;
+    private final NotificationTemplates templates;
+    private final ProcessedEventStore processedEventStore;
+    private final MeterRegistry meterRegistry;
+    private final int hotelBuckets;
 
     @Autowired
-    public NotificationServiceImpl() {
+    public NotificationServiceImpl(NotificationDeliveryService deliveryService, NotificationTemplates templates,
+                                   ProcessedEventStore processedEventStore, MeterRegistry meterRegistry,
+                                   @Value("${notification.metrics.hotel-buckets:16}") int hotelBuckets) {
+        this.deliveryService = deliveryService;
+        this.templates = templates;
+        this.processedEventStore = processedEventStore;
+        this.meterRegistry = meterRegistry;
+        this.hotelBuckets = Math.max(1, hotelBuckets);
     }
 
     @Override
     public void processReservationCreatedEvent(ReservationCreatedEvent event) {
         logger.info("Processing reservation created event for reservation ID: {}", event.getReservationId());
 
+        long start = System.nanoTime();
+        String outcome = OUTCOME_SUCCESS;
         try {
-            // Send email notification to guest
-            sendEmailNotificationToGuest(event);
-
-            // Send SMS notification to guest (if phone number is provided)
-            if (event.getGuestPhone() != null && !event.getGuestPhone().trim().isEmpty()) {
-                sendSmsNotificationToGuest(event);
-            }
+            // Send email notification to guest, and SMS if a phone number is provided
+            send(render(CREATED_TEMPLATE, event.getGuestEmail(), event.getGuestPhone(), TemplateValues.of(event)),
+                    channel -> processedEventStore.isDelivered(event, channel),
+                    channel -> processedEventStore.markDelivered(event, channel));
 
             // Log the notification event
             logNotificationEvent("RESERVATION_CREATED", 
@@ -48,7 +90,7 @@ public class NotificationServiceImpl implements NotificationService {
 
             logger.info("Successfully processed reservation created event for reservation ID: {}", event.getReservationId());
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             logger.error("Error processing reservation created event for reservation ID: {}. Error: {}", 
                     event.getReservationId(), e.getMessage(), e);
             
@@ -56,52 +98,162 @@ public class NotificationServiceImpl implements NotificationService {
                     event.getGuestEmail(), 
                     "Failed to send notification: " + e.getMessage(), 
                     false);
+            outcome = OUTCOME_ERROR;
+            // Rethrown so the record is retried from the retry topics
+            throw e;
+        } finally {
+            recordProcessing("RESERVATION_CREATED", event.getHotelId(), outcome, System.nanoTime() - start);
         }
     }
 
     @Override
-    public void sendEmailNotification(String to, String subject, String body) {
-        logger.info("Sending email notification to: {}", to);
-        
-        // Simulate email sending
+    public void onUpdated(ReservationLifecycleEvent event) {
+        notifyGuest(event);
+    }
+
+    @Override
+    public void onConfirmed(ReservationLifecycleEvent event) {
+        notifyGuest(event);
+    }
+
+    @Override
+    public void onCancelled(ReservationLifecycleEvent event) {
+        notifyGuest(event);
+    }
+
+    @Override
+    public void onCompleted(ReservationLifecycleEvent event) {
+        notifyGuest(event);
+    }
+
+    @Override
+    public void onExpired(ReservationLifecycleEvent event) {
+        notifyGuest(event);
+    }
+
+    /**
+     * Notify the guest of a change to their reservation, with the templates named after
+     * the event type; an SMS is sent only for the types that have an SMS template
+     *
+     * @param event the change
+     */
+    private void notifyGuest(ReservationLifecycleEvent event) {
+        String eventType = "RESERVATION_" + event.getEventType().name();
+        logger.info("Processing {} event for reservation ID: {}", eventType, event.getReservationId());
+
+        long start = System.nanoTime();
+        String outcome = OUTCOME_SUCCESS;
         try {
-            // In a real implementation, this would use an email service like SendGrid, AWS SES, etc.
-            Thread.sleep(100); // Simulate network delay
-            
-            logger.info("Email notification sent successfully to: {}", to);
-            logger.debug("Email subject: {}", subject);
-            logger.debug("Email body: {}", body);
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Email notification interrupted for: {}", to, e);
-            throw new RuntimeException("Email notification interrupted", e);
-        } catch (Exception e) {
-            logger.error("Failed to send email notification to: {}. Error: {}", to, e.getMessage(), e);
-            throw new RuntimeException("Failed to send email notification", e);
+            String template = "reservation-" + event.getEventType().name().toLowerCase(Locale.ROOT);
+            send(render(template, event.getGuestEmail(), event.getGuestPhone(), TemplateValues.of(event)),
+                    channel -> processedEventStore.isDelivered(event, channel),
+                    channel -> processedEventStore.markDelivered(event, channel));
+            logNotificationEvent(eventType, event.getGuestEmail(), template + " notification sent", true);
+        } catch (RuntimeException e) {
+            logger.error("Error processing {} event for reservation ID: {}. Error: {}",
+                    eventType, event.getReservationId(), e.getMessage(), e);
+            logNotificationEvent(eventType, event.getGuestEmail(),
+                    "Failed to send notification: " + e.getMessage(), false);
+            outcome = OUTCOME_ERROR;
+            throw e;
+        } finally {
+            recordProcessing(eventType, event.getHotelId(), outcome, System.nanoTime() - start);
         }
     }
 
+    @Override
+    public void sendEmailNotification(String to, String subject, String body) {
+        send(List.of(email(to, subject, body)), channel -> false, channel -> { });
+    }
+
     @Override
     public void sendSmsNotification(String phoneNumber, String message) {
-        logger.info("Sending SMS notification to: {}", phoneNumber);
-        
-        // Simulate SMS sending
-        try {
-            // In a real implementation, this would use an SMS service like Twilio, AWS SNS, etc.
-            Thread.sleep(50); // Simulate network delay
-            
-            logger.info("SMS notification sent successfully to: {}", phoneNumber);
-            logger.debug("SMS message: {}", message);
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("SMS notification interrupted for: {}", phoneNumber, e);
-            throw new RuntimeException("SMS notification interrupted", e);
-        } catch (Exception e) {
-            logger.error("Failed to send SMS notification to: {}. Error: {}", phoneNumber, e.getMessage(), e);
-            throw new RuntimeException("Failed to send SMS notification", e);
+        send(List.of(sms(phoneNumber, message)), channel -> false, channel -> { });
+    }
+
+    /**
+     * Render the notifications of an event: the email, and the SMS when the event has an SMS
+     * template and the guest a phone number
+     *
+     * @param template the template name without the channel suffix
+     * @param guestEmail the guest's email address
+     * @param phoneNumber the guest's phone number, may be null
+     * @param values the event's values
+     * @return the notifications
+     */
+    private List<Notification> render(String template, String guestEmail, String phoneNumber, TemplateValues values) {
+        // Events do not carry the guest's locale yet
+        Locale locale = templates.getDefaultLocale();
+        List<Notification> notifications = new ArrayList<>(2);
+        notifications.add(email(guestEmail, templates.render(template + ".subject", locale, values),
+                templates.render(template + ".email", locale, values)));
+        String smsTemplate = template + ".sms";
+        if (phoneNumber != null && !phoneNumber.trim().isEmpty() && templates.contains(smsTemplate, locale)) {
+            notifications.add(sms(phoneNumber, templates.render(smsTemplate, locale, values)));
+        }
+        return notifications;
+    }
+
+    /**
+     * Deliver the notifications not yet delivered, each on its own, and wait until all have
+     * been answered. Those accepted are recorded even when another fails, so a retry sends
+     * only the rest.
+     *
+     * @param notifications the notifications, at most one per channel
+     * @param delivered whether a channel was already delivered on an earlier attempt
+     * @param markDelivered records a channel as delivered
+     * @throws RuntimeException the first failure, once every notification has been answered
+     */
+    private void send(List<Notification> notifications, Predicate<DeliveryChannel> delivered,
+                      Consumer<DeliveryChannel> markDelivered) {
+        List<Notification> pending = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            if (delivered.test(notification.getChannel())) {
+                logger.info("{} notification already sent to: {}",
+                        notification.getChannel().getDisplayName(), notification.getRecipient());
+            } else {
+                logger.info("Sending {} notification to: {}",
+                        notification.getChannel().getKey(), notification.getRecipient());
+                pending.add(notification);
+            }
+        }
+
+        List<CompletableFuture<DeliveryReceipt>> receipts = deliveryService.deliverEach(pending);
+        RuntimeException failure = null;
+        for (int i = 0; i < pending.size(); i++) {
+            Notification notification = pending.get(i);
+            try {
+                DeliveryReceipt receipt = receipts.get(i).join();
+                markDelivered.accept(notification.getChannel());
+                logger.info("{} notification sent successfully to: {}",
+                        notification.getChannel().getDisplayName(), notification.getRecipient());
+                logger.debug("{} message ID: {}, subject: {}, body: {}", receipt.getProvider(),
+                        receipt.getMessageId(), notification.getSubject(), notification.getBody());
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime
+                        : new DeliveryException("Notification delivery failed: " + e.getCause().getMessage(), e.getCause());
+                logger.error("Failed to send {} notification to: {}. Error: {}",
+                        notification.getChannel().getKey(), notification.getRecipient(), cause.getMessage());
+                if (failure == null) {
+                    failure = cause;
+                }
+            }
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Notification email(String to, String subject, String body) {
+        if (to == null || to.indexOf('@') < 1 || to.indexOf('@') == to.length() - 1) {
+            // Retrying cannot fix the address; the record goes straight to the dead-letter topic
+            throw new IllegalArgumentException("Invalid email address: " + to);
+        }
+        return new Notification(DeliveryChannel.EMAIL, to, subject, body);
+    }
+
+    private static Notification sms(String phoneNumber, String message) {
+        return new Notification(DeliveryChannel.SMS, phoneNumber, null, message);
     }
 
     @Override
@@ -116,71 +268,34 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * Send email notification to guest
-     *
-     * @param event the reservation created event
-     */
-    private void sendEmailNotificationToGuest(ReservationCreatedEvent event) {
-        String subject = "Reservation Confirmation - Hotel Reservation System";
-        String body = buildEmailBody(event);
-        
-        sendEmailNotification(event.getGuestEmail(), subject, body);
-    }
-
-    /**
-     * Send SMS notification to guest
+     * Record the time to process one reservation event
      *
-     * @param event the reservation created event
+     * @param eventType the event type tag value
+     * @param hotelId the hotel ID, may be null
+     * @param outcome the outcome tag value
+     * @param durationNanos the processing time
      */
-    private void sendSmsNotificationToGuest(ReservationCreatedEvent event) {
-        String message = buildSmsMessage(event);
-        
-        sendSmsNotification(event.getGuestPhone(), message);
+    private void recordProcessing(String eventType, Long hotelId, String outcome, long durationNanos) {
+        Timer.builder("notification.process")
+                .description("Time to process a reservation event end to end")
+                .tag("event.type", eventType)
+                .tag("hotel.bucket", hotelBucket(hotelId))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
     }
 
     /**
-     * Build email body for reservation confirmation
+     * Fold a hotel ID into a bounded bucket tag value
      *
-     * @param event the reservation created event
-     * @return the email body
+     * @param hotelId the hotel ID, may be null
+     * @return the bucket tag value
      */
-    private String buildEmailBody(ReservationCreatedEvent event) {
-        StringBuilder body = new StringBuilder();
-        body.append("Dear ").append(event.getGuestName()).append(",\n\n");
-        body.append("Thank you for your reservation with Hotel Reservation System.\n\n");
-        body.append("Reservation Details:\n");
-        body.append("- Reservation ID: ").append(event.getReservationId()).append("\n");
-        body.append("- Hotel ID: ").append(event.getHotelId()).append("\n");
-        body.append("- Room ID: ").append(event.getRoomId()).append("\n");
-        body.append("- Check-in Date: ").append(event.getCheckInDate().format(DATE_FORMATTER)).append("\n");
-        body.append("- Check-out Date: ").append(event.getCheckOutDate().format(DATE_FORMATTER)).append("\n");
-        body.append("- Number of Guests: ").append(event.getNumberOfGuests()).append("\n");
-        body.append("- Total Price: $").append(event.getTotalPrice()).append("\n");
-        body.append("- Status: ").append(event.getStatus()).append("\n");
-        
-        if (event.getSpecialRequests() != null && !event.getSpecialRequests().trim().isEmpty()) {
-            body.append("- Special Requests: ").append(event.getSpecialRequests()).append("\n");
+    private String hotelBucket(Long hotelId) {
+        if (hotelId == null) {
+            return "none";
         }
-        
-        body.append("\nWe look forward to welcoming you!\n\n");
-        body.append("Best regards,\n");
-        body.append("Hotel Reservation System Team");
-        
-        return body.toString();
-    }
-
-    /**
-     * Build SMS message for reservation confirmation
-     *
-     * @param event the reservation created event
-     * @return the SMS message
-     */
-    private String buildSmsMessage(ReservationCreatedEvent event) {
-        return String.format("Reservation confirmed! ID: %d, Check-in: %s, Check-out: %s, Total: $%s. " +
-                "Thank you for choosing Hotel Reservation System.", 
-                event.getReservationId(),
-                event.getCheckInDate().format(DATE_FORMATTER),
-                event.getCheckOutDate().format(DATE_FORMATTER),
-                event.getTotalPrice());
+        return Long.toString(Math.floorMod(hotelId, (long) hotelBuckets));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,277 @@
+package com.hotelreservation.notification.template;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Notification Template
+ *
+ * A template parsed once into a flat list of instructions: append a literal, append a
+ * field's value, or skip to the end of a section when its field is empty. Rendering runs
+ * the list into the caller's buffer, writing numbers and dates into it directly, so the
+ * only string produced is the one the caller makes from the buffer.
+ *
+ * Syntax: {@code {{field}}} inserts a value, {@code {{#field}}...{{/field}}} keeps its
+ * content only when the field has a non-blank value, and {@code {{>name}}} includes
+ * another template. The line break after a line holding nothing but a section tag is
+ * dropped, so optional lines can be written between tags on lines of their own.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public final class NotificationTemplate {
+
+    private static final Pattern TAG = Pattern.compile("\\{\\{([#/>]?)\\s*([A-Za-z0-9_.-]+)\\s*}}");
+    private static final Pattern STANDALONE_SECTION_TAG = Pattern.compile("\\s*\\{\\{[#/]\\s*[A-Za-z0-9_.-]+\\s*}}\\s*");
+    private static final int MAX_INCLUDE_DEPTH = 8;
+
+    private static final byte LITERAL = 0;
+    private static final byte FIELD = 1;
+    private static final byte SECTION = 2;
+
+    private final String name;
+    private final byte[] operations;
+    private final String[] literals;
+    private final TemplateField[] fields;
+    private final int[] sectionEnds;
+    private final boolean latin1;
+
+    private NotificationTemplate(String name, byte[] operations, String[] literals, TemplateField[] fields,
+                                 int[] sectionEnds) {
+        this.name = name;
+        this.operations = operations;
+        this.literals = literals;
+        this.fields = fields;
+        this.sectionEnds = sectionEnds;
+        boolean latin1 = true;
+        for (String literal : literals) {
+            latin1 &= literal == null || isLatin1(literal);
+        }
+        this.latin1 = latin1;
+    }
+
+    /**
+     * Parse a template
+     *
+     * @param name the template name
+     * @param sources the sources of all templates of the locale by name, including this one
+     * @return the template
+     * @throws IllegalArgumentException if the template refers to an unknown field or
+     *                                  template, or a section is not closed
+     */
+    public static NotificationTemplate parse(String name, Map<String, String> sources) {
+        String source = dropStandaloneSectionLines(include(name, sources, 0));
+        List<Byte> operations = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        List<TemplateField> fields = new ArrayList<>();
+        List<Integer> sectionEnds = new ArrayList<>();
+        Deque<Integer> openSections = new ArrayDeque<>();
+
+        Matcher tag = TAG.matcher(source);
+        int position = 0;
+        while (tag.find()) {
+            if (tag.start() > position) {
+                add(operations, literals, fields, sectionEnds, LITERAL, source.substring(position, tag.start()), null);
+            }
+            position = tag.end();
+            TemplateField field = TemplateField.forName(tag.group(2));
+            if (field == null) {
+                throw new IllegalArgumentException("Template " + name + " refers to unknown field " + tag.group(2));
+            }
+            switch (tag.group(1)) {
+                case "#" -> {
+                    openSections.push(operations.size());
+                    add(operations, literals, fields, sectionEnds, SECTION, null, field);
+                }
+                case "/" -> {
+                    if (openSections.isEmpty() || fields.get(openSections.peek()) != field) {
+                        throw new IllegalArgumentException("Template " + name + " closes section " + field.getName()
+                                + " that is not open");
+                    }
+                    sectionEnds.set(openSections.pop(), operations.size());
+                }
+                default -> add(operations, literals, fields, sectionEnds, FIELD, null, field);
+            }
+        }
+        if (position < source.length()) {
+            add(operations, literals, fields, sectionEnds, LITERAL, source.substring(position), null);
+        }
+        if (!openSections.isEmpty()) {
+            throw new IllegalArgumentException("Template " + name + " does not close section "
+                    + fields.get(openSections.peek()).getName());
+        }
+
+        byte[] operationArray = new byte[operations.size()];
+        int[] sectionEndArray = new int[operations.size()];
+        for (int i = 0; i < operationArray.length; i++) {
+            operationArray[i] = operations.get(i);
+            sectionEndArray[i] = sectionEnds.get(i);
+        }
+        return new NotificationTemplate(name, operationArray, literals.toArray(new String[0]),
+                fields.toArray(new TemplateField[0]), sectionEndArray);
+    }
+
+    /**
+     * Name of the template
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether the template's own text is all Latin-1 characters
+     */
+    public boolean isLatin1() {
+        return latin1;
+    }
+
+    /**
+     * Render the template into a buffer
+     *
+     * @param out the buffer to append to
+     * @param values the values to insert
+     * @param dates the format of dates
+     * @return whether everything written was Latin-1 characters; a StringBuilder that has
+     *         held any other character keeps two bytes per character until discarded
+     */
+    public boolean renderTo(StringBuilder out, TemplateValues values, DateTimeFormatter dates) {
+        boolean latin1 = this.latin1;
+        for (int i = 0; i < operations.length; i++) {
+            switch (operations[i]) {
+                case LITERAL -> out.append(literals[i]);
+                case FIELD -> latin1 &= append(out, values.get(fields[i]), dates);
+                default -> {
+                    if (isBlank(values.get(fields[i]))) {
+                        // Continue after the section's last instruction
+                        i = sectionEnds[i] - 1;
+                    }
+                }
+            }
+        }
+        return latin1;
+    }
+
+    /**
+     * Append a value, returning whether it was all Latin-1 characters
+     */
+    private static boolean append(StringBuilder out, Object value, DateTimeFormatter dates) {
+        if (value == null) {
+            return true;
+        }
+        // Exact class checks: an instanceof against an interface such as CharSequence
+        // is slow when the same class is also checked against other interfaces
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            out.append((String) value);
+            return isLatin1((String) value);
+        }
+        if (type == Long.class || type == Integer.class) {
+            out.append(((Number) value).longValue());
+            return true;
+        }
+        if (type == LocalDate.class) {
+            // Numeric patterns only write Latin-1; month names in some locales do not
+            int start = out.length();
+            dates.formatTo((LocalDate) value, out);
+            return isLatin1(out, start);
+        }
+        if (type == BigDecimal.class) {
+            out.append(((BigDecimal) value).toPlainString());
+            return true;
+        }
+        String text = value.toString();
+        out.append(text);
+        return isLatin1(text);
+    }
+
+    private static boolean isLatin1(CharSequence text) {
+        return isLatin1(text, 0);
+    }
+
+    private static boolean isLatin1(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value.getClass() == String.class) {
+            return ((String) value).isBlank();
+        }
+        if (value instanceof CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (!Character.isWhitespace(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void add(List<Byte> operations, List<String> literals, List<TemplateField> fields,
+                            List<Integer> sectionEnds, byte operation, String literal, TemplateField field) {
+        operations.add(operation);
+        literals.add(literal);
+        fields.add(field);
+        sectionEnds.add(0);
+    }
+
+    /**
+     * Source of a template with its includes replaced by the included sources
+     */
+    private static String include(String name, Map<String, String> sources, int depth) {
+        String source = sources.get(name);
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown template " + name);
+        }
+        if (depth > MAX_INCLUDE_DEPTH) {
+            throw new IllegalArgumentException("Template " + name + " is included more than "
+                    + MAX_INCLUDE_DEPTH + " levels deep");
+        }
+        Matcher tag = TAG.matcher(source);
+        StringBuilder included = new StringBuilder(source.length());
+        int position = 0;
+        while (tag.find()) {
+            if (tag.group(1).equals(">")) {
+                included.append(source, position, tag.start()).append(include(tag.group(2), sources, depth + 1));
+                position = tag.end();
+            }
+        }
+        return included.append(source, position, source.length()).toString();
+    }
+
+    /**
+     * Source with the lines that hold only a section tag reduced to the tag, so the line
+     * break after it is not part of the output
+     */
+    private static String dropStandaloneSectionLines(String source) {
+        String[] lines = source.split("\n", -1);
+        StringBuilder kept = new StringBuilder(source.length());
+        for (int i = 0; i < lines.length; i++) {
+            if (STANDALONE_SECTION_TAG.matcher(lines[i]).matches()) {
+                kept.append(lines[i].strip());
+            } else {
+                kept.append(lines[i]);
+                if (i < lines.length - 1) {
+                    kept.append('\n');
+                }
+            }
+        }
+        return kept.toString();
+    }
+}
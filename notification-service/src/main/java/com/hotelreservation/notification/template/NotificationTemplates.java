@@ -0,0 +1,274 @@
+package com.hotelreservation.notification.template;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Notification Templates
+ *
+ * The subjects and messages sent to guests, one file of templates per locale:
+ * {@code notification-templates/<locale>.txt} on the classpath, each replaced by a file of
+ * the same name in {@code notification.templates.dir} when one is configured. A file is a
+ * list of templates, each starting with a {@code === <name>} line; the one named
+ * {@code date-format} holds the locale's date pattern. Templates are parsed when loaded
+ * and looked up by name, trying the locale, then its language, then the default locale.
+ *
+ * The directory is checked for changes periodically and reloaded as a whole; if the new
+ * files do not parse, the templates in use are kept. Rendering reuses one buffer per
+ * thread, so a render allocates little beyond the finished string.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class NotificationTemplates {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationTemplates.class);
+
+    private static final String CLASSPATH_TEMPLATES = "classpath*:notification-templates/*.txt";
+    private static final String FILE_SUFFIX = ".txt";
+    private static final String SECTION_PREFIX = "=== ";
+    private static final String DATE_FORMAT = "date-format";
+    private static final String DEFAULT_DATE_FORMAT = "dd/MM/yyyy";
+    private static final int MAX_POOLED_BUFFER = 16 * 1024;
+
+    // A StringBuilder that has held a character outside Latin-1 stores two bytes per
+    // character from then on, so templates in such languages get buffers of their own
+    private static final ThreadLocal<StringBuilder> LATIN1_BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+    private static final ThreadLocal<StringBuilder> WIDE_BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final Path directory;
+    private final Locale defaultLocale;
+
+    private volatile Map<String, LocaleTemplates> locales;
+    private volatile long directoryStamp;
+
+    @Autowired
+    public NotificationTemplates(@Value("${notification.templates.dir:}") String directory,
+                                 @Value("${notification.templates.default-locale:en}") String defaultLocale) {
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        this.defaultLocale = Locale.forLanguageTag(defaultLocale);
+        this.directoryStamp = stamp();
+        this.locales = load();
+        logger.info("Notification templates loaded for locales: {}", locales.keySet());
+    }
+
+    /**
+     * Locale used when a guest's locale has no template
+     */
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    /**
+     * Whether there is a template of the given name for a locale
+     */
+    public boolean contains(String name, Locale locale) {
+        return find(name, locale) != null;
+    }
+
+    /**
+     * Render a template
+     *
+     * @param name the template name
+     * @param locale the guest's locale
+     * @param values the values to insert
+     * @return the rendered text
+     * @throws IllegalArgumentException if no locale has the template
+     */
+    public String render(String name, Locale locale, TemplateValues values) {
+        LocaleTemplates templates = find(name, locale);
+        if (templates == null) {
+            throw new IllegalArgumentException("No notification template " + name);
+        }
+        NotificationTemplate template = templates.templates.get(name);
+        ThreadLocal<StringBuilder> buffers = template.isLatin1() ? LATIN1_BUFFERS : WIDE_BUFFERS;
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        boolean latin1 = template.renderTo(buffer, values, templates.dates);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_POOLED_BUFFER || (template.isLatin1() && !latin1)) {
+            // Don't hold on to the buffer of an unusually long message, nor to a Latin-1
+            // buffer a guest's name has widened
+            buffers.remove();
+        }
+        return rendered;
+    }
+
+    /**
+     * Reload the templates if the files in the template directory have changed
+     */
+    @Scheduled(fixedDelayString = "${notification.templates.reload-interval-ms:5000}")
+    public void reloadIfChanged() {
+        if (directory == null) {
+            return;
+        }
+        long stamp = stamp();
+        if (stamp == directoryStamp) {
+            return;
+        }
+        directoryStamp = stamp;
+        try {
+            locales = load();
+            logger.info("Notification templates reloaded from {} for locales: {}", directory, locales.keySet());
+        } catch (RuntimeException e) {
+            logger.error("Failed to reload notification templates from {}, keeping the current ones: {}",
+                    directory, e.getMessage());
+        }
+    }
+
+    private LocaleTemplates find(String name, Locale locale) {
+        Map<String, LocaleTemplates> current = locales;
+        if (locale != null) {
+            LocaleTemplates templates = current.get(locale.toLanguageTag());
+            if (templates != null && templates.templates.containsKey(name)) {
+                return templates;
+            }
+            templates = current.get(locale.getLanguage());
+            if (templates != null && templates.templates.containsKey(name)) {
+                return templates;
+            }
+        }
+        LocaleTemplates templates = current.get(defaultLocale.toLanguageTag());
+        return templates != null && templates.templates.containsKey(name) ? templates : null;
+    }
+
+    private Map<String, LocaleTemplates> load() {
+        Map<String, String> files = new LinkedHashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(CLASSPATH_TEMPLATES)) {
+                try (InputStream in = resource.getInputStream()) {
+                    files.put(locale(resource.getFilename()), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+            if (directory != null && Files.isDirectory(directory)) {
+                try (Stream<Path> paths = Files.list(directory)) {
+                    for (Path path : paths.filter(p -> p.getFileName().toString().endsWith(FILE_SUFFIX)).toList()) {
+                        files.put(locale(path.getFileName().toString()), Files.readString(path));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read notification templates", e);
+        }
+
+        String defaultTag = defaultLocale.toLanguageTag();
+        if (!files.containsKey(defaultTag)) {
+            throw new IllegalStateException("No notification templates for the default locale " + defaultTag);
+        }
+        Map<String, String> defaultSources = sections(defaultTag, files.get(defaultTag));
+        Map<String, LocaleTemplates> loaded = new HashMap<>();
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            Map<String, String> sources = file.getKey().equals(defaultTag)
+                    ? defaultSources : sections(file.getKey(), file.getValue());
+            // Includes a locale does not define come from the default locale
+            Map<String, String> resolvable = new HashMap<>(defaultSources);
+            resolvable.putAll(sources);
+            Map<String, NotificationTemplate> templates = new HashMap<>();
+            for (String name : sources.keySet()) {
+                if (!name.equals(DATE_FORMAT)) {
+                    try {
+                        templates.put(name, NotificationTemplate.parse(name, resolvable));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Notification templates for " + file.getKey() + ": "
+                                + e.getMessage(), e);
+                    }
+                }
+            }
+            String datePattern = sources.getOrDefault(DATE_FORMAT, defaultSources.getOrDefault(DATE_FORMAT, DEFAULT_DATE_FORMAT));
+            loaded.put(file.getKey(), new LocaleTemplates(templates,
+                    DateTimeFormatter.ofPattern(datePattern.strip(), Locale.forLanguageTag(file.getKey()))));
+        }
+        return loaded;
+    }
+
+    /**
+     * Sources of the templates in a file, by name
+     */
+    private static Map<String, String> sections(String locale, String file) {
+        Map<String, String> sections = new LinkedHashMap<>();
+        String name = null;
+        StringBuilder source = new StringBuilder();
+        for (String line : file.split("\r?\n", -1)) {
+            if (line.startsWith(SECTION_PREFIX)) {
+                if (name != null) {
+                    sections.put(name, trimLastLineBreak(source));
+                }
+                name = line.substring(SECTION_PREFIX.length()).strip();
+                source.setLength(0);
+            } else if (name != null) {
+                source.append(line).append('\n');
+            }
+        }
+        if (name != null) {
+            sections.put(name, trimLastLineBreak(source));
+        }
+        if (sections.isEmpty()) {
+            throw new IllegalArgumentException("Notification templates for " + locale + " define no templates");
+        }
+        return sections;
+    }
+
+    private static String trimLastLineBreak(StringBuilder source) {
+        // The line break before the next template's header is not part of the template
+        int end = source.length();
+        while (end > 0 && source.charAt(end - 1) == '\n') {
+            end--;
+        }
+        return source.substring(0, end);
+    }
+
+    private static String locale(String fileName) {
+        return fileName.substring(0, fileName.length() - FILE_SUFFIX.length()).replace('_', '-');
+    }
+
+    /**
+     * Sum of the modification times of the files in the template directory, which changes
+     * when a file is changed, added or removed; 0 without a directory
+     */
+    private long stamp() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            long stamp = 0;
+            for (Path path : paths.toList()) {
+                stamp += Files.getLastModifiedTime(path).toMillis() + 1;
+            }
+            return stamp;
+        } catch (IOException e) {
+            logger.warn("Cannot check notification templates in {}: {}", directory, e.getMessage());
+            return directoryStamp;
+        }
+    }
+
+    private static final class LocaleTemplates {
+
+        private final Map<String, NotificationTemplate> templates;
+        private final DateTimeFormatter dates;
+
+        private LocaleTemplates(Map<String, NotificationTemplate> templates, DateTimeFormatter dates) {
+            this.templates = templates;
+            this.dates = dates;
+        }
+    }
+}
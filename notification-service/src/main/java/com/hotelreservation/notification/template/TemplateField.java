@@ -0,0 +1,61 @@
+package com.hotelreservation.notification.template;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Template Field
+ *
+ * The reservation values a notification template can refer to, by the name of the event
+ * field they come from: {@code {{guestName}}}, {@code {{checkInDate}}}. Names are
+ * resolved to fields when a template is parsed, so a misspelt name fails the load rather
+ * than every render.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public enum TemplateField {
+
+    RESERVATION_ID("reservationId"),
+    HOTEL_ID("hotelId"),
+    ROOM_ID("roomId"),
+    ROOM_TYPE("roomType"),
+    GUEST_NAME("guestName"),
+    GUEST_EMAIL("guestEmail"),
+    GUEST_PHONE("guestPhone"),
+    CHECK_IN_DATE("checkInDate"),
+    CHECK_OUT_DATE("checkOutDate"),
+    NUMBER_OF_GUESTS("numberOfGuests"),
+    TOTAL_PRICE("totalPrice"),
+    STATUS("status"),
+    PREVIOUS_STATUS("previousStatus"),
+    SPECIAL_REQUESTS("specialRequests");
+
+    private static final Map<String, TemplateField> BY_NAME = new HashMap<>();
+
+    static {
+        for (TemplateField field : values()) {
+            BY_NAME.put(field.name, field);
+        }
+    }
+
+    private final String name;
+
+    TemplateField(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Name used in templates
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Field with the given template name, or null
+     */
+    public static TemplateField forName(String name) {
+        return BY_NAME.get(name);
+    }
+}
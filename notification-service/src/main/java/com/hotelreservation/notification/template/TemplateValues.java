@@ -0,0 +1,69 @@
+package com.hotelreservation.notification.template;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+
+/**
+ * Template Values
+ *
+ * Source of the values a template is rendered with. Values are read straight from the
+ * event by a switch on the field; nothing is copied into a map first.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface TemplateValues {
+
+    /**
+     * Value of a field: a number, a date, a string or an enum; null if the event has none
+     *
+     * @param field the field
+     * @return the value
+     */
+    Object get(TemplateField field);
+
+    /**
+     * Values of a reservation created event
+     */
+    static TemplateValues of(ReservationCreatedEvent event) {
+        return field -> switch (field) {
+            case RESERVATION_ID -> event.getReservationId();
+            case HOTEL_ID -> event.getHotelId();
+            case ROOM_ID -> event.getRoomId();
+            case ROOM_TYPE -> event.getRoomType();
+            case GUEST_NAME -> event.getGuestName();
+            case GUEST_EMAIL -> event.getGuestEmail();
+            case GUEST_PHONE -> event.getGuestPhone();
+            case CHECK_IN_DATE -> event.getCheckInDate();
+            case CHECK_OUT_DATE -> event.getCheckOutDate();
+            case NUMBER_OF_GUESTS -> event.getNumberOfGuests();
+            case TOTAL_PRICE -> event.getTotalPrice();
+            case STATUS -> event.getStatus();
+            case SPECIAL_REQUESTS -> event.getSpecialRequests();
+            case PREVIOUS_STATUS -> null;
+        };
+    }
+
+    /**
+     * Values of a reservation lifecycle event
+     */
+    static TemplateValues of(ReservationLifecycleEvent event) {
+        return field -> switch (field) {
+            case RESERVATION_ID -> event.getReservationId();
+            case HOTEL_ID -> event.getHotelId();
+            case ROOM_ID -> event.getRoomId();
+            case ROOM_TYPE -> event.getRoomType();
+            case GUEST_NAME -> event.getGuestName();
+            case GUEST_EMAIL -> event.getGuestEmail();
+            case GUEST_PHONE -> event.getGuestPhone();
+            case CHECK_IN_DATE -> event.getCheckInDate();
+            case CHECK_OUT_DATE -> event.getCheckOutDate();
+            case NUMBER_OF_GUESTS -> event.getNumberOfGuests();
+            case TOTAL_PRICE -> event.getTotalPrice();
+            case STATUS -> event.getStatus();
+            case PREVIOUS_STATUS -> event.getPreviousStatus();
+            case SPECIAL_REQUESTS -> null;
+        };
+    }
+}
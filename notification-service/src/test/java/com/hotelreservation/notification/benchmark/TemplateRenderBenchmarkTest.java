@@ -0,0 +1,216 @@
+package com.hotelreservation.notification.benchmark;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.notification.template.NotificationTemplates;
+import com.hotelreservation.notification.template.TemplateValues;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Template Render Benchmark
+ *
+ * Compares rendering the messages of a reservation from the notification templates with
+ * the StringBuilder and String.format code it replaced, kept here as it was. Checks that
+ * both produce the same text, then reports the time and the bytes allocated per event
+ * (subject, email and SMS) on one thread.
+ *
+ * Run with {@code mvn test -pl notification-service -am -Dbenchmark=true
+ * -Dtest=TemplateRenderBenchmarkTest -Dsurefire.failIfNoSpecifiedTests=false}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TemplateRenderBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 1_000_000);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 300_000);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String CONFIRMED_HEADLINE = "Your reservation has been confirmed.";
+
+    @Test
+    void compareTemplatesWithBuilders() {
+        NotificationTemplates templates = new NotificationTemplates("", "en");
+        Locale locale = templates.getDefaultLocale();
+        ReservationCreatedEvent created = sampleCreatedEvent();
+        ReservationLifecycleEvent confirmed = sampleConfirmedEvent();
+        TemplateValues createdValues = TemplateValues.of(created);
+        TemplateValues confirmedValues = TemplateValues.of(confirmed);
+
+        assertEquals(legacyEmailBody(created), templates.render("reservation-created.email", locale, createdValues));
+        assertEquals(legacySmsMessage(created), templates.render("reservation-created.sms", locale, createdValues));
+        assertEquals(legacyLifecycleEmailBody(confirmed, CONFIRMED_HEADLINE),
+                templates.render("reservation-confirmed.email", locale, confirmedValues));
+        assertEquals(legacyLifecycleSms(confirmed, CONFIRMED_HEADLINE),
+                templates.render("reservation-confirmed.sms", locale, confirmedValues));
+
+        // Warm up both paths before timing either
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += renderTemplates(templates, locale, created, confirmed);
+            sink += renderLegacy(created, confirmed);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink += renderTemplates(templates, locale, created, confirmed);
+        }
+        double templateNanos = (System.nanoTime() - start) / (double) EVENTS;
+        double templateBytes = (threads.getThreadAllocatedBytes(thread) - allocated) / (double) EVENTS;
+
+        allocated = threads.getThreadAllocatedBytes(thread);
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            sink += renderLegacy(created, confirmed);
+        }
+        double legacyNanos = (System.nanoTime() - start) / (double) EVENTS;
+        double legacyBytes = (threads.getThreadAllocatedBytes(thread) - allocated) / (double) EVENTS;
+
+        System.out.printf("Templates %6.0f ns %6.0f bytes per created and confirmed event%n", templateNanos, templateBytes);
+        System.out.printf("Builders  %6.0f ns %6.0f bytes per created and confirmed event%n", legacyNanos, legacyBytes);
+        System.out.printf("Templates take %.0f%% of the time and %.0f%% of the allocation%n",
+                100 * templateNanos / legacyNanos, 100 * templateBytes / legacyBytes);
+        assertTrue(sink > 0);
+    }
+
+    private static long renderTemplates(NotificationTemplates templates, Locale locale,
+                                        ReservationCreatedEvent created, ReservationLifecycleEvent confirmed) {
+        TemplateValues createdValues = TemplateValues.of(created);
+        TemplateValues confirmedValues = TemplateValues.of(confirmed);
+        return templates.render("reservation-created.subject", locale, createdValues).length()
+                + templates.render("reservation-created.email", locale, createdValues).length()
+                + templates.render("reservation-created.sms", locale, createdValues).length()
+                + templates.render("reservation-confirmed.subject", locale, confirmedValues).length()
+                + templates.render("reservation-confirmed.email", locale, confirmedValues).length()
+                + templates.render("reservation-confirmed.sms", locale, confirmedValues).length();
+    }
+
+    private static long renderLegacy(ReservationCreatedEvent created, ReservationLifecycleEvent confirmed) {
+        return "Reservation Confirmation - Hotel Reservation System".length()
+                + legacyEmailBody(created).length()
+                + legacySmsMessage(created).length()
+                + ("Reservation Confirmed" + " - Hotel Reservation System").length()
+                + legacyLifecycleEmailBody(confirmed, CONFIRMED_HEADLINE).length()
+                + legacyLifecycleSms(confirmed, CONFIRMED_HEADLINE).length();
+    }
+
+    private static String legacyEmailBody(ReservationCreatedEvent event) {
+        StringBuilder body = new StringBuilder();
+        body.append("Dear ").append(event.getGuestName()).append(",\n\n");
+        body.append("Thank you for your reservation with Hotel Reservation System.\n\n");
+        body.append("Reservation Details:\n");
+        body.append("- Reservation ID: ").append(event.getReservationId()).append("\n");
+        body.append("- Hotel ID: ").append(event.getHotelId()).append("\n");
+        body.append("- Room ID: ").append(event.getRoomId()).append("\n");
+        body.append("- Check-in Date: ").append(event.getCheckInDate().format(DATE_FORMATTER)).append("\n");
+        body.append("- Check-out Date: ").append(event.getCheckOutDate().format(DATE_FORMATTER)).append("\n");
+        body.append("- Number of Guests: ").append(event.getNumberOfGuests()).append("\n");
+        body.append("- Total Price: $").append(event.getTotalPrice()).append("\n");
+        body.append("- Status: ").append(event.getStatus()).append("\n");
+
+        if (event.getSpecialRequests() != null && !event.getSpecialRequests().trim().isEmpty()) {
+            body.append("- Special Requests: ").append(event.getSpecialRequests()).append("\n");
+        }
+
+        body.append("\nWe look forward to welcoming you!\n\n");
+        body.append("Best regards,\n");
+        body.append("Hotel Reservation System Team");
+
+        return body.toString();
+    }
+
+    private static String legacyLifecycleEmailBody(ReservationLifecycleEvent event, String headline) {
+        StringBuilder body = new StringBuilder();
+        body.append("Dear ").append(event.getGuestName()).append(",\n\n");
+        body.append(headline).append("\n\n");
+        body.append("Reservation Details:\n");
+        body.append("- Reservation ID: ").append(event.getReservationId()).append("\n");
+        body.append("- Hotel ID: ").append(event.getHotelId()).append("\n");
+        if (event.getRoomId() != null) {
+            body.append("- Room ID: ").append(event.getRoomId()).append("\n");
+        }
+        body.append("- Check-in Date: ").append(event.getCheckInDate().format(DATE_FORMATTER)).append("\n");
+        body.append("- Check-out Date: ").append(event.getCheckOutDate().format(DATE_FORMATTER)).append("\n");
+        body.append("- Number of Guests: ").append(event.getNumberOfGuests()).append("\n");
+        body.append("- Total Price: $").append(event.getTotalPrice()).append("\n");
+        body.append("- Status: ").append(event.getStatus()).append("\n");
+
+        body.append("\nBest regards,\n");
+        body.append("Hotel Reservation System Team");
+
+        return body.toString();
+    }
+
+    private static String legacySmsMessage(ReservationCreatedEvent event) {
+        return String.format("Reservation confirmed! ID: %d, Check-in: %s, Check-out: %s, Total: $%s. " +
+                "Thank you for choosing Hotel Reservation System.",
+                event.getReservationId(),
+                event.getCheckInDate().format(DATE_FORMATTER),
+                event.getCheckOutDate().format(DATE_FORMATTER),
+                event.getTotalPrice());
+    }
+
+    private static String legacyLifecycleSms(ReservationLifecycleEvent event, String headline) {
+        return String.format("%s ID: %d, Check-in: %s, Check-out: %s.",
+                headline, event.getReservationId(),
+                event.getCheckInDate().format(DATE_FORMATTER),
+                event.getCheckOutDate().format(DATE_FORMATTER));
+    }
+
+    private static ReservationCreatedEvent sampleCreatedEvent() {
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(200_001L)
+                .setHotelId(12L)
+                .setRoomId(1204L)
+                .setGuestName("Ayse Yilmaz")
+                .setGuestEmail("ayse.yilmaz@example.com")
+                .setGuestPhone("+905551112233")
+                .setCheckInDate(LocalDate.of(2026, 7, 14))
+                .setCheckOutDate(LocalDate.of(2026, 7, 18))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("1280.00"))
+                .setStatus(ReservationStatus.PENDING)
+                .setSpecialRequests("Late check-in")
+                .setCreatedAt(LocalDateTime.of(2026, 6, 1, 9, 30, 12))
+                .setEventTimestamp(LocalDateTime.of(2026, 6, 1, 9, 30, 12))
+                .build();
+    }
+
+    private static ReservationLifecycleEvent sampleConfirmedEvent() {
+        return ReservationLifecycleEvent.newBuilder()
+                .setEventType(ReservationEventType.CONFIRMED)
+                .setReservationId(200_001L)
+                .setHotelId(12L)
+                .setVersion(2L)
+                .setRoomId(1204L)
+                .setRoomType("DELUXE")
+                .setGuestName("Ayse Yilmaz")
+                .setGuestEmail("ayse.yilmaz@example.com")
+                .setGuestPhone("+905551112233")
+                .setCheckInDate(LocalDate.of(2026, 7, 14))
+                .setCheckOutDate(LocalDate.of(2026, 7, 18))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("1280.00"))
+                .setStatus(ReservationStatus.CONFIRMED)
+                .setPreviousStatus(ReservationStatus.PENDING)
+                .setOccurredAt(LocalDateTime.of(2026, 6, 1, 9, 45, 3))
+                .build();
+    }
+}
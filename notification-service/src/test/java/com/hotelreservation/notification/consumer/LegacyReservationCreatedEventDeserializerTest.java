@@ -0,0 +1,95 @@
+package com.hotelreservation.notification.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.events.codec.AvroDeserializer;
+import com.hotelreservation.events.codec.AvroSerializer;
+import com.hotelreservation.events.registry.FileSchemaRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Legacy Reservation Created Event Deserializer Tests
+ *
+ * Decodes reservation created events as the notification listener does: Avro records
+ * through the schema registry and JSON records from before the switch to Avro through
+ * the legacy decoder.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class LegacyReservationCreatedEventDeserializerTest {
+
+    private static final String TOPIC = "reservation-created-events";
+
+    private final AvroDeserializer<ReservationCreatedEvent> deserializer = new AvroDeserializer<>(
+            ReservationCreatedEvent.class, FileSchemaRegistry.classpath(),
+            new LegacyReservationCreatedEventDeserializer(new ObjectMapper()));
+
+    @Test
+    void testLegacyJsonEventIsDecoded() {
+        // Given
+        String json = "{\"reservation_id\":42,\"hotel_id\":7,\"room_id\":301,"
+                + "\"guest_name\":\"Jane Doe\",\"guest_email\":\"jane@example.com\",\"guest_phone\":null,"
+                + "\"check_in_date\":\"2024-06-01\",\"check_out_date\":\"2024-06-04\","
+                + "\"number_of_guests\":2,\"total_price\":450.5,\"status\":\"CONFIRMED\","
+                + "\"special_requests\":\"Late arrival\",\"created_at\":\"2024-05-20T10:15:30\","
+                + "\"event_type\":\"RESERVATION_CREATED\",\"event_timestamp\":\"2024-05-20T10:15:31\"}";
+
+        // When
+        ReservationCreatedEvent event = deserializer.deserialize(TOPIC, json.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertEquals(42L, event.getReservationId());
+        assertEquals(301L, event.getRoomId());
+        assertNull(event.getGuestPhone());
+        assertEquals(LocalDate.of(2024, 6, 4), event.getCheckOutDate());
+        assertEquals(new BigDecimal("450.50"), event.getTotalPrice());
+        assertEquals(ReservationStatus.CONFIRMED, event.getStatus());
+        assertEquals(LocalDateTime.of(2024, 5, 20, 10, 15, 31), event.getEventTimestamp());
+    }
+
+    @Test
+    void testAvroEventStillGoesThroughTheAvroDecoder() {
+        // Given
+        ReservationCreatedEvent event = ReservationCreatedEvent.newBuilder()
+                .setReservationId(42L)
+                .setHotelId(7L)
+                .setGuestName("Jane Doe")
+                .setGuestEmail("jane@example.com")
+                .setCheckInDate(LocalDate.of(2024, 6, 1))
+                .setCheckOutDate(LocalDate.of(2024, 6, 4))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("450.50"))
+                .setStatus(ReservationStatus.PENDING)
+                .setEventTimestamp(LocalDateTime.of(2024, 5, 20, 10, 15, 31))
+                .build();
+
+        // When
+        byte[] avro = new AvroSerializer().serialize(TOPIC, event);
+
+        // Then
+        assertEquals(event, deserializer.deserialize(TOPIC, avro));
+    }
+
+    @Test
+    void testRecordInNoKnownEncodingIsRejected() {
+        // Given
+        byte[] garbage = "not an event".getBytes(StandardCharsets.UTF_8);
+
+        // When / Then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, garbage));
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC,
+                "{\"reservation_id\":42}".getBytes(StandardCharsets.UTF_8)));
+    }
+}
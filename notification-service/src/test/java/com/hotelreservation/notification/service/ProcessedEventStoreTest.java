@@ -0,0 +1,232 @@
+package com.hotelreservation.notification.service;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.notification.delivery.DeliveryChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Processed Event Store Tests
+ *
+ * Marks and looks up delivered events, and checks the ring's eviction and expiry and the
+ * file it is rebuilt from.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class ProcessedEventStoreTest {
+
+    private static final int RECORD_BYTES = 24;
+
+    // Created events are stored as version 0, type code 1
+    private static final long CREATED = 1;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMarkedEventsAreFound() {
+        // Given
+        ProcessedEventStore store = store(10, 24);
+
+        // When
+        store.markProcessed(created(1L));
+        store.markProcessed(lifecycle(2L, ReservationEventType.CONFIRMED, 3L));
+
+        // Then
+        assertTrue(store.isProcessed(created(1L)));
+        assertTrue(store.isProcessed(lifecycle(2L, ReservationEventType.CONFIRMED, 3L)));
+        assertFalse(store.isProcessed(created(2L)));
+        assertFalse(store.isProcessed(lifecycle(2L, ReservationEventType.CONFIRMED, 4L)));
+        assertFalse(store.isProcessed(lifecycle(2L, ReservationEventType.CANCELLED, 3L)));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testMarkingTwiceStoresTheEventOnce() {
+        // Given
+        ProcessedEventStore store = store(10, 24);
+
+        // When
+        store.markProcessed(created(1L));
+        store.markProcessed(created(1L));
+
+        // Then
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testChannelsAreRecordedApartFromTheEvent() {
+        // Given
+        ProcessedEventStore store = store(10, 24);
+
+        // When
+        store.markDelivered(lifecycle(2L, ReservationEventType.CONFIRMED, 3L), DeliveryChannel.EMAIL);
+
+        // Then
+        assertTrue(store.isDelivered(lifecycle(2L, ReservationEventType.CONFIRMED, 3L), DeliveryChannel.EMAIL));
+        assertFalse(store.isDelivered(lifecycle(2L, ReservationEventType.CONFIRMED, 3L), DeliveryChannel.SMS));
+        assertFalse(store.isDelivered(lifecycle(2L, ReservationEventType.CONFIRMED, 4L), DeliveryChannel.EMAIL));
+        assertFalse(store.isProcessed(lifecycle(2L, ReservationEventType.CONFIRMED, 3L)));
+    }
+
+    @Test
+    void testOldestEventsAreEvictedAtCapacity() {
+        // Given
+        ProcessedEventStore store = store(3, 24);
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            store.markProcessed(created(id));
+        }
+
+        // Then: only the last three are held, and each is still reachable through the index
+        assertEquals(3, store.size());
+        for (long id = 1; id <= 97; id++) {
+            assertFalse(store.isProcessed(created(id)), "reservation " + id);
+        }
+        for (long id = 98; id <= 100; id++) {
+            assertTrue(store.isProcessed(created(id)), "reservation " + id);
+        }
+    }
+
+    @Test
+    void testEventsExpireAfterTheRetention() {
+        // Given: a retention of zero hours makes every event expire as soon as it is marked
+        ProcessedEventStore store = store(10, 0);
+
+        // When
+        store.markProcessed(created(1L));
+
+        // Then
+        assertFalse(store.isProcessed(created(1L)));
+    }
+
+    @Test
+    void testEventsAreReloadedFromTheFile() {
+        // Given
+        ProcessedEventStore store = store(10, 24);
+        store.markProcessed(created(1L));
+        store.markProcessed(lifecycle(2L, ReservationEventType.CANCELLED, 5L));
+        store.close();
+
+        // When
+        ProcessedEventStore reloaded = store(10, 24);
+
+        // Then
+        assertEquals(2, reloaded.size());
+        assertTrue(reloaded.isProcessed(created(1L)));
+        assertTrue(reloaded.isProcessed(lifecycle(2L, ReservationEventType.CANCELLED, 5L)));
+    }
+
+    @Test
+    void testTornTrailingRecordAndExpiredRecordsAreSkippedOnReload() throws IOException {
+        // Given: two current records, one past the retention and half a record cut short by a crash
+        long now = System.currentTimeMillis();
+        ByteBuffer records = ByteBuffer.allocate(3 * RECORD_BYTES + RECORD_BYTES / 2);
+        records.putLong(1L).putLong(CREATED).putLong(now);
+        records.putLong(2L).putLong(CREATED).putLong(now - Duration.ofHours(48).toMillis());
+        records.putLong(3L).putLong(CREATED).putLong(now);
+        records.putLong(4L).putInt(0);
+        Files.write(file(), records.array());
+
+        // When
+        ProcessedEventStore store = store(10, 24);
+
+        // Then
+        assertEquals(2, store.size());
+        assertTrue(store.isProcessed(created(1L)));
+        assertFalse(store.isProcessed(created(2L)));
+        assertTrue(store.isProcessed(created(3L)));
+        assertFalse(store.isProcessed(created(4L)));
+        assertEquals(2L * RECORD_BYTES, fileSize());
+    }
+
+    @Test
+    void testFileIsCompactedWhenItReachesTwiceTheCapacity() {
+        // Given
+        ProcessedEventStore store = store(4, 24);
+
+        // When
+        for (long id = 1; id <= 7; id++) {
+            store.markProcessed(created(id));
+        }
+        long beforeCompaction = fileSize();
+        store.markProcessed(created(8L));
+
+        // Then
+        assertEquals(7L * RECORD_BYTES, beforeCompaction);
+        assertEquals(4L * RECORD_BYTES, fileSize());
+
+        store.close();
+        ProcessedEventStore reloaded = store(4, 24);
+        assertEquals(4, reloaded.size());
+        assertFalse(reloaded.isProcessed(created(4L)));
+        assertTrue(reloaded.isProcessed(created(5L)));
+        assertTrue(reloaded.isProcessed(created(8L)));
+    }
+
+    private ProcessedEventStore store(int capacity, long retentionHours) {
+        return new ProcessedEventStore(capacity, retentionHours, file().toString(), false);
+    }
+
+    private Path file() {
+        return directory.resolve("dedup.bin");
+    }
+
+    private long fileSize() {
+        try {
+            return Files.size(file());
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ReservationCreatedEvent created(long reservationId) {
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(reservationId)
+                .setHotelId(7L)
+                .setGuestName("Jane Doe")
+                .setGuestEmail("jane@example.com")
+                .setCheckInDate(LocalDate.of(2024, 6, 1))
+                .setCheckOutDate(LocalDate.of(2024, 6, 4))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("450.00"))
+                .setStatus(ReservationStatus.PENDING)
+                .setEventTimestamp(LocalDateTime.of(2024, 5, 20, 10, 0))
+                .build();
+    }
+
+    private static ReservationLifecycleEvent lifecycle(long reservationId, ReservationEventType type, long version) {
+        return ReservationLifecycleEvent.newBuilder()
+                .setEventType(type)
+                .setReservationId(reservationId)
+                .setHotelId(7L)
+                .setVersion(version)
+                .setGuestName("Jane Doe")
+                .setGuestEmail("jane@example.com")
+                .setCheckInDate(LocalDate.of(2024, 6, 1))
+                .setCheckOutDate(LocalDate.of(2024, 6, 4))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("450.00"))
+                .setStatus(ReservationStatus.CONFIRMED)
+                .setOccurredAt(LocalDateTime.of(2024, 5, 20, 10, 0))
+                .build();
+    }
+}
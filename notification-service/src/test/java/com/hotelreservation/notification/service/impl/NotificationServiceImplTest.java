@@ -0,0 +1,90 @@
+package com.hotelreservation.notification.service.impl;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.notification.delivery.DeliveryChannel;
+import com.hotelreservation.notification.delivery.DeliveryException;
+import com.hotelreservation.notification.delivery.DeliveryReceipt;
+import com.hotelreservation.notification.delivery.Notification;
+import com.hotelreservation.notification.service.NotificationDeliveryService;
+import com.hotelreservation.notification.service.ProcessedEventStore;
+import com.hotelreservation.notification.template.NotificationTemplates;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Notification Service Implementation Tests
+ *
+ * Checks that a reservation event retried after one channel failed is sent again only
+ * through that channel.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class NotificationServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRetryAfterSmsFailureDoesNotResendTheEmail() {
+        // Given: the SMS provider fails the first attempt only
+        List<DeliveryChannel> sent = new ArrayList<>();
+        NotificationDeliveryService deliveryService = mock(NotificationDeliveryService.class);
+        when(deliveryService.deliverEach(anyList())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            List<CompletableFuture<DeliveryReceipt>> receipts = new ArrayList<>();
+            for (Notification notification : notifications) {
+                boolean firstSms = notification.getChannel() == DeliveryChannel.SMS && !sent.contains(DeliveryChannel.SMS);
+                sent.add(notification.getChannel());
+                receipts.add(firstSms
+                        ? CompletableFuture.failedFuture(new DeliveryException("SMS gateway unavailable"))
+                        : CompletableFuture.completedFuture(new DeliveryReceipt(notification, "test", "id")));
+            }
+            return receipts;
+        });
+        NotificationServiceImpl service = new NotificationServiceImpl(deliveryService,
+                new NotificationTemplates("", "en"),
+                new ProcessedEventStore(100, 24, directory.resolve("dedup.bin").toString(), false),
+                new SimpleMeterRegistry(), 16);
+        ReservationCreatedEvent event = event();
+
+        // When
+        assertThrows(DeliveryException.class, () -> service.processReservationCreatedEvent(event));
+        service.processReservationCreatedEvent(event);
+
+        // Then
+        assertEquals(List.of(DeliveryChannel.EMAIL, DeliveryChannel.SMS, DeliveryChannel.SMS), sent);
+    }
+
+    private static ReservationCreatedEvent event() {
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(42L)
+                .setHotelId(7L)
+                .setGuestName("Jane Doe")
+                .setGuestEmail("jane@example.com")
+                .setGuestPhone("+15551234567")
+                .setCheckInDate(LocalDate.of(2024, 6, 1))
+                .setCheckOutDate(LocalDate.of(2024, 6, 4))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("450.00"))
+                .setStatus(ReservationStatus.PENDING)
+                .setEventTimestamp(LocalDateTime.of(2024, 5, 20, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.hotelreservation.notification.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Notification Template Tests
+ *
+ * Parses templates from sources held in memory and checks fields, sections, includes,
+ * the lines dropped around standalone section tags and the errors reported at parse time.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class NotificationTemplateTest {
+
+    private static final DateTimeFormatter DATES = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Test
+    void testFieldsAreInserted() {
+        // Given
+        NotificationTemplate template = parse("Dear {{guestName}}, ID {{ reservationId }}, "
+                + "{{checkInDate}}, ${{totalPrice}}");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+        values.put(TemplateField.GUEST_NAME, "Jane Doe");
+        values.put(TemplateField.RESERVATION_ID, 42L);
+        values.put(TemplateField.CHECK_IN_DATE, LocalDate.of(2024, 6, 1));
+        values.put(TemplateField.TOTAL_PRICE, new BigDecimal("450.00"));
+
+        // When
+        String rendered = render(template, values);
+
+        // Then
+        assertEquals("Dear Jane Doe, ID 42, 01/06/2024, $450.00", rendered);
+    }
+
+    @Test
+    void testSectionIsKeptOnlyWhenItsFieldHasAValue() {
+        // Given
+        NotificationTemplate template = parse("Room{{#roomId}} {{roomId}}{{/roomId}}.");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+
+        // When / Then
+        assertEquals("Room.", render(template, values));
+        values.put(TemplateField.ROOM_ID, 301L);
+        assertEquals("Room 301.", render(template, values));
+    }
+
+    @Test
+    void testBlankStringCountsAsEmptyForASection() {
+        // Given
+        NotificationTemplate template = parse("{{#specialRequests}}Requests: {{specialRequests}}{{/specialRequests}}");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+        values.put(TemplateField.SPECIAL_REQUESTS, "   ");
+
+        // When
+        String rendered = render(template, values);
+
+        // Then
+        assertEquals("", rendered);
+    }
+
+    @Test
+    void testNestedSections() {
+        // Given
+        NotificationTemplate template = parse("{{#roomId}}[{{#roomType}}{{roomType}} {{/roomType}}{{roomId}}]{{/roomId}}");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+        values.put(TemplateField.ROOM_ID, 301L);
+
+        // When / Then
+        assertEquals("[301]", render(template, values));
+        values.put(TemplateField.ROOM_TYPE, "DELUXE");
+        assertEquals("[DELUXE 301]", render(template, values));
+        values.remove(TemplateField.ROOM_ID);
+        assertEquals("", render(template, values));
+    }
+
+    @Test
+    void testIncludesAreReplacedByTheIncludedTemplate() {
+        // Given
+        Map<String, String> sources = Map.of(
+                "body", "Hello {{>name}}!\n{{>footer}}",
+                "name", "{{guestName}}",
+                "footer", "Bye from {{> signature }}",
+                "signature", "the team");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+        values.put(TemplateField.GUEST_NAME, "Jane");
+
+        // When
+        String rendered = render(NotificationTemplate.parse("body", sources), values);
+
+        // Then
+        assertEquals("Hello Jane!\nBye from the team", rendered);
+    }
+
+    @Test
+    void testIncludesNestedTooDeepAreRejected() {
+        // Given: a template that includes itself
+        Map<String, String> sources = Map.of("loop", "x{{>loop}}");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> NotificationTemplate.parse("loop", sources));
+    }
+
+    @Test
+    void testLinesHoldingOnlyASectionTagAreDropped() {
+        // Given
+        NotificationTemplate template = parse("Details:\n  {{#roomId}}  \n- Room: {{roomId}}\n{{/roomId}}\n- Guests: 2");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+
+        // When / Then
+        assertEquals("Details:\n- Guests: 2", render(template, values));
+        values.put(TemplateField.ROOM_ID, 301L);
+        assertEquals("Details:\n- Room: 301\n- Guests: 2", render(template, values));
+    }
+
+    @Test
+    void testLinesWithTextBesideASectionTagAreKept() {
+        // Given
+        NotificationTemplate template = parse("A {{#roomId}}\nB{{/roomId}}\nC");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+
+        // When
+        String rendered = render(template, values);
+
+        // Then
+        assertEquals("A \nC", rendered);
+    }
+
+    @Test
+    void testUnknownFieldIsRejected() {
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> parse("Hi {{guestNickname}}"));
+
+        // Then
+        assertTrue(e.getMessage().contains("guestNickname"));
+    }
+
+    @Test
+    void testUnknownIncludeIsRejected() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> parse("{{>missing-template}}"));
+    }
+
+    @Test
+    void testUnclosedSectionIsRejected() {
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> parse("{{#roomId}}Room {{roomId}}"));
+
+        // Then
+        assertTrue(e.getMessage().contains("does not close section roomId"));
+    }
+
+    @Test
+    void testSectionClosedOutOfOrderIsRejected() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> parse("{{#roomId}}{{#roomType}}{{/roomId}}{{/roomType}}"));
+        assertThrows(IllegalArgumentException.class, () -> parse("{{/roomId}}"));
+    }
+
+    @Test
+    void testLatin1IsTrackedForTextAndValues() {
+        // Given
+        NotificationTemplate template = parse("Sayın {{guestName}}");
+        Map<TemplateField, Object> values = new EnumMap<>(TemplateField.class);
+        values.put(TemplateField.GUEST_NAME, "Jane");
+
+        // When / Then
+        assertFalse(template.isLatin1());
+        assertTrue(parse("Dear {{guestName}}").renderTo(new StringBuilder(), values::get, DATES));
+        values.put(TemplateField.GUEST_NAME, "Ayşe");
+        assertFalse(parse("Dear {{guestName}}").renderTo(new StringBuilder(), values::get, DATES));
+    }
+
+    private static NotificationTemplate parse(String source) {
+        return NotificationTemplate.parse("test", Map.of("test", source));
+    }
+
+    private static String render(NotificationTemplate template, Map<TemplateField, Object> values) {
+        StringBuilder out = new StringBuilder();
+        template.renderTo(out, values::get, DATES);
+        return out.toString();
+    }
+}
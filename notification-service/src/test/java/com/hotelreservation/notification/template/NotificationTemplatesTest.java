@@ -0,0 +1,251 @@
+package com.hotelreservation.notification.template;
+
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.ReservationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Notification Templates Tests
+ *
+ * Checks that the English templates produce the text the notification service built in
+ * code before the templates, and how templates are looked up by locale and reloaded from
+ * the template directory.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class NotificationTemplatesTest {
+
+    private static final Locale EN = Locale.ENGLISH;
+
+    private final NotificationTemplates templates = new NotificationTemplates("", "en");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCreatedTemplatesMatchTheOldText() {
+        // Given
+        TemplateValues values = TemplateValues.of(createdEvent("Late check-in"));
+
+        // When / Then
+        assertEquals("Reservation Confirmation - Hotel Reservation System",
+                templates.render("reservation-created.subject", EN, values));
+        assertEquals("""
+                Dear Jane Doe,
+
+                Thank you for your reservation with Hotel Reservation System.
+
+                Reservation Details:
+                - Reservation ID: 42
+                - Hotel ID: 7
+                - Room ID: 301
+                - Check-in Date: 14/07/2026
+                - Check-out Date: 18/07/2026
+                - Number of Guests: 2
+                - Total Price: $1280.00
+                - Status: PENDING
+                - Special Requests: Late check-in
+
+                We look forward to welcoming you!
+
+                Best regards,
+                Hotel Reservation System Team""",
+                templates.render("reservation-created.email", EN, values));
+        assertEquals("Reservation confirmed! ID: 42, Check-in: 14/07/2026, Check-out: 18/07/2026, Total: $1280.00. "
+                        + "Thank you for choosing Hotel Reservation System.",
+                templates.render("reservation-created.sms", EN, values));
+    }
+
+    @Test
+    void testCreatedEmailWithoutSpecialRequestsMatchesTheOldText() {
+        // Given
+        TemplateValues values = TemplateValues.of(createdEvent(" "));
+
+        // When
+        String email = templates.render("reservation-created.email", EN, values);
+
+        // Then
+        assertTrue(email.contains("- Status: PENDING\n\nWe look forward to welcoming you!"));
+    }
+
+    @Test
+    void testLifecycleTemplatesMatchTheOldText() {
+        assertLifecycle(ReservationEventType.UPDATED, "Reservation Updated",
+                "Your reservation has been updated.", false);
+        assertLifecycle(ReservationEventType.CONFIRMED, "Reservation Confirmed",
+                "Your reservation has been confirmed.", true);
+        assertLifecycle(ReservationEventType.CANCELLED, "Reservation Cancelled",
+                "Your reservation has been cancelled.", true);
+        assertLifecycle(ReservationEventType.COMPLETED, "Thank You for Staying With Us",
+                "Thank you for staying with us. We hope to welcome you again soon.", false);
+        assertLifecycle(ReservationEventType.EXPIRED, "Reservation Expired",
+                "Your reservation has been cancelled because it was not confirmed in time.", true);
+    }
+
+    @Test
+    void testLifecycleEmailWithoutRoomOmitsTheRoomLine() {
+        // Given
+        ReservationLifecycleEvent event = lifecycleEvent(ReservationEventType.CONFIRMED);
+        event.setRoomId(null);
+
+        // When
+        String email = templates.render("reservation-confirmed.email", EN, TemplateValues.of(event));
+
+        // Then
+        assertTrue(email.contains("- Hotel ID: 7\n- Check-in Date: 14/07/2026\n"));
+    }
+
+    @Test
+    void testTurkishTemplatesUseTheirOwnTextAndDateFormat() {
+        // Given
+        Locale turkish = Locale.forLanguageTag("tr");
+        TemplateValues values = TemplateValues.of(createdEvent("Geç giriş"));
+
+        // When / Then
+        assertEquals("""
+                Sayın Jane Doe,
+
+                Hotel Reservation System üzerinden yaptığınız rezervasyon için teşekkür ederiz.
+
+                Rezervasyon Bilgileri:
+                - Rezervasyon No: 42
+                - Otel No: 7
+                - Oda No: 301
+                - Giriş Tarihi: 14.07.2026
+                - Çıkış Tarihi: 18.07.2026
+                - Misafir Sayısı: 2
+                - Toplam Tutar: $1280.00
+                - Durum: PENDING
+                - Özel İstekler: Geç giriş
+
+                Sizi ağırlamayı dört gözle bekliyoruz!
+
+                Saygılarımızla,
+                Hotel Reservation System Ekibi""",
+                templates.render("reservation-created.email", turkish, values));
+        // Templates the locale does not define come from English
+        assertTrue(templates.render("reservation-confirmed.email", turkish,
+                TemplateValues.of(lifecycleEvent(ReservationEventType.CONFIRMED))).startsWith("Dear Jane Doe,"));
+    }
+
+    @Test
+    void testLocaleFallsBackToItsLanguageAndThenTheDefault() {
+        // Given
+        TemplateValues values = TemplateValues.of(createdEvent(null));
+        Locale turkey = Locale.forLanguageTag("tr-TR");
+
+        // When / Then
+        assertEquals(templates.render("reservation-created.subject", Locale.forLanguageTag("tr"), values),
+                templates.render("reservation-created.subject", turkey, values));
+        assertEquals(templates.render("reservation-created.subject", EN, values),
+                templates.render("reservation-created.subject", Locale.GERMAN, values));
+        assertFalse(templates.contains("reservation-updated.sms", EN));
+        assertThrows(IllegalArgumentException.class,
+                () -> templates.render("reservation-updated.sms", EN, values));
+    }
+
+    @Test
+    void testDirectoryOverridesAndReloadKeepsTemplatesThatParse() throws IOException {
+        // Given
+        Files.writeString(directory.resolve("en.txt"), "=== reservation-created.subject\nBooked {{reservationId}}\n");
+        NotificationTemplates overridden = new NotificationTemplates(directory.toString(), "en");
+        TemplateValues values = TemplateValues.of(createdEvent(null));
+
+        // When: a file that does not parse is added
+        Files.writeString(directory.resolve("de.txt"), "=== reservation-created.subject\n{{#roomId}}\n");
+        overridden.reloadIfChanged();
+
+        // Then
+        assertEquals("Booked 42", overridden.render("reservation-created.subject", EN, values));
+        assertEquals("Booked 42", overridden.render("reservation-created.subject", Locale.GERMAN, values));
+
+        // When: it is fixed
+        Files.writeString(directory.resolve("de.txt"), "=== reservation-created.subject\nGebucht {{reservationId}}\n");
+        Files.writeString(directory.resolve("fr.txt"), "=== reservation-created.subject\nRéservé {{reservationId}}\n");
+        overridden.reloadIfChanged();
+
+        // Then
+        assertEquals("Gebucht 42", overridden.render("reservation-created.subject", Locale.GERMAN, values));
+        assertEquals("Réservé 42", overridden.render("reservation-created.subject", Locale.FRENCH, values));
+    }
+
+    private void assertLifecycle(ReservationEventType type, String subject, String headline, boolean sms) {
+        String template = "reservation-" + type.name().toLowerCase(Locale.ROOT);
+        TemplateValues values = TemplateValues.of(lifecycleEvent(type));
+
+        assertEquals(subject + " - Hotel Reservation System", templates.render(template + ".subject", EN, values));
+        assertEquals("Dear Jane Doe,\n\n"
+                        + headline + "\n\n"
+                        + "Reservation Details:\n"
+                        + "- Reservation ID: 42\n"
+                        + "- Hotel ID: 7\n"
+                        + "- Room ID: 301\n"
+                        + "- Check-in Date: 14/07/2026\n"
+                        + "- Check-out Date: 18/07/2026\n"
+                        + "- Number of Guests: 2\n"
+                        + "- Total Price: $1280.00\n"
+                        + "- Status: CONFIRMED\n"
+                        + "\nBest regards,\n"
+                        + "Hotel Reservation System Team",
+                templates.render(template + ".email", EN, values));
+        assertEquals(sms, templates.contains(template + ".sms", EN), template);
+        if (sms) {
+            assertEquals(headline + " ID: 42, Check-in: 14/07/2026, Check-out: 18/07/2026.",
+                    templates.render(template + ".sms", EN, values));
+        }
+    }
+
+    private static ReservationCreatedEvent createdEvent(String specialRequests) {
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(42L)
+                .setHotelId(7L)
+                .setRoomId(301L)
+                .setGuestName("Jane Doe")
+                .setGuestEmail("jane@example.com")
+                .setGuestPhone("+15551234567")
+                .setCheckInDate(LocalDate.of(2026, 7, 14))
+                .setCheckOutDate(LocalDate.of(2026, 7, 18))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("1280.00"))
+                .setStatus(ReservationStatus.PENDING)
+                .setSpecialRequests(specialRequests)
+                .setEventTimestamp(LocalDateTime.of(2026, 6, 1, 9, 30))
+                .build();
+    }
+
+    private static ReservationLifecycleEvent lifecycleEvent(ReservationEventType type) {
+        return ReservationLifecycleEvent.newBuilder()
+                .setEventType(type)
+                .setReservationId(42L)
+                .setHotelId(7L)
+                .setVersion(2L)
+                .setRoomId(301L)
+                .setGuestName("Jane Doe")
+                .setGuestEmail("jane@example.com")
+                .setGuestPhone("+15551234567")
+                .setCheckInDate(LocalDate.of(2026, 7, 14))
+                .setCheckOutDate(LocalDate.of(2026, 7, 18))
+                .setNumberOfGuests(2)
+                .setTotalPrice(new BigDecimal("1280.00"))
+                .setStatus(ReservationStatus.CONFIRMED)
+                .setOccurredAt(LocalDateTime.of(2026, 6, 1, 9, 45))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.hotelreservation.platform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Connection Pool Size Check
+ *
+ * Logs the request thread and connection pool sizes at startup and warns when they
+ * do not fit together: far more request threads than connections means requests queue
+ * inside Hikari, and more connections than request threads means idle connections
+ * held open on the database. Registered by {@link DataSourceSupportAutoConfiguration} in every
+ * service with a Hikari pool.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ConnectionPoolSizeCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolSizeCheck.class);
+
+    private final List<DataSource> dataSources;
+    private final int maxRequestThreads;
+    private final boolean virtualThreadsEnabled;
+    private final int maxThreadsPerConnection;
+    private final long maxVirtualThreadConnectionTimeoutMs;
+
+    @Autowired
+    public ConnectionPoolSizeCheck(List<DataSource> dataSources,
+                                   @Value("${server.tomcat.threads.max:200}") int maxRequestThreads,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                                   @Value("${datasource.pool-check.max-threads-per-connection:10}") int maxThreadsPerConnection,
+                                   @Value("${datasource.pool-check.max-virtual-thread-connection-timeout-ms:5000}") long maxVirtualThreadConnectionTimeoutMs) {
+        this.dataSources = dataSources;
+        this.maxRequestThreads = maxRequestThreads;
+        this.virtualThreadsEnabled = virtualThreadsEnabled && Runtime.version().feature() >= 21;
+        this.maxThreadsPerConnection = maxThreadsPerConnection;
+        this.maxVirtualThreadConnectionTimeoutMs = maxVirtualThreadConnectionTimeoutMs;
+    }
+
+    /**
+     * Compare thread and connection pool sizes once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPoolSizes() {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources) {
+            HikariDataSource pool = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+            if (pool != null) {
+                pools.add(pool);
+            }
+        }
+
+        int totalConnections = 0;
+        for (HikariDataSource pool : pools) {
+            totalConnections += pool.getMaximumPoolSize();
+            logger.info("Connection pool {}: maximum-pool-size={}, minimum-idle={}, connection-timeout={}ms",
+                    pool.getPoolName(), pool.getMaximumPoolSize(), pool.getMinimumIdle(), pool.getConnectionTimeout());
+        }
+        if (totalConnections == 0) {
+            return;
+        }
+
+        if (virtualThreadsEnabled) {
+            logger.info("Request threads: virtual, connections: {}", totalConnections);
+            for (HikariDataSource pool : pools) {
+                if (pool.getConnectionTimeout() > maxVirtualThreadConnectionTimeoutMs) {
+                    logger.warn("Connection pool {} has connection-timeout {}ms with virtual threads enabled. "
+                                    + "Requests are no longer limited by the thread pool and will pile up waiting "
+                                    + "for connections; consider a timeout of at most {}ms",
+                            pool.getPoolName(), pool.getConnectionTimeout(), maxVirtualThreadConnectionTimeoutMs);
+                }
+            }
+            return;
+        }
+
+        logger.info("Request threads: {}, connections: {}", maxRequestThreads, totalConnections);
+        if (maxRequestThreads > totalConnections * maxThreadsPerConnection) {
+            logger.warn("Thread pool and connection pool sizes are mismatched: {} request threads share {} connections. "
+                            + "Under load requests will queue for connections; raise spring.datasource.hikari."
+                            + "maximum-pool-size or lower server.tomcat.threads.max",
+                    maxRequestThreads, totalConnections);
+        } else if (totalConnections > maxRequestThreads) {
+            logger.warn("Thread pool and connection pool sizes are mismatched: {} connections for {} request threads. "
+                            + "Connections beyond the thread count stay idle on the database",
+                    totalConnections, maxRequestThreads);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.hotelreservation.platform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+
+/**
+ * Data Source Support Auto-Configuration
+ *
+ * Adds the connection pool size check to the services that have a Hikari data source,
+ * whether it is their own or the one Spring Boot creates. Services that route reads to
+ * replicas declare their own {@link ReadReplicaRouter} and {@link ReadYourWritesTracker}
+ * beans, since their pools differ; the filter binding the request's user to the
+ * tracker is added here.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration")
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnBean(DataSource.class)
+@Import(ConnectionPoolSizeCheck.class)
+public class DataSourceSupportAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnBean(ReadYourWritesTracker.class)
+    static class ReadYourWritesConfiguration {
+
+        /**
+         * Binds the user forwarded by the gateway for the duration of each request
+         */
+        @Bean
+        public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+            return new ReadYourWritesFilter(readYourWritesTracker);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.hotelreservation.platform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read Replica Router
+ *
+ * Keeps track of the read replicas and their replication lag. A replica is eligible
+ * for reads while its last probed lag is within the configured limit; eligible replicas
+ * are used round-robin. When no replica is eligible the caller falls back to the primary.
+ * The lag is probed at a fixed interval on the application's task scheduler.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReadReplicaRouter implements SchedulingConfigurer, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+    /**
+     * Replication lag in milliseconds, 0 for a server that is not in recovery or has
+     * replayed everything it received, NULL when the lag cannot be determined. A replica
+     * whose WAL receiver is not streaming is NULL too: having replayed everything it
+     * received says nothing once it has stopped receiving. Roles without
+     * pg_read_all_stats see no receiver status, only whether a receiver is running.
+     */
+    public static final String DEFAULT_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+                    + "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver "
+                    + "WHERE status = 'streaming' OR (status IS NULL AND pid IS NOT NULL)) THEN NULL "
+                    + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000 END";
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final long lagCheckIntervalMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Constructor
+     *
+     * @param replicaDataSources replica pools by routing key
+     * @param maxLagMillis the maximum lag at which a replica still serves reads
+     * @param lagQuery the query returning the replica lag in milliseconds
+     * @param lagCheckIntervalMillis the delay between lag probes
+     * @param meterRegistry the registry for lag gauges, may be null
+     */
+    public ReadReplicaRouter(Map<String, HikariDataSource> replicaDataSources, long maxLagMillis, String lagQuery,
+                             long lagCheckIntervalMillis, MeterRegistry meterRegistry) {
+        List<Replica> list = new ArrayList<>();
+        replicaDataSources.forEach((key, dataSource) -> list.add(new Replica(key, dataSource)));
+        this.replicas = Collections.unmodifiableList(list);
+        this.maxLagMillis = maxLagMillis;
+        this.lagQuery = lagQuery;
+        this.lagCheckIntervalMillis = lagCheckIntervalMillis;
+
+        if (meterRegistry != null) {
+            for (Replica replica : replicas) {
+                Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis)
+                        .description("Last probed replication lag in milliseconds, -1 if unknown")
+                        .tag("replica", replica.key)
+                        .baseUnit("milliseconds")
+                        .register(meterRegistry);
+                Gauge.builder("datasource.replica.eligible", replica, r -> r.eligible ? 1 : 0)
+                        .description("Whether the replica currently serves reads")
+                        .tag("replica", replica.key)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Get the replica pools by routing key
+     *
+     * @return the replica pools
+     */
+    public Map<String, HikariDataSource> getReplicaDataSources() {
+        Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.key, replica.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * Pick the next eligible replica
+     *
+     * @return the replica routing key, or null if no replica is eligible
+     */
+    public String selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.eligible) {
+                return replica.key;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!replicas.isEmpty()) {
+            taskRegistrar.addFixedDelayTask(this::checkReplicaLag, Duration.ofMillis(lagCheckIntervalMillis));
+        }
+    }
+
+    /**
+     * Probe the lag of every replica
+     */
+    public void checkReplicaLag() {
+        for (Replica replica : replicas) {
+            probe(replica);
+        }
+    }
+
+    private void probe(Replica replica) {
+        Long lag = null;
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (resultSet.next()) {
+                Object value = resultSet.getObject(1);
+                if (value instanceof Number number) {
+                    lag = number.longValue();
+                }
+            }
+        } catch (SQLException e) {
+            logger.debug("Lag probe failed for replica {}: {}", replica.key, e.getMessage());
+        }
+
+        boolean eligible = lag != null && lag <= maxLagMillis;
+        replica.lagMillis = lag != null ? lag : -1;
+        if (eligible != replica.eligible) {
+            if (eligible) {
+                logger.info("Replica {} is serving reads again, lag: {}ms", replica.key, lag);
+            } else {
+                logger.warn("Replica {} removed from reads, lag: {}", replica.key,
+                        lag != null ? lag + "ms" : "unknown");
+            }
+        }
+        replica.eligible = eligible;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    /**
+     * Replica state, written by the lag probe and read by request threads
+     */
+    private static final class Replica {
+        private final String key;
+        private final HikariDataSource dataSource;
+        private volatile boolean eligible;
+        private volatile long lagMillis = -1;
+
+        private Replica(String key, HikariDataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.hotelreservation.platform.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Read Your Writes Filter
+ *
+ * Binds the authenticated user forwarded by the gateway to the request thread so the
+ * data source routing can keep that user's reads on the primary right after a write.
+ * Registered by {@link DataSourceSupportAutoConfiguration} in services that declare a
+ * {@link ReadYourWritesTracker}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String USER_NAME_HEADER = "X-User-Name";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        readYourWritesTracker.setCurrentUser(request.getHeader(USER_NAME_HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.clearCurrentUser();
+        }
+    }
+}
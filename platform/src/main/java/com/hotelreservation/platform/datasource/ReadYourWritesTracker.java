@@ -0,0 +1,111 @@
+package com.hotelreservation.platform.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read Your Writes Tracker
+ *
+ * Remembers when each user last committed a write so that their reads within the
+ * following window go to the primary instead of a replica that may not have replayed
+ * the write yet. The user is taken from the {@code X-User-Name} header set by the
+ * gateway; anonymous requests are not tracked.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> currentUser = new ThreadLocal<>();
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    /**
+     * Constructor
+     *
+     * @param windowMillis how long after a write the user's reads stay on the primary
+     */
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    /**
+     * Bind the user of the current request
+     *
+     * @param user the user name, may be null
+     */
+    public void setCurrentUser(String user) {
+        if (user == null) {
+            currentUser.remove();
+        } else {
+            currentUser.set(user);
+        }
+    }
+
+    /**
+     * Clear the user of the current request
+     */
+    public void clearCurrentUser() {
+        currentUser.remove();
+    }
+
+    /**
+     * Check whether the current user wrote recently enough that a replica may be stale
+     *
+     * @return true if the read must go to the primary
+     */
+    public boolean mustReadFromPrimary() {
+        String user = currentUser.get();
+        if (user == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteNanos.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(user, lastWrite);
+        return false;
+    }
+
+    /**
+     * Note that the current transaction uses the primary for writing. The user's
+     * window starts when the transaction commits.
+     */
+    public void onReadWriteConnection() {
+        String user = currentUser.get();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteNanos.put(user, System.nanoTime());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+            }
+        });
+    }
+
+    /**
+     * Drop users whose window has passed
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hotelreservation.platform.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Name Search
+ *
+ * LIKE patterns and the ranking policy shared by the services' name searches. A ranked
+ * search takes names starting with the term first, from a "C"-collated expression index
+ * in index order, and fills the remaining places with names containing the term
+ * elsewhere, taken from a trigram index and ranked (see db/search-indexes.sql).
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public final class NameSearch {
+
+    // Substring candidates ranked per result still needed after the prefix matches
+    private static final int SEARCH_CANDIDATES_PER_RESULT = 5;
+
+    // Trigram indexes cannot narrow down shorter terms; those only get prefix matches
+    private static final int MIN_SUBSTRING_SEARCH_LENGTH = 3;
+
+    private NameSearch() {
+    }
+
+    /**
+     * Names starting with the term, in name order
+     *
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    public interface PrefixQuery<T> {
+
+        /**
+         * @param prefix lower-case LIKE pattern matching names starting with the term
+         * @param limit maximum number of results
+         * @return the matches
+         */
+        List<T> find(String prefix, int limit);
+    }
+
+    /**
+     * Names containing the term but not starting with it, with those having a word
+     * starting with the term first and then by trigram word similarity
+     *
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    public interface SubstringQuery<T> {
+
+        /**
+         * @param term the lower-case term
+         * @param contains LIKE pattern matching names containing the term
+         * @param prefix LIKE pattern matching names starting with the term, to exclude
+         * @param wordPrefix LIKE pattern matching names with a word starting with the term
+         * @param candidates maximum number of rows to rank
+         * @param limit maximum number of results
+         * @return the matches
+         */
+        List<T> find(String term, String contains, String prefix, String wordPrefix, int candidates, int limit);
+    }
+
+    /**
+     * Search names for a term, prefix matches first
+     *
+     * @param query the term as entered, trimmed and lower-cased before use
+     * @param limit maximum number of results
+     * @param byPrefix the prefix query
+     * @param bySubstring the substring query
+     * @param <T> the entity type
+     * @return up to limit matches, best first
+     */
+    public static <T> List<T> search(String query, int limit, PrefixQuery<T> byPrefix, SubstringQuery<T> bySubstring) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(term);
+
+        List<T> matches = new ArrayList<>(byPrefix.find(escaped + "%", limit));
+        int remaining = limit - matches.size();
+        if (remaining > 0 && term.length() >= MIN_SUBSTRING_SEARCH_LENGTH) {
+            matches.addAll(bySubstring.find(term, "%" + escaped + "%", escaped + "%", "% " + escaped + "%",
+                    remaining * SEARCH_CANDIDATES_PER_RESULT, remaining));
+        }
+        return matches;
+    }
+
+    /**
+     * LIKE pattern matching lower-cased values that contain a value anywhere
+     *
+     * @param value the value, matched literally
+     * @return the pattern
+     */
+    public static String containsPattern(String value) {
+        return "%" + escapeLike(value.toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    // Backslash is PostgreSQL's default LIKE escape character
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
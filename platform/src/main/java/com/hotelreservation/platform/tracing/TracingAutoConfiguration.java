@@ -0,0 +1,36 @@
+package com.hotelreservation.platform.tracing;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Tracing Auto-Configuration
+ *
+ * Optionally exports finished spans through the application log, so traces can be
+ * followed without a running collector. Off by default because every sampled span,
+ * JDBC spans included, becomes an INFO line; enable with
+ * {@code tracing.exporter.logging.enabled=true} (TRACING_EXPORTER_LOGGING_ENABLED) while
+ * debugging.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@AutoConfiguration
+@ConditionalOnClass(LoggingSpanExporter.class)
+public class TracingAutoConfiguration {
+
+    /**
+     * Logging Span Exporter
+     *
+     * @return SpanExporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter.logging.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
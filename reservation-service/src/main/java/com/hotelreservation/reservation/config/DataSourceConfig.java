@@ -0,0 +1,161 @@
+package com.hotelreservation.reservation.config;
+
+import com.hotelreservation.platform.datasource.ReadReplicaRouter;
+import com.hotelreservation.platform.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Source Configuration
+ *
+ * Separate read-write and read-only Hikari pools for the reservation service.
+ * Read-only transactions (availability checks, listings) draw from their own pool so
+ * a burst of reads cannot starve bookings of connections. Both pools point at the
+ * primary database unless {@code reservation.datasource.read-only.url} is set.
+ *
+ * When {@code reservation.datasource.replicas.urls} lists streaming replicas, read-only
+ * transactions are spread over the replicas that are within the lag limit and fall
+ * back to the read-only pool otherwise.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    /**
+     * Read-write pool, configured through {@code spring.datasource.hikari}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource readWriteDataSource(DataSourceProperties properties,
+                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("reservation-rw");
+        bindMetrics(dataSource, meterRegistry);
+        return dataSource;
+    }
+
+    /**
+     * Read-only pool, configured through {@code reservation.datasource.read-only.hikari}
+     */
+    @Bean
+    @ConfigurationProperties("reservation.datasource.read-only.hikari")
+    public HikariDataSource readOnlyDataSource(DataSourceProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry,
+                                               @Value("${reservation.datasource.read-only.url:}") String url) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (StringUtils.hasText(url)) {
+            dataSource.setJdbcUrl(url);
+        }
+        dataSource.setPoolName("reservation-ro");
+        dataSource.setReadOnly(true);
+        bindMetrics(dataSource, meterRegistry);
+        return dataSource;
+    }
+
+    /**
+     * Replica pools, configured through {@code reservation.datasource.replicas}
+     */
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(DataSourceProperties properties,
+                                               Environment environment,
+                                               ObjectProvider<MeterRegistry> meterRegistry,
+                                               @Value("${reservation.datasource.replicas.urls:}") String urls,
+                                               @Value("${reservation.datasource.replicas.max-lag-ms:1000}") long maxLagMillis,
+                                               @Value("${reservation.datasource.replicas.lag-query:}") String lagQuery,
+                                               @Value("${reservation.datasource.replicas.lag-check-interval-ms:1000}") long lagCheckIntervalMillis) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        String[] replicaUrls = StringUtils.commaDelimitedListToStringArray(urls);
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String url = replicaUrls[i].trim();
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            Binder.get(environment).bind("reservation.datasource.replicas.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setJdbcUrl(url);
+            dataSource.setPoolName("reservation-replica-" + i);
+            dataSource.setReadOnly(true);
+            bindMetrics(dataSource, meterRegistry);
+            replicas.put("replica-" + i, dataSource);
+        }
+
+        if (!replicas.isEmpty()) {
+            logger.info("Routing read-only transactions to {} replica(s) with max lag {}ms", replicas.size(), maxLagMillis);
+        }
+        return new ReadReplicaRouter(replicas, maxLagMillis,
+                StringUtils.hasText(lagQuery) ? lagQuery : ReadReplicaRouter.DEFAULT_LAG_QUERY,
+                lagCheckIntervalMillis, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Tracks recent writes per user so their reads are not sent to a stale replica
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${reservation.datasource.read-your-writes-window-ms:5000}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis);
+    }
+
+    /**
+     * Routing data source used by JPA and everything else that injects a {@link DataSource}
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readWriteDataSource") DataSource readWriteDataSource,
+                                 @Qualifier("readOnlyDataSource") DataSource readOnlyDataSource,
+                                 ReadReplicaRouter readReplicaRouter,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReadWriteRoutingDataSource.READ_WRITE, readWriteDataSource);
+        targetDataSources.put(ReadWriteRoutingDataSource.READ_ONLY, readOnlyDataSource);
+        targetDataSources.putAll(readReplicaRouter.getReplicaDataSources());
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(readReplicaRouter, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(readWriteDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        logger.info("Reservation data source configured with read-write and read-only pools");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Register pool metrics before the pool starts; Hikari rejects a tracker on a running pool
+     */
+    private void bindMetrics(HikariDataSource dataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        meterRegistry.ifAvailable(registry ->
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+}
@@ -3,25 +3,42 @@ package com.hotelreservation.reservation.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelreservation.events.codec.AvroSerializer;
+import com.hotelreservation.reservation.event.HotelCatalogRecord;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.avro.specific.SpecificRecord;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Kafka Configuration
  *
- * Configuration for Kafka producer and consumer.
+ * Configuration for Kafka producer and consumer. Events generated from the schemas of the
+ * events module (ReservationCreatedEvent) are written as Avro binary, other events as
+ * JSON. The consumer side feeds the room catalog replica, which reads the whole
+ * compacted catalog topic on every start.
  *
  * @author Hotel Reservation System
  * @version 1.0.0
@@ -37,6 +54,9 @@ public class KafkaConfig {
     @Value("${kafka.topic.reservation-created:reservation-created-events}")
     private String reservationCreatedTopic;
 
+    @Value("${reservation.catalog.idle-event-interval-ms:2000}")
+    private long catalogIdleEventIntervalMillis;
+
     /**
      * Object Mapper for JSON serialization
      */
@@ -56,8 +76,6 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
@@ -68,8 +86,13 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         
         logger.info("Kafka producer factory configured with bootstrap servers: {}", bootstrapServers);
-        
-        return new DefaultKafkaProducerFactory<>(configProps);
+
+        // First match wins, so the Avro events must come before the JSON catch-all
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(SpecificRecord.class, new AvroSerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>());
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new DelegatingByTypeSerializer(valueSerializers, true));
     }
 
     /**
@@ -79,10 +102,48 @@ public class KafkaConfig {
     public KafkaTemplate<String, Object> kafkaTemplate() {
         KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
         template.setDefaultTopic(reservationCreatedTopic);
+        // Propagate trace context and baggage (correlation ID) in record headers
+        template.setObservationEnabled(true);
         logger.info("Kafka template configured with default topic: {}", reservationCreatedTopic);
         return template;
     }
 
+    /**
+     * Consumer factory of the room catalog replica. Offsets are never committed, so the
+     * replica starts from the beginning of the topic every time; records that cannot be
+     * read are logged and skipped.
+     */
+    @Bean
+    public ConsumerFactory<String, HotelCatalogRecord> catalogConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+
+        return new DefaultKafkaConsumerFactory<>(configProps,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(HotelCatalogRecord.class, false)));
+    }
+
+    /**
+     * Listener container factory of the room catalog replica. A single consumer reads
+     * every partition; an idle event marks the point where it has caught up.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, HotelCatalogRecord> catalogListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, HotelCatalogRecord> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(catalogConsumerFactory());
+        factory.setConcurrency(1);
+        // Never acknowledged: nothing is committed for the per-instance consumer group
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setIdleEventInterval(catalogIdleEventIntervalMillis);
+        factory.getContainerProperties().setObservationEnabled(true);
+        return factory;
+    }
+
     /**
      * Get reservation created topic name
      */
@@ -0,0 +1,44 @@
+package com.hotelreservation.reservation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.client.RestClientBuilderConfigurer;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Load Balancer Configuration
+ *
+ * Load balanced RestClient for calls to other services registered with Eureka, such as
+ * the stay quotes of hotel-service. Calls sit on the booking path, so both timeouts are
+ * kept short.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+public class LoadBalancerConfig {
+
+    /**
+     * Load balanced RestClient builder, with Boot's message converters and observations
+     *
+     * @return the RestClient builder
+     */
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder loadBalancedRestClientBuilder(
+            RestClientBuilderConfigurer configurer,
+            @Value("${reservation.client.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${reservation.client.read-timeout-ms:2000}") long readTimeoutMillis) {
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                .withConnectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .withReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return configurer.configure(RestClient.builder())
+                .requestFactory(ClientHttpRequestFactories.get(settings));
+    }
+}
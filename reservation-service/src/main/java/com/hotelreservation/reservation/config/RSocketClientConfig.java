@@ -0,0 +1,84 @@
+package com.hotelreservation.reservation.config;
+
+import io.rsocket.loadbalance.LoadbalanceTarget;
+import io.rsocket.loadbalance.WeightedLoadbalanceStrategy;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * RSocket Client Configuration
+ *
+ * RSocket requester for hotel-service's internal routes. The instances of hotel-service
+ * are read from the discovery client every refresh-interval-ms and balanced on the client
+ * side, weighted towards the instances answering fastest. Each instance gets one
+ * multiplexed TCP connection, kept open and shared by all concurrent requests; it is
+ * opened on the first request and reopened after it drops. An instance advertises its
+ * RSocket port in the rsocket-port metadata entry of its registration.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Configuration
+public class RSocketClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RSocketClientConfig.class);
+
+    public static final String RSOCKET_PORT_METADATA = "rsocket-port";
+
+    /**
+     * Load balanced requester for hotel-service
+     *
+     * @return the requester
+     */
+    @Bean
+    public RSocketRequester hotelServiceRequester(
+            RSocketRequester.Builder builder,
+            DiscoveryClient discoveryClient,
+            @Value("${reservation.rpc.hotel-service.service-id:hotel-service}") String serviceId,
+            @Value("${reservation.rpc.hotel-service.default-port:7081}") int defaultPort,
+            @Value("${reservation.rpc.refresh-interval-ms:5000}") long refreshIntervalMillis) {
+        Flux<List<LoadbalanceTarget>> targets = Flux.interval(Duration.ZERO, Duration.ofMillis(refreshIntervalMillis))
+                .concatMap(tick -> Mono.fromCallable(() -> addresses(discoveryClient, serviceId, defaultPort))
+                        .onErrorResume(e -> {
+                            logger.warn("Could not look up {} instances: {}", serviceId, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .distinctUntilChanged()
+                .doOnNext(addresses -> logger.info("RSocket targets of {}: {}", serviceId,
+                        addresses.stream().map(RSocketClientConfig::key).toList()))
+                .map(addresses -> addresses.stream()
+                        .map(address -> LoadbalanceTarget.from(key(address), TcpClientTransport.create(address)))
+                        .toList());
+        return builder.transports(targets, WeightedLoadbalanceStrategy.create());
+    }
+
+    private static List<InetSocketAddress> addresses(DiscoveryClient discoveryClient, String serviceId, int defaultPort) {
+        return discoveryClient.getInstances(serviceId).stream()
+                .map(instance -> InetSocketAddress.createUnresolved(instance.getHost(), rsocketPort(instance, defaultPort)))
+                .sorted(Comparator.comparing(InetSocketAddress::toString))
+                .toList();
+    }
+
+    private static String key(InetSocketAddress address) {
+        return address.getHostString() + ":" + address.getPort();
+    }
+
+    private static int rsocketPort(ServiceInstance instance, int defaultPort) {
+        String port = instance.getMetadata() != null ? instance.getMetadata().get(RSOCKET_PORT_METADATA) : null;
+        return port != null ? Integer.parseInt(port) : defaultPort;
+    }
+}
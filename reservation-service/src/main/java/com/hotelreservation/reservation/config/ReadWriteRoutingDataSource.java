@@ -0,0 +1,46 @@
+package com.hotelreservation.reservation.config;
+
+import com.hotelreservation.platform.datasource.ReadReplicaRouter;
+import com.hotelreservation.platform.datasource.ReadYourWritesTracker;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read Write Routing Data Source
+ *
+ * Routes connections for {@code @Transactional(readOnly = true)} to an eligible read
+ * replica, or to the read-only pool on the primary when no replica is eligible or the
+ * current user has just written. Everything else goes to the read-write pool. Must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is fetched after the transaction's read-only flag has been set.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String READ_WRITE = "read-write";
+    public static final String READ_ONLY = "read-only";
+
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadReplicaRouter readReplicaRouter,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.readReplicaRouter = readReplicaRouter;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.onReadWriteConnection();
+            return READ_WRITE;
+        }
+        if (readYourWritesTracker.mustReadFromPrimary()) {
+            return READ_ONLY;
+        }
+        String replica = readReplicaRouter.selectReplica();
+        return replica != null ? replica : READ_ONLY;
+    }
+}
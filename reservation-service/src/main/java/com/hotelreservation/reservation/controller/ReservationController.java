@@ -1,6 +1,9 @@
 package com.hotelreservation.reservation.controller;
 
+import com.hotelreservation.reservation.dto.FrontDeskManifestDto;
+import com.hotelreservation.reservation.dto.OccupancyCalendarDto;
 import com.hotelreservation.reservation.dto.ReservationDto;
+import com.hotelreservation.reservation.dto.RoomHoldDto;
 import com.hotelreservation.reservation.entity.ReservationStatus;
 import com.hotelreservation.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -156,6 +160,62 @@ public class ReservationController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Hold a room while the guest checks out
+     */
+    @PostMapping("/holds")
+    @Operation(summary = "Hold a room", description = "Holds a room for a date range for ttlMinutes (default 15) without creating a reservation. Pass the hold ID as holdId when booking; unbooked holds expire")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Room held successfully",
+                    content = @Content(schema = @Schema(implementation = RoomHoldDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid hold data"),
+            @ApiResponse(responseCode = "409", description = "Room already booked or held")
+    })
+    public ResponseEntity<RoomHoldDto> createRoomHold(
+            @Parameter(description = "Hold data", required = true)
+            @Valid @RequestBody RoomHoldDto roomHoldDto) {
+        logger.info("Holding room ID: {} for guest: {}", roomHoldDto.getRoomId(), roomHoldDto.getGuestEmail());
+        RoomHoldDto hold = reservationService.createRoomHold(roomHoldDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    /**
+     * Get room hold by ID
+     */
+    @GetMapping("/holds/{holdId}")
+    @Operation(summary = "Get room hold by ID", description = "Retrieves a live room hold by its ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Room hold found",
+                    content = @Content(schema = @Schema(implementation = RoomHoldDto.class))),
+            @ApiResponse(responseCode = "404", description = "Room hold not found or expired")
+    })
+    public ResponseEntity<RoomHoldDto> getRoomHold(
+            @Parameter(description = "Room hold ID", required = true)
+            @PathVariable String holdId) {
+        logger.debug("Getting room hold by ID: {}", holdId);
+        return reservationService.getRoomHold(holdId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Release room hold
+     */
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(summary = "Release room hold", description = "Releases a room hold before it expires")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Room hold released successfully"),
+            @ApiResponse(responseCode = "404", description = "Room hold not found or expired")
+    })
+    public ResponseEntity<Void> releaseRoomHold(
+            @Parameter(description = "Room hold ID", required = true)
+            @PathVariable String holdId) {
+        logger.info("Releasing room hold with ID: {}", holdId);
+        return reservationService.releaseRoomHold(holdId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
     /**
      * Get reservations by hotel ID
      */
@@ -244,6 +304,24 @@ public class ReservationController {
         return ResponseEntity.ok(reservations.getContent());
     }
 
+    /**
+     * Search reservations by guest name, best match first
+     */
+    @GetMapping("/guest/name/suggest")
+    @Operation(summary = "Suggest reservations by guest name", description = "Ranked substring search on guest names; names starting with the query come first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservations retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = List.class)))
+    })
+    public ResponseEntity<List<ReservationDto>> suggestReservationsByGuestName(
+            @Parameter(description = "Search term", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results")
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.debug("Suggesting reservations by guest name: q={}, limit={}", q, limit);
+        return ResponseEntity.ok(reservationService.searchReservationsByGuestName(q, limit));
+    }
+
     /**
      * Get reservations by status
      */
@@ -481,6 +559,76 @@ public class ReservationController {
         return ResponseEntity.ok(overdue);
     }
 
+    /**
+     * Get the front desk manifest of a hotel
+     */
+    @GetMapping("/hotel/{hotelId}/manifest")
+    @Operation(summary = "Get front desk manifest by hotel ID", description = "Retrieves today's check-ins, check-outs and overdue stays for a hotel, in the hotel's time zone. Send the ETag back in If-None-Match to get 304 while nothing changed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manifest retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = FrontDeskManifestDto.class))),
+            @ApiResponse(responseCode = "304", description = "Manifest not modified")
+    })
+    public ResponseEntity<FrontDeskManifestDto> getFrontDeskManifestByHotelId(
+            @Parameter(description = "Hotel ID", required = true)
+            @PathVariable Long hotelId,
+            @Parameter(description = "ETag of the manifest the client already has")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.debug("Getting front desk manifest for hotel ID: {}", hotelId);
+        FrontDeskManifestDto manifest = reservationService.getFrontDeskManifest(hotelId);
+        // Contains rather than equals: the header may list several tags or carry a weak W/ prefix
+        if (ifNoneMatch != null && ifNoneMatch.contains(manifest.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(manifest.getEtag()).build();
+        }
+        return ResponseEntity.ok().eTag(manifest.getEtag()).body(manifest);
+    }
+
+    /**
+     * Get the room × night occupancy calendar of a hotel
+     */
+    @GetMapping("/hotel/{hotelId}/calendar")
+    @Operation(summary = "Get occupancy calendar by hotel ID", description = "Retrieves one occupancy bitset per room, one bit per night, for a hotel and date window")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = OccupancyCalendarDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid window or encoding")
+    })
+    public ResponseEntity<OccupancyCalendarDto> getOccupancyCalendarByHotelId(
+            @Parameter(description = "Hotel ID", required = true)
+            @PathVariable Long hotelId,
+            @Parameter(description = "First night of the window (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Number of nights")
+            @RequestParam(defaultValue = "90") int nights,
+            @Parameter(description = "Encoding: bitmap (Base64 bitset) or rle (run lengths)")
+            @RequestParam(defaultValue = "bitmap") String encoding) {
+        logger.debug("Getting occupancy calendar for hotel ID: {} from {} for {} nights", hotelId, startDate, nights);
+        return ResponseEntity.ok(reservationService.getOccupancyCalendar(hotelId, startDate, nights, encoding));
+    }
+
+    /**
+     * Get the number of rooms of a type still free for a stay
+     */
+    @GetMapping("/hotel/{hotelId}/room-types/{roomType}/availability")
+    @Operation(summary = "Get room type availability", description = "Retrieves how many rooms of a type are still free on every night of a stay; book one by sending roomType without roomId")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Integer.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    public ResponseEntity<Integer> getRoomTypeAvailability(
+            @Parameter(description = "Hotel ID", required = true)
+            @PathVariable Long hotelId,
+            @Parameter(description = "Room type", required = true)
+            @PathVariable String roomType,
+            @Parameter(description = "Check-in date (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @Parameter(description = "Check-out date (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
+        logger.debug("Getting {} availability for hotel ID: {} between {} and {}", roomType, hotelId, checkInDate, checkOutDate);
+        return ResponseEntity.ok(reservationService.getRoomTypeAvailability(hotelId, roomType, checkInDate, checkOutDate));
+    }
+
     /**
      * Get reservation statistics by hotel ID
      */
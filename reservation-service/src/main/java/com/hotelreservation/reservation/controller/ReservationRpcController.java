@@ -0,0 +1,52 @@
+package com.hotelreservation.reservation.controller;
+
+import com.hotelreservation.reservation.dto.RoomTypeAvailabilityDto;
+import com.hotelreservation.reservation.service.ReservationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reservation RPC Controller
+ *
+ * RSocket routes for other services, served on spring.rsocket.server.port next to the
+ * REST API. Payloads are CBOR-encoded DTOs. The service calls block on the database, so
+ * they run on the bounded elastic scheduler rather than the Netty event loop; an invalid
+ * request fails with the message of the service's exception.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Controller
+public class ReservationRpcController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationRpcController.class);
+
+    private final ReservationService reservationService;
+
+    @Autowired
+    public ReservationRpcController(ReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * Count the rooms of a type still free on every night of a stay
+     *
+     * @param request hotel, room type and dates
+     * @return the request with availableRooms set
+     */
+    @MessageMapping("availability.room-type")
+    public Mono<RoomTypeAvailabilityDto> getRoomTypeAvailability(RoomTypeAvailabilityDto request) {
+        logger.debug("RPC {} availability for hotel ID: {} between {} and {}", request.getRoomType(),
+                request.getHotelId(), request.getCheckInDate(), request.getCheckOutDate());
+        return Mono.fromCallable(() -> new RoomTypeAvailabilityDto(request.getHotelId(), request.getRoomType(),
+                        request.getCheckInDate(), request.getCheckOutDate(),
+                        reservationService.getRoomTypeAvailability(request.getHotelId(), request.getRoomType(),
+                                request.getCheckInDate(), request.getCheckOutDate())))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,103 @@
+package com.hotelreservation.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Front Desk Manifest DTO
+ *
+ * A hotel's pending and confirmed reservations checking in and checking out on the
+ * hotel's local date, and those past their check-out date (overdue). The ETag identifies
+ * the content and is sent as a header rather than in the body.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class FrontDeskManifestDto {
+
+    private Long hotelId;
+    private LocalDate date;
+    private List<ReservationDto> checkIns;
+    private List<ReservationDto> checkOuts;
+    private List<ReservationDto> overdue;
+
+    @JsonIgnore
+    private String etag;
+
+    // Default constructor
+    public FrontDeskManifestDto() {
+    }
+
+    // Constructor with all fields
+    public FrontDeskManifestDto(Long hotelId, LocalDate date, List<ReservationDto> checkIns,
+                                List<ReservationDto> checkOuts, List<ReservationDto> overdue) {
+        this.hotelId = hotelId;
+        this.date = date;
+        this.checkIns = checkIns;
+        this.checkOuts = checkOuts;
+        this.overdue = overdue;
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public List<ReservationDto> getCheckIns() {
+        return checkIns;
+    }
+
+    public void setCheckIns(List<ReservationDto> checkIns) {
+        this.checkIns = checkIns;
+    }
+
+    public List<ReservationDto> getCheckOuts() {
+        return checkOuts;
+    }
+
+    public void setCheckOuts(List<ReservationDto> checkOuts) {
+        this.checkOuts = checkOuts;
+    }
+
+    public List<ReservationDto> getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(List<ReservationDto> overdue) {
+        this.overdue = overdue;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    @Override
+    public String toString() {
+        return "FrontDeskManifestDto{" +
+                "hotelId=" + hotelId +
+                ", date=" + date +
+                ", checkIns=" + (checkIns != null ? checkIns.size() : 0) +
+                ", checkOuts=" + (checkOuts != null ? checkOuts.size() : 0) +
+                ", overdue=" + (overdue != null ? overdue.size() : 0) +
+                ", etag='" + etag + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.hotelreservation.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Occupancy Calendar DTO
+ *
+ * Room × night occupancy of a hotel from startDate for the given number of nights, in
+ * the given encoding (see {@code OccupancyCalendar}). Rooms without a booked night in
+ * the window are left out.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class OccupancyCalendarDto {
+
+    private Long hotelId;
+    private LocalDate startDate;
+    private int nights;
+    private String encoding;
+    private Map<Long, String> rooms;
+
+    // Default constructor
+    public OccupancyCalendarDto() {
+    }
+
+    // Constructor with all fields
+    public OccupancyCalendarDto(Long hotelId, LocalDate startDate, int nights, String encoding, Map<Long, String> rooms) {
+        this.hotelId = hotelId;
+        this.startDate = startDate;
+        this.nights = nights;
+        this.encoding = encoding;
+        this.rooms = rooms;
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    public void setNights(int nights) {
+        this.nights = nights;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public Map<Long, String> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(Map<Long, String> rooms) {
+        this.rooms = rooms;
+    }
+
+    @Override
+    public String toString() {
+        return "OccupancyCalendarDto{" +
+                "hotelId=" + hotelId +
+                ", startDate=" + startDate +
+                ", nights=" + nights +
+                ", encoding='" + encoding + '\'' +
+                ", rooms=" + (rooms != null ? rooms.size() : 0) +
+                '}';
+    }
+}
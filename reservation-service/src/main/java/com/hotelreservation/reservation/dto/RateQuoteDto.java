@@ -0,0 +1,120 @@
+package com.hotelreservation.reservation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Rate Quote Data Transfer Object
+ *
+ * Price of a stay as quoted by hotel-service (GET /api/hotels/{id}/quote, or the
+ * rates.quote RSocket route, which also takes it as the request).
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class RateQuoteDto {
+
+    private Long hotelId;
+    private Long roomId;
+    private String roomType;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer numberOfGuests;
+    private Integer nights;
+    private BigDecimal totalPrice;
+
+    // Default constructor
+    public RateQuoteDto() {
+    }
+
+    // Constructor with all fields
+    public RateQuoteDto(Long hotelId, Long roomId, String roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                        Integer numberOfGuests, Integer nights, BigDecimal totalPrice) {
+        this.hotelId = hotelId;
+        this.roomId = roomId;
+        this.roomType = roomType;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.numberOfGuests = numberOfGuests;
+        this.nights = nights;
+        this.totalPrice = totalPrice;
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+
+    public Integer getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public void setNumberOfGuests(Integer numberOfGuests) {
+        this.numberOfGuests = numberOfGuests;
+    }
+
+    public Integer getNights() {
+        return nights;
+    }
+
+    public void setNights(Integer nights) {
+        this.nights = nights;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    @Override
+    public String toString() {
+        return "RateQuoteDto{" +
+                "hotelId=" + hotelId +
+                ", roomId=" + roomId +
+                ", roomType='" + roomType + '\'' +
+                ", checkInDate=" + checkInDate +
+                ", checkOutDate=" + checkOutDate +
+                ", numberOfGuests=" + numberOfGuests +
+                ", totalPrice=" + totalPrice +
+                '}';
+    }
+}
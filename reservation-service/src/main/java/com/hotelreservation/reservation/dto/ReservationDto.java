@@ -21,9 +21,12 @@ public class ReservationDto {
     @NotNull(message = "Hotel ID is required")
     private Long hotelId;
 
-    @NotNull(message = "Room ID is required")
+    // Either a room, or a room type for which RoomAssigner picks the room before check-in
     private Long roomId;
 
+    @Size(max = 50, message = "Room type must be less than 50 characters")
+    private String roomType;
+
     @NotBlank(message = "Guest name is required")
     @Size(max = 100, message = "Guest name must be less than 100 characters")
     private String guestName;
@@ -51,7 +54,7 @@ public class ReservationDto {
     @Max(value = 10, message = "Number of guests must be at most 10")
     private Integer numberOfGuests;
 
-    @NotNull(message = "Total price is required")
+    // Set from hotel-service's quote when pricing is enabled; required otherwise
     @DecimalMin(value = "0.01", message = "Total price must be greater than 0")
     private BigDecimal totalPrice;
 
@@ -65,6 +68,10 @@ public class ReservationDto {
     private LocalDateTime updatedAt;
     private Long version;
 
+    // Hold taken for this stay at checkout (POST /api/reservations/holds); released when booked
+    @Size(max = 36, message = "Hold ID must be less than 36 characters")
+    private String holdId;
+
     /**
      * Default constructor
      */
@@ -113,6 +120,14 @@ public class ReservationDto {
         this.roomId = roomId;
     }
 
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+
     public String getGuestName() {
         return guestName;
     }
@@ -217,6 +232,14 @@ public class ReservationDto {
         this.version = version;
     }
 
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(String holdId) {
+        this.holdId = holdId;
+    }
+
     @Override
     public String toString() {
         return "ReservationDto{" +
@@ -0,0 +1,138 @@
+package com.hotelreservation.reservation.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Room Hold DTO
+ *
+ * Request and response body of the room hold API. ttlMinutes is optional on requests;
+ * id and expiresAt are filled in on responses.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class RoomHoldDto {
+
+    private String id;
+
+    @NotNull(message = "Hotel ID is required")
+    private Long hotelId;
+
+    @NotNull(message = "Room ID is required")
+    private Long roomId;
+
+    @NotNull(message = "Check-in date is required")
+    @FutureOrPresent(message = "Check-in date must be in the present or future")
+    private LocalDate checkInDate;
+
+    @NotNull(message = "Check-out date is required")
+    @Future(message = "Check-out date must be in the future")
+    private LocalDate checkOutDate;
+
+    @Email(message = "Guest email must be valid")
+    @Size(max = 100, message = "Guest email must be less than 100 characters")
+    private String guestEmail;
+
+    @Min(value = 1, message = "Hold time to live must be at least 1 minute")
+    private Integer ttlMinutes;
+
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public RoomHoldDto() {
+    }
+
+    // Constructor with all fields
+    public RoomHoldDto(String id, Long hotelId, Long roomId, LocalDate checkInDate, LocalDate checkOutDate,
+                       String guestEmail, Integer ttlMinutes, LocalDateTime expiresAt) {
+        this.id = id;
+        this.hotelId = hotelId;
+        this.roomId = roomId;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.guestEmail = guestEmail;
+        this.ttlMinutes = ttlMinutes;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+
+    public void setGuestEmail(String guestEmail) {
+        this.guestEmail = guestEmail;
+    }
+
+    public Integer getTtlMinutes() {
+        return ttlMinutes;
+    }
+
+    public void setTtlMinutes(Integer ttlMinutes) {
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomHoldDto{" +
+                "id='" + id + '\'' +
+                ", hotelId=" + hotelId +
+                ", roomId=" + roomId +
+                ", checkInDate=" + checkInDate +
+                ", checkOutDate=" + checkOutDate +
+                ", ttlMinutes=" + ttlMinutes +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.hotelreservation.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Room Type Availability Data Transfer Object
+ *
+ * Number of rooms of a type still free on every night of a stay, as served on the
+ * availability.room-type RSocket route. The request leaves availableRooms empty.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class RoomTypeAvailabilityDto {
+
+    private Long hotelId;
+    private String roomType;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer availableRooms;
+
+    // Default constructor
+    public RoomTypeAvailabilityDto() {
+    }
+
+    // Constructor with all fields
+    public RoomTypeAvailabilityDto(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                                   Integer availableRooms) {
+        this.hotelId = hotelId;
+        this.roomType = roomType;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.availableRooms = availableRooms;
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+
+    public Integer getAvailableRooms() {
+        return availableRooms;
+    }
+
+    public void setAvailableRooms(Integer availableRooms) {
+        this.availableRooms = availableRooms;
+    }
+}
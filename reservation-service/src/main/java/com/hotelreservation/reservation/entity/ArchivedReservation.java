@@ -0,0 +1,174 @@
+package com.hotelreservation.reservation.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Archived Reservation Entity
+ *
+ * Read-only view of a reservation that has been moved out of the live
+ * {@code reservations} table by the archival job. Rows are written only by
+ * {@link com.hotelreservation.reservation.service.ReservationArchiver}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Entity
+@Immutable
+@Table(name = "reservations_archive", indexes = {
+    @Index(name = "idx_reservation_archive_guest_email", columnList = "guest_email, check_in_date")
+})
+public class ArchivedReservation {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "room_type", length = 50)
+    private String roomType;
+
+    @Column(name = "guest_name", nullable = false, length = 255)
+    private String guestName;
+
+    @Column(name = "guest_email", nullable = false, length = 255)
+    private String guestEmail;
+
+    @Column(name = "guest_phone", length = 20)
+    private String guestPhone;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(name = "number_of_guests", nullable = false)
+    private Integer numberOfGuests;
+
+    @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "special_requests", columnDefinition = "TEXT")
+    private String specialRequests;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Default constructor
+     */
+    protected ArchivedReservation() {
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public String getGuestName() {
+        return guestName;
+    }
+
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+
+    public String getGuestPhone() {
+        return guestPhone;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+
+    public Integer getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public String getSpecialRequests() {
+        return specialRequests;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedReservation{" +
+                "id=" + id +
+                ", hotelId=" + hotelId +
+                ", roomId=" + roomId +
+                ", checkInDate=" + checkInDate +
+                ", checkOutDate=" + checkOutDate +
+                ", status=" + status +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
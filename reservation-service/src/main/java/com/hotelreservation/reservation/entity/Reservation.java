@@ -16,19 +16,15 @@ import java.time.LocalDateTime;
  *
  * JPA entity for reservation management.
  *
+ * The table is range-partitioned by check-in month, which Hibernate's schema update
+ * does not inspect; its columns and indexes are managed in db/init/01-init.sql and
+ * db/partitioning/partition-reservations.sql.
+ *
  * @author Hotel Reservation System
  * @version 1.0.0
  */
 @Entity
-@Table(name = "reservations", indexes = {
-    @Index(name = "idx_reservation_hotel_id", columnList = "hotel_id"),
-    @Index(name = "idx_reservation_room_id", columnList = "room_id"),
-    @Index(name = "idx_reservation_guest_email", columnList = "guest_email"),
-    @Index(name = "idx_reservation_check_in_date", columnList = "check_in_date"),
-    @Index(name = "idx_reservation_check_out_date", columnList = "check_out_date"),
-    @Index(name = "idx_reservation_status", columnList = "status"),
-    @Index(name = "idx_reservation_active", columnList = "active")
-})
+@Table(name = "reservations")
 @Where(clause = "active = true")
 @EntityListeners(AuditingEntityListener.class)
 public class Reservation {
@@ -41,10 +37,14 @@ public class Reservation {
     @Column(name = "hotel_id", nullable = false)
     private Long hotelId;
 
-    @NotNull
-    @Column(name = "room_id", nullable = false)
+    // Null until RoomAssigner assigns a room to a stay booked by room type
+    @Column(name = "room_id")
     private Long roomId;
 
+    @Size(max = 50)
+    @Column(name = "room_type", length = 50)
+    private String roomType;
+
     @NotBlank
     @Size(max = 100)
     @Column(name = "guest_name", nullable = false, length = 100)
@@ -154,6 +154,14 @@ public class Reservation {
         this.roomId = roomId;
     }
 
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+
     public String getGuestName() {
         return guestName;
     }
@@ -327,6 +335,7 @@ public class Reservation {
                 "id=" + id +
                 ", hotelId=" + hotelId +
                 ", roomId=" + roomId +
+                ", roomType='" + roomType + '\'' +
                 ", guestName='" + guestName + '\'' +
                 ", guestEmail='" + guestEmail + '\'' +
                 ", checkInDate=" + checkInDate +
@@ -0,0 +1,135 @@
+package com.hotelreservation.reservation.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Room Hold Entity
+ *
+ * A short-lived hold on a room for a date range while a guest checks out. Holds live in
+ * memory on the instance that took them
+ * ({@link com.hotelreservation.reservation.service.RoomHoldRegistry}) and in the
+ * {@code room_holds} table, which keeps holds of a room from overlapping across
+ * instances and which they are restored from after a restart.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "room_holds", indexes = {
+    @Index(name = "idx_room_hold_room_dates", columnList = "room_id, check_in_date"),
+    @Index(name = "idx_room_hold_expires_at", columnList = "expires_at")
+})
+public class RoomHold {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    // Type whose inventory the hold takes, null when the inventory is disabled
+    @Column(name = "room_type", length = 50)
+    private String roomType;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(name = "guest_email", length = 100)
+    private String guestEmail;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+
+    /**
+     * Default constructor
+     */
+    protected RoomHold() {
+    }
+
+    /**
+     * Constructor with all fields
+     */
+    public RoomHold(String id, Long hotelId, Long roomId, String roomType, LocalDate checkInDate,
+                    LocalDate checkOutDate, String guestEmail, LocalDateTime expiresAt, String owner) {
+        this.id = id;
+        this.hotelId = hotelId;
+        this.roomId = roomId;
+        this.roomType = roomType;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.guestEmail = guestEmail;
+        this.expiresAt = expiresAt;
+        this.owner = owner;
+    }
+
+    /**
+     * Check if the hold covers any night of the given stay
+     */
+    public boolean overlaps(LocalDate otherCheckIn, LocalDate otherCheckOut) {
+        return checkInDate.isBefore(otherCheckOut) && checkOutDate.isAfter(otherCheckIn);
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomHold{" +
+                "id='" + id + '\'' +
+                ", hotelId=" + hotelId +
+                ", roomId=" + roomId +
+                ", roomType='" + roomType + '\'' +
+                ", checkInDate=" + checkInDate +
+                ", checkOutDate=" + checkOutDate +
+                ", expiresAt=" + expiresAt +
+                ", owner='" + owner + '\'' +
+                '}';
+    }
+}
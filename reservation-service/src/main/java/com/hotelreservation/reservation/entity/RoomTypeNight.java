@@ -0,0 +1,122 @@
+package com.hotelreservation.reservation.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Check;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Room Type Night Entity
+ *
+ * Allotment counter of one room type of a hotel for one night: how many rooms of the type
+ * can be sold and how many pending and confirmed stays hold one. Rows are created and
+ * updated only by {@link com.hotelreservation.reservation.service.RoomTypeInventory}
+ * through conditional SQL updates; the entity maps the table for schema management.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Entity
+@IdClass(RoomTypeNight.Key.class)
+@Table(name = "room_type_inventory")
+@Check(constraints = "booked >= 0")
+public class RoomTypeNight {
+
+    @Id
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Id
+    @Column(name = "room_type", nullable = false, length = 50)
+    private String roomType;
+
+    @Id
+    @Column(name = "night", nullable = false)
+    private LocalDate night;
+
+    @Column(name = "total", nullable = false)
+    private Integer total;
+
+    @Column(name = "booked", nullable = false)
+    private Integer booked;
+
+    /**
+     * Default constructor
+     */
+    protected RoomTypeNight() {
+    }
+
+    // Getters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public LocalDate getNight() {
+        return night;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public Integer getBooked() {
+        return booked;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomTypeNight{" +
+                "hotelId=" + hotelId +
+                ", roomType='" + roomType + '\'' +
+                ", night=" + night +
+                ", total=" + total +
+                ", booked=" + booked +
+                '}';
+    }
+
+    /**
+     * Composite primary key
+     */
+    public static class Key implements Serializable {
+
+        private Long hotelId;
+        private String roomType;
+        private LocalDate night;
+
+        // Default constructor
+        public Key() {
+        }
+
+        // Constructor with all fields
+        public Key(Long hotelId, String roomType, LocalDate night) {
+            this.hotelId = hotelId;
+            this.roomType = roomType;
+            this.night = night;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(hotelId, key.hotelId)
+                    && Objects.equals(roomType, key.roomType)
+                    && Objects.equals(night, key.night);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hotelId, roomType, night);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.hotelreservation.reservation.event;
+
+/**
+ * Reservation Changed Event
+ *
+ * Application event published when a reservation is created, updated, deleted or changes
+ * status. Listeners that keep derived views of reservations reload it after the
+ * transaction commits.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReservationChangedEvent {
+
+    private final Long reservationId;
+
+    public ReservationChangedEvent(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationChangedEvent{" +
+                "reservationId=" + reservationId +
+                '}';
+    }
+}
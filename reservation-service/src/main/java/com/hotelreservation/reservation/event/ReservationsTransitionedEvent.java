@@ -0,0 +1,198 @@
+package com.hotelreservation.reservation.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reservations Transitioned Event
+ *
+ * Event published for each batch of reservations moved to a new status by the lifecycle
+ * processor: confirmed stays completed after check-out (transition COMPLETED) and pending
+ * holds cancelled after their time to live (transition EXPIRED).
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class ReservationsTransitionedEvent {
+
+    public static final String TRANSITION_COMPLETED = "COMPLETED";
+    public static final String TRANSITION_EXPIRED = "EXPIRED";
+
+    @JsonProperty("transition")
+    private String transition;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("reservations")
+    private List<TransitionedReservation> reservations;
+
+    @JsonProperty("event_type")
+    private String eventType = "RESERVATIONS_TRANSITIONED";
+
+    @JsonProperty("event_timestamp")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime eventTimestamp;
+
+    /**
+     * Default constructor
+     */
+    public ReservationsTransitionedEvent() {
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    /**
+     * Constructor with all fields
+     */
+    public ReservationsTransitionedEvent(String transition, String status, List<TransitionedReservation> reservations) {
+        this.transition = transition;
+        this.status = status;
+        this.reservations = reservations;
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getTransition() {
+        return transition;
+    }
+
+    public void setTransition(String transition) {
+        this.transition = transition;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<TransitionedReservation> getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(List<TransitionedReservation> reservations) {
+        this.reservations = reservations;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public LocalDateTime getEventTimestamp() {
+        return eventTimestamp;
+    }
+
+    public void setEventTimestamp(LocalDateTime eventTimestamp) {
+        this.eventTimestamp = eventTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationsTransitionedEvent{" +
+                "transition='" + transition + '\'' +
+                ", status='" + status + '\'' +
+                ", reservations=" + (reservations != null ? reservations.size() : 0) +
+                ", eventTimestamp=" + eventTimestamp +
+                '}';
+    }
+
+    /**
+     * One reservation in the batch
+     */
+    public static class TransitionedReservation {
+
+        @JsonProperty("reservation_id")
+        private Long reservationId;
+
+        @JsonProperty("hotel_id")
+        private Long hotelId;
+
+        @JsonProperty("room_id")
+        private Long roomId;
+
+        @JsonProperty("guest_email")
+        private String guestEmail;
+
+        @JsonProperty("check_in_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate checkInDate;
+
+        @JsonProperty("check_out_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate checkOutDate;
+
+        // Default constructor
+        public TransitionedReservation() {
+        }
+
+        // Constructor with all fields
+        public TransitionedReservation(Long reservationId, Long hotelId, Long roomId, String guestEmail,
+                                       LocalDate checkInDate, LocalDate checkOutDate) {
+            this.reservationId = reservationId;
+            this.hotelId = hotelId;
+            this.roomId = roomId;
+            this.guestEmail = guestEmail;
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+        }
+
+        // Getters and Setters
+        public Long getReservationId() {
+            return reservationId;
+        }
+
+        public void setReservationId(Long reservationId) {
+            this.reservationId = reservationId;
+        }
+
+        public Long getHotelId() {
+            return hotelId;
+        }
+
+        public void setHotelId(Long hotelId) {
+            this.hotelId = hotelId;
+        }
+
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        public void setRoomId(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        public String getGuestEmail() {
+            return guestEmail;
+        }
+
+        public void setGuestEmail(String guestEmail) {
+            this.guestEmail = guestEmail;
+        }
+
+        public LocalDate getCheckInDate() {
+            return checkInDate;
+        }
+
+        public void setCheckInDate(LocalDate checkInDate) {
+            this.checkInDate = checkInDate;
+        }
+
+        public LocalDate getCheckOutDate() {
+            return checkOutDate;
+        }
+
+        public void setCheckOutDate(LocalDate checkOutDate) {
+            this.checkOutDate = checkOutDate;
+        }
+    }
+}
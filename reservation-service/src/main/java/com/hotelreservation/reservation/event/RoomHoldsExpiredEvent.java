@@ -0,0 +1,168 @@
+package com.hotelreservation.reservation.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Room Holds Expired Event
+ *
+ * Event published for the room holds that expired in one tick of the hold timing wheel;
+ * their rooms are available again for the held dates.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class RoomHoldsExpiredEvent {
+
+    @JsonProperty("holds")
+    private List<ExpiredHold> holds;
+
+    @JsonProperty("event_type")
+    private String eventType = "ROOM_HOLDS_EXPIRED";
+
+    @JsonProperty("event_timestamp")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime eventTimestamp;
+
+    /**
+     * Default constructor
+     */
+    public RoomHoldsExpiredEvent() {
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    /**
+     * Constructor with all fields
+     */
+    public RoomHoldsExpiredEvent(List<ExpiredHold> holds) {
+        this.holds = holds;
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public List<ExpiredHold> getHolds() {
+        return holds;
+    }
+
+    public void setHolds(List<ExpiredHold> holds) {
+        this.holds = holds;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public LocalDateTime getEventTimestamp() {
+        return eventTimestamp;
+    }
+
+    public void setEventTimestamp(LocalDateTime eventTimestamp) {
+        this.eventTimestamp = eventTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomHoldsExpiredEvent{" +
+                "holds=" + (holds != null ? holds.size() : 0) +
+                ", eventTimestamp=" + eventTimestamp +
+                '}';
+    }
+
+    /**
+     * One expired hold
+     */
+    public static class ExpiredHold {
+
+        @JsonProperty("hold_id")
+        private String holdId;
+
+        @JsonProperty("hotel_id")
+        private Long hotelId;
+
+        @JsonProperty("room_id")
+        private Long roomId;
+
+        @JsonProperty("check_in_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate checkInDate;
+
+        @JsonProperty("check_out_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate checkOutDate;
+
+        @JsonProperty("guest_email")
+        private String guestEmail;
+
+        // Default constructor
+        public ExpiredHold() {
+        }
+
+        // Constructor with all fields
+        public ExpiredHold(String holdId, Long hotelId, Long roomId, LocalDate checkInDate,
+                           LocalDate checkOutDate, String guestEmail) {
+            this.holdId = holdId;
+            this.hotelId = hotelId;
+            this.roomId = roomId;
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+            this.guestEmail = guestEmail;
+        }
+
+        // Getters and Setters
+        public String getHoldId() {
+            return holdId;
+        }
+
+        public void setHoldId(String holdId) {
+            this.holdId = holdId;
+        }
+
+        public Long getHotelId() {
+            return hotelId;
+        }
+
+        public void setHotelId(Long hotelId) {
+            this.hotelId = hotelId;
+        }
+
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        public void setRoomId(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        public LocalDate getCheckInDate() {
+            return checkInDate;
+        }
+
+        public void setCheckInDate(LocalDate checkInDate) {
+            this.checkInDate = checkInDate;
+        }
+
+        public LocalDate getCheckOutDate() {
+            return checkOutDate;
+        }
+
+        public void setCheckOutDate(LocalDate checkOutDate) {
+            this.checkOutDate = checkOutDate;
+        }
+
+        public String getGuestEmail() {
+            return guestEmail;
+        }
+
+        public void setGuestEmail(String guestEmail) {
+            this.guestEmail = guestEmail;
+        }
+    }
+}
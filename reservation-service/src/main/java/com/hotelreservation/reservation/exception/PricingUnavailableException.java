@@ -0,0 +1,38 @@
+package com.hotelreservation.reservation.exception;
+
+/**
+ * Pricing Unavailable Exception
+ *
+ * Exception thrown when the price of a stay cannot be obtained from hotel-service.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class PricingUnavailableException extends RuntimeException {
+
+    /**
+     * Default constructor
+     */
+    public PricingUnavailableException() {
+        super("Stay pricing is temporarily unavailable");
+    }
+
+    /**
+     * Constructor with message
+     *
+     * @param message the error message
+     */
+    public PricingUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with message and cause
+     *
+     * @param message the error message
+     * @param cause   the cause
+     */
+    public PricingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
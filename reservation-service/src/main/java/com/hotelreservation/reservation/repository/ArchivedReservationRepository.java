@@ -0,0 +1,36 @@
+package com.hotelreservation.reservation.repository;
+
+import com.hotelreservation.reservation.entity.ArchivedReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Archived Reservation Repository
+ *
+ * Read-through access to reservations moved to the archive table. Soft-deleted
+ * reservations are archived too but, as in the live table, never returned.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Repository
+public interface ArchivedReservationRepository extends JpaRepository<ArchivedReservation, Long> {
+
+    Optional<ArchivedReservation> findByIdAndActiveTrue(Long id);
+
+    List<ArchivedReservation> findByGuestEmailAndActiveTrueOrderByCheckInDateDesc(String guestEmail);
+
+    long countByGuestEmailAndActiveTrue(String guestEmail);
+
+    // Offset-based so a guest history page can continue from where the live rows end
+    @Query(value = "SELECT * FROM reservations_archive WHERE guest_email = :guestEmail AND active = true " +
+                   "ORDER BY check_in_date DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ArchivedReservation> findGuestHistory(@Param("guestEmail") String guestEmail,
+                                               @Param("offset") long offset,
+                                               @Param("limit") int limit);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,9 +46,37 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     Page<Reservation> findByGuestEmailAndActiveTrue(String guestEmail, Pageable pageable);
     long countByGuestEmailAndActiveTrue(String guestEmail);
 
-    // Find by guest name (case-insensitive)
-    List<Reservation> findByGuestNameContainingIgnoreCaseAndActiveTrue(String guestName);
-    Page<Reservation> findByGuestNameContainingIgnoreCaseAndActiveTrue(String guestName, Pageable pageable);
+    // Guest name substring search, served by the trigram index on lower(guest_name)
+    // (see db/search-indexes.sql). The pattern is lower-case with LIKE wildcards escaped.
+    @Query("SELECT r FROM Reservation r WHERE r.active = true AND LOWER(r.guestName) LIKE :pattern")
+    List<Reservation> findActiveByGuestNamePattern(@Param("pattern") String pattern);
+
+    @Query("SELECT r FROM Reservation r WHERE r.active = true AND LOWER(r.guestName) LIKE :pattern")
+    Page<Reservation> findActiveByGuestNamePattern(@Param("pattern") String pattern, Pageable pageable);
+
+    // Ranked guest name search, in two steps. Names starting with the term come from the
+    // "C"-collated expression index in index order, so the scan stops after :limit rows.
+    @Query(value = "SELECT r.* FROM reservations r " +
+                   "WHERE r.active = true AND lower(r.guest_name) COLLATE \"C\" LIKE :prefix " +
+                   "ORDER BY lower(r.guest_name) COLLATE \"C\" " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Reservation> findActiveByGuestNamePrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+
+    // Other names containing the term come from the trigram index. At most :candidates of them
+    // are ranked: a word starting with the term first, then by trigram word similarity.
+    @Query(value = "SELECT c.* FROM (" +
+                   "  SELECT r.* FROM reservations r" +
+                   "  WHERE r.active = true AND lower(r.guest_name) LIKE :contains AND lower(r.guest_name) NOT LIKE :prefix" +
+                   "  LIMIT :candidates" +
+                   ") c " +
+                   "ORDER BY lower(c.guest_name) LIKE :wordPrefix DESC, word_similarity(:term, lower(c.guest_name)) DESC, c.id " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Reservation> findActiveByGuestNameSubstring(@Param("term") String term,
+                                                     @Param("contains") String contains,
+                                                     @Param("prefix") String prefix,
+                                                     @Param("wordPrefix") String wordPrefix,
+                                                     @Param("candidates") int candidates,
+                                                     @Param("limit") int limit);
 
     // Find by status
     List<Reservation> findByStatusAndActiveTrue(ReservationStatus status);
@@ -79,36 +108,61 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findByStatusAndCheckOutDateBetweenAndActiveTrue(ReservationStatus status, LocalDate startDate, LocalDate endDate);
 
     // Conflict detection queries
+    // earliestCheckInDate is the requested start minus the maximum stay length. It bounds
+    // check_in_date from below so only the partitions that can hold an overlapping stay are scanned.
     @Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.roomId = :roomId AND r.active = true " +
            "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate >= :earliestCheckInDate " +
            "AND ((r.checkInDate <= :checkOutDate AND r.checkOutDate >= :checkInDate))")
     boolean existsConflictingReservation(@Param("roomId") Long roomId, 
                                        @Param("checkInDate") LocalDate checkInDate, 
-                                       @Param("checkOutDate") LocalDate checkOutDate);
+                                       @Param("checkOutDate") LocalDate checkOutDate,
+                                       @Param("earliestCheckInDate") LocalDate earliestCheckInDate);
 
     @Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.roomId = :roomId AND r.id != :reservationId AND r.active = true " +
            "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate >= :earliestCheckInDate " +
            "AND ((r.checkInDate <= :checkOutDate AND r.checkOutDate >= :checkInDate))")
     boolean existsConflictingReservationExcluding(@Param("roomId") Long roomId, 
                                                 @Param("reservationId") Long reservationId,
                                                 @Param("checkInDate") LocalDate checkInDate, 
-                                                @Param("checkOutDate") LocalDate checkOutDate);
+                                                @Param("checkOutDate") LocalDate checkOutDate,
+                                                @Param("earliestCheckInDate") LocalDate earliestCheckInDate);
 
     // Find conflicting reservations
     @Query("SELECT r FROM Reservation r WHERE r.roomId = :roomId AND r.active = true " +
            "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate >= :earliestCheckInDate " +
            "AND ((r.checkInDate <= :checkOutDate AND r.checkOutDate >= :checkInDate))")
     List<Reservation> findConflictingReservations(@Param("roomId") Long roomId, 
                                                  @Param("checkInDate") LocalDate checkInDate, 
-                                                 @Param("checkOutDate") LocalDate checkOutDate);
+                                                 @Param("checkOutDate") LocalDate checkOutDate,
+                                                 @Param("earliestCheckInDate") LocalDate earliestCheckInDate);
 
     // Find reservations for a specific date range
     @Query("SELECT r FROM Reservation r WHERE r.roomId = :roomId AND r.active = true " +
            "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate >= :earliestCheckInDate " +
            "AND r.checkInDate <= :endDate AND r.checkOutDate >= :startDate")
     List<Reservation> findReservationsInDateRange(@Param("roomId") Long roomId, 
                                                  @Param("startDate") LocalDate startDate, 
-                                                 @Param("endDate") LocalDate endDate);
+                                                 @Param("endDate") LocalDate endDate,
+                                                 @Param("earliestCheckInDate") LocalDate earliestCheckInDate);
+
+    // Nights booked in a hotel, one row per room: the room ID and its non-cancelled stays
+    // overlapping [startDate, endDate) as comma-separated "first:last+1" night pairs counted
+    // from startDate. Aggregating per room keeps the row count at the number of rooms, and only
+    // indexed columns are read, so the covering calendar index answers it without the table.
+    @Query(value = "SELECT r.room_id, string_agg((r.check_in_date - :startDate) || ':' || (r.check_out_date - :startDate), ',') " +
+                   "FROM reservations r WHERE r.hotel_id = :hotelId AND r.active = true " +
+                   "AND r.room_id IS NOT NULL AND r.status IN ('PENDING', 'CONFIRMED', 'COMPLETED') " +
+                   "AND r.check_in_date >= :earliestCheckInDate " +
+                   "AND r.check_in_date < :endDate AND r.check_out_date > :startDate " +
+                   "GROUP BY r.room_id", nativeQuery = true)
+    List<Object[]> findBookedNightsByHotel(@Param("hotelId") Long hotelId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate,
+                                          @Param("earliestCheckInDate") LocalDate earliestCheckInDate);
 
     // Find reservations by hotel and status
     List<Reservation> findByHotelIdAndStatusAndActiveTrue(Long hotelId, ReservationStatus status);
@@ -177,6 +231,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
            "ORDER BY r.checkInDate ASC")
     List<Reservation> findUpcomingReservationsByRoomId(@Param("roomId") Long roomId, @Param("today") LocalDate today);
 
+    // Reservations changed since a point in time, for refreshing in-memory views. Native, so
+    // the entity's active = true filter does not apply and soft deletes are returned too.
+    @Query(value = "SELECT r.* FROM reservations r WHERE r.updated_at >= :since", nativeQuery = true)
+    List<Reservation> findChangedSinceIncludingDeleted(@Param("since") LocalDateTime since);
+
     // Find today's check-ins
     @Query("SELECT r FROM Reservation r WHERE r.hotelId = :hotelId AND r.active = true " +
            "AND r.status IN ('PENDING', 'CONFIRMED') AND r.checkInDate = :today")
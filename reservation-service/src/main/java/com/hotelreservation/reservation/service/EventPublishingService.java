@@ -1,7 +1,13 @@
 package com.hotelreservation.reservation.service;
 
+import com.hotelreservation.events.ReservationCreatedEvent;
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.ReservationStatus;
 import com.hotelreservation.reservation.dto.ReservationDto;
-import com.hotelreservation.reservation.event.ReservationCreatedEvent;
+import com.hotelreservation.reservation.entity.Reservation;
+import com.hotelreservation.reservation.event.ReservationsTransitionedEvent;
+import com.hotelreservation.reservation.event.RoomHoldsExpiredEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,13 +15,19 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Event Publishing Service
  *
- * Service responsible for publishing events to Kafka.
+ * Service responsible for publishing events to Kafka. Every change to a reservation after
+ * its creation is published on the reservation events topic, keyed by hotel ID so that a
+ * hotel's changes stay in one partition and are read in the order they were made.
  *
  * @author Hotel Reservation System
  * @version 1.0.0
@@ -26,13 +38,24 @@ public class EventPublishingService {
     private static final Logger logger = LoggerFactory.getLogger(EventPublishingService.class);
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ReservationMetrics reservationMetrics;
 
     @Value("${kafka.topic.reservation-created:reservation-created-events}")
     private String reservationCreatedTopic;
 
+    @Value("${kafka.topic.reservation-lifecycle:reservation-lifecycle-events}")
+    private String reservationLifecycleTopic;
+
+    @Value("${kafka.topic.room-hold-expired:room-hold-expired-events}")
+    private String roomHoldExpiredTopic;
+
+    @Value("${kafka.topic.reservation-events:reservation-events}")
+    private String reservationEventsTopic;
+
     @Autowired
-    public EventPublishingService(KafkaTemplate<String, Object> kafkaTemplate) {
+    public EventPublishingService(KafkaTemplate<String, Object> kafkaTemplate, ReservationMetrics reservationMetrics) {
         this.kafkaTemplate = kafkaTemplate;
+        this.reservationMetrics = reservationMetrics;
     }
 
     /**
@@ -46,6 +69,7 @@ public class EventPublishingService {
             
             logger.info("Publishing reservation created event for reservation ID: {}", reservationDto.getId());
             
+            long sendStart = System.nanoTime();
             CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
                     reservationCreatedTopic,
                     reservationDto.getId().toString(),
@@ -53,6 +77,9 @@ public class EventPublishingService {
             );
 
             future.whenComplete((result, throwable) -> {
+                reservationMetrics.recordPublish(reservationCreatedTopic, reservationDto.getHotelId(),
+                        throwable == null ? ReservationMetrics.OUTCOME_SUCCESS : ReservationMetrics.OUTCOME_ERROR,
+                        System.nanoTime() - sendStart);
                 if (throwable == null) {
                     logger.info("Reservation created event published successfully for reservation ID: {}. " +
                             "Topic: {}, Partition: {}, Offset: {}", 
@@ -73,6 +100,100 @@ public class EventPublishingService {
         }
     }
 
+    /**
+     * Publish a change to a reservation once the transaction making it commits, so a
+     * change that is rolled back is never published and the event carries the version
+     * the change was committed with. Outside a transaction the change is published at once.
+     *
+     * @param eventType the change
+     * @param previousStatus the status before the change
+     * @param reservation the changed reservation
+     */
+    public void publishReservationChange(ReservationEventType eventType,
+                                         com.hotelreservation.reservation.entity.ReservationStatus previousStatus,
+                                         Reservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishReservationLifecycleEvent(createReservationLifecycleEvent(eventType, previousStatus, reservation));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // The version is incremented when the change is flushed, so read it only now
+                publishReservationLifecycleEvent(createReservationLifecycleEvent(eventType, previousStatus, reservation));
+            }
+        });
+    }
+
+    /**
+     * Publish a change to a reservation
+     *
+     * @param event the change
+     */
+    public void publishReservationLifecycleEvent(ReservationLifecycleEvent event) {
+        logger.debug("Publishing {} event for reservation ID: {}", event.getEventType(), event.getReservationId());
+
+        long sendStart = System.nanoTime();
+        try {
+            kafkaTemplate.send(reservationEventsTopic, Long.toString(event.getHotelId()), event)
+                    .whenComplete((result, throwable) -> {
+                        reservationMetrics.recordPublish(reservationEventsTopic, event.getHotelId(),
+                                throwable == null ? ReservationMetrics.OUTCOME_SUCCESS : ReservationMetrics.OUTCOME_ERROR,
+                                System.nanoTime() - sendStart);
+                        if (throwable != null) {
+                            logger.error("Failed to publish {} event for reservation ID: {}. Error: {}",
+                                    event.getEventType(), event.getReservationId(), throwable.getMessage(), throwable);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // The change is committed; a failed publish must not fail the request
+            logger.error("Error publishing {} event for reservation ID: {}. Error: {}",
+                    event.getEventType(), event.getReservationId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publish a batch of status transitions as one event
+     *
+     * @param event the transitioned reservations
+     */
+    public void publishReservationsTransitionedEvent(ReservationsTransitionedEvent event) {
+        logger.info("Publishing {} event for {} reservations", event.getTransition(), event.getReservations().size());
+
+        long sendStart = System.nanoTime();
+        kafkaTemplate.send(reservationLifecycleTopic, event.getTransition(), event)
+                .whenComplete((result, throwable) -> {
+                    reservationMetrics.recordPublish(reservationLifecycleTopic, null,
+                            throwable == null ? ReservationMetrics.OUTCOME_SUCCESS : ReservationMetrics.OUTCOME_ERROR,
+                            System.nanoTime() - sendStart);
+                    if (throwable != null) {
+                        logger.error("Failed to publish {} event for {} reservations. Error: {}",
+                                event.getTransition(), event.getReservations().size(), throwable.getMessage(), throwable);
+                    }
+                });
+    }
+
+    /**
+     * Publish the room holds that expired in one tick
+     *
+     * @param event the expired holds
+     */
+    public void publishRoomHoldsExpiredEvent(RoomHoldsExpiredEvent event) {
+        logger.debug("Publishing room holds expired event for {} holds", event.getHolds().size());
+
+        long sendStart = System.nanoTime();
+        kafkaTemplate.send(roomHoldExpiredTopic, event)
+                .whenComplete((result, throwable) -> {
+                    reservationMetrics.recordPublish(roomHoldExpiredTopic, null,
+                            throwable == null ? ReservationMetrics.OUTCOME_SUCCESS : ReservationMetrics.OUTCOME_ERROR,
+                            System.nanoTime() - sendStart);
+                    if (throwable != null) {
+                        logger.error("Failed to publish room holds expired event for {} holds. Error: {}",
+                                event.getHolds().size(), throwable.getMessage(), throwable);
+                    }
+                });
+    }
+
     /**
      * Create ReservationCreatedEvent from ReservationDto
      *
@@ -80,21 +201,62 @@ public class EventPublishingService {
      * @return the event
      */
     private ReservationCreatedEvent createReservationCreatedEvent(ReservationDto reservationDto) {
-        return new ReservationCreatedEvent(
-                reservationDto.getId(),
-                reservationDto.getHotelId(),
-                reservationDto.getRoomId(),
-                reservationDto.getGuestName(),
-                reservationDto.getGuestEmail(),
-                reservationDto.getGuestPhone(),
-                reservationDto.getCheckInDate(),
-                reservationDto.getCheckOutDate(),
-                reservationDto.getNumberOfGuests(),
-                reservationDto.getTotalPrice(),
-                reservationDto.getStatus() != null ? reservationDto.getStatus().name() : "PENDING",
-                reservationDto.getSpecialRequests(),
-                reservationDto.getCreatedAt()
-        );
+        return ReservationCreatedEvent.newBuilder()
+                .setReservationId(reservationDto.getId())
+                .setHotelId(reservationDto.getHotelId())
+                .setRoomId(reservationDto.getRoomId())
+                .setRoomType(reservationDto.getRoomType())
+                .setGuestName(reservationDto.getGuestName())
+                .setGuestEmail(reservationDto.getGuestEmail())
+                .setGuestPhone(reservationDto.getGuestPhone())
+                .setCheckInDate(reservationDto.getCheckInDate())
+                .setCheckOutDate(reservationDto.getCheckOutDate())
+                .setNumberOfGuests(reservationDto.getNumberOfGuests())
+                // The schema fixes the scale at 2, as in the reservations table
+                .setTotalPrice(reservationDto.getTotalPrice().setScale(2, RoundingMode.HALF_UP))
+                .setStatus(reservationDto.getStatus() != null
+                        ? toEventStatus(reservationDto.getStatus())
+                        : ReservationStatus.PENDING)
+                .setSpecialRequests(reservationDto.getSpecialRequests())
+                .setCreatedAt(reservationDto.getCreatedAt())
+                .setEventTimestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Create ReservationLifecycleEvent from a changed reservation
+     *
+     * @param eventType the change
+     * @param previousStatus the status before the change
+     * @param reservation the changed reservation
+     * @return the event
+     */
+    private ReservationLifecycleEvent createReservationLifecycleEvent(
+            ReservationEventType eventType,
+            com.hotelreservation.reservation.entity.ReservationStatus previousStatus,
+            Reservation reservation) {
+        return ReservationLifecycleEvent.newBuilder()
+                .setEventType(eventType)
+                .setReservationId(reservation.getId())
+                .setHotelId(reservation.getHotelId())
+                .setVersion(reservation.getVersion() != null ? reservation.getVersion() : 0L)
+                .setRoomId(reservation.getRoomId())
+                .setRoomType(reservation.getRoomType())
+                .setGuestName(reservation.getGuestName())
+                .setGuestEmail(reservation.getGuestEmail())
+                .setGuestPhone(reservation.getGuestPhone())
+                .setCheckInDate(reservation.getCheckInDate())
+                .setCheckOutDate(reservation.getCheckOutDate())
+                .setNumberOfGuests(reservation.getNumberOfGuests())
+                .setTotalPrice(reservation.getTotalPrice().setScale(2, RoundingMode.HALF_UP))
+                .setStatus(toEventStatus(reservation.getStatus()))
+                .setPreviousStatus(previousStatus != null ? toEventStatus(previousStatus) : null)
+                .setOccurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static ReservationStatus toEventStatus(com.hotelreservation.reservation.entity.ReservationStatus status) {
+        return ReservationStatus.valueOf(status.name());
     }
 
     /**
@@ -0,0 +1,371 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.dto.FrontDeskManifestDto;
+import com.hotelreservation.reservation.dto.ReservationDto;
+import com.hotelreservation.reservation.entity.Reservation;
+import com.hotelreservation.reservation.entity.ReservationStatus;
+import com.hotelreservation.reservation.event.ReservationChangedEvent;
+import com.hotelreservation.reservation.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Front Desk Manifest Cache
+ *
+ * Keeps each polled hotel's front desk manifest (today's check-ins and check-outs and the
+ * overdue stays) in memory, so terminals polling it never reach the database. A hotel's
+ * manifest is built on its first read and rebuilt shortly after the hotel's local
+ * midnight. In between it is patched one reservation at a time: after a change commits on
+ * this instance the reservation is reloaded and moved in or out of the lists, and a
+ * periodic refresh does the same for reservations changed through other instances,
+ * dropping the ones deleted there. A reservation older than the version already listed
+ * is ignored, so a slow refresh cannot undo a newer change.
+ *
+ * Every manifest carries an ETag derived from its date and the ID and version of each
+ * listed reservation, so it is the same on every instance and changes only when the
+ * content does.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class FrontDeskManifestCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FrontDeskManifestCache.class);
+
+    // updated_at is set before commit and clocks differ between hosts; look back far enough to cover both
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate primaryReadTemplate;
+    private final ZoneId defaultZone;
+    private final Map<Long, ZoneId> hotelZones = new HashMap<>();
+    private final ConcurrentMap<Long, HotelManifest> manifests = new ConcurrentHashMap<>();
+
+    private LocalDateTime lastRefresh = LocalDateTime.now();
+
+    @Autowired
+    public FrontDeskManifestCache(ReservationRepository reservationRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reservation.manifest.time-zone:UTC}") String defaultZone,
+                                  @Value("${reservation.manifest.hotel-time-zones:}") List<String> hotelZones) {
+        this.reservationRepository = reservationRepository;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        // Runs after the caller's commit, so it needs its own transaction on the primary to see it
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defaultZone = ZoneId.of(defaultZone);
+        for (String hotelZone : hotelZones) {
+            if (hotelZone.isBlank()) {
+                continue;
+            }
+            String[] parts = hotelZone.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid hotel time zone, expected hotelId=zone: " + hotelZone);
+            }
+            this.hotelZones.put(Long.valueOf(parts[0].trim()), ZoneId.of(parts[1].trim()));
+        }
+    }
+
+    /**
+     * Get a hotel's manifest for its current local date, building it if needed
+     *
+     * @param hotelId the hotel ID
+     * @return the manifest; shared between callers and not to be modified
+     */
+    public FrontDeskManifestDto getManifest(Long hotelId) {
+        LocalDate today = today(hotelId);
+        HotelManifest manifest = manifests.computeIfAbsent(hotelId, HotelManifest::new);
+        FrontDeskManifestDto snapshot = manifest.snapshot;
+        if (snapshot != null && snapshot.getDate().equals(today)) {
+            return snapshot;
+        }
+        // Concurrent first reads wait for one build instead of each querying the database
+        manifest.buildLock.lock();
+        try {
+            if (manifest.snapshot == null || !today.equals(manifest.snapshot.getDate())) {
+                materialize(manifest, today);
+            }
+            return manifest.snapshot;
+        } finally {
+            manifest.buildLock.unlock();
+        }
+    }
+
+    /**
+     * Move a reservation in or out of the manifests once a change to it has committed
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (manifests.isEmpty()) {
+            return;
+        }
+        try {
+            primaryReadTemplate.executeWithoutResult(status ->
+                    reservationRepository.findById(event.getReservationId()).ifPresentOrElse(
+                            this::apply, () -> remove(event.getReservationId())));
+        } catch (DataAccessException | TransactionException e) {
+            // The periodic refresh picks the reservation up again
+            logger.warn("Failed to update front desk manifests for reservation {}: {}",
+                    event.getReservationId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Apply reservations changed since the last refresh, including changes made through other instances
+     */
+    @Scheduled(fixedDelayString = "${reservation.manifest.refresh-interval-ms:30000}",
+               initialDelayString = "${reservation.manifest.refresh-interval-ms:30000}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (manifests.isEmpty()) {
+            lastRefresh = startedAt;
+            return;
+        }
+        try {
+            Integer applied = readTemplate.execute(status -> {
+                List<Reservation> changed = reservationRepository.findChangedSinceIncludingDeleted(
+                        lastRefresh.minus(REFRESH_OVERLAP));
+                changed.forEach(this::apply);
+                return changed.size();
+            });
+            lastRefresh = startedAt;
+            logger.debug("Front desk manifests refreshed with {} changed reservations", applied);
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Failed to refresh front desk manifests: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the manifests of hotels that have passed their local midnight
+     */
+    @Scheduled(cron = "${reservation.manifest.rollover-cron:0 * * * * *}")
+    public void rollOver() {
+        for (HotelManifest manifest : manifests.values()) {
+            LocalDate today = today(manifest.hotelId);
+            manifest.buildLock.lock();
+            try {
+                FrontDeskManifestDto snapshot = manifest.snapshot;
+                if (snapshot == null || today.equals(snapshot.getDate())) {
+                    continue;
+                }
+                materialize(manifest, today);
+            } catch (DataAccessException | TransactionException e) {
+                // Retried on the next run or the next read
+                logger.warn("Failed to roll over front desk manifest of hotel {}: {}",
+                        manifest.hotelId, e.getMessage());
+            } finally {
+                manifest.buildLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Load a hotel's lists for a date and make them its manifest. The lists are loaded
+     * before taking the manifest's lock, so changes to the other manifests and reads of
+     * this one never wait for the queries; a change applied meanwhile to the old lists is
+     * picked up again by the next refresh.
+     */
+    private void materialize(HotelManifest manifest, LocalDate today) {
+        long start = System.currentTimeMillis();
+        List<List<Reservation>> lists = readTemplate.execute(status -> List.of(
+                reservationRepository.findTodayCheckInsByHotelId(manifest.hotelId, today),
+                reservationRepository.findTodayCheckOutsByHotelId(manifest.hotelId, today),
+                reservationRepository.findOverdueReservationsByHotelId(manifest.hotelId, today)));
+        manifest.lock.lock();
+        try {
+            manifest.clear(today);
+            lists.get(0).forEach(reservation -> manifest.checkIns.put(reservation.getId(), convertToDto(reservation)));
+            lists.get(1).forEach(reservation -> manifest.checkOuts.put(reservation.getId(), convertToDto(reservation)));
+            lists.get(2).forEach(reservation -> manifest.overdue.put(reservation.getId(), convertToDto(reservation)));
+            manifest.publish();
+        } finally {
+            manifest.lock.unlock();
+        }
+        logger.debug("Front desk manifest of hotel {} for {} built in {}ms", manifest.hotelId, today,
+                System.currentTimeMillis() - start);
+    }
+
+    private void apply(Reservation reservation) {
+        long version = reservation.getVersion() != null ? reservation.getVersion() : 0;
+        for (HotelManifest manifest : manifests.values()) {
+            manifest.lock.lock();
+            try {
+                if (manifest.date == null) {
+                    continue;
+                }
+                if (manifest.listedVersion(reservation.getId()) > version) {
+                    // Already holds a newer state than this read
+                    continue;
+                }
+                // Remove first: the reservation may have been deleted, left the lists or moved to another hotel
+                boolean changed = manifest.remove(reservation.getId());
+                if (Boolean.TRUE.equals(reservation.getActive()) && manifest.hotelId.equals(reservation.getHotelId())) {
+                    changed |= manifest.add(reservation, this::convertToDto);
+                }
+                if (changed) {
+                    manifest.publish();
+                }
+            } finally {
+                manifest.lock.unlock();
+            }
+        }
+    }
+
+    private void remove(Long reservationId) {
+        for (HotelManifest manifest : manifests.values()) {
+            manifest.lock.lock();
+            try {
+                if (manifest.date != null && manifest.remove(reservationId)) {
+                    manifest.publish();
+                }
+            } finally {
+                manifest.lock.unlock();
+            }
+        }
+    }
+
+    private LocalDate today(Long hotelId) {
+        return LocalDate.now(hotelZones.getOrDefault(hotelId, defaultZone));
+    }
+
+    private ReservationDto convertToDto(Reservation entity) {
+        ReservationDto dto = new ReservationDto();
+        dto.setId(entity.getId());
+        dto.setHotelId(entity.getHotelId());
+        dto.setRoomId(entity.getRoomId());
+        dto.setRoomType(entity.getRoomType());
+        dto.setGuestName(entity.getGuestName());
+        dto.setGuestEmail(entity.getGuestEmail());
+        dto.setGuestPhone(entity.getGuestPhone());
+        dto.setCheckInDate(entity.getCheckInDate());
+        dto.setCheckOutDate(entity.getCheckOutDate());
+        dto.setNumberOfGuests(entity.getNumberOfGuests());
+        dto.setTotalPrice(entity.getTotalPrice());
+        dto.setStatus(entity.getStatus());
+        dto.setSpecialRequests(entity.getSpecialRequests());
+        dto.setActive(entity.getActive());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersion(entity.getVersion());
+        return dto;
+    }
+
+    /**
+     * One hotel's manifest. The lists are only touched under {@code lock}, which is never
+     * held across a query; readers get the immutable snapshot published after each change.
+     * {@code buildLock} lets one caller at a time load the lists for a new date.
+     */
+    private static final class HotelManifest {
+
+        private final Long hotelId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock buildLock = new ReentrantLock();
+        private final Map<Long, ReservationDto> checkIns = new TreeMap<>();
+        private final Map<Long, ReservationDto> checkOuts = new TreeMap<>();
+        private final Map<Long, ReservationDto> overdue = new TreeMap<>();
+        private LocalDate date;
+        private volatile FrontDeskManifestDto snapshot;
+
+        private HotelManifest(Long hotelId) {
+            this.hotelId = hotelId;
+        }
+
+        private void clear(LocalDate date) {
+            this.date = date;
+            checkIns.clear();
+            checkOuts.clear();
+            overdue.clear();
+        }
+
+        private boolean remove(Long reservationId) {
+            boolean removed = checkIns.remove(reservationId) != null;
+            removed |= checkOuts.remove(reservationId) != null;
+            removed |= overdue.remove(reservationId) != null;
+            return removed;
+        }
+
+        private long listedVersion(Long reservationId) {
+            ReservationDto listed = checkIns.get(reservationId);
+            if (listed == null) {
+                listed = checkOuts.get(reservationId);
+            }
+            if (listed == null) {
+                listed = overdue.get(reservationId);
+            }
+            return listed != null && listed.getVersion() != null ? listed.getVersion() : -1;
+        }
+
+        // Same conditions as the findTodayCheckIns/CheckOuts/OverdueReservationsByHotelId queries
+        private boolean add(Reservation reservation, Function<Reservation, ReservationDto> converter) {
+            if (!Boolean.TRUE.equals(reservation.getActive())
+                    || (reservation.getStatus() != ReservationStatus.PENDING
+                        && reservation.getStatus() != ReservationStatus.CONFIRMED)) {
+                return false;
+            }
+            boolean checksIn = date.equals(reservation.getCheckInDate());
+            boolean checksOut = date.equals(reservation.getCheckOutDate());
+            boolean isOverdue = reservation.getCheckOutDate().isBefore(date);
+            if (!checksIn && !checksOut && !isOverdue) {
+                return false;
+            }
+            ReservationDto dto = converter.apply(reservation);
+            if (checksIn) {
+                checkIns.put(reservation.getId(), dto);
+            }
+            if (checksOut) {
+                checkOuts.put(reservation.getId(), dto);
+            }
+            if (isOverdue) {
+                overdue.put(reservation.getId(), dto);
+            }
+            return true;
+        }
+
+        private void publish() {
+            FrontDeskManifestDto manifest = new FrontDeskManifestDto(hotelId, date, List.copyOf(checkIns.values()),
+                    List.copyOf(checkOuts.values()), List.copyOf(overdue.values()));
+            manifest.setEtag(etag());
+            snapshot = manifest;
+        }
+
+        private String etag() {
+            long hash = date.toEpochDay();
+            for (Map<Long, ReservationDto> list : List.of(checkIns, checkOuts, overdue)) {
+                hash = 31 * hash + list.size();
+                for (ReservationDto reservation : list.values()) {
+                    hash = 31 * hash + reservation.getId();
+                    hash = 31 * hash + (reservation.getVersion() != null ? reservation.getVersion() : 0);
+                }
+            }
+            return "\"" + hotelId + "-" + date + "-" + Long.toHexString(hash) + "\"";
+        }
+    }
+}
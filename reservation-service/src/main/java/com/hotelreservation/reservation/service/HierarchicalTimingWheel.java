@@ -0,0 +1,175 @@
+package com.hotelreservation.reservation.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical Timing Wheel
+ *
+ * Schedules values to expire at a deadline with O(1) insertion, cancellation and expiry.
+ * Time advances in ticks of tick-millis; the wheel has LEVELS levels of 64 slots, level n
+ * covering 64^(n+1) ticks. A value is placed in the lowest level whose range reaches its
+ * deadline and moves down one level each time the slot it sits in comes around, so
+ * advancing the wheel only touches the values that expire (plus at most LEVELS - 1 moves
+ * per value) and never scans the rest. Deadlines beyond the top level's range wait in
+ * the top level until they come within range.
+ *
+ * Not thread-safe; callers synchronize.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class HierarchicalTimingWheel<T> {
+
+    static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_SPAN_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Timeout<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * A scheduled value; cancel it through {@link #cancel(Timeout)}
+     */
+    public static final class Timeout<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isScheduled() {
+            return next != null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.slots = new Timeout[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timeout<T> sentinel = new Timeout<>(null, -1);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                slots[level][slot] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Schedule a value; deadlines at or before the current tick expire on the next tick
+     *
+     * @param value          the value
+     * @param deadlineMillis the deadline, in the clock the wheel is advanced with
+     * @return the handle to cancel it with
+     */
+    public Timeout<T> schedule(T value, long deadlineMillis) {
+        // Round up so nothing expires before its deadline
+        long deadlineTick = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        Timeout<T> timeout = new Timeout<>(value, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancel a scheduled value
+     *
+     * @return false if it already expired or was cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isScheduled()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advance the wheel to the given time, handing every value that expires to the consumer
+     *
+     * @return the number of expired values
+     */
+    public int advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        int count = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(currentTick);
+            Timeout<T> head = slots[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                Timeout<T> timeout = head.next;
+                unlink(timeout);
+                size--;
+                count++;
+                expired.accept(timeout.value);
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    // Move the values of every higher-level slot that comes around at this tick one level down
+    private void cascade(long tick) {
+        int top = 0;
+        while (top + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            Timeout<T> head = slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            Timeout<T> timeout = head.next;
+            head.prev = head;
+            head.next = head;
+            while (timeout != head) {
+                Timeout<T> following = timeout.next;
+                place(timeout);
+                timeout = following;
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        long placedTick = delta > MAX_SPAN_TICKS ? currentTick + MAX_SPAN_TICKS : timeout.deadlineTick;
+        int level = 0;
+        while (level + 1 < LEVELS && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        Timeout<T> head = slots[level][(int) ((placedTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    private static <T> void unlink(Timeout<T> timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+}
@@ -0,0 +1,173 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.dto.RateQuoteDto;
+import com.hotelreservation.reservation.exception.InvalidReservationDataException;
+import com.hotelreservation.reservation.exception.PricingUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.event.EventListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Hotel Pricing Client
+ *
+ * Prices stays with hotel-service's quote API, so the total price of a reservation is
+ * computed from the hotel's rate plans rather than taken from the client. A stay the
+ * hotel cannot price (unknown room or type, or beyond its priced window) is invalid; a
+ * hotel-service that cannot be reached fails the booking rather than let an unpriced
+ * stay through.
+ *
+ * Quotes go over RSocket (the rates.quote route, CBOR payloads) unless
+ * reservation.pricing.transport is http. An RSocket quote not answered within
+ * reservation.rpc.deadline-ms is cancelled and counts as hotel-service being unreachable.
+ *
+ * With reservation.pricing.enabled=false the price sent by the client is kept.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class HotelPricingClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelPricingClient.class);
+
+    public static final String TRANSPORT_RSOCKET = "rsocket";
+
+    private final RestClient restClient;
+    private final RSocketRequester hotelServiceRequester;
+    private final boolean enabled;
+    private final boolean rsocket;
+    private final Duration deadline;
+
+    @Autowired
+    public HotelPricingClient(@LoadBalanced RestClient.Builder restClientBuilder,
+                              @Qualifier("hotelServiceRequester") RSocketRequester hotelServiceRequester,
+                              @Value("${reservation.pricing.hotel-service-url:http://hotel-service}") String hotelServiceUrl,
+                              @Value("${reservation.pricing.enabled:true}") boolean enabled,
+                              @Value("${reservation.pricing.transport:rsocket}") String transport,
+                              @Value("${reservation.rpc.deadline-ms:2000}") long deadlineMillis) {
+        this.restClient = restClientBuilder.baseUrl(hotelServiceUrl).build();
+        this.hotelServiceRequester = hotelServiceRequester;
+        this.enabled = enabled;
+        this.rsocket = TRANSPORT_RSOCKET.equalsIgnoreCase(transport);
+        this.deadline = Duration.ofMillis(deadlineMillis);
+    }
+
+    /**
+     * Open the RSocket connection ahead of the first booking, which would otherwise pay for it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void connect() {
+        if (!enabled || !rsocket) {
+            return;
+        }
+        hotelServiceRequester.rsocketClient().source()
+                .timeout(deadline)
+                .subscribe(connection -> logger.info("Connected to hotel-service over RSocket"),
+                        e -> logger.warn("Could not connect to hotel-service over RSocket yet: {}", e.getMessage()));
+    }
+
+    /**
+     * Whether stays are priced by hotel-service
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Price a stay in a room, or in any room of a type
+     *
+     * @param hotelId hotel ID
+     * @param roomId room ID, or null to price by type
+     * @param roomType room type; ignored by hotel-service when roomId is given
+     * @param checkInDate check-in date
+     * @param checkOutDate check-out date
+     * @param numberOfGuests number of guests
+     * @return total price of the stay
+     * @throws InvalidReservationDataException if the hotel cannot price the stay
+     * @throws PricingUnavailableException if hotel-service cannot be reached
+     */
+    public BigDecimal quote(Long hotelId, Long roomId, String roomType, LocalDate checkInDate,
+                            LocalDate checkOutDate, int numberOfGuests) {
+        RateQuoteDto quote = rsocket
+                ? quoteOverRSocket(hotelId, roomId, roomType, checkInDate, checkOutDate, numberOfGuests)
+                : quoteOverHttp(hotelId, roomId, roomType, checkInDate, checkOutDate, numberOfGuests);
+        if (quote == null || quote.getTotalPrice() == null) {
+            throw new PricingUnavailableException(String.format("Hotel %d returned an empty quote", hotelId));
+        }
+        logger.debug("Priced stay at hotel {} from {} to {}: {}", hotelId, checkInDate, checkOutDate,
+                quote.getTotalPrice());
+        return quote.getTotalPrice();
+    }
+
+    private RateQuoteDto quoteOverRSocket(Long hotelId, Long roomId, String roomType, LocalDate checkInDate,
+                                          LocalDate checkOutDate, int numberOfGuests) {
+        RateQuoteDto request = new RateQuoteDto(hotelId, roomId, roomId == null ? roomType : null, checkInDate,
+                checkOutDate, numberOfGuests, null, null);
+        Optional<RateQuoteDto> quote;
+        try {
+            quote = hotelServiceRequester.route("rates.quote")
+                    .data(request)
+                    .retrieveMono(RateQuoteDto.class)
+                    .timeout(deadline)
+                    .blockOptional();
+        } catch (RuntimeException e) {
+            // Timeouts, closed connections, no instance before the deadline and errors raised by hotel-service
+            throw unavailable(hotelId, e);
+        }
+        // An empty reply is hotel-service's 400 or 404
+        return quote.orElseThrow(() -> noPrice(hotelId, roomId, roomType, checkInDate, checkOutDate));
+    }
+
+    private RateQuoteDto quoteOverHttp(Long hotelId, Long roomId, String roomType, LocalDate checkInDate,
+                                       LocalDate checkOutDate, int numberOfGuests) {
+        try {
+            return restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/hotels/{hotelId}/quote")
+                            .queryParamIfPresent("roomId", Optional.ofNullable(roomId))
+                            .queryParamIfPresent("roomType", Optional.ofNullable(roomId == null ? roomType : null))
+                            .queryParam("checkInDate", checkInDate)
+                            .queryParam("checkOutDate", checkOutDate)
+                            .queryParam("numberOfGuests", numberOfGuests)
+                            .build(hotelId))
+                    .retrieve()
+                    .body(RateQuoteDto.class);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND || e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                throw noPrice(hotelId, roomId, roomType, checkInDate, checkOutDate);
+            }
+            throw unavailable(hotelId, e);
+        } catch (RestClientException | IllegalStateException e) {
+            // The load balancer throws IllegalStateException when no instance is registered
+            throw unavailable(hotelId, e);
+        }
+    }
+
+    private static InvalidReservationDataException noPrice(Long hotelId, Long roomId, String roomType,
+                                                           LocalDate checkInDate, LocalDate checkOutDate) {
+        return new InvalidReservationDataException(String.format(
+                "Invalid reservation: hotel %d has no price for %s between %s and %s", hotelId,
+                roomId != null ? "room " + roomId : roomType + " rooms", checkInDate, checkOutDate));
+    }
+
+    private static PricingUnavailableException unavailable(Long hotelId, Exception cause) {
+        logger.warn("Could not price a stay at hotel {}: {}", hotelId, cause.getMessage());
+        return new PricingUnavailableException(String.format(
+                "Stay pricing for hotel %d is temporarily unavailable", hotelId), cause);
+    }
+}
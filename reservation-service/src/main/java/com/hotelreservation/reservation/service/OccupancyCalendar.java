@@ -0,0 +1,137 @@
+package com.hotelreservation.reservation.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Occupancy Calendar
+ *
+ * Room × night occupancy grid for one hotel and date window. Each room is a bitset with
+ * one bit per night: bit i is set when the room is booked for the night starting on
+ * startDate + i. A stay occupies the nights from its check-in date up to, but not
+ * including, its check-out date.
+ *
+ * Two encodings are supported:
+ * <ul>
+ *   <li>{@code bitmap}: the bits packed little-endian (night i is bit i % 8 of byte i / 8)
+ *       and Base64-encoded, always ceil(nights / 8) bytes long;</li>
+ *   <li>{@code rle}: comma-separated run lengths alternating free and booked, starting
+ *       with a free run (which is 0 when the first night is booked). The runs add up to
+ *       nights.</li>
+ * </ul>
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+public class OccupancyCalendar {
+
+    public static final String BITMAP = "bitmap";
+    public static final String RLE = "rle";
+
+    private final LocalDate startDate;
+    private final int nights;
+    private final Map<Long, BitSet> rooms = new TreeMap<>();
+
+    public OccupancyCalendar(LocalDate startDate, int nights) {
+        this.startDate = startDate;
+        this.nights = nights;
+    }
+
+    /**
+     * Mark the nights of a stay as booked, clipped to the window
+     *
+     * @param roomId the room ID
+     * @param checkInDate the check-in date
+     * @param checkOutDate the check-out date
+     */
+    public void occupy(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        occupy(roomId, ChronoUnit.DAYS.between(startDate, checkInDate), ChronoUnit.DAYS.between(startDate, checkOutDate));
+    }
+
+    /**
+     * Mark nights as booked, clipped to the window
+     *
+     * @param roomId the room ID
+     * @param fromNight the first booked night, counted from startDate
+     * @param toNight the night after the last booked night, counted from startDate
+     */
+    public void occupy(Long roomId, long fromNight, long toNight) {
+        int from = (int) Math.max(0, fromNight);
+        int to = (int) Math.min(nights, toNight);
+        if (from < to) {
+            rooms.computeIfAbsent(roomId, id -> new BitSet(nights)).set(from, to);
+        }
+    }
+
+    /**
+     * Mark a list of night ranges as booked, clipped to the window
+     *
+     * @param roomId the room ID
+     * @param nightRanges comma-separated "first:last+1" night pairs, counted from startDate
+     */
+    public void occupy(Long roomId, String nightRanges) {
+        int start = 0;
+        while (start < nightRanges.length()) {
+            int colon = nightRanges.indexOf(':', start);
+            int comma = nightRanges.indexOf(',', colon);
+            int end = comma < 0 ? nightRanges.length() : comma;
+            occupy(roomId, Integer.parseInt(nightRanges, start, colon, 10), Integer.parseInt(nightRanges, colon + 1, end, 10));
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Encode every room with at least one booked night, by room ID
+     *
+     * @param encoding {@link #BITMAP} or {@link #RLE}
+     * @return encoded occupancy by room ID
+     */
+    public Map<Long, String> encode(String encoding) {
+        Map<Long, String> encoded = new LinkedHashMap<>();
+        for (Map.Entry<Long, BitSet> room : rooms.entrySet()) {
+            encoded.put(room.getKey(), RLE.equals(encoding)
+                    ? toRunLengths(room.getValue(), nights)
+                    : toBitmap(room.getValue(), nights));
+        }
+        return encoded;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    static String toBitmap(BitSet nightsBooked, int nights) {
+        // toByteArray drops trailing zero bytes; pad so every room has the same length
+        byte[] bytes = Arrays.copyOf(nightsBooked.toByteArray(), (nights + 7) / 8);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    static String toRunLengths(BitSet nightsBooked, int nights) {
+        StringBuilder runs = new StringBuilder();
+        int night = 0;
+        boolean booked = false;
+        while (night < nights) {
+            int next = booked ? nightsBooked.nextClearBit(night) : nightsBooked.nextSetBit(night);
+            if (next < 0 || next > nights) {
+                next = nights;
+            }
+            if (runs.length() > 0) {
+                runs.append(',');
+            }
+            runs.append(next - night);
+            night = next;
+            booked = !booked;
+        }
+        return runs.toString();
+    }
+}
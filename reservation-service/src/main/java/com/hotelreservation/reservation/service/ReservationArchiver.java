@@ -0,0 +1,168 @@
+package com.hotelreservation.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservation Archiver
+ *
+ * Moves cold reservations out of the live {@code reservations} table into
+ * {@code reservations_archive}: completed and cancelled stays some days after check-out,
+ * and soft-deleted reservations some days after deletion. Each batch deletes and
+ * archives up to batch-size rows in one transaction with {@code FOR UPDATE SKIP LOCKED},
+ * so concurrent bookings and other instances of the job are never blocked.
+ *
+ * The job throttles itself: it sleeps between batches so it works at most duty-cycle of
+ * the time, pauses while the database has more than max-active-sessions busy backends,
+ * and stops when the run exceeds max-run-minutes. Whatever is left is picked up by the
+ * next run.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationArchiver.class);
+
+    private static final String ARCHIVED_COLUMNS =
+            "id, hotel_id, room_id, room_type, guest_name, guest_email, guest_phone, check_in_date, check_out_date, " +
+            "number_of_guests, total_price, status, special_requests, active, created_at, updated_at, deleted_at, version";
+
+    // check_in_date < cutoff is implied by check_out_date < cutoff; it lets the planner prune partitions
+    private static final String ARCHIVE_BATCH_SQL =
+            "WITH cold AS (" +
+            "  SELECT id, check_in_date FROM reservations" +
+            "  WHERE (status IN ('COMPLETED', 'CANCELLED') AND check_out_date < ? AND check_in_date < ?)" +
+            "     OR (active = false AND updated_at < ?)" +
+            "  LIMIT ? FOR UPDATE SKIP LOCKED" +
+            "), moved AS (" +
+            "  DELETE FROM reservations r USING cold" +
+            "  WHERE r.id = cold.id AND r.check_in_date = cold.check_in_date" +
+            "  RETURNING " + prefixed("r.", ARCHIVED_COLUMNS) +
+            ") " +
+            "INSERT INTO reservations_archive (" + ARCHIVED_COLUMNS + ", archived_at) " +
+            "SELECT " + ARCHIVED_COLUMNS + ", now() FROM moved";
+
+    private static final String ACTIVE_SESSIONS_SQL =
+            "SELECT count(*) FROM pg_stat_activity " +
+            "WHERE state = 'active' AND datname = current_database() AND pid <> pg_backend_pid()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int coldAfterDays;
+    private final int softDeletedAfterDays;
+    private final int batchSize;
+    private final double dutyCycle;
+    private final int maxActiveSessions;
+    private final long loadPauseMillis;
+    private final long maxRunMillis;
+    private final Counter archivedRows;
+    private final Timer batchTimer;
+
+    @Autowired
+    public ReservationArchiver(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${reservation.archive.cold-after-days:30}") int coldAfterDays,
+                               @Value("${reservation.archive.soft-deleted-after-days:7}") int softDeletedAfterDays,
+                               @Value("${reservation.archive.batch-size:500}") int batchSize,
+                               @Value("${reservation.archive.duty-cycle:0.5}") double dutyCycle,
+                               @Value("${reservation.archive.max-active-sessions:16}") int maxActiveSessions,
+                               @Value("${reservation.archive.load-pause-ms:5000}") long loadPauseMillis,
+                               @Value("${reservation.archive.max-run-minutes:30}") long maxRunMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coldAfterDays = coldAfterDays;
+        this.softDeletedAfterDays = softDeletedAfterDays;
+        this.batchSize = batchSize;
+        this.dutyCycle = Math.min(1.0, Math.max(0.01, dutyCycle));
+        this.maxActiveSessions = maxActiveSessions;
+        this.loadPauseMillis = loadPauseMillis;
+        this.maxRunMillis = TimeUnit.MINUTES.toMillis(maxRunMinutes);
+        this.archivedRows = Counter.builder("reservation.archive.rows")
+                .description("Reservations moved to the archive table")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("reservation.archive.batch")
+                .description("Time to archive one batch of reservations")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archive cold reservations until none are left, the run budget is used up or the
+     * database stays too busy
+     */
+    @Scheduled(cron = "${reservation.archive.cron:0 30 3 * * *}")
+    public void archiveColdReservations() {
+        long deadline = System.currentTimeMillis() + maxRunMillis;
+        LocalDate coldCutoff = LocalDate.now(ZoneOffset.UTC).minusDays(coldAfterDays);
+        LocalDateTime softDeleteCutoff = LocalDateTime.now(ZoneOffset.UTC).minusDays(softDeletedAfterDays);
+        long total = 0;
+
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                if (databaseBusy()) {
+                    logger.debug("Database busy, pausing archival for {}ms", loadPauseMillis);
+                    Thread.sleep(loadPauseMillis);
+                    continue;
+                }
+
+                long start = System.nanoTime();
+                int moved = archiveBatch(coldCutoff, softDeleteCutoff);
+                long elapsed = System.nanoTime() - start;
+                batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                archivedRows.increment(moved);
+                total += moved;
+
+                if (moved < batchSize) {
+                    break;
+                }
+                // Work for dutyCycle of the time, rest for the remainder
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis((long) (elapsed * (1 - dutyCycle) / dutyCycle)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException | TransactionException e) {
+            logger.error("Reservation archival failed after {} rows: {}", total, e.getMessage(), e);
+        }
+
+        if (total > 0) {
+            logger.info("Archived {} cold reservations", total);
+        }
+    }
+
+    private int archiveBatch(LocalDate coldCutoff, LocalDateTime softDeleteCutoff) {
+        Integer moved = transactionTemplate.execute(status -> jdbcTemplate.update(ARCHIVE_BATCH_SQL,
+                coldCutoff, coldCutoff, Timestamp.valueOf(softDeleteCutoff), batchSize));
+        return moved != null ? moved : 0;
+    }
+
+    private boolean databaseBusy() {
+        Integer active = jdbcTemplate.queryForObject(ACTIVE_SESSIONS_SQL, Integer.class);
+        return active != null && active > maxActiveSessions;
+    }
+
+    private static String prefixed(String prefix, String columns) {
+        return prefix + columns.replace(", ", ", " + prefix);
+    }
+}
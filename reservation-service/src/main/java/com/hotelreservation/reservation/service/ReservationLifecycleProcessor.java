@@ -0,0 +1,228 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.events.ReservationLifecycleEvent;
+import com.hotelreservation.events.ReservationStatus;
+import com.hotelreservation.reservation.event.ReservationsTransitionedEvent;
+import com.hotelreservation.reservation.event.ReservationsTransitionedEvent.TransitionedReservation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reservation Lifecycle Processor
+ *
+ * Moves reservations through their time-driven transitions in bulk: confirmed stays are
+ * completed complete-after-days after check-out, and pending holds are cancelled
+ * (expired) once they are older than pending-ttl-minutes. Each batch is one
+ * {@code UPDATE ... RETURNING} over up to batch-size rows picked with
+ * {@code FOR UPDATE SKIP LOCKED}, followed by one {@link ReservationsTransitionedEvent}
+ * for the whole batch and one {@link ReservationLifecycleEvent} per reservation after it
+ * commits.
+ *
+ * Several instances may run the job; each batch first takes a transaction-scoped
+ * advisory lock and the run stops when another instance holds it.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationLifecycleProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationLifecycleProcessor.class);
+
+    // Arbitrary but fixed, shared by every reservation-service instance
+    private static final long ADVISORY_LOCK_KEY = 0x6c69666563796c65L;
+
+    private static final String RETURNED_COLUMNS =
+            "r.id, r.hotel_id, r.version, r.room_id, r.room_type, r.guest_name, r.guest_email, r.guest_phone, " +
+            "r.check_in_date, r.check_out_date, r.number_of_guests, r.total_price, r.status";
+
+    // check_in_date < cutoff is implied by check_out_date < cutoff; it lets the planner prune partitions
+    private static final String COMPLETE_BATCH_SQL =
+            "WITH due AS (" +
+            "  SELECT id, check_in_date FROM reservations" +
+            "  WHERE status = 'CONFIRMED' AND active AND check_out_date < ? AND check_in_date < ?" +
+            "  LIMIT ? FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "UPDATE reservations r SET status = 'COMPLETED', updated_at = ?, version = COALESCE(r.version, 0) + 1 " +
+            "FROM due WHERE r.id = due.id AND r.check_in_date = due.check_in_date " +
+            "RETURNING " + RETURNED_COLUMNS;
+
+    // Cancelled holds give their nights back to the room type inventory (RoomTypeInventory)
+    // in the same statement
+    private static final String EXPIRE_BATCH_SQL =
+            "WITH due AS (" +
+            "  SELECT id, check_in_date FROM reservations" +
+            "  WHERE status = 'PENDING' AND active AND created_at < ?" +
+            "  LIMIT ? FOR UPDATE SKIP LOCKED" +
+            "), expired AS (" +
+            "  UPDATE reservations r SET status = 'CANCELLED', updated_at = ?, version = COALESCE(r.version, 0) + 1" +
+            "  FROM due WHERE r.id = due.id AND r.check_in_date = due.check_in_date" +
+            "  RETURNING " + RETURNED_COLUMNS +
+            "), released AS (" +
+            "  UPDATE room_type_inventory i SET booked = GREATEST(i.booked - n.stays, 0)" +
+            "  FROM (SELECT e.hotel_id, e.room_type, d::date AS night, count(*) AS stays" +
+            "        FROM expired e, generate_series(e.check_in_date, e.check_out_date - 1, interval '1 day') AS d" +
+            "        WHERE e.room_type IS NOT NULL GROUP BY 1, 2, 3) n" +
+            "  WHERE i.hotel_id = n.hotel_id AND i.room_type = n.room_type AND i.night = n.night" +
+            ") " +
+            "SELECT * FROM expired";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPublishingService eventPublishingService;
+    private final int completeAfterDays;
+    private final long pendingTtlMinutes;
+    private final int batchSize;
+    private final Counter completedRows;
+    private final Counter expiredRows;
+
+    @Autowired
+    public ReservationLifecycleProcessor(JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         EventPublishingService eventPublishingService,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${reservation.lifecycle.complete-after-days:1}") int completeAfterDays,
+                                         @Value("${reservation.lifecycle.pending-ttl-minutes:1440}") long pendingTtlMinutes,
+                                         @Value("${reservation.lifecycle.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublishingService = eventPublishingService;
+        this.completeAfterDays = completeAfterDays;
+        this.pendingTtlMinutes = pendingTtlMinutes;
+        this.batchSize = batchSize;
+        this.completedRows = Counter.builder("reservation.lifecycle.transitions")
+                .description("Reservations moved to a new status by the lifecycle processor")
+                .tag("transition", ReservationsTransitionedEvent.TRANSITION_COMPLETED)
+                .register(meterRegistry);
+        this.expiredRows = Counter.builder("reservation.lifecycle.transitions")
+                .description("Reservations moved to a new status by the lifecycle processor")
+                .tag("transition", ReservationsTransitionedEvent.TRANSITION_EXPIRED)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Complete finished stays and expire stale holds
+     */
+    @Scheduled(fixedDelayString = "${reservation.lifecycle.interval-ms:60000}")
+    public void processTransitions() {
+        // Dates and timestamps are local, like the ones the entity listeners write
+        LocalDate checkOutCutoff = LocalDate.now().minusDays(completeAfterDays - 1L);
+        LocalDateTime createdCutoff = LocalDateTime.now().minusMinutes(pendingTtlMinutes);
+
+        if (run(ReservationsTransitionedEvent.TRANSITION_COMPLETED, "COMPLETED", ReservationEventType.COMPLETED,
+                ReservationStatus.CONFIRMED, completedRows, COMPLETE_BATCH_SQL, checkOutCutoff, checkOutCutoff)) {
+            run(ReservationsTransitionedEvent.TRANSITION_EXPIRED, "CANCELLED", ReservationEventType.EXPIRED,
+                    ReservationStatus.PENDING, expiredRows, EXPIRE_BATCH_SQL, Timestamp.valueOf(createdCutoff));
+        }
+    }
+
+    /**
+     * Apply one transition batch by batch until no due rows are left
+     *
+     * @return false when another instance holds the lock or the database failed
+     */
+    private boolean run(String transition, String status, ReservationEventType eventType,
+                        ReservationStatus previousStatus, Counter counter, String sql, Object... cutoffs) {
+        RowMapper<ReservationLifecycleEvent> rowMapper = rowMapper(eventType, previousStatus);
+        long total = 0;
+        try {
+            while (true) {
+                List<ReservationLifecycleEvent> batch = transitionBatch(sql, rowMapper, cutoffs);
+                if (batch == null) {
+                    logger.debug("Reservation lifecycle processing is running on another instance");
+                    return false;
+                }
+                if (!batch.isEmpty()) {
+                    counter.increment(batch.size());
+                    total += batch.size();
+                    List<TransitionedReservation> reservations = new ArrayList<>(batch.size());
+                    for (ReservationLifecycleEvent event : batch) {
+                        eventPublishingService.publishReservationLifecycleEvent(event);
+                        reservations.add(new TransitionedReservation(event.getReservationId(), event.getHotelId(),
+                                event.getRoomId(), event.getGuestEmail(), event.getCheckInDate(), event.getCheckOutDate()));
+                    }
+                    eventPublishingService.publishReservationsTransitionedEvent(
+                            new ReservationsTransitionedEvent(transition, status, reservations));
+                }
+                if (batch.size() < batchSize) {
+                    return true;
+                }
+            }
+        } catch (DataAccessException | TransactionException e) {
+            logger.error("Reservation lifecycle transition {} failed after {} rows: {}", transition, total, e.getMessage(), e);
+            return false;
+        } finally {
+            if (total > 0) {
+                logger.info("Reservation lifecycle transition {}: {} reservations", transition, total);
+            }
+        }
+    }
+
+    /**
+     * Transition one batch in its own transaction
+     *
+     * @return the transitioned reservations, or null when the advisory lock is taken
+     */
+    private List<ReservationLifecycleEvent> transitionBatch(String sql, RowMapper<ReservationLifecycleEvent> rowMapper,
+                                                            Object[] cutoffs) {
+        return transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return null;
+            }
+            Object[] args = new Object[cutoffs.length + 2];
+            System.arraycopy(cutoffs, 0, args, 0, cutoffs.length);
+            args[cutoffs.length] = batchSize;
+            args[cutoffs.length + 1] = Timestamp.valueOf(LocalDateTime.now());
+            return jdbcTemplate.query(sql, rowMapper, args);
+        });
+    }
+
+    /**
+     * Map a transitioned row to the event published for it
+     */
+    private static RowMapper<ReservationLifecycleEvent> rowMapper(ReservationEventType eventType,
+                                                                 ReservationStatus previousStatus) {
+        return (rs, rowNum) -> ReservationLifecycleEvent.newBuilder()
+                .setEventType(eventType)
+                .setReservationId(rs.getLong("id"))
+                .setHotelId(rs.getLong("hotel_id"))
+                .setVersion(rs.getLong("version"))
+                .setRoomId(rs.getObject("room_id", Long.class))
+                .setRoomType(rs.getString("room_type"))
+                .setGuestName(rs.getString("guest_name"))
+                .setGuestEmail(rs.getString("guest_email"))
+                .setGuestPhone(rs.getString("guest_phone"))
+                .setCheckInDate(rs.getObject("check_in_date", LocalDate.class))
+                .setCheckOutDate(rs.getObject("check_out_date", LocalDate.class))
+                .setNumberOfGuests(rs.getInt("number_of_guests"))
+                .setTotalPrice(rs.getBigDecimal("total_price").setScale(2, RoundingMode.HALF_UP))
+                .setStatus(ReservationStatus.valueOf(rs.getString("status")))
+                .setPreviousStatus(previousStatus)
+                .setOccurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.exception.InvalidReservationDataException;
+import com.hotelreservation.reservation.exception.ReservationConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Reservation Metrics
+ *
+ * Micrometer timers for the reservation booking path. Every timer carries the same
+ * {@code hotel.bucket} and {@code outcome} tags so the phases of a booking can be
+ * compared side by side on a dashboard. Hotel IDs are folded into a fixed number of
+ * buckets to keep tag cardinality bounded.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class ReservationMetrics {
+
+    public static final String PHASE_VALIDATION = "validation";
+    public static final String PHASE_PRICING = "pricing";
+    public static final String PHASE_CONFLICT_CHECK = "conflict_check";
+    public static final String PHASE_INSERT = "insert";
+    public static final String PHASE_PUBLISH = "publish";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_INVALID = "invalid";
+    public static final String OUTCOME_CONFLICT = "conflict";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static final String CREATE_TIMER = "reservation.create";
+    private static final String PHASE_TIMER = "reservation.create.phase";
+    private static final String PUBLISH_TIMER = "reservation.events.publish";
+
+    private final MeterRegistry meterRegistry;
+    private final int hotelBuckets;
+
+    @Autowired
+    public ReservationMetrics(MeterRegistry meterRegistry,
+                              @Value("${reservation.metrics.hotel-buckets:16}") int hotelBuckets) {
+        this.meterRegistry = meterRegistry;
+        this.hotelBuckets = Math.max(1, hotelBuckets);
+    }
+
+    /**
+     * Start timing a whole reservation creation
+     *
+     * @return the timer sample
+     */
+    public Timer.Sample startCreate() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stop timing a reservation creation
+     *
+     * @param sample the sample returned by {@link #startCreate()}
+     * @param hotelId the hotel ID, may be null
+     * @param outcome the outcome tag value
+     */
+    public void stopCreate(Timer.Sample sample, Long hotelId, String outcome) {
+        sample.stop(Timer.builder(CREATE_TIMER)
+                .description("Time to create a reservation")
+                .tag("hotel.bucket", hotelBucket(hotelId))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Time a single phase of reservation creation
+     *
+     * @param phase the phase name
+     * @param hotelId the hotel ID, may be null
+     * @param action the phase to run
+     * @return the phase result
+     */
+    public <T> T recordPhase(String phase, Long hotelId, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_SUCCESS;
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            Timer.builder(PHASE_TIMER)
+                    .description("Time spent in each phase of reservation creation")
+                    .tag("phase", phase)
+                    .tag("hotel.bucket", hotelBucket(hotelId))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Time a single phase of reservation creation that returns nothing
+     *
+     * @param phase the phase name
+     * @param hotelId the hotel ID, may be null
+     * @param action the phase to run
+     */
+    public void recordPhase(String phase, Long hotelId, Runnable action) {
+        recordPhase(phase, hotelId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Record the broker acknowledgement latency of an event send
+     *
+     * @param topic the topic name
+     * @param hotelId the hotel ID, may be null
+     * @param outcome the outcome tag value
+     * @param durationNanos the time from send to acknowledgement
+     */
+    public void recordPublish(String topic, Long hotelId, String outcome, long durationNanos) {
+        Timer.builder(PUBLISH_TIMER)
+                .description("Time from sending an event to the broker acknowledgement")
+                .tag("topic", topic)
+                .tag("hotel.bucket", hotelBucket(hotelId))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Map an exception to an outcome tag value
+     *
+     * @param throwable the failure
+     * @return the outcome tag value
+     */
+    public String outcomeOf(Throwable throwable) {
+        if (throwable instanceof InvalidReservationDataException) {
+            return OUTCOME_INVALID;
+        }
+        if (throwable instanceof ReservationConflictException) {
+            return OUTCOME_CONFLICT;
+        }
+        return OUTCOME_ERROR;
+    }
+
+    /**
+     * Fold a hotel ID into a bounded bucket tag value
+     *
+     * @param hotelId the hotel ID, may be null
+     * @return the bucket tag value
+     */
+    public String hotelBucket(Long hotelId) {
+        if (hotelId == null) {
+            return "none";
+        }
+        return Long.toString(Math.floorMod(hotelId, (long) hotelBuckets));
+    }
+}
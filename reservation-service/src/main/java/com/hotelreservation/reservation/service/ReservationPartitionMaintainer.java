@@ -0,0 +1,214 @@
+package com.hotelreservation.reservation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reservation Partition Maintainer
+ *
+ * Keeps the monthly {@code check_in_date} partitions of the {@code reservations} table
+ * in shape: creates the partitions for the coming months ahead of time so new bookings
+ * rarely land in the default partition, and retires partitions older than the retention
+ * period by detaching them and either moving them to the archive schema or dropping them.
+ * Stays booked further ahead than the partitions go are kept in the default partition
+ * and moved into their month's partition when it is created.
+ *
+ * Runs at startup and on a daily schedule. Only one instance does the work at a time;
+ * the others skip the run when the advisory lock is taken. Nothing is done when the
+ * table is not partitioned (see {@code db/partitioning/partition-reservations.sql}).
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.partitioning.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationPartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationPartitionMaintainer.class);
+
+    private static final String PARENT_TABLE = "reservations";
+    private static final String ARCHIVE_SCHEMA = "archive";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARENT_TABLE + "_p(\\d{4})_(\\d{2})");
+
+    // Arbitrary but fixed, shared by every reservation-service instance
+    private static final long ADVISORY_LOCK_KEY = 0x7265736572766174L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String retentionAction;
+
+    @Autowired
+    public ReservationPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${reservation.partitioning.months-ahead:24}") int monthsAhead,
+                                          @Value("${reservation.partitioning.retention-months:24}") int retentionMonths,
+                                          @Value("${reservation.partitioning.retention-action:archive}") String retentionAction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Make sure the current and upcoming partitions exist before the first booking arrives
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    /**
+     * Create upcoming partitions and retire expired ones
+     */
+    @Scheduled(cron = "${reservation.partitioning.cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!isPartitioned()) {
+                    logger.warn("Table {} is not partitioned, skipping partition maintenance", PARENT_TABLE);
+                    return;
+                }
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    logger.debug("Partition maintenance is running on another instance");
+                    return;
+                }
+
+                YearMonth current = YearMonth.now(ZoneOffset.UTC);
+                createPartitions(current);
+                retirePartitions(current.minusMonths(retentionMonths));
+            });
+        } catch (DataAccessException | TransactionException e) {
+            logger.error("Partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c "
+                        + "WHERE c.oid = to_regclass(?)", String.class, PARENT_TABLE);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    private void createPartitions(YearMonth current) {
+        // Also covers last month so late edits to just-finished stays do not hit the default partition
+        for (YearMonth month = current.minusMonths(1); !month.isAfter(current.plusMonths(monthsAhead));
+             month = month.plusMonths(1)) {
+            String partition = partitionName(month);
+            Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+            if (Boolean.TRUE.equals(exists)) {
+                continue;
+            }
+            String defaultPartition = defaultPartition();
+            if (defaultPartition != null && holdsMonth(defaultPartition, month)) {
+                movePartition(defaultPartition, partition, month);
+                continue;
+            }
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partition, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+            logger.info("Created partition {} for check-in month {}", partition, month);
+        }
+    }
+
+    /**
+     * Create a month's partition for stays booked before it existed: PostgreSQL refuses to
+     * create a partition whose rows are in the default partition, so they are copied into a
+     * new table which is then attached in their place. The default partition is locked
+     * meanwhile, so no booking for the month can slip in between.
+     */
+    private void movePartition(String defaultPartition, String partition, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("LOCK TABLE " + defaultPartition + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute(String.format("CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)",
+                partition, PARENT_TABLE));
+        int moved = jdbcTemplate.update(String.format(
+                "INSERT INTO %s SELECT * FROM %s WHERE check_in_date >= ? AND check_in_date < ?",
+                partition, defaultPartition), from, to);
+        jdbcTemplate.update(String.format("DELETE FROM %s WHERE check_in_date >= ? AND check_in_date < ?",
+                defaultPartition), from, to);
+        jdbcTemplate.execute(String.format("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                PARENT_TABLE, partition, from, to));
+        logger.info("Created partition {} for check-in month {} with {} reservations from {}",
+                partition, month, moved, defaultPartition);
+    }
+
+    private String defaultPartition() {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass(?) AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT'",
+                String.class, PARENT_TABLE);
+        return partitions.isEmpty() ? null : partitions.get(0);
+    }
+
+    private boolean holdsMonth(String partition, YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(String.format(
+                "SELECT EXISTS (SELECT 1 FROM %s WHERE check_in_date >= ? AND check_in_date < ?)", partition),
+                Boolean.class, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    private void retirePartitions(YearMonth oldestRetained) {
+        if ("none".equals(retentionAction)) {
+            return;
+        }
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass(?)", String.class, PARENT_TABLE);
+
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", PARENT_TABLE, partition));
+            if ("drop".equals(retentionAction)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                logger.info("Dropped partition {} for check-in month {}", partition, month);
+            } else {
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + ARCHIVE_SCHEMA);
+                jdbcTemplate.execute(String.format("ALTER TABLE %s SET SCHEMA %s", partition, ARCHIVE_SCHEMA));
+                logger.info("Moved partition {} for check-in month {} to schema {}", partition, month, ARCHIVE_SCHEMA);
+            }
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("%s_p%04d_%02d", PARENT_TABLE, month.getYear(), month.getMonthValue());
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
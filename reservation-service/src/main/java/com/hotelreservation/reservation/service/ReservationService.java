@@ -1,6 +1,9 @@
 package com.hotelreservation.reservation.service;
 
+import com.hotelreservation.reservation.dto.FrontDeskManifestDto;
+import com.hotelreservation.reservation.dto.OccupancyCalendarDto;
 import com.hotelreservation.reservation.dto.ReservationDto;
+import com.hotelreservation.reservation.dto.RoomHoldDto;
 import com.hotelreservation.reservation.entity.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -43,6 +46,7 @@ public interface ReservationService {
     Page<ReservationDto> getReservationsByGuestEmail(String guestEmail, Pageable pageable);
     List<ReservationDto> getReservationsByGuestName(String guestName);
     Page<ReservationDto> getReservationsByGuestName(String guestName, Pageable pageable);
+    List<ReservationDto> searchReservationsByGuestName(String query, int limit);
     long countReservationsByGuestEmail(String guestEmail);
 
     // Find by status
@@ -105,6 +109,16 @@ public interface ReservationService {
     List<ReservationDto> getTodayCheckInsByHotelId(Long hotelId);
     List<ReservationDto> getTodayCheckOutsByHotelId(Long hotelId);
     List<ReservationDto> getOverdueReservationsByHotelId(Long hotelId);
+    FrontDeskManifestDto getFrontDeskManifest(Long hotelId);
+    OccupancyCalendarDto getOccupancyCalendar(Long hotelId, LocalDate startDate, int nights, String encoding);
+
+    // Room holds
+    RoomHoldDto createRoomHold(RoomHoldDto roomHoldDto);
+    Optional<RoomHoldDto> getRoomHold(String holdId);
+    boolean releaseRoomHold(String holdId);
+
+    // Room type inventory
+    int getRoomTypeAvailability(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate);
 
     // Statistics
     long getReservationCountByHotelId(Long hotelId);
@@ -0,0 +1,212 @@
+package com.hotelreservation.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Room Assigner
+ *
+ * Assigns rooms to the stays booked by room type ({@link RoomTypeInventory}) once their
+ * check-in is at most assign-ahead-days away. Stays are taken in check-in order, in
+ * batches of up to batch-size picked with {@code FOR UPDATE SKIP LOCKED}, and each gets
+ * the lowest-numbered available room of its type that no other stay or live hold
+ * occupies on any of its nights. Stays no room can be found for stay unassigned and are
+ * retried on the next run.
+ *
+ * Several instances may run the job; each batch first takes a transaction-scoped
+ * advisory lock and the run stops when another instance holds it.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.inventory.assignment.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomAssigner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomAssigner.class);
+
+    // Arbitrary but fixed, shared by every reservation-service instance
+    private static final long ADVISORY_LOCK_KEY = 0x726f6f6d61737367L;
+
+    // Stays already tried in this run are skipped, so a stay without a free room does not
+    // come back in every batch
+    private static final String UNASSIGNED_BATCH_SQL =
+            "SELECT id, hotel_id, room_type, check_in_date, check_out_date FROM reservations " +
+            "WHERE room_id IS NULL AND active AND status IN ('PENDING', 'CONFIRMED') " +
+            "AND check_in_date <= ? AND (check_in_date, id) > (?, ?) " +
+            "ORDER BY check_in_date, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    // Night overlap, like the inventory counts: a room checked out in the morning can be
+    // assigned to a stay checking in the same day
+    private static final String FREE_ROOM_SQL =
+            "SELECT rm.id FROM rooms rm " +
+            "WHERE rm.hotel_id = ? AND rm.room_type = ? AND rm.available AND rm.active " +
+            "AND NOT EXISTS (SELECT 1 FROM reservations o WHERE o.room_id = rm.id AND o.active " +
+            "  AND o.status IN ('PENDING', 'CONFIRMED') " +
+            "  AND o.check_in_date < ? AND o.check_out_date > ? AND o.check_in_date > ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM room_holds h WHERE h.room_id = rm.id AND h.expires_at > ? " +
+            "  AND h.check_in_date < ? AND h.check_out_date > ?) " +
+            "ORDER BY rm.id LIMIT 1";
+
+    private static final String ASSIGN_SQL =
+            "UPDATE reservations SET room_id = ?, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+            "WHERE id = ? AND check_in_date = ?";
+
+    private static final RowMapper<UnassignedStay> ROW_MAPPER = (rs, rowNum) -> new UnassignedStay(
+            rs.getLong("id"),
+            rs.getLong("hotel_id"),
+            rs.getString("room_type"),
+            rs.getObject("check_in_date", LocalDate.class),
+            rs.getObject("check_out_date", LocalDate.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int assignAheadDays;
+    private final int maxStayNights;
+    private final int batchSize;
+    private final Counter assignedRooms;
+    private final Counter unassignableStays;
+
+    /**
+     * A stay waiting for a room
+     */
+    private static final class UnassignedStay {
+        private final long id;
+        private final long hotelId;
+        private final String roomType;
+        private final LocalDate checkInDate;
+        private final LocalDate checkOutDate;
+
+        private UnassignedStay(long id, long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+            this.id = id;
+            this.hotelId = hotelId;
+            this.roomType = roomType;
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+        }
+    }
+
+    @Autowired
+    public RoomAssigner(JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${reservation.inventory.assignment.assign-ahead-days:7}") int assignAheadDays,
+                        @Value("${reservation.max-stay-nights:90}") int maxStayNights,
+                        @Value("${reservation.inventory.assignment.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.assignAheadDays = assignAheadDays;
+        this.maxStayNights = maxStayNights;
+        this.batchSize = batchSize;
+        this.assignedRooms = Counter.builder("reservation.inventory.assignments")
+                .description("Rooms assigned to stays booked by room type")
+                .tag("outcome", "assigned")
+                .register(meterRegistry);
+        this.unassignableStays = Counter.builder("reservation.inventory.assignments")
+                .description("Rooms assigned to stays booked by room type")
+                .tag("outcome", "no_room")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Assign rooms to the stays checking in within assign-ahead-days
+     */
+    @Scheduled(cron = "${reservation.inventory.assignment.cron:0 0 * * * *}")
+    public void assignRooms() {
+        LocalDate lastCheckIn = LocalDate.now().plusDays(assignAheadDays);
+        // Stays that checked in earlier than this have checked out
+        LocalDate afterCheckIn = LocalDate.now().minusDays(maxStayNights);
+        long afterId = Long.MIN_VALUE;
+        long assigned = 0;
+        long unassigned = 0;
+        try {
+            while (true) {
+                BatchResult batch = assignBatch(lastCheckIn, afterCheckIn, afterId);
+                if (batch == null) {
+                    logger.debug("Room assignment is running on another instance");
+                    return;
+                }
+                assigned += batch.assigned;
+                unassigned += batch.unassigned;
+                if (batch.last == null || batch.size < batchSize) {
+                    return;
+                }
+                afterCheckIn = batch.last.checkInDate;
+                afterId = batch.last.id;
+            }
+        } catch (DataAccessException | TransactionException e) {
+            logger.error("Room assignment failed after {} rooms: {}", assigned, e.getMessage(), e);
+        } finally {
+            assignedRooms.increment(assigned);
+            unassignableStays.increment(unassigned);
+            if (assigned > 0 || unassigned > 0) {
+                logger.info("Assigned rooms to {} stays; {} stays have no free room of their type", assigned, unassigned);
+            }
+        }
+    }
+
+    /**
+     * Outcome of one batch
+     */
+    private static final class BatchResult {
+        private int size;
+        private int assigned;
+        private int unassigned;
+        private UnassignedStay last;
+    }
+
+    /**
+     * Assign one batch in its own transaction
+     *
+     * @return the batch outcome, or null when the advisory lock is taken
+     */
+    private BatchResult assignBatch(LocalDate lastCheckIn, LocalDate afterCheckIn, long afterId) {
+        return transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return null;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<UnassignedStay> stays = jdbcTemplate.query(UNASSIGNED_BATCH_SQL, ROW_MAPPER,
+                    lastCheckIn, afterCheckIn, afterId, batchSize);
+            BatchResult result = new BatchResult();
+            result.size = stays.size();
+            for (UnassignedStay stay : stays) {
+                result.last = stay;
+                // Rooms assigned earlier in this batch are visible to the lookup
+                List<Long> rooms = jdbcTemplate.queryForList(FREE_ROOM_SQL, Long.class,
+                        stay.hotelId, stay.roomType,
+                        stay.checkOutDate, stay.checkInDate, stay.checkInDate.minusDays(maxStayNights),
+                        now, stay.checkOutDate, stay.checkInDate);
+                if (rooms.isEmpty()) {
+                    logger.warn("No free {} room at hotel {} for reservation {} ({} to {})",
+                            stay.roomType, stay.hotelId, stay.id, stay.checkInDate, stay.checkOutDate);
+                    result.unassigned++;
+                    continue;
+                }
+                jdbcTemplate.update(ASSIGN_SQL, rooms.get(0), now, stay.id, stay.checkInDate);
+                result.assigned++;
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,212 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.event.HotelCatalogRecord;
+import com.hotelreservation.reservation.exception.InvalidReservationDataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Room Catalog Replica
+ *
+ * In-memory copy of the hotels and rooms of hotel-service, built from the compacted room
+ * catalog topic. Every instance reads the topic from the start under a consumer group of
+ * its own, so a restarted instance rebuilds the whole replica, and then follows new
+ * records as hotel-service publishes them.
+ *
+ * Bookings are checked against the replica without a call to hotel-service: the hotel
+ * and room must exist, the room must be available and sleep the guests, and a stay
+ * booked by type needs an available room of the type that does. Until the replica has
+ * caught up with the topic, which is when its consumer first goes idle, nothing is
+ * rejected.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class RoomCatalogReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomCatalogReplica.class);
+
+    public static final String LISTENER_ID = "room-catalog-replica";
+
+    private final boolean enabled;
+    private final ConcurrentMap<Long, CatalogHotel> hotels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, CatalogRoom> rooms = new ConcurrentHashMap<>();
+
+    private volatile boolean caughtUp;
+
+    /**
+     * A hotel: its room IDs and, per room type, the most guests an available room sleeps
+     */
+    private static final class CatalogHotel {
+        private final long[] roomIds;
+        private final Map<String, Integer> maxCapacityByRoomType;
+
+        private CatalogHotel(long[] roomIds, Map<String, Integer> maxCapacityByRoomType) {
+            this.roomIds = roomIds;
+            this.maxCapacityByRoomType = maxCapacityByRoomType;
+        }
+    }
+
+    private static final class CatalogRoom {
+        private final long hotelId;
+        private final int capacity;
+        private final boolean available;
+
+        private CatalogRoom(long hotelId, int capacity, boolean available) {
+            this.hotelId = hotelId;
+            this.capacity = capacity;
+            this.available = available;
+        }
+    }
+
+    @Autowired
+    public RoomCatalogReplica(@Value("${reservation.catalog.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Apply a hotel's record from the catalog topic
+     *
+     * @param key the hotel ID
+     * @param record the hotel's state, or null once the hotel is deleted
+     */
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${kafka.topic.room-catalog:room-catalog}",
+            groupId = "reservation-catalog-${random.uuid}",
+            containerFactory = "catalogListenerContainerFactory",
+            autoStartup = "${reservation.catalog.enabled:true}"
+    )
+    public void onCatalogRecord(@Header(KafkaHeaders.RECEIVED_KEY) String key,
+                                @Payload(required = false) HotelCatalogRecord record) {
+        Long hotelId;
+        try {
+            hotelId = Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            logger.warn("Skipping room catalog record with key {}", key);
+            return;
+        }
+        apply(hotelId, record);
+    }
+
+    /**
+     * The replica has caught up once its consumer, with partitions assigned, first goes idle
+     *
+     * @param event the idle event
+     */
+    @EventListener
+    public void onListenerIdle(ListenerContainerIdleEvent event) {
+        if (!caughtUp && event.getListenerId().startsWith(LISTENER_ID)
+                && event.getTopicPartitions() != null && !event.getTopicPartitions().isEmpty()) {
+            markCaughtUp();
+        }
+    }
+
+    /**
+     * Reject a booking the catalog says cannot be made
+     *
+     * @param hotelId hotel ID
+     * @param roomId room ID, or null for a stay booked by type
+     * @param roomType room type of a stay booked by type
+     * @param numberOfGuests number of guests
+     * @throws InvalidReservationDataException if the hotel, room or room type cannot take the stay
+     */
+    public void checkBookable(Long hotelId, Long roomId, String roomType, int numberOfGuests) {
+        if (!enabled || !caughtUp) {
+            return;
+        }
+        CatalogHotel hotel = hotels.get(hotelId);
+        if (hotel == null) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid reservation: hotel %d does not exist", hotelId));
+        }
+        if (roomId != null) {
+            CatalogRoom room = rooms.get(roomId);
+            if (room == null || room.hotelId != hotelId) {
+                throw new InvalidReservationDataException(String.format(
+                        "Invalid reservation: room %d does not exist at hotel %d", roomId, hotelId));
+            }
+            if (!room.available) {
+                throw new InvalidReservationDataException(String.format(
+                        "Invalid reservation: room %d is not available", roomId));
+            }
+            if (room.capacity < numberOfGuests) {
+                throw new InvalidReservationDataException(String.format(
+                        "Invalid reservation: room %d sleeps at most %d guests", roomId, room.capacity));
+            }
+            return;
+        }
+        Integer maxCapacity = hotel.maxCapacityByRoomType.get(roomType);
+        if (maxCapacity == null) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid reservation: hotel %d has no available %s rooms", hotelId, roomType));
+        }
+        if (maxCapacity < numberOfGuests) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid reservation: %s rooms at hotel %d sleep at most %d guests", roomType, hotelId, maxCapacity));
+        }
+    }
+
+    /**
+     * Whether bookings are being checked against the replica
+     */
+    public boolean isCaughtUp() {
+        return caughtUp;
+    }
+
+    /**
+     * Replace a hotel's state; rooms missing from the new record are dropped
+     */
+    synchronized void apply(Long hotelId, HotelCatalogRecord record) {
+        CatalogHotel previous = hotels.get(hotelId);
+        Set<Long> currentRoomIds = new HashSet<>();
+        if (record == null) {
+            hotels.remove(hotelId);
+        } else {
+            int roomCount = record.getRooms() != null ? record.getRooms().size() : 0;
+            long[] roomIds = new long[roomCount];
+            Map<String, Integer> maxCapacityByRoomType = new HashMap<>();
+            for (int i = 0; i < roomCount; i++) {
+                HotelCatalogRecord.CatalogRoom room = record.getRooms().get(i);
+                boolean available = Boolean.TRUE.equals(room.getAvailable());
+                roomIds[i] = room.getRoomId();
+                currentRoomIds.add(room.getRoomId());
+                rooms.put(room.getRoomId(), new CatalogRoom(hotelId, room.getCapacity(), available));
+                if (available) {
+                    maxCapacityByRoomType.merge(room.getRoomType(), room.getCapacity(), Math::max);
+                }
+            }
+            hotels.put(hotelId, new CatalogHotel(roomIds, maxCapacityByRoomType));
+        }
+
+        if (previous != null) {
+            for (long roomId : previous.roomIds) {
+                if (!currentRoomIds.contains(roomId)) {
+                    rooms.remove(roomId);
+                }
+            }
+        }
+    }
+
+    void markCaughtUp() {
+        caughtUp = true;
+        logger.info("Room catalog replica caught up with {} hotels and {} rooms", hotels.size(), rooms.size());
+    }
+}
@@ -0,0 +1,409 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.entity.RoomHold;
+import com.hotelreservation.reservation.event.RoomHoldsExpiredEvent;
+import com.hotelreservation.reservation.event.RoomHoldsExpiredEvent.ExpiredHold;
+import com.hotelreservation.reservation.exception.ReservationConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Room Hold Registry
+ *
+ * Keeps the room holds taken on this instance in memory, indexed by room for conflict
+ * checks, and expires them through a {@link HierarchicalTimingWheel} advanced every
+ * tick-ms: expiry costs O(1) per hold and never scans the holds that are still live.
+ * Holds that expire in a tick are published together as one {@link RoomHoldsExpiredEvent}.
+ *
+ * A new hold is inserted into the {@code room_holds} table before it is handed out. The
+ * table's exclusion constraint rejects a hold overlapping a live one of the same room,
+ * so a room is held by at most one guest across all instances. The table is also what a
+ * restarted instance restores its holds from (rows carry the instance-id that owns them)
+ * and what the conflict checks of other instances read. Released holds are deleted right
+ * away, and failed deletes are retried every snapshot-interval-ms. Expired rows are
+ * purged in bulk rather than one by one, and those of a room just before it is held again.
+ *
+ * A hold takes a room of its room's type from the {@link RoomTypeInventory} when its row
+ * is inserted, so stays booked by type cannot take the held room, and gives it back when
+ * its row is deleted, whether it was released or expired. A hold booked for the same
+ * stay hands the room over to the reservation instead.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class RoomHoldRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomHoldRegistry.class);
+
+    private static final String HOLD_COLUMNS =
+            "id, hotel_id, room_id, room_type, check_in_date, check_out_date, guest_email, expires_at, owner";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_holds (" + HOLD_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Deletes return the rows so the inventory of each deleted hold is given back exactly once
+    private static final String DELETE_SQL = "DELETE FROM room_holds WHERE id = ? RETURNING " + HOLD_COLUMNS;
+
+    private static final String PURGE_EXPIRED_SQL =
+            "DELETE FROM room_holds WHERE expires_at <= ? RETURNING " + HOLD_COLUMNS;
+
+    // Expired rows still count for the exclusion constraint until they are gone
+    private static final String PURGE_EXPIRED_ROOM_SQL =
+            "DELETE FROM room_holds WHERE room_id = ? AND check_in_date < ? AND check_out_date > ? AND expires_at <= ? " +
+            "RETURNING " + HOLD_COLUMNS;
+
+    // The reservation booked for the hold keeps its room of the type
+    private static final String CONVERT_SQL = "DELETE FROM room_holds WHERE id = ?";
+
+    private static final String RESTORE_SQL =
+            "SELECT " + HOLD_COLUMNS + " FROM room_holds WHERE owner = ? AND expires_at > ?";
+
+    private static final String FIND_SQL =
+            "SELECT " + HOLD_COLUMNS + " FROM room_holds WHERE id = ? AND expires_at > ?";
+
+    // Holds of this instance are checked in memory
+    private static final String OTHER_INSTANCE_CONFLICT_SQL =
+            "SELECT EXISTS (SELECT 1 FROM room_holds WHERE room_id = ? AND check_in_date < ? AND check_out_date > ? " +
+            "AND expires_at > ? AND owner <> ? AND id <> ?)";
+
+    private static final RowMapper<RoomHold> ROW_MAPPER = (rs, rowNum) -> new RoomHold(
+            rs.getString("id"),
+            rs.getLong("hotel_id"),
+            rs.getLong("room_id"),
+            rs.getString("room_type"),
+            rs.getObject("check_in_date", LocalDate.class),
+            rs.getObject("check_out_date", LocalDate.class),
+            rs.getString("guest_email"),
+            rs.getObject("expires_at", LocalDateTime.class),
+            rs.getString("owner"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final RoomTypeInventory roomTypeInventory;
+    private final EventPublishingService eventPublishingService;
+    private final String instanceId;
+    private final Counter expiredHolds;
+
+    // Guards everything below
+    private final Object lock = new Object();
+    private final HierarchicalTimingWheel<RoomHold> wheel;
+    private final Map<String, HierarchicalTimingWheel.Timeout<RoomHold>> holds = new HashMap<>();
+    private final Map<Long, List<RoomHold>> holdsByRoom = new HashMap<>();
+    private final Set<String> pendingDeletes = new LinkedHashSet<>();
+
+    @Autowired
+    public RoomHoldRegistry(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            RoomTypeInventory roomTypeInventory,
+                            EventPublishingService eventPublishingService,
+                            MeterRegistry meterRegistry,
+                            @Value("${reservation.hold.tick-ms:1000}") long tickMillis,
+                            @Value("${reservation.hold.instance-id:${HOSTNAME:local}}") String instanceId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.roomTypeInventory = roomTypeInventory;
+        this.eventPublishingService = eventPublishingService;
+        this.instanceId = instanceId;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+        this.expiredHolds = Counter.builder("reservation.holds.expired")
+                .description("Room holds that expired before being booked or released")
+                .register(meterRegistry);
+        Gauge.builder("reservation.holds.active", this, RoomHoldRegistry::size)
+                .description("Room holds currently held on this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hold a room for a stay and take a room of its type for every night. Joins the
+     * caller's transaction, if any, so the hold row commits with it.
+     *
+     * @throws ReservationConflictException if another live hold, on any instance, overlaps
+     *         it, or the room's type is sold out on a night of the stay
+     */
+    public RoomHold hold(Long hotelId, Long roomId, LocalDate checkInDate, LocalDate checkOutDate,
+                         String guestEmail, Duration ttl) {
+        long deadline = System.currentTimeMillis() + ttl.toMillis();
+        String roomType = roomTypeInventory.roomTypeOf(roomId);
+        RoomHold hold = new RoomHold(UUID.randomUUID().toString(), hotelId, roomId, roomType, checkInDate,
+                checkOutDate, guestEmail, toLocalDateTime(deadline), instanceId);
+        synchronized (lock) {
+            // Saves the round trip; the constraint decides for holds of other instances
+            if (overlapsLocalHold(roomId, checkInDate, checkOutDate, null)) {
+                throw new ReservationConflictException(roomId, checkInDate, checkOutDate, "The room is on hold");
+            }
+        }
+        try {
+            writeTemplate.executeWithoutResult(status -> {
+                deleteHolds(PURGE_EXPIRED_ROOM_SQL, roomId, checkOutDate, checkInDate, LocalDateTime.now());
+                // Before the insert: nights counted for the first time must not count this hold twice
+                if (roomType != null) {
+                    roomTypeInventory.reserve(hotelId, roomType, checkInDate, checkOutDate);
+                }
+                jdbcTemplate.update(INSERT_SQL, hold.getId(), hold.getHotelId(), hold.getRoomId(), hold.getRoomType(),
+                        hold.getCheckInDate(), hold.getCheckOutDate(), hold.getGuestEmail(),
+                        Timestamp.valueOf(hold.getExpiresAt()), hold.getOwner());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // room_holds_no_overlap: a live hold of another instance, or one taken here meanwhile
+            throw new ReservationConflictException(roomId, checkInDate, checkOutDate, "The room is on hold");
+        }
+        synchronized (lock) {
+            add(hold, deadline);
+        }
+        logger.debug("Held room {} from {} to {} until {} (hold {})", roomId, checkInDate, checkOutDate,
+                hold.getExpiresAt(), hold.getId());
+        return hold;
+    }
+
+    /**
+     * Find a live hold taken on any instance
+     */
+    public Optional<RoomHold> find(String holdId) {
+        synchronized (lock) {
+            HierarchicalTimingWheel.Timeout<RoomHold> timeout = holds.get(holdId);
+            if (timeout != null) {
+                return Optional.of(timeout.getValue());
+            }
+        }
+        return jdbcTemplate.query(FIND_SQL, ROW_MAPPER, holdId, LocalDateTime.now()).stream().findFirst();
+    }
+
+    /**
+     * Release a hold before it expires, e.g. because it was abandoned, giving back its
+     * room of the type
+     *
+     * @return false if there was no such live hold
+     */
+    public boolean release(String holdId) {
+        HierarchicalTimingWheel.Timeout<RoomHold> timeout = forget(holdId);
+        try {
+            // Held on another instance if not here; that one drops the hold from memory when it expires
+            Integer deleted = writeTemplate.execute(status -> deleteHolds(DELETE_SQL, holdId));
+            return (deleted != null && deleted > 0) || timeout != null;
+        } catch (DataAccessException e) {
+            if (timeout == null) {
+                throw e;
+            }
+            logger.warn("Could not delete released room hold {}, retrying: {}", holdId, e.getMessage());
+            synchronized (lock) {
+                pendingDeletes.add(holdId);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Drop a hold that has been booked for the same stay, leaving its room of the type to
+     * the reservation. Runs in the caller's transaction; the hold is forgotten once that
+     * commits.
+     *
+     * @return false if the hold's row was gone already, and with it its room of the type
+     */
+    public boolean convert(String holdId) {
+        boolean converted = jdbcTemplate.update(CONVERT_SQL, holdId) > 0;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(holdId);
+                }
+            });
+        } else {
+            forget(holdId);
+        }
+        return converted;
+    }
+
+    /**
+     * Check if any live hold other than the excluded one covers a night of the stay
+     */
+    public boolean hasConflictingHold(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, String excludedHoldId) {
+        synchronized (lock) {
+            if (overlapsLocalHold(roomId, checkInDate, checkOutDate, excludedHoldId)) {
+                return true;
+            }
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(OTHER_INSTANCE_CONFLICT_SQL, Boolean.class,
+                roomId, checkOutDate, checkInDate, LocalDateTime.now(), instanceId,
+                excludedHoldId != null ? excludedHoldId : ""));
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return holds.size();
+        }
+    }
+
+    /**
+     * Expire the holds whose time to live has run out
+     */
+    @Scheduled(fixedRateString = "${reservation.hold.tick-ms:1000}")
+    public void expireHolds() {
+        List<ExpiredHold> expired = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advance(System.currentTimeMillis(), hold -> {
+                holds.remove(hold.getId());
+                unindex(hold);
+                // The row is purged with the other expired rows, giving back its room of the type
+                expired.add(new ExpiredHold(hold.getId(), hold.getHotelId(), hold.getRoomId(),
+                        hold.getCheckInDate(), hold.getCheckOutDate(), hold.getGuestEmail()));
+            });
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        expiredHolds.increment(expired.size());
+        logger.debug("Expired {} room holds", expired.size());
+        try {
+            eventPublishingService.publishRoomHoldsExpiredEvent(new RoomHoldsExpiredEvent(expired));
+        } catch (Exception e) {
+            logger.error("Failed to publish room holds expired event for {} holds. Error: {}",
+                    expired.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retry the deletes of released holds that failed and purge expired rows
+     */
+    @Scheduled(fixedDelayString = "${reservation.hold.snapshot-interval-ms:2000}")
+    public void snapshot() {
+        List<String> deletes;
+        synchronized (lock) {
+            deletes = new ArrayList<>(pendingDeletes);
+            pendingDeletes.clear();
+        }
+        try {
+            writeTemplate.executeWithoutResult(status -> {
+                for (String holdId : deletes) {
+                    deleteHolds(DELETE_SQL, holdId);
+                }
+                deleteHolds(PURGE_EXPIRED_SQL, LocalDateTime.now());
+            });
+        } catch (DataAccessException e) {
+            logger.error("Room hold snapshot failed, retrying {} deletes: {}", deletes.size(), e.getMessage());
+            synchronized (lock) {
+                pendingDeletes.addAll(deletes);
+            }
+        }
+    }
+
+    /**
+     * Restore this instance's live holds from the snapshot table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            List<RoomHold> restored = jdbcTemplate.query(RESTORE_SQL, ROW_MAPPER, instanceId, LocalDateTime.now());
+            synchronized (lock) {
+                for (RoomHold hold : restored) {
+                    if (!holds.containsKey(hold.getId())) {
+                        add(hold, hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                    }
+                }
+            }
+            if (!restored.isEmpty()) {
+                logger.info("Restored {} room holds of instance {}", restored.size(), instanceId);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Could not restore room holds of instance {}: {}", instanceId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        snapshot();
+    }
+
+    /**
+     * Delete hold rows and give back the room of the type of each
+     *
+     * @return the number of rows deleted
+     */
+    private int deleteHolds(String sql, Object... args) {
+        List<RoomHold> deleted = jdbcTemplate.query(sql, ROW_MAPPER, args);
+        for (RoomHold hold : deleted) {
+            if (hold.getRoomType() != null) {
+                roomTypeInventory.release(hold.getHotelId(), hold.getRoomType(), hold.getCheckInDate(),
+                        hold.getCheckOutDate());
+            }
+        }
+        return deleted.size();
+    }
+
+    private HierarchicalTimingWheel.Timeout<RoomHold> forget(String holdId) {
+        synchronized (lock) {
+            HierarchicalTimingWheel.Timeout<RoomHold> timeout = holds.remove(holdId);
+            if (timeout != null) {
+                wheel.cancel(timeout);
+                unindex(timeout.getValue());
+            }
+            return timeout;
+        }
+    }
+
+    private void add(RoomHold hold, long deadlineMillis) {
+        holds.put(hold.getId(), wheel.schedule(hold, deadlineMillis));
+        holdsByRoom.computeIfAbsent(hold.getRoomId(), roomId -> new ArrayList<>(2)).add(hold);
+    }
+
+    private void unindex(RoomHold hold) {
+        List<RoomHold> roomHolds = holdsByRoom.get(hold.getRoomId());
+        if (roomHolds != null) {
+            roomHolds.remove(hold);
+            if (roomHolds.isEmpty()) {
+                holdsByRoom.remove(hold.getRoomId());
+            }
+        }
+    }
+
+    private boolean overlapsLocalHold(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, String excludedHoldId) {
+        List<RoomHold> roomHolds = holdsByRoom.get(roomId);
+        if (roomHolds == null) {
+            return false;
+        }
+        for (RoomHold hold : roomHolds) {
+            if (!hold.getId().equals(excludedHoldId) && hold.overlaps(checkInDate, checkOutDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,306 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.exception.ReservationConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Room Type Inventory
+ *
+ * Per-night allotment counters keyed by hotel × room type × night in
+ * {@code room_type_inventory}: total is the number of available rooms of the type and
+ * booked the number of pending and confirmed stays and of room holds of the type
+ * covering the night; a hold keeps its room until its row in {@code room_holds} is
+ * deleted, and hands it over when it becomes a reservation. Booking a stay is one
+ * conditional {@code UPDATE ... WHERE booked < total} over its nights, which fails the
+ * booking unless every night had a room left; no search over rooms is needed, and the
+ * rooms of stays booked by type are assigned later by {@link RoomAssigner}.
+ *
+ * A night's row is created from the rooms, reservations and room_holds tables the first
+ * time it is touched, and totals follow room changes through a periodic reconciliation.
+ * Counter values returned by the database are mirrored in memory; the mirror answers
+ * availability reads and turns away bookings for sold-out nights without a round trip,
+ * and entries older than mirror-ttl-ms are reloaded.
+ *
+ * Reads the rooms table of hotel-service, which shares the database.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Component
+public class RoomTypeInventory {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomTypeInventory.class);
+
+    private static final String ROOM_TYPE_SQL = "SELECT room_type FROM rooms WHERE id = ?";
+
+    // Only nights without a row are counted; reservations of rooms booked before room_type
+    // was recorded get their type from the room. Every hold row counts, expired or not,
+    // since each gives its room back when it is deleted.
+    private static final String ENSURE_NIGHTS_SQL =
+            "INSERT INTO room_type_inventory (hotel_id, room_type, night, total, booked) " +
+            "SELECT ?, ?, n.night, " +
+            "  (SELECT count(*) FROM rooms rm WHERE rm.hotel_id = ? AND rm.room_type = ? AND rm.available AND rm.active), " +
+            "  (SELECT count(*) FROM reservations r LEFT JOIN rooms rm ON rm.id = r.room_id " +
+            "    WHERE r.hotel_id = ? AND COALESCE(r.room_type, rm.room_type) = ? " +
+            "      AND r.active AND r.status IN ('PENDING', 'CONFIRMED') " +
+            "      AND r.check_in_date <= n.night AND r.check_out_date > n.night AND r.check_in_date > n.night - ?) " +
+            "  + (SELECT count(*) FROM room_holds h WHERE h.hotel_id = ? AND h.room_type = ? " +
+            "      AND h.check_in_date <= n.night AND h.check_out_date > n.night) " +
+            "FROM (SELECT d::date AS night FROM generate_series(?::date, ?::date - 1, interval '1 day') AS d) n " +
+            "WHERE NOT EXISTS (SELECT 1 FROM room_type_inventory i " +
+            "  WHERE i.hotel_id = ? AND i.room_type = ? AND i.night = n.night) " +
+            "ON CONFLICT (hotel_id, room_type, night) DO NOTHING";
+
+    private static final String RESERVE_SQL =
+            "UPDATE room_type_inventory SET booked = booked + 1 " +
+            "WHERE hotel_id = ? AND room_type = ? AND night >= ? AND night < ? AND booked < total " +
+            "RETURNING night, total, booked";
+
+    private static final String RELEASE_SQL =
+            "UPDATE room_type_inventory SET booked = booked - 1 " +
+            "WHERE hotel_id = ? AND room_type = ? AND night >= ? AND night < ? AND booked > 0 " +
+            "RETURNING night, total, booked";
+
+    private static final String NIGHTS_SQL =
+            "SELECT night, total, booked FROM room_type_inventory " +
+            "WHERE hotel_id = ? AND room_type = ? AND night >= ? AND night < ?";
+
+    private static final String RECONCILE_TOTALS_SQL =
+            "UPDATE room_type_inventory i SET total = c.total " +
+            "FROM (SELECT hotel_id, room_type, count(*) FILTER (WHERE available AND active) AS total " +
+            "      FROM rooms GROUP BY hotel_id, room_type) c " +
+            "WHERE i.hotel_id = c.hotel_id AND i.room_type = c.room_type AND i.night >= ? AND i.total <> c.total";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int maxStayNights;
+    private final long mirrorTtlMillis;
+    private final ConcurrentMap<Long, String> roomTypes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NightCount> mirror = new ConcurrentHashMap<>();
+
+    /**
+     * Counter values of one night as last seen in the database
+     */
+    private static final class NightCount {
+        private final int total;
+        private final int booked;
+        private final long loadedAt;
+
+        private NightCount(int total, int booked, long loadedAt) {
+            this.total = total;
+            this.booked = booked;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    @Autowired
+    public RoomTypeInventory(JdbcTemplate jdbcTemplate,
+                             @Value("${reservation.inventory.enabled:true}") boolean enabled,
+                             @Value("${reservation.max-stay-nights:90}") int maxStayNights,
+                             @Value("${reservation.inventory.mirror-ttl-ms:30000}") long mirrorTtlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxStayNights = maxStayNights;
+        this.mirrorTtlMillis = mirrorTtlMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Room type of a room, or null if the room is unknown or the inventory is disabled
+     */
+    public String roomTypeOf(Long roomId) {
+        if (!enabled || roomId == null) {
+            return null;
+        }
+        String roomType = roomTypes.get(roomId);
+        if (roomType == null) {
+            List<String> types = jdbcTemplate.queryForList(ROOM_TYPE_SQL, String.class, roomId);
+            if (types.isEmpty()) {
+                return null;
+            }
+            roomType = types.get(0);
+            roomTypes.put(roomId, roomType);
+        }
+        return roomType;
+    }
+
+    /**
+     * Take one room of the type for every night of the stay. Runs in the caller's
+     * transaction, which must roll back when this throws.
+     *
+     * @throws ReservationConflictException if a night has no room of the type left
+     */
+    public void reserve(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (mirrorShowsSoldOut(hotelId, roomType, checkInDate, checkOutDate, now)) {
+            throw soldOut(hotelId, roomType, checkInDate, checkOutDate);
+        }
+        forgetOnRollback(hotelId, roomType, checkInDate, checkOutDate);
+        if (!mirrorHasAllNights(hotelId, roomType, checkInDate, checkOutDate)) {
+            ensureNights(hotelId, roomType, checkInDate, checkOutDate);
+        }
+        int updated = updateNights(RESERVE_SQL, hotelId, roomType, checkInDate, checkOutDate);
+        if (updated < ChronoUnit.DAYS.between(checkInDate, checkOutDate)) {
+            // The increments of the other nights roll back with the caller; reload them next time
+            forget(hotelId, roomType, checkInDate, checkOutDate);
+            throw soldOut(hotelId, roomType, checkInDate, checkOutDate);
+        }
+    }
+
+    /**
+     * Give back one room of the type for every night of the stay
+     */
+    public void release(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (!enabled) {
+            return;
+        }
+        forgetOnRollback(hotelId, roomType, checkInDate, checkOutDate);
+        updateNights(RELEASE_SQL, hotelId, roomType, checkInDate, checkOutDate);
+    }
+
+    /**
+     * Rooms of the type still free on every night of the stay
+     */
+    public int available(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        long now = System.currentTimeMillis();
+        int free = Integer.MAX_VALUE;
+        boolean complete = true;
+        for (LocalDate night = checkInDate; night.isBefore(checkOutDate) && complete; night = night.plusDays(1)) {
+            NightCount count = mirror.get(key(hotelId, roomType, night));
+            if (count == null || now - count.loadedAt > mirrorTtlMillis) {
+                complete = false;
+            } else {
+                free = Math.min(free, count.total - count.booked);
+            }
+        }
+        if (complete) {
+            return Math.max(0, free);
+        }
+
+        ensureNights(hotelId, roomType, checkInDate, checkOutDate);
+        int[] minFree = {Integer.MAX_VALUE};
+        jdbcTemplate.query(NIGHTS_SQL, (RowCallbackHandler) rs -> {
+            int total = rs.getInt("total");
+            int booked = rs.getInt("booked");
+            mirror.put(key(hotelId, roomType, rs.getObject("night", LocalDate.class)), new NightCount(total, booked, now));
+            minFree[0] = Math.min(minFree[0], total - booked);
+        }, hotelId, roomType, checkInDate, checkOutDate);
+        return minFree[0] == Integer.MAX_VALUE ? 0 : Math.max(0, minFree[0]);
+    }
+
+    /**
+     * Align the totals of upcoming nights with the rooms that are currently available
+     */
+    @Scheduled(cron = "${reservation.inventory.reconcile-cron:0 */10 * * * *}")
+    public void reconcileTotals() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int updated = jdbcTemplate.update(RECONCILE_TOTALS_SQL, LocalDate.now());
+            roomTypes.clear();
+            if (updated > 0) {
+                mirror.clear();
+                logger.info("Updated room type totals of {} inventory nights", updated);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Room type inventory reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void ensureNights(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        jdbcTemplate.update(ENSURE_NIGHTS_SQL,
+                hotelId, roomType,
+                hotelId, roomType,
+                hotelId, roomType, maxStayNights,
+                hotelId, roomType,
+                checkInDate, checkOutDate,
+                hotelId, roomType);
+    }
+
+    private int updateNights(String sql, Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        long now = System.currentTimeMillis();
+        int[] updated = {0};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            mirror.put(key(hotelId, roomType, rs.getObject("night", LocalDate.class)),
+                    new NightCount(rs.getInt("total"), rs.getInt("booked"), now));
+            updated[0]++;
+        }, hotelId, roomType, checkInDate, checkOutDate);
+        return updated[0];
+    }
+
+    private boolean mirrorShowsSoldOut(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate, long now) {
+        for (LocalDate night = checkInDate; night.isBefore(checkOutDate); night = night.plusDays(1)) {
+            NightCount count = mirror.get(key(hotelId, roomType, night));
+            if (count != null && now - count.loadedAt <= mirrorTtlMillis && count.booked >= count.total) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mirrorHasAllNights(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        for (LocalDate night = checkInDate; night.isBefore(checkOutDate); night = night.plusDays(1)) {
+            if (!mirror.containsKey(key(hotelId, roomType, night))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drop the mirrored nights of a stay if the caller's transaction does not commit: the
+     * counters read back inside it, and rows it created, are rolled back with it
+     */
+    private void forgetOnRollback(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    forget(hotelId, roomType, checkInDate, checkOutDate);
+                }
+            }
+        });
+    }
+
+    private void forget(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        for (LocalDate night = checkInDate; night.isBefore(checkOutDate); night = night.plusDays(1)) {
+            mirror.remove(key(hotelId, roomType, night));
+        }
+    }
+
+    private static ReservationConflictException soldOut(Long hotelId, String roomType,
+                                                        LocalDate checkInDate, LocalDate checkOutDate) {
+        return new ReservationConflictException(String.format(
+                "No %s rooms left at hotel %d between %s and %s", roomType, hotelId, checkInDate, checkOutDate));
+    }
+
+    private static String key(Long hotelId, String roomType, LocalDate night) {
+        return hotelId + "|" + roomType + "|" + night;
+    }
+}
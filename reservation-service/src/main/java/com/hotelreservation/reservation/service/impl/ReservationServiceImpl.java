@@ -1,25 +1,49 @@
 package com.hotelreservation.reservation.service.impl;
 
+import com.hotelreservation.events.ReservationEventType;
+import com.hotelreservation.reservation.dto.FrontDeskManifestDto;
+import com.hotelreservation.reservation.dto.OccupancyCalendarDto;
 import com.hotelreservation.reservation.dto.ReservationDto;
+import com.hotelreservation.reservation.dto.RoomHoldDto;
+import com.hotelreservation.reservation.entity.ArchivedReservation;
 import com.hotelreservation.reservation.entity.Reservation;
 import com.hotelreservation.reservation.entity.ReservationStatus;
+import com.hotelreservation.reservation.entity.RoomHold;
+import com.hotelreservation.reservation.event.ReservationChangedEvent;
 import com.hotelreservation.reservation.exception.InvalidReservationDataException;
 import com.hotelreservation.reservation.exception.ReservationConflictException;
 import com.hotelreservation.reservation.exception.ReservationNotFoundException;
+import com.hotelreservation.reservation.repository.ArchivedReservationRepository;
 import com.hotelreservation.reservation.repository.ReservationRepository;
 import com.hotelreservation.reservation.service.EventPublishingService;
+import com.hotelreservation.reservation.service.FrontDeskManifestCache;
+import com.hotelreservation.reservation.service.HotelPricingClient;
+import com.hotelreservation.reservation.service.OccupancyCalendar;
+import com.hotelreservation.reservation.service.ReservationMetrics;
 import com.hotelreservation.reservation.service.ReservationService;
+import com.hotelreservation.reservation.service.RoomCatalogReplica;
+import com.hotelreservation.reservation.service.RoomHoldRegistry;
+import com.hotelreservation.reservation.service.RoomTypeInventory;
+import com.hotelreservation.platform.search.NameSearch;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -38,12 +62,52 @@ public class ReservationServiceImpl implements ReservationService {
     private static final Logger logger = LoggerFactory.getLogger(ReservationServiceImpl.class);
 
     private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
     private final EventPublishingService eventPublishingService;
+    private final ReservationMetrics reservationMetrics;
+    private final FrontDeskManifestCache frontDeskManifestCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomHoldRegistry roomHoldRegistry;
+    private final RoomTypeInventory roomTypeInventory;
+    private final HotelPricingClient hotelPricingClient;
+    private final RoomCatalogReplica roomCatalogReplica;
+    private final int maxStayNights;
+    private final int maxSearchResults;
+    private final int maxCalendarNights;
+    private final int defaultHoldTtlMinutes;
+    private final int maxHoldTtlMinutes;
 
     @Autowired
-    public ReservationServiceImpl(ReservationRepository reservationRepository, EventPublishingService eventPublishingService) {
+    public ReservationServiceImpl(ReservationRepository reservationRepository,
+                                  ArchivedReservationRepository archivedReservationRepository,
+                                  EventPublishingService eventPublishingService,
+                                  ReservationMetrics reservationMetrics,
+                                  FrontDeskManifestCache frontDeskManifestCache,
+                                  ApplicationEventPublisher eventPublisher,
+                                  RoomHoldRegistry roomHoldRegistry,
+                                  RoomTypeInventory roomTypeInventory,
+                                  HotelPricingClient hotelPricingClient,
+                                  RoomCatalogReplica roomCatalogReplica,
+                                  @Value("${reservation.max-stay-nights:90}") int maxStayNights,
+                                  @Value("${reservation.search.max-results:50}") int maxSearchResults,
+                                  @Value("${reservation.calendar.max-nights:366}") int maxCalendarNights,
+                                  @Value("${reservation.hold.default-ttl-minutes:15}") int defaultHoldTtlMinutes,
+                                  @Value("${reservation.hold.max-ttl-minutes:60}") int maxHoldTtlMinutes) {
         this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
         this.eventPublishingService = eventPublishingService;
+        this.reservationMetrics = reservationMetrics;
+        this.frontDeskManifestCache = frontDeskManifestCache;
+        this.eventPublisher = eventPublisher;
+        this.roomHoldRegistry = roomHoldRegistry;
+        this.roomTypeInventory = roomTypeInventory;
+        this.hotelPricingClient = hotelPricingClient;
+        this.roomCatalogReplica = roomCatalogReplica;
+        this.maxStayNights = maxStayNights;
+        this.maxSearchResults = maxSearchResults;
+        this.maxCalendarNights = maxCalendarNights;
+        this.defaultHoldTtlMinutes = defaultHoldTtlMinutes;
+        this.maxHoldTtlMinutes = maxHoldTtlMinutes;
     }
 
     @Override
@@ -51,28 +115,71 @@ public class ReservationServiceImpl implements ReservationService {
     public ReservationDto createReservation(ReservationDto reservationDto) {
         logger.info("Creating reservation for guest: {}", reservationDto.getGuestEmail());
 
-        // Validate reservation data
-        validateReservationData(reservationDto);
-
-        // Check for conflicts
-        if (hasConflictingReservation(reservationDto.getRoomId(), reservationDto.getCheckInDate(), reservationDto.getCheckOutDate())) {
-            throw new ReservationConflictException(reservationDto.getRoomId(), reservationDto.getCheckInDate(), reservationDto.getCheckOutDate());
+        Long hotelId = reservationDto.getHotelId();
+        Timer.Sample sample = reservationMetrics.startCreate();
+        try {
+            ReservationDto savedReservationDto = doCreateReservation(reservationDto, hotelId);
+            reservationMetrics.stopCreate(sample, hotelId, ReservationMetrics.OUTCOME_SUCCESS);
+            return savedReservationDto;
+        } catch (RuntimeException e) {
+            reservationMetrics.stopCreate(sample, hotelId, reservationMetrics.outcomeOf(e));
+            throw e;
         }
+    }
+
+    private ReservationDto doCreateReservation(ReservationDto reservationDto, Long hotelId) {
+        // Validate reservation data
+        reservationMetrics.recordPhase(ReservationMetrics.PHASE_VALIDATION, hotelId,
+                () -> validateReservationData(reservationDto));
+
+        // Price the stay from the hotel's rate plans
+        reservationMetrics.recordPhase(ReservationMetrics.PHASE_PRICING, hotelId, () -> priceStay(reservationDto));
+
+        // Check for conflicts; the guest's own hold does not count. Then take a room of the
+        // type for every night, which fails if the type is sold out on any of them; a hold
+        // for the same stay has taken it already.
+        String roomType = resolveRoomType(reservationDto);
+        RoomHold heldStay = findHeldStay(reservationDto, roomType);
+        reservationMetrics.recordPhase(ReservationMetrics.PHASE_CONFLICT_CHECK, hotelId, () -> {
+            if (reservationDto.getRoomId() != null && isRoomTaken(reservationDto.getRoomId(),
+                    reservationDto.getCheckInDate(), reservationDto.getCheckOutDate(), reservationDto.getHoldId())) {
+                throw new ReservationConflictException(reservationDto.getRoomId(), reservationDto.getCheckInDate(), reservationDto.getCheckOutDate());
+            }
+            if (roomType != null && heldStay == null) {
+                roomTypeInventory.reserve(hotelId, roomType, reservationDto.getCheckInDate(), reservationDto.getCheckOutDate());
+            }
+        });
 
         // Convert DTO to entity
         Reservation reservation = convertToEntity(reservationDto);
+        reservation.setRoomType(roomType);
         reservation.setStatus(ReservationStatus.PENDING);
 
         // Save reservation
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Reservation savedReservation = reservationMetrics.recordPhase(ReservationMetrics.PHASE_INSERT, hotelId,
+                () -> reservationRepository.save(reservation));
         logger.info("Reservation created successfully with ID: {}", savedReservation.getId());
+        eventPublisher.publishEvent(new ReservationChangedEvent(savedReservation.getId()));
+
+        // The room is booked now; drop the hold taken for it
+        if (heldStay != null) {
+            if (!roomHoldRegistry.convert(heldStay.getId())) {
+                // Expired and purged meanwhile, which gave its room of the type back
+                roomTypeInventory.reserve(hotelId, roomType, reservationDto.getCheckInDate(), reservationDto.getCheckOutDate());
+            }
+        } else if (reservationDto.getHoldId() != null && roomHoldRegistry.find(reservationDto.getHoldId())
+                .filter(hold -> hold.getRoomId().equals(savedReservation.getRoomId()))
+                .isPresent()) {
+            roomHoldRegistry.release(reservationDto.getHoldId());
+        }
 
         // Convert to DTO
         ReservationDto savedReservationDto = convertToDto(savedReservation);
 
         // Publish event
         try {
-            eventPublishingService.publishReservationCreatedEvent(savedReservationDto);
+            reservationMetrics.recordPhase(ReservationMetrics.PHASE_PUBLISH, hotelId,
+                    () -> eventPublishingService.publishReservationCreatedEvent(savedReservationDto));
             logger.info("Reservation created event published successfully for reservation ID: {}", savedReservation.getId());
         } catch (Exception e) {
             logger.error("Failed to publish reservation created event for reservation ID: {}. Error: {}", 
@@ -89,7 +196,9 @@ public class ReservationServiceImpl implements ReservationService {
     public Optional<ReservationDto> getReservationById(Long id) {
         logger.debug("Finding reservation by ID: {}", id);
         return reservationRepository.findByIdAndActiveTrue(id)
-                .map(this::convertToDto);
+                .map(this::convertToDto)
+                .or(() -> archivedReservationRepository.findByIdAndActiveTrue(id)
+                        .map(this::convertArchivedToDto));
     }
 
     @Override
@@ -122,17 +231,31 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation existingReservation = reservationRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ReservationNotFoundException(id));
 
+        // Price the stay again unless it is unchanged; an unchanged stay keeps its booked price
+        if (hotelPricingClient.isEnabled() && isSameStay(existingReservation, reservationDto)) {
+            reservationDto.setTotalPrice(existingReservation.getTotalPrice());
+        } else {
+            priceStay(reservationDto);
+        }
+
         // Check for conflicts (excluding current reservation)
-        if (hasConflictingReservationExcluding(reservationDto.getRoomId(), id, reservationDto.getCheckInDate(), reservationDto.getCheckOutDate())) {
+        if (reservationDto.getRoomId() != null && hasConflictingReservationExcluding(reservationDto.getRoomId(), id,
+                reservationDto.getCheckInDate(), reservationDto.getCheckOutDate())) {
             throw new ReservationConflictException(reservationDto.getRoomId(), reservationDto.getCheckInDate(), reservationDto.getCheckOutDate());
         }
 
-        // Update reservation fields
+        // Update reservation fields, moving the room type allotment with the stay
+        InventoryClaim previousClaim = InventoryClaim.of(existingReservation);
+        ReservationStatus previousStatus = existingReservation.getStatus();
         updateReservationFields(existingReservation, reservationDto);
+        existingReservation.setRoomType(resolveRoomType(reservationDto));
+        moveInventoryClaim(previousClaim, existingReservation);
 
         // Save updated reservation
         Reservation updatedReservation = reservationRepository.save(existingReservation);
         logger.info("Reservation updated successfully with ID: {}", updatedReservation.getId());
+        eventPublisher.publishEvent(new ReservationChangedEvent(id));
+        eventPublishingService.publishReservationChange(ReservationEventType.UPDATED, previousStatus, updatedReservation);
 
         return convertToDto(updatedReservation);
     }
@@ -145,9 +268,14 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ReservationNotFoundException(id));
 
+        InventoryClaim previousClaim = InventoryClaim.of(reservation);
         reservation.softDelete();
-        reservationRepository.save(reservation);
+        moveInventoryClaim(previousClaim, reservation);
+        Reservation deletedReservation = reservationRepository.save(reservation);
         logger.info("Reservation deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(new ReservationChangedEvent(id));
+        eventPublishingService.publishReservationChange(ReservationEventType.DELETED,
+                deletedReservation.getStatus(), deletedReservation);
     }
 
     @Override
@@ -204,25 +332,41 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional(readOnly = true)
     public List<ReservationDto> getReservationsByGuestEmail(String guestEmail) {
         logger.debug("Finding reservations by guest email: {}", guestEmail);
-        return reservationRepository.findByGuestEmailAndActiveTrue(guestEmail)
+        List<ReservationDto> reservations = reservationRepository.findByGuestEmailAndActiveTrue(guestEmail)
                 .stream()
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        archivedReservationRepository.findByGuestEmailAndActiveTrueOrderByCheckInDateDesc(guestEmail)
+                .forEach(archived -> reservations.add(convertArchivedToDto(archived)));
+        return reservations;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ReservationDto> getReservationsByGuestEmail(String guestEmail, Pageable pageable) {
         logger.debug("Finding reservations by guest email: {} with pagination", guestEmail);
-        return reservationRepository.findByGuestEmailAndActiveTrue(guestEmail, pageable)
-                .map(this::convertToDto);
+        // Live reservations first, then archived ones, as one continuous sequence of pages
+        long liveTotal = reservationRepository.countByGuestEmailAndActiveTrue(guestEmail);
+        List<ReservationDto> content = new ArrayList<>();
+        if (pageable.getOffset() < liveTotal) {
+            reservationRepository.findByGuestEmailAndActiveTrue(guestEmail, pageable)
+                    .forEach(reservation -> content.add(convertToDto(reservation)));
+        }
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - liveTotal);
+            archivedReservationRepository.findGuestHistory(guestEmail, archiveOffset, remaining)
+                    .forEach(archived -> content.add(convertArchivedToDto(archived)));
+        }
+        long archivedTotal = archivedReservationRepository.countByGuestEmailAndActiveTrue(guestEmail);
+        return new PageImpl<>(content, pageable, liveTotal + archivedTotal);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservationDto> getReservationsByGuestName(String guestName) {
         logger.debug("Finding reservations by guest name: {}", guestName);
-        return reservationRepository.findByGuestNameContainingIgnoreCaseAndActiveTrue(guestName)
+        return reservationRepository.findActiveByGuestNamePattern(NameSearch.containsPattern(guestName))
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -232,10 +376,22 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional(readOnly = true)
     public Page<ReservationDto> getReservationsByGuestName(String guestName, Pageable pageable) {
         logger.debug("Finding reservations by guest name: {} with pagination", guestName);
-        return reservationRepository.findByGuestNameContainingIgnoreCaseAndActiveTrue(guestName, pageable)
+        return reservationRepository.findActiveByGuestNamePattern(NameSearch.containsPattern(guestName), pageable)
                 .map(this::convertToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationDto> searchReservationsByGuestName(String query, int limit) {
+        logger.debug("Searching reservations by guest name: {} (limit {})", query, limit);
+        return NameSearch.search(query, Math.min(limit, maxSearchResults),
+                        reservationRepository::findActiveByGuestNamePrefix,
+                        reservationRepository::findActiveByGuestNameSubstring)
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long countReservationsByGuestEmail(String guestEmail) {
@@ -464,7 +620,7 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional(readOnly = true)
     public boolean hasConflictingReservation(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
         logger.debug("Checking for conflicting reservations for room ID: {} between {} and {}", roomId, checkInDate, checkOutDate);
-        return reservationRepository.existsConflictingReservation(roomId, checkInDate, checkOutDate);
+        return isRoomTaken(roomId, checkInDate, checkOutDate, null);
     }
 
     @Override
@@ -472,14 +628,17 @@ public class ReservationServiceImpl implements ReservationService {
     public boolean hasConflictingReservationExcluding(Long roomId, Long reservationId, LocalDate checkInDate, LocalDate checkOutDate) {
         logger.debug("Checking for conflicting reservations for room ID: {} between {} and {} (excluding reservation ID: {})", 
                 roomId, checkInDate, checkOutDate, reservationId);
-        return reservationRepository.existsConflictingReservationExcluding(roomId, reservationId, checkInDate, checkOutDate);
+        return reservationRepository.existsConflictingReservationExcluding(roomId, reservationId, checkInDate, checkOutDate,
+                earliestOverlappingCheckIn(checkInDate))
+                || roomHoldRegistry.hasConflictingHold(roomId, checkInDate, checkOutDate, null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservationDto> getConflictingReservations(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
         logger.debug("Finding conflicting reservations for room ID: {} between {} and {}", roomId, checkInDate, checkOutDate);
-        return reservationRepository.findConflictingReservations(roomId, checkInDate, checkOutDate)
+        return reservationRepository.findConflictingReservations(roomId, checkInDate, checkOutDate,
+                        earliestOverlappingCheckIn(checkInDate))
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -489,7 +648,7 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional(readOnly = true)
     public List<ReservationDto> getReservationsInDateRange(Long roomId, LocalDate startDate, LocalDate endDate) {
         logger.debug("Finding reservations in date range for room ID: {} between {} and {}", roomId, startDate, endDate);
-        return reservationRepository.findReservationsInDateRange(roomId, startDate, endDate)
+        return reservationRepository.findReservationsInDateRange(roomId, startDate, endDate, earliestOverlappingCheckIn(startDate))
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -502,9 +661,14 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ReservationNotFoundException(id));
 
+        InventoryClaim previousClaim = InventoryClaim.of(reservation);
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.confirm();
+        moveInventoryClaim(previousClaim, reservation);
         Reservation confirmedReservation = reservationRepository.save(reservation);
         logger.info("Reservation confirmed successfully with ID: {}", id);
+        eventPublisher.publishEvent(new ReservationChangedEvent(id));
+        eventPublishingService.publishReservationChange(ReservationEventType.CONFIRMED, previousStatus, confirmedReservation);
 
         return convertToDto(confirmedReservation);
     }
@@ -516,9 +680,14 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ReservationNotFoundException(id));
 
+        InventoryClaim previousClaim = InventoryClaim.of(reservation);
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.cancel();
+        moveInventoryClaim(previousClaim, reservation);
         Reservation cancelledReservation = reservationRepository.save(reservation);
         logger.info("Reservation cancelled successfully with ID: {}", id);
+        eventPublisher.publishEvent(new ReservationChangedEvent(id));
+        eventPublishingService.publishReservationChange(ReservationEventType.CANCELLED, previousStatus, cancelledReservation);
 
         return convertToDto(cancelledReservation);
     }
@@ -530,9 +699,14 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ReservationNotFoundException(id));
 
+        InventoryClaim previousClaim = InventoryClaim.of(reservation);
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.complete();
+        moveInventoryClaim(previousClaim, reservation);
         Reservation completedReservation = reservationRepository.save(reservation);
         logger.info("Reservation completed successfully with ID: {}", id);
+        eventPublisher.publishEvent(new ReservationChangedEvent(id));
+        eventPublishingService.publishReservationChange(ReservationEventType.COMPLETED, previousStatus, completedReservation);
 
         return convertToDto(completedReservation);
     }
@@ -558,33 +732,114 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ReservationDto> getTodayCheckInsByHotelId(Long hotelId) {
         logger.debug("Finding today's check-ins for hotel ID: {}", hotelId);
-        return reservationRepository.findTodayCheckInsByHotelId(hotelId, LocalDate.now())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return frontDeskManifestCache.getManifest(hotelId).getCheckIns();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ReservationDto> getTodayCheckOutsByHotelId(Long hotelId) {
         logger.debug("Finding today's check-outs for hotel ID: {}", hotelId);
-        return reservationRepository.findTodayCheckOutsByHotelId(hotelId, LocalDate.now())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return frontDeskManifestCache.getManifest(hotelId).getCheckOuts();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ReservationDto> getOverdueReservationsByHotelId(Long hotelId) {
         logger.debug("Finding overdue reservations for hotel ID: {}", hotelId);
-        return reservationRepository.findOverdueReservationsByHotelId(hotelId, LocalDate.now())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return frontDeskManifestCache.getManifest(hotelId).getOverdue();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public FrontDeskManifestDto getFrontDeskManifest(Long hotelId) {
+        logger.debug("Getting front desk manifest for hotel ID: {}", hotelId);
+        return frontDeskManifestCache.getManifest(hotelId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OccupancyCalendarDto getOccupancyCalendar(Long hotelId, LocalDate startDate, int nights, String encoding) {
+        logger.debug("Building occupancy calendar for hotel ID: {} from {} for {} nights", hotelId, startDate, nights);
+        if (nights < 1 || nights > maxCalendarNights) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid calendar window: nights must be between 1 and %d", maxCalendarNights));
+        }
+        if (!OccupancyCalendar.BITMAP.equals(encoding) && !OccupancyCalendar.RLE.equals(encoding)) {
+            throw new InvalidReservationDataException(encoding, "calendar encoding");
+        }
+
+        LocalDate endDate = startDate.plusDays(nights);
+        OccupancyCalendar calendar = new OccupancyCalendar(startDate, nights);
+        for (Object[] room : reservationRepository.findBookedNightsByHotel(hotelId, startDate, endDate,
+                earliestOverlappingCheckIn(startDate))) {
+            calendar.occupy(((Number) room[0]).longValue(), (String) room[1]);
+        }
+        return new OccupancyCalendarDto(hotelId, startDate, nights, encoding, calendar.encode(encoding));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RoomHoldDto createRoomHold(RoomHoldDto roomHoldDto) {
+        logger.info("Holding room ID: {} between {} and {}", roomHoldDto.getRoomId(),
+                roomHoldDto.getCheckInDate(), roomHoldDto.getCheckOutDate());
+
+        if (!isValidDateRange(roomHoldDto.getCheckInDate(), roomHoldDto.getCheckOutDate())) {
+            throw new InvalidReservationDataException(roomHoldDto.getCheckInDate(), roomHoldDto.getCheckOutDate());
+        }
+        if (roomHoldDto.getCheckInDate().plusDays(maxStayNights).isBefore(roomHoldDto.getCheckOutDate())) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid date range: stays are limited to %d nights", maxStayNights));
+        }
+        int ttlMinutes = roomHoldDto.getTtlMinutes() != null ? roomHoldDto.getTtlMinutes() : defaultHoldTtlMinutes;
+        if (ttlMinutes < 1 || ttlMinutes > maxHoldTtlMinutes) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid hold time to live: must be between 1 and %d minutes", maxHoldTtlMinutes));
+        }
+        roomCatalogReplica.checkBookable(roomHoldDto.getHotelId(), roomHoldDto.getRoomId(), null, 1);
+
+        if (isRoomTaken(roomHoldDto.getRoomId(), roomHoldDto.getCheckInDate(), roomHoldDto.getCheckOutDate(), null)) {
+            throw new ReservationConflictException(roomHoldDto.getRoomId(), roomHoldDto.getCheckInDate(), roomHoldDto.getCheckOutDate());
+        }
+        RoomHold hold = roomHoldRegistry.hold(roomHoldDto.getHotelId(), roomHoldDto.getRoomId(),
+                roomHoldDto.getCheckInDate(), roomHoldDto.getCheckOutDate(), roomHoldDto.getGuestEmail(),
+                Duration.ofMinutes(ttlMinutes));
+        RoomHoldDto dto = convertToDto(hold);
+        dto.setTtlMinutes(ttlMinutes);
+        return dto;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<RoomHoldDto> getRoomHold(String holdId) {
+        logger.debug("Fetching room hold with ID: {}", holdId);
+        return roomHoldRegistry.find(holdId).map(this::convertToDto);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean releaseRoomHold(String holdId) {
+        logger.info("Releasing room hold with ID: {}", holdId);
+        return roomHoldRegistry.release(holdId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int getRoomTypeAvailability(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        logger.debug("Checking {} availability for hotel ID: {} between {} and {}", roomType, hotelId, checkInDate, checkOutDate);
+        if (!isValidDateRange(checkInDate, checkOutDate)) {
+            throw new InvalidReservationDataException(checkInDate, checkOutDate);
+        }
+        if (checkInDate.plusDays(maxStayNights).isBefore(checkOutDate)) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid date range: stays are limited to %d nights", maxStayNights));
+        }
+        if (!roomTypeInventory.isEnabled()) {
+            throw new InvalidReservationDataException("Invalid request: booking by room type is disabled");
+        }
+        return roomTypeInventory.available(hotelId, roomType, checkInDate, checkOutDate);
     }
 
     @Override
@@ -689,19 +944,171 @@ public class ReservationServiceImpl implements ReservationService {
     // Private helper methods
 
     private void validateReservationData(ReservationDto reservationDto) {
+        if (reservationDto.getRoomId() == null) {
+            if (reservationDto.getRoomType() == null || reservationDto.getRoomType().isBlank()) {
+                throw new InvalidReservationDataException("Invalid reservation: a room ID or a room type is required");
+            }
+            if (!roomTypeInventory.isEnabled()) {
+                throw new InvalidReservationDataException("Invalid reservation: booking by room type is disabled");
+            }
+        }
+
         if (!isValidDateRange(reservationDto.getCheckInDate(), reservationDto.getCheckOutDate())) {
             throw new InvalidReservationDataException(reservationDto.getCheckInDate(), reservationDto.getCheckOutDate());
         }
 
+        if (reservationDto.getCheckInDate().plusDays(maxStayNights).isBefore(reservationDto.getCheckOutDate())) {
+            throw new InvalidReservationDataException(String.format(
+                    "Invalid date range: stays are limited to %d nights", maxStayNights));
+        }
+
         if (!isValidNumberOfGuests(reservationDto.getNumberOfGuests())) {
             throw new InvalidReservationDataException(reservationDto.getNumberOfGuests());
         }
 
-        if (!isValidPrice(reservationDto.getTotalPrice())) {
+        // The hotel and room must exist and take the guests, as far as the local catalog replica knows
+        roomCatalogReplica.checkBookable(reservationDto.getHotelId(), reservationDto.getRoomId(),
+                reservationDto.getRoomType(), reservationDto.getNumberOfGuests());
+
+        // Priced stays get their price from hotel-service afterwards
+        if (!hotelPricingClient.isEnabled() && !isValidPrice(reservationDto.getTotalPrice())) {
             throw new InvalidReservationDataException(reservationDto.getTotalPrice());
         }
     }
 
+    /**
+     * Set the total price of a stay from hotel-service's quote: a booked room at its own
+     * rate, a stay booked by type at the type's. Without pricing the client's price is kept.
+     */
+    private void priceStay(ReservationDto reservationDto) {
+        if (!hotelPricingClient.isEnabled()) {
+            return;
+        }
+        reservationDto.setTotalPrice(hotelPricingClient.quote(reservationDto.getHotelId(), reservationDto.getRoomId(),
+                reservationDto.getRoomType(), reservationDto.getCheckInDate(), reservationDto.getCheckOutDate(),
+                reservationDto.getNumberOfGuests()));
+    }
+
+    /**
+     * Check if an update leaves everything the price of a reservation depends on as it was
+     */
+    private boolean isSameStay(Reservation reservation, ReservationDto reservationDto) {
+        return Objects.equals(reservation.getHotelId(), reservationDto.getHotelId())
+                && Objects.equals(reservation.getRoomId(), reservationDto.getRoomId())
+                && (reservationDto.getRoomId() != null
+                        || Objects.equals(reservation.getRoomType(), reservationDto.getRoomType()))
+                && Objects.equals(reservation.getCheckInDate(), reservationDto.getCheckInDate())
+                && Objects.equals(reservation.getCheckOutDate(), reservationDto.getCheckOutDate())
+                && Objects.equals(reservation.getNumberOfGuests(), reservationDto.getNumberOfGuests());
+    }
+
+    /**
+     * Earliest check-in date of a stay that can still overlap a stay starting at the given
+     * date. Stays are at most maxStayNights long, so anything that checked in earlier has
+     * already checked out; the bound lets the database prune older partitions.
+     */
+    private LocalDate earliestOverlappingCheckIn(LocalDate checkInDate) {
+        return checkInDate.minusDays(maxStayNights);
+    }
+
+    /**
+     * Check if a booking or a room hold other than the excluded one covers a night of the stay
+     */
+    private boolean isRoomTaken(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, String excludedHoldId) {
+        return reservationRepository.existsConflictingReservation(roomId, checkInDate, checkOutDate,
+                earliestOverlappingCheckIn(checkInDate))
+                || roomHoldRegistry.hasConflictingHold(roomId, checkInDate, checkOutDate, excludedHoldId);
+    }
+
+    /**
+     * Room type the stay takes from the inventory: the type of the booked room, or the
+     * requested type for stays booked by type. Null for rooms the inventory does not know.
+     */
+    private String resolveRoomType(ReservationDto reservationDto) {
+        if (reservationDto.getRoomId() != null) {
+            return roomTypeInventory.roomTypeOf(reservationDto.getRoomId());
+        }
+        return reservationDto.getRoomType();
+    }
+
+    /**
+     * The guest's hold for exactly this stay, whose room of the type the reservation takes
+     * over, or null if there is none or the inventory is not in use
+     */
+    private RoomHold findHeldStay(ReservationDto reservationDto, String roomType) {
+        if (reservationDto.getHoldId() == null || roomType == null) {
+            return null;
+        }
+        return roomHoldRegistry.find(reservationDto.getHoldId())
+                .filter(hold -> hold.getRoomId().equals(reservationDto.getRoomId())
+                        && roomType.equals(hold.getRoomType())
+                        && hold.getCheckInDate().equals(reservationDto.getCheckInDate())
+                        && hold.getCheckOutDate().equals(reservationDto.getCheckOutDate()))
+                .orElse(null);
+    }
+
+    /**
+     * Give back the nights a reservation held before a change and take the ones it holds
+     * after it; nothing happens when the change leaves them as they were
+     */
+    private void moveInventoryClaim(InventoryClaim previousClaim, Reservation reservation) {
+        InventoryClaim claim = InventoryClaim.of(reservation);
+        if (Objects.equals(previousClaim, claim)) {
+            return;
+        }
+        if (previousClaim != null) {
+            roomTypeInventory.release(previousClaim.hotelId, previousClaim.roomType,
+                    previousClaim.checkInDate, previousClaim.checkOutDate);
+        }
+        if (claim != null) {
+            roomTypeInventory.reserve(claim.hotelId, claim.roomType, claim.checkInDate, claim.checkOutDate);
+        }
+    }
+
+    /**
+     * Nights of a room type held by a pending or confirmed reservation
+     */
+    private static final class InventoryClaim {
+        private final Long hotelId;
+        private final String roomType;
+        private final LocalDate checkInDate;
+        private final LocalDate checkOutDate;
+
+        private InventoryClaim(Long hotelId, String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+            this.hotelId = hotelId;
+            this.roomType = roomType;
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+        }
+
+        private static InventoryClaim of(Reservation reservation) {
+            if (reservation.getRoomType() == null || !reservation.isActive()
+                    || !(reservation.isPending() || reservation.isConfirmed())) {
+                return null;
+            }
+            return new InventoryClaim(reservation.getHotelId(), reservation.getRoomType(),
+                    reservation.getCheckInDate(), reservation.getCheckOutDate());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InventoryClaim)) {
+                return false;
+            }
+            InventoryClaim other = (InventoryClaim) o;
+            return hotelId.equals(other.hotelId) && roomType.equals(other.roomType)
+                    && checkInDate.equals(other.checkInDate) && checkOutDate.equals(other.checkOutDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hotelId, roomType, checkInDate, checkOutDate);
+        }
+    }
+
     private void updateReservationFields(Reservation reservation, ReservationDto reservationDto) {
         reservation.setHotelId(reservationDto.getHotelId());
         reservation.setRoomId(reservationDto.getRoomId());
@@ -720,6 +1127,7 @@ public class ReservationServiceImpl implements ReservationService {
         entity.setId(dto.getId());
         entity.setHotelId(dto.getHotelId());
         entity.setRoomId(dto.getRoomId());
+        entity.setRoomType(dto.getRoomType());
         entity.setGuestName(dto.getGuestName());
         entity.setGuestEmail(dto.getGuestEmail());
         entity.setGuestPhone(dto.getGuestPhone());
@@ -736,11 +1144,39 @@ public class ReservationServiceImpl implements ReservationService {
         return entity;
     }
 
+    private RoomHoldDto convertToDto(RoomHold hold) {
+        return new RoomHoldDto(hold.getId(), hold.getHotelId(), hold.getRoomId(), hold.getCheckInDate(),
+                hold.getCheckOutDate(), hold.getGuestEmail(), null, hold.getExpiresAt());
+    }
+
     private ReservationDto convertToDto(Reservation entity) {
         ReservationDto dto = new ReservationDto();
         dto.setId(entity.getId());
         dto.setHotelId(entity.getHotelId());
         dto.setRoomId(entity.getRoomId());
+        dto.setRoomType(entity.getRoomType());
+        dto.setGuestName(entity.getGuestName());
+        dto.setGuestEmail(entity.getGuestEmail());
+        dto.setGuestPhone(entity.getGuestPhone());
+        dto.setCheckInDate(entity.getCheckInDate());
+        dto.setCheckOutDate(entity.getCheckOutDate());
+        dto.setNumberOfGuests(entity.getNumberOfGuests());
+        dto.setTotalPrice(entity.getTotalPrice());
+        dto.setStatus(entity.getStatus());
+        dto.setSpecialRequests(entity.getSpecialRequests());
+        dto.setActive(entity.getActive());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersion(entity.getVersion());
+        return dto;
+    }
+
+    private ReservationDto convertArchivedToDto(ArchivedReservation entity) {
+        ReservationDto dto = new ReservationDto();
+        dto.setId(entity.getId());
+        dto.setHotelId(entity.getHotelId());
+        dto.setRoomId(entity.getRoomId());
+        dto.setRoomType(entity.getRoomType());
         dto.setGuestName(entity.getGuestName());
         dto.setGuestEmail(entity.getGuestEmail());
         dto.setGuestPhone(entity.getGuestPhone());
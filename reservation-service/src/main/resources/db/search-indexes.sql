@@ -0,0 +1,33 @@
+-- Indexes for guest name search (ReservationRepository.findActiveByGuestNamePattern,
+-- findActiveByGuestNamePrefix, findActiveByGuestNameSubstring). Runs on every start
+-- through spring.sql.init, after Hibernate has updated the schema. Created on the
+-- partitioned parent, so every partition gets them.
+--
+-- Prefix matches use the "C"-collated btree, which supports LIKE 'x%' and returns rows
+-- in name order; substring matches use the GIN trigram index.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_reservation_guest_name_prefix ON reservations ((lower(guest_name) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_reservation_guest_name_trgm ON reservations USING gin (lower(guest_name) gin_trgm_ops);
+
+-- Covering index for the occupancy calendar (ReservationRepository.findBookedNightsByHotel).
+-- The query reads only room_id and the stay dates of one hotel's active stays, so it is
+-- answered by an index-only scan of the partitions the check-in window touches.
+CREATE INDEX IF NOT EXISTS idx_reservation_hotel_calendar ON reservations (hotel_id, check_in_date)
+    INCLUDE (check_out_date, room_id, status) WHERE active;
+
+-- Reservations changed since the last refresh of the front desk manifests
+-- (ReservationRepository.findByUpdatedAtGreaterThanEqual).
+CREATE INDEX IF NOT EXISTS idx_reservation_updated_at ON reservations (updated_at);
+
+-- Work queues of the lifecycle processor (ReservationLifecycleProcessor): confirmed stays
+-- past check-out and pending holds past their time to live. Partial, so they hold only
+-- the rows still waiting for a transition.
+CREATE INDEX IF NOT EXISTS idx_reservation_confirmed_check_out ON reservations (check_out_date)
+    WHERE status = 'CONFIRMED' AND active;
+CREATE INDEX IF NOT EXISTS idx_reservation_pending_created_at ON reservations (created_at)
+    WHERE status = 'PENDING' AND active;
+
+-- Work queue of the room assigner (RoomAssigner): stays booked by room type that have no
+-- room yet.
+CREATE INDEX IF NOT EXISTS idx_reservation_unassigned ON reservations (check_in_date)
+    WHERE room_id IS NULL AND active;
@@ -0,0 +1,213 @@
+package com.hotelreservation.reservation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelreservation.reservation.dto.RateQuoteDto;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Internal RPC Benchmark
+ *
+ * Compares a stay quote over RSocket with CBOR payloads, as HotelPricingClient sends it
+ * by default, with the same quote over REST: an HTTP/1.1 GET with query parameters and a
+ * JSON reply, through the request factory Boot picks for the RestClient. Both servers
+ * run on Reactor Netty on the loopback interface and answer from memory, so the numbers
+ * cover protocol, codec and connection handling only. Calls block like the booking path
+ * does; reports latency of sequential calls and throughput of concurrent callers.
+ *
+ * Run with {@code mvn test -pl reservation-service -Dbenchmark=true
+ * -Dtest=InternalRpcBenchmarkTest}.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InternalRpcBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 20_000);
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 6, 1);
+    private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(3);
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+    @Test
+    void compareRSocketWithRest() throws Exception {
+        RSocketStrategies strategies = RSocketStrategies.builder()
+                .encoder(new Jackson2CborEncoder(cborMapper))
+                .decoder(new Jackson2CborDecoder(cborMapper))
+                .build();
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(strategies);
+        handler.setHandlers(List.of(new QuoteResponder()));
+        handler.afterPropertiesSet();
+        CloseableChannel rsocketServer = RSocketServer.create(handler.responder())
+                .bind(TcpServerTransport.create("localhost", 0))
+                .block();
+        DisposableServer httpServer = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes.get("/api/hotels/{hotelId}/quote", (request, response) -> {
+                    Map<String, List<String>> parameters = new QueryStringDecoder(request.uri()).parameters();
+                    RateQuoteDto quote = QuoteResponder.price(new RateQuoteDto(
+                            Long.valueOf(request.param("hotelId")),
+                            Long.valueOf(parameters.get("roomId").get(0)), null,
+                            LocalDate.parse(parameters.get("checkInDate").get(0)),
+                            LocalDate.parse(parameters.get("checkOutDate").get(0)),
+                            Integer.valueOf(parameters.get("numberOfGuests").get(0)), null, null));
+                    return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                            .sendByteArray(Mono.fromCallable(() -> jsonMapper.writeValueAsBytes(quote)));
+                }))
+                .bindNow();
+        try {
+            RSocketRequester requester = RSocketRequester.builder()
+                    .rsocketStrategies(strategies)
+                    .tcp("localhost", rsocketServer.address().getPort());
+            RestClient restClient = RestClient.builder()
+                    .baseUrl("http://localhost:" + httpServer.port())
+                    .requestFactory(ClientHttpRequestFactories.get(ClientHttpRequestFactorySettings.DEFAULTS))
+                    .build();
+            RateQuoteDto request = new RateQuoteDto(1L, 101L, null, CHECK_IN, CHECK_OUT, 2, null, null);
+
+            LongSupplier rsocketCall = () -> requester.route("rates.quote")
+                    .data(request)
+                    .retrieveMono(RateQuoteDto.class)
+                    .timeout(Duration.ofSeconds(2))
+                    .block()
+                    .getTotalPrice()
+                    .longValue();
+            LongSupplier restCall = () -> restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/hotels/{hotelId}/quote")
+                            .queryParam("roomId", request.getRoomId())
+                            .queryParam("checkInDate", request.getCheckInDate())
+                            .queryParam("checkOutDate", request.getCheckOutDate())
+                            .queryParam("numberOfGuests", request.getNumberOfGuests())
+                            .build(request.getHotelId()))
+                    .retrieve()
+                    .body(RateQuoteDto.class)
+                    .getTotalPrice()
+                    .longValue();
+
+            RateQuoteDto reply = QuoteResponder.price(request);
+            System.out.printf("Quote payload: CBOR %d bytes, JSON %d bytes%n",
+                    cborMapper.writeValueAsBytes(reply).length, jsonMapper.writeValueAsBytes(reply).length);
+
+            Result rsocket = run("rsocket/cbor", rsocketCall);
+            Result rest = run("rest/json", restCall);
+            print(rsocket);
+            print(rest);
+
+            assertEquals(rsocketCall.getAsLong(), restCall.getAsLong());
+            assertTrue(rsocket.throughput > 0 && rest.throughput > 0);
+            requester.dispose();
+        } finally {
+            rsocketServer.dispose();
+            httpServer.disposeNow();
+        }
+    }
+
+    private Result run(String name, LongSupplier call) throws InterruptedException {
+        for (int i = 0; i < WARMUP; i++) {
+            call.getAsLong();
+        }
+
+        long[] latencies = new long[REQUESTS / 4];
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            call.getAsLong();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        AtomicInteger remaining = new AtomicInteger(REQUESTS);
+        CountDownLatch done = new CountDownLatch(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.execute(() -> {
+                try {
+                    while (remaining.getAndDecrement() > 0) {
+                        call.getAsLong();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        return new Result(name, percentile(latencies, 0.50), percentile(latencies, 0.99), REQUESTS / seconds);
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, Math.round(percentile * sortedNanos.length))] / 1000.0;
+    }
+
+    private static void print(Result result) {
+        System.out.printf("%-13s p50 %8.1f us   p99 %8.1f us   %,10.0f quotes/s with %d callers%n",
+                result.name, result.p50Micros, result.p99Micros, result.throughput, CONCURRENCY);
+    }
+
+    /**
+     * The rates.quote route with a fixed nightly price
+     */
+    static class QuoteResponder {
+
+        private static final BigDecimal NIGHTLY_PRICE = new BigDecimal("150.00");
+
+        @MessageMapping("rates.quote")
+        public Mono<RateQuoteDto> quote(RateQuoteDto request) {
+            return Mono.just(price(request));
+        }
+
+        static RateQuoteDto price(RateQuoteDto request) {
+            int nights = (int) ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
+            return new RateQuoteDto(request.getHotelId(), request.getRoomId(), "Standard", request.getCheckInDate(),
+                    request.getCheckOutDate(), request.getNumberOfGuests(), nights,
+                    NIGHTLY_PRICE.multiply(BigDecimal.valueOf(nights)));
+        }
+    }
+
+    private record Result(String name, double p50Micros, double p99Micros, double throughput) {
+    }
+}
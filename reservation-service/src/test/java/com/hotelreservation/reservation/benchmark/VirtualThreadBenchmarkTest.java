@@ -0,0 +1,163 @@
+package com.hotelreservation.reservation.benchmark;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Virtual Thread Benchmark
+ *
+ * Compares the default 200-thread Tomcat-style platform pool with a virtual thread per
+ * request on a blocking workload shaped like a booking: a short query holding one of a
+ * fixed number of pooled connections, plus downstream I/O outside the pool. Reports
+ * throughput and an estimate of memory per in-flight request.
+ *
+ * Run with {@code mvn -P java21 test -pl reservation-service -Dbenchmark=true
+ * -Dtest=VirtualThreadBenchmarkTest}. The virtual thread half is skipped on Java 17.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadBenchmarkTest {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int CONNECTION_POOL_SIZE = 20;
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int IN_FLIGHT = Integer.getInteger("benchmark.inFlight", 2_000);
+    private static final long QUERY_MILLIS = 2;
+    private static final long DOWNSTREAM_IO_MILLIS = 20;
+
+    @Test
+    void compareThroughputAndMemoryPerRequest() throws Exception {
+        int baselineThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        Result platform = run("platform", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), baselineThreads);
+        print(platform);
+
+        ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+        Assumptions.assumeTrue(virtualExecutor != null, "Virtual threads require Java 21");
+        Result virtual = run("virtual", virtualExecutor, baselineThreads);
+        print(virtual);
+
+        assertTrue(platform.throughput > 0 && virtual.throughput > 0);
+    }
+
+    private Result run(String name, ExecutorService executor, int baselineThreads) throws Exception {
+        try {
+            // Warm up
+            execute(executor, Math.min(REQUESTS, 2_000));
+
+            double memoryPerRequest = measureMemoryPerInFlightRequest(executor, baselineThreads);
+
+            long start = System.nanoTime();
+            execute(executor, REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return new Result(name, REQUESTS / seconds, memoryPerRequest);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void execute(ExecutorService executor, int requests) throws InterruptedException {
+        Semaphore connections = new Semaphore(CONNECTION_POOL_SIZE);
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest(connections);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest(Semaphore connections) throws InterruptedException {
+        connections.acquire();
+        try {
+            Thread.sleep(QUERY_MILLIS);
+        } finally {
+            connections.release();
+        }
+        Thread.sleep(DOWNSTREAM_IO_MILLIS);
+    }
+
+    /**
+     * Park {@link #IN_FLIGHT} requests and compare heap and thread stacks before and after.
+     * Platform thread stacks live outside the heap, so they are estimated from the
+     * configured stack size for every thread started since the baseline.
+     */
+    private double measureMemoryPerInFlightRequest(ExecutorService executor, int baselineThreads)
+            throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch parked = new CountDownLatch(IN_FLIGHT);
+        CountDownLatch finished = new CountDownLatch(IN_FLIGHT);
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            executor.execute(() -> {
+                parked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        // A fixed pool can only park as many requests as it has threads
+        parked.await(2, TimeUnit.SECONDS);
+        long inFlight = IN_FLIGHT - parked.getCount();
+        System.gc();
+        long heapDelta = Math.max(0, memory.getHeapMemoryUsage().getUsed() - heapBefore);
+        int threadDelta = Math.max(0, ManagementFactory.getThreadMXBean().getThreadCount() - baselineThreads);
+        release.countDown();
+        finished.await();
+
+        long stackBytes = threadStackBytes() * threadDelta;
+        return inFlight == 0 ? 0 : (double) (heapDelta + stackBytes) / inFlight;
+    }
+
+    private static long threadStackBytes() {
+        HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        return Long.parseLong(diagnostics.getVMOption("ThreadStackSize").getValue()) * 1024;
+    }
+
+    /**
+     * Look up {@code Executors.newVirtualThreadPerTaskExecutor()} so the test compiles on Java 17
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static void print(Result result) {
+        System.out.printf("%-8s throughput: %,10.0f req/s   memory per in-flight request: %,10.0f bytes%n",
+                result.name, result.throughput, result.bytesPerInFlightRequest);
+    }
+
+    private record Result(String name, double throughput, double bytesPerInFlightRequest) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.hotelreservation.reservation.config;
+
+import com.hotelreservation.platform.datasource.ReadReplicaRouter;
+import com.hotelreservation.platform.datasource.ReadYourWritesTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Read Replica Routing Integration Tests
+ *
+ * Runs the reservation data source configuration against two local PostgreSQL
+ * containers, one standing in for the primary and one for a replica, and checks
+ * which database each kind of transaction lands on.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> primary =
+            new PostgreSQLContainer<>("postgres:15-alpine").withDatabaseName("primary_db");
+
+    @Container
+    static final PostgreSQLContainer<?> replica =
+            new PostgreSQLContainer<>("postgres:15-alpine").withDatabaseName("replica_db");
+
+    private ApplicationContextRunner contextRunner() {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        DataSourceAutoConfiguration.class,
+                        DataSourceTransactionManagerAutoConfiguration.class,
+                        TransactionAutoConfiguration.class))
+                .withUserConfiguration(DataSourceConfig.class)
+                .withPropertyValues(
+                        "spring.datasource.url=" + primary.getJdbcUrl(),
+                        "spring.datasource.username=" + primary.getUsername(),
+                        "spring.datasource.password=" + primary.getPassword(),
+                        "reservation.datasource.replicas.urls=" + replica.getJdbcUrl(),
+                        // The replica container is a standalone server without a WAL receiver,
+                        // which the default lag query treats as ineligible
+                        "reservation.datasource.replicas.lag-query=SELECT 0");
+    }
+
+    @Test
+    void testReadOnlyTransactionsGoToReplica() {
+        contextRunner().run(context -> {
+            // Given
+            ReadReplicaRouter router = context.getBean(ReadReplicaRouter.class);
+
+            // Then: before the first lag probe the replica is not trusted
+            assertEquals("primary_db", currentDatabase(context, true));
+
+            // When
+            router.checkReplicaLag();
+
+            // Then
+            assertEquals("replica_db", currentDatabase(context, true));
+            assertEquals("primary_db", currentDatabase(context, false));
+        });
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() {
+        contextRunner()
+                .withPropertyValues(
+                        "reservation.datasource.replicas.max-lag-ms=1000",
+                        "reservation.datasource.replicas.lag-query=SELECT 60000")
+                .run(context -> {
+                    // When
+                    context.getBean(ReadReplicaRouter.class).checkReplicaLag();
+
+                    // Then
+                    assertEquals("primary_db", currentDatabase(context, true));
+                });
+    }
+
+    @Test
+    void testReadsAfterWriteStayOnPrimaryForThatUser() {
+        contextRunner().run(context -> {
+            // Given
+            context.getBean(ReadReplicaRouter.class).checkReplicaLag();
+            ReadYourWritesTracker tracker = context.getBean(ReadYourWritesTracker.class);
+
+            try {
+                // When
+                tracker.setCurrentUser("alice");
+                currentDatabase(context, false);
+
+                // Then
+                assertEquals("primary_db", currentDatabase(context, true));
+
+                tracker.setCurrentUser("bob");
+                assertEquals("replica_db", currentDatabase(context, true));
+            } finally {
+                tracker.clearCurrentUser();
+            }
+        });
+    }
+
+    private String currentDatabase(ApplicationContext context, boolean readOnly) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
@@ -0,0 +1,109 @@
+package com.hotelreservation.reservation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hierarchical Timing Wheel Tests
+ *
+ * Unit tests for scheduling, cascading between levels and cancellation.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_123_456L;
+
+    @Test
+    void testValuesExpireAtTheirDeadlineAcrossLevels() {
+        // Given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        Random random = new Random(42);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 5000; id++) {
+            // Up to ~3 days out: spans levels 0 to 2 and many cascades
+            long deadline = START + (long) (random.nextDouble() * 260_000_000L);
+            deadlines.put(id, deadline);
+            wheel.schedule(id, deadline);
+        }
+
+        // When
+        Map<Long, Long> expiredAt = new HashMap<>();
+        for (long now = START; now <= START + 261_000_000L; now += 7 * TICK) {
+            long at = now;
+            wheel.advance(now, id -> expiredAt.put(id, at));
+        }
+
+        // Then
+        assertEquals(deadlines.size(), expiredAt.size());
+        assertEquals(0, wheel.size());
+        deadlines.forEach((id, deadline) -> {
+            long at = expiredAt.get(id);
+            assertTrue(at >= deadline, "expired early: " + id);
+            assertTrue(at < deadline + 8 * TICK, "expired late: " + id);
+        });
+    }
+
+    @Test
+    void testDeadlinesBeyondTheTopLevelWaitUntilInRange() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 0);
+        long span = 1L << (6 * HierarchicalTimingWheel.LEVELS);
+        wheel.schedule("far", 3 * span + 17);
+
+        // When
+        List<String> early = new ArrayList<>();
+        wheel.advance(3 * span + 16, early::add);
+        List<String> due = new ArrayList<>();
+        wheel.advance(3 * span + 17, due::add);
+
+        // Then
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("far"), due);
+    }
+
+    @Test
+    void testCancelledValuesNeverExpire() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        HierarchicalTimingWheel.Timeout<String> kept = wheel.schedule("kept", START + 90_000);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 90_000);
+
+        // When
+        boolean firstCancel = wheel.cancel(cancelled);
+        boolean secondCancel = wheel.cancel(cancelled);
+        List<String> expired = new ArrayList<>();
+        wheel.advance(START + 120_000, expired::add);
+
+        // Then
+        assertTrue(firstCancel);
+        assertFalse(secondCancel);
+        assertEquals(List.of("kept"), expired);
+        assertFalse(kept.isScheduled());
+        assertFalse(wheel.cancel(kept));
+    }
+
+    @Test
+    void testPastDeadlinesExpireOnTheNextTick() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        wheel.schedule("late", START - 5_000);
+
+        // When
+        List<String> expired = new ArrayList<>();
+        int count = wheel.advance(START + TICK, expired::add);
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(List.of("late"), expired);
+    }
+}
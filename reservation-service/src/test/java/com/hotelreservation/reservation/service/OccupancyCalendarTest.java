@@ -0,0 +1,84 @@
+package com.hotelreservation.reservation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Occupancy Calendar Tests
+ *
+ * Unit tests for the per-room night bitsets and their encodings.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class OccupancyCalendarTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void testStaysAreClippedToTheWindowAndCheckOutNightIsFree() {
+        // Given
+        OccupancyCalendar calendar = new OccupancyCalendar(START, 10);
+        calendar.occupy(7L, START.minusDays(3), START.plusDays(2));
+        calendar.occupy(7L, START.plusDays(4), START.plusDays(5));
+        calendar.occupy(7L, START.plusDays(8), START.plusDays(20));
+        calendar.occupy(9L, START.minusDays(5), START);
+
+        // When
+        Map<Long, String> runs = calendar.encode(OccupancyCalendar.RLE);
+
+        // Then
+        assertEquals(Map.of(7L, "0,2,2,1,3,2"), runs);
+    }
+
+    @Test
+    void testNightRangesFromTheDatabaseAreParsedAndClipped() {
+        // Given
+        OccupancyCalendar calendar = new OccupancyCalendar(START, 10);
+        calendar.occupy(5L, "-3:2,4:5,8:20");
+
+        // When
+        Map<Long, String> runs = calendar.encode(OccupancyCalendar.RLE);
+
+        // Then
+        assertEquals(Map.of(5L, "0,2,2,1,3,2"), runs);
+    }
+
+    @Test
+    void testBitmapIsLittleEndianAndPaddedToTheWindow() {
+        // Given
+        OccupancyCalendar calendar = new OccupancyCalendar(START, 20);
+        calendar.occupy(1L, START, START.plusDays(1));
+        calendar.occupy(1L, START.plusDays(9), START.plusDays(11));
+        calendar.occupy(2L, START.plusDays(3), START.plusDays(4));
+
+        // When
+        Map<Long, String> bitmaps = calendar.encode(OccupancyCalendar.BITMAP);
+
+        // Then
+        assertEquals(List.of(1L, 2L), List.copyOf(bitmaps.keySet()));
+        assertArrayEquals(new byte[] {0x01, 0x06, 0x00}, Base64.getDecoder().decode(bitmaps.get(1L)));
+        assertArrayEquals(new byte[] {0x08, 0x00, 0x00}, Base64.getDecoder().decode(bitmaps.get(2L)));
+    }
+
+    @Test
+    void testRunLengthsCoverEveryNight() {
+        // Given
+        OccupancyCalendar calendar = new OccupancyCalendar(START, 90);
+        calendar.occupy(3L, START.plusDays(10), START.plusDays(90));
+        calendar.occupy(4L, START, START.plusDays(90));
+
+        // When
+        Map<Long, String> runs = calendar.encode(OccupancyCalendar.RLE);
+
+        // Then
+        assertEquals("10,80", runs.get(3L));
+        assertEquals("0,90", runs.get(4L));
+    }
+}
@@ -0,0 +1,103 @@
+package com.hotelreservation.reservation.service;
+
+import com.hotelreservation.reservation.event.HotelCatalogRecord;
+import com.hotelreservation.reservation.exception.InvalidReservationDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Room Catalog Replica Tests
+ *
+ * Unit tests for applying catalog records and checking bookings against the replica.
+ *
+ * @author Hotel Reservation System
+ * @version 1.0.0
+ */
+class RoomCatalogReplicaTest {
+
+    private static HotelCatalogRecord hotel(long hotelId, HotelCatalogRecord.CatalogRoom... rooms) {
+        return new HotelCatalogRecord(hotelId, List.of(rooms));
+    }
+
+    private static HotelCatalogRecord.CatalogRoom room(long roomId, String roomType, int capacity, boolean available) {
+        return new HotelCatalogRecord.CatalogRoom(roomId, roomType, capacity, available);
+    }
+
+    @Test
+    void testNothingIsRejectedBeforeCatchUp() {
+        // Given
+        RoomCatalogReplica replica = new RoomCatalogReplica(true);
+        replica.apply(1L, hotel(1L, room(10L, "DOUBLE", 2, true)));
+
+        // When / Then
+        assertFalse(replica.isCaughtUp());
+        assertDoesNotThrow(() -> replica.checkBookable(99L, 999L, null, 8));
+    }
+
+    @Test
+    void testRoomBookingsAreCheckedAgainstTheirRoom() {
+        // Given
+        RoomCatalogReplica replica = new RoomCatalogReplica(true);
+        replica.apply(1L, hotel(1L, room(10L, "DOUBLE", 2, true), room(11L, "SUITE", 4, false)));
+        replica.apply(2L, hotel(2L, room(20L, "SINGLE", 1, true)));
+        replica.markCaughtUp();
+
+        // When / Then
+        assertDoesNotThrow(() -> replica.checkBookable(1L, 10L, null, 2));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(3L, 10L, null, 1));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, 12L, null, 1));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, 20L, null, 1));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, 11L, null, 1));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, 10L, null, 3));
+    }
+
+    @Test
+    void testTypeBookingsNeedAnAvailableRoomOfTheTypeThatSleepsTheGuests() {
+        // Given
+        RoomCatalogReplica replica = new RoomCatalogReplica(true);
+        replica.apply(1L, hotel(1L, room(10L, "DOUBLE", 2, true), room(11L, "DOUBLE", 3, true),
+                room(12L, "SUITE", 6, false)));
+        replica.markCaughtUp();
+
+        // When / Then
+        assertDoesNotThrow(() -> replica.checkBookable(1L, null, "DOUBLE", 3));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, null, "DOUBLE", 4));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, null, "SUITE", 1));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, null, "SINGLE", 1));
+    }
+
+    @Test
+    void testNewerRecordsReplaceTheHotelAndTombstonesRemoveIt() {
+        // Given
+        RoomCatalogReplica replica = new RoomCatalogReplica(true);
+        replica.apply(1L, hotel(1L, room(10L, "DOUBLE", 2, true), room(11L, "DOUBLE", 2, true)));
+        replica.markCaughtUp();
+
+        // When
+        replica.apply(1L, hotel(1L, room(10L, "DOUBLE", 4, true)));
+
+        // Then
+        assertDoesNotThrow(() -> replica.checkBookable(1L, 10L, null, 4));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, 11L, null, 1));
+
+        // When
+        replica.apply(1L, null);
+
+        // Then
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, 10L, null, 1));
+        assertThrows(InvalidReservationDataException.class, () -> replica.checkBookable(1L, null, "DOUBLE", 1));
+    }
+
+    @Test
+    void testDisabledReplicaRejectsNothing() {
+        // Given
+        RoomCatalogReplica replica = new RoomCatalogReplica(false);
+        replica.markCaughtUp();
+
+        // When / Then
+        assertDoesNotThrow(() -> replica.checkBookable(1L, 10L, null, 2));
+    }
+}